@@ -0,0 +1,151 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ChartUtilsBenchmark.java
+ * ------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.encoders.BufferedImagePool;
+import org.jfree.chart.encoders.PNGEncoder;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.time.Minute;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link ChartUtils#writeChartAsPNG(java.io.OutputStream,
+ * JFreeChart, int, int, boolean, int)} for a time series chart, which covers
+ * the full
+ * headless pipeline (layout, axes, rendering to a {@code BufferedImage} and
+ * PNG encoding), and of the same pipeline using a {@link BufferedImagePool}
+ * and the streaming {@link PNGEncoder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ChartUtilsBenchmark {
+
+    /** The number of items in the time series. */
+    @Param({"1000", "100000", "1000000"})
+    public int itemCount;
+
+    /** The width (and, at 3:4, the height) of the image. */
+    @Param({"800", "1920"})
+    public int width;
+
+    /** The PNG compression level (0 to 9). */
+    @Param({"0", "9"})
+    public int compression;
+
+    private JFreeChart chart;
+
+    private ByteArrayOutputStream out;
+
+    private BufferedImagePool pool;
+
+    private PNGEncoder encoder;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1L);
+        TimeSeries series = new TimeSeries("Series 1");
+        RegularTimePeriod period = new Minute(0, 0, 1, 1, 2010);
+        double value = 100.0;
+        for (int i = 0; i < this.itemCount; i++) {
+            value += random.nextGaussian();
+            series.add(period, value, false);
+            period = period.next();
+        }
+        this.chart = ChartFactory.createTimeSeriesChart("Benchmark", "Time",
+                "Value", new TimeSeriesCollection(series));
+        ((XYPlot) this.chart.getPlot()).setDecimationEnabled(true);
+        this.out = new ByteArrayOutputStream(1 << 20);
+        this.pool = new BufferedImagePool();
+        this.encoder = new PNGEncoder();
+        this.encoder.setCompressionLevel(this.compression);
+    }
+
+    /**
+     * Writes the chart in PNG format.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public int writeChartAsPNG() throws IOException {
+        this.out.reset();
+        ChartUtils.writeChartAsPNG(this.out, this.chart, this.width,
+                this.width * 3 / 4, false, this.compression);
+        return this.out.size();
+    }
+
+    /**
+     * Writes the chart in PNG format, reusing a pooled image and streaming
+     * the encoded data.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public int writeChartAsPNGPooled() throws IOException {
+        this.out.reset();
+        ChartUtils.writeChartAsPNG(this.out, this.chart, this.width,
+                this.width * 3 / 4, null, this.pool, this.encoder);
+        return this.out.size();
+    }
+
+}
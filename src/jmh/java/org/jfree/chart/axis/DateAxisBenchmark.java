@@ -0,0 +1,143 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * DateAxisBenchmark.java
+ * ----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.axis;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ui.RectangleEdge;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of refreshing the ticks for a {@link DateAxis} (with
+ * automatic tick unit selection), which happens every time a time series
+ * chart is drawn.  The axis range is the parameter here, since it determines
+ * the tick unit and the number of ticks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DateAxisBenchmark {
+
+    /** The length of the axis range (1 hour to 10 years). */
+    @Param({"3600000", "86400000", "2592000000", "31536000000",
+            "315360000000"})
+    public long rangeMillis;
+
+    /** The time zone for the axis. */
+    @Param({"UTC", "Europe/London"})
+    public String zoneId;
+
+    private DateAxis axis;
+
+    private BufferedImage image;
+
+    private Graphics2D g2;
+
+    private Rectangle2D dataArea;
+
+    @Setup
+    public void setup() {
+        this.axis = new DateAxis("Time", TimeZone.getTimeZone(this.zoneId),
+                Locale.UK);
+        long start = 1262304000000L; // 2010-01-01T00:00:00Z
+        this.axis.setRange(start, start + this.rangeMillis);
+        this.image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.dataArea = new Rectangle2D.Double(50.0, 20.0, 730.0, 540.0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Refreshes the ticks for a horizontal axis.
+     *
+     * @return The ticks.
+     */
+    @Benchmark
+    public List refreshTicksHorizontal() {
+        return this.axis.refreshTicks(this.g2, new AxisState(),
+                this.dataArea, RectangleEdge.BOTTOM);
+    }
+
+    /**
+     * Refreshes the ticks for a vertical axis.
+     *
+     * @return The ticks.
+     */
+    @Benchmark
+    public List refreshTicksVertical() {
+        return this.axis.refreshTicks(this.g2, new AxisState(),
+                this.dataArea, RectangleEdge.LEFT);
+    }
+
+    /**
+     * Draws the axis (which includes refreshing the ticks).
+     *
+     * @return The axis state.
+     */
+    @Benchmark
+    public AxisState draw() {
+        return this.axis.draw(this.g2, this.dataArea.getMaxY(),
+                new Rectangle2D.Double(0.0, 0.0, 800.0, 600.0), this.dataArea,
+                RectangleEdge.BOTTOM, null);
+    }
+
+}
@@ -0,0 +1,158 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * XYPlotRenderBenchmark.java
+ * --------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.DefaultXYDataset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link XYPlot#render(Graphics2D, Rectangle2D, int,
+ * PlotRenderingInfo, CrosshairState)} for a line chart, drawing to a
+ * {@code BufferedImage} (so no display is required).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class XYPlotRenderBenchmark {
+
+    /** The number of items in the dataset. */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int itemCount;
+
+    /** A flag that controls whether or not anti-aliasing is used. */
+    @Param({"false", "true"})
+    public boolean antiAlias;
+
+    private XYPlot plot;
+
+    private BufferedImage image;
+
+    private Graphics2D g2;
+
+    private Rectangle2D dataArea;
+
+    @Setup
+    public void setup() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("Series 1", createData(this.itemCount, 1L));
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true,
+                false);
+        this.plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        this.image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                this.antiAlias ? RenderingHints.VALUE_ANTIALIAS_ON
+                : RenderingHints.VALUE_ANTIALIAS_OFF);
+        this.dataArea = new Rectangle2D.Double(50.0, 20.0, 730.0, 540.0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Creates a random walk with ascending x-values.
+     *
+     * @param count  the number of items.
+     * @param seed  the seed for the random number generator.
+     *
+     * @return The data.
+     */
+    static double[][] createData(int count, long seed) {
+        Random random = new Random(seed);
+        double[] x = new double[count];
+        double[] y = new double[count];
+        double value = 100.0;
+        for (int i = 0; i < count; i++) {
+            value += random.nextGaussian();
+            x[i] = i;
+            y[i] = value;
+        }
+        return new double[][] {x, y};
+    }
+
+    /**
+     * Renders every item in the dataset.
+     *
+     * @return A flag that indicates whether any items were rendered.
+     */
+    @Benchmark
+    public boolean render() {
+        this.plot.setDecimationEnabled(false);
+        return this.plot.render(this.g2, this.dataArea, 0, null,
+                new CrosshairState());
+    }
+
+    /**
+     * Renders the dataset with decimation enabled.
+     *
+     * @return A flag that indicates whether any items were rendered.
+     */
+    @Benchmark
+    public boolean renderDecimated() {
+        this.plot.setDecimationEnabled(true);
+        return this.plot.render(this.g2, this.dataArea, 0, null,
+                new CrosshairState());
+    }
+
+}
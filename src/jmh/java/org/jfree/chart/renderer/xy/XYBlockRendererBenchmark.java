@@ -0,0 +1,131 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * XYBlockRendererBenchmark.java
+ * -----------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.data.xy.DefaultXYZDataset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of drawing a heat map (a square grid of blocks) with
+ * the {@link XYBlockRenderer}, with and without raster mode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Djava.awt.headless=true"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class XYBlockRendererBenchmark {
+
+    /** The number of blocks along each side of the grid. */
+    @Param({"100", "500", "2000"})
+    public int gridSize;
+
+    /** A flag that controls whether raster mode is enabled. */
+    @Param({"false", "true"})
+    public boolean raster;
+
+    private XYPlot plot;
+
+    private BufferedImage image;
+
+    private Graphics2D g2;
+
+    private Rectangle2D dataArea;
+
+    @Setup
+    public void setup() {
+        int n = this.gridSize * this.gridSize;
+        double[][] data = new double[3][n];
+        for (int i = 0; i < n; i++) {
+            double x = i % this.gridSize;
+            double y = i / this.gridSize;
+            data[0][i] = x;
+            data[1][i] = y;
+            data[2][i] = Math.sin(x / 50.0) * Math.cos(y / 50.0);
+        }
+        DefaultXYZDataset dataset = new DefaultXYZDataset();
+        dataset.addSeries("S1", data);
+        XYBlockRenderer renderer = new XYBlockRenderer();
+        renderer.setPaintScale(new GrayPaintScale(-1.0, 1.0));
+        renderer.setDrawOutlines(false);
+        renderer.setRasterRenderingEnabled(this.raster);
+        this.plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        this.image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.dataArea = new Rectangle2D.Double(50.0, 20.0, 730.0, 540.0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Renders the heat map.
+     *
+     * @return A flag that indicates whether any items were rendered.
+     */
+    @Benchmark
+    public boolean render() {
+        return this.plot.render(this.g2, this.dataArea, 0, null,
+                new CrosshairState());
+    }
+
+}
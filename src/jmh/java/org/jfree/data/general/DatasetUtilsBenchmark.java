@@ -0,0 +1,149 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * DatasetUtilsBenchmark.java
+ * --------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link DatasetUtils#iterateRangeBounds(
+ * org.jfree.data.xy.XYDataset)} and {@link DatasetUtils#iterateRangeBounds(
+ * org.jfree.data.category.CategoryDataset)}, which are used to find the
+ * axis ranges whenever a chart is drawn with auto-range enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DatasetUtilsBenchmark {
+
+    /** The number of items in the datasets. */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int itemCount;
+
+    private DefaultXYDataset xyDataset;
+
+    private XYSeriesCollection seriesCollection;
+
+    private DefaultCategoryDataset categoryDataset;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1L);
+        double[] x = new double[this.itemCount];
+        double[] y = new double[this.itemCount];
+        for (int i = 0; i < this.itemCount; i++) {
+            x[i] = i;
+            y[i] = random.nextGaussian();
+        }
+        this.xyDataset = new DefaultXYDataset();
+        this.xyDataset.addSeries("S1", new double[][] {x, y});
+
+        // the object based datasets use more memory (and the category
+        // dataset is slow to populate) so they are limited in size
+        int count = Math.min(this.itemCount, 1000000);
+        XYSeries series = new XYSeries("S1", false, true);
+        for (int i = 0; i < count; i++) {
+            series.add(x[i], y[i], false);
+        }
+        this.seriesCollection = new XYSeriesCollection(series);
+        this.categoryDataset = new DefaultCategoryDataset();
+        int categoryCount = Math.min(this.itemCount, 100000);
+        int columns = Math.min(categoryCount, 100);
+        int rows = categoryCount / columns;
+        for (int c = 0; c < columns; c++) {
+            Integer column = c;
+            for (int r = 0; r < rows; r++) {
+                this.categoryDataset.addValue(y[r * columns + c],
+                        Integer.valueOf(r), column);
+            }
+        }
+    }
+
+    /**
+     * Iterates over an array based XY dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateXYDataset() {
+        return DatasetUtils.iterateRangeBounds(this.xyDataset);
+    }
+
+    /**
+     * Iterates over an {@code XYSeriesCollection} (at most one million
+     * items).
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateXYSeriesCollection() {
+        return DatasetUtils.iterateRangeBounds(this.seriesCollection);
+    }
+
+    /**
+     * Iterates over a category dataset (at most 100,000 items, in 100
+     * columns).
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateCategoryDataset() {
+        return DatasetUtils.iterateRangeBounds(this.categoryDataset);
+    }
+
+}
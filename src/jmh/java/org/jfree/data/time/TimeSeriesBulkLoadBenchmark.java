@@ -0,0 +1,170 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * TimeSeriesBulkLoadBenchmark.java
+ * --------------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of bulk-loading a {@link TimeSeries} and of evaluating
+ * the first millisecond of every period (as {@link TimeSeriesCollection}
+ * does for each x-value).  The {@code Calendar} variants use a subclass of
+ * {@code GregorianCalendar}, which bypasses the calendar arithmetic fast
+ * path, to give a baseline for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TimeSeriesBulkLoadBenchmark {
+
+    /** The number of items loaded into the series. */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int itemCount;
+
+    /** The time zone used to evaluate the periods. */
+    @Param({"UTC", "Europe/London"})
+    public String zoneId;
+
+    private TimeZone zone;
+
+    private Locale locale;
+
+    private long start;
+
+    private Second[] periods;
+
+    private Calendar calendar;
+
+    private Calendar referenceCalendar;
+
+    @Setup
+    public void setup() {
+        this.zone = TimeZone.getTimeZone(this.zoneId);
+        this.locale = Locale.UK;
+        this.start = 1262304000000L; // 2010-01-01T00:00:00Z
+        this.periods = new Second[this.itemCount];
+        for (int i = 0; i < this.itemCount; i++) {
+            this.periods[i] = new Second(new Date(this.start + i * 1000L),
+                    this.zone, this.locale);
+        }
+        this.calendar = new GregorianCalendar(this.zone, this.locale);
+        this.referenceCalendar = new GregorianCalendar(this.zone,
+                this.locale) {};
+    }
+
+    /**
+     * Loads one item per second, creating each period from a date.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries addSecondsFromDates() {
+        TimeSeries series = new TimeSeries("Series");
+        for (int i = 0; i < this.itemCount; i++) {
+            Date date = new Date(this.start + i * 1000L);
+            series.add(new Second(date, this.zone, this.locale), i, false);
+        }
+        return series;
+    }
+
+    /**
+     * Loads one item per second, creating each period with
+     * {@link RegularTimePeriod#next()}.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries addSecondsWithNext() {
+        TimeSeries series = new TimeSeries("Series");
+        RegularTimePeriod period = this.periods[0];
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(period, i, false);
+            period = period.next();
+        }
+        return series;
+    }
+
+    /**
+     * Evaluates the first millisecond of every period using a
+     * {@code GregorianCalendar}.
+     *
+     * @return The sum of the first milliseconds.
+     */
+    @Benchmark
+    public long firstMillisecondArithmetic() {
+        return sumFirstMilliseconds(this.calendar);
+    }
+
+    /**
+     * Evaluates the first millisecond of every period using the
+     * {@code Calendar} code.
+     *
+     * @return The sum of the first milliseconds.
+     */
+    @Benchmark
+    public long firstMillisecondCalendar() {
+        return sumFirstMilliseconds(this.referenceCalendar);
+    }
+
+    private long sumFirstMilliseconds(Calendar c) {
+        long sum = 0L;
+        for (Second period : this.periods) {
+            sum += period.getFirstMillisecond(c);
+        }
+        return sum;
+    }
+
+}
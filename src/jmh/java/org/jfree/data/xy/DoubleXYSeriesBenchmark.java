@@ -0,0 +1,228 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * DoubleXYSeriesBenchmark.java
+ * ----------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a {@link DoubleXYSeries} in a {@link DoubleXYSeriesCollection}
+ * with an {@link XYSeries} in an {@link XYSeriesCollection}: the time to
+ * append the items, the time to read them back through the
+ * {@link XYDataset} interface (as the renderers do) and the heap retained
+ * per item.  The heap is reported by the {@code footprint*} benchmarks as
+ * the {@code bytesPerItem} secondary result, which JMH sums over the
+ * measurement iterations, so these benchmarks run a single measurement
+ * iteration (do not override it with {@code -i}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DoubleXYSeriesBenchmark {
+
+    /** The number of items in the series. */
+    @Param({"1000", "100000", "1000000", "5000000"})
+    public int itemCount;
+
+    private DoubleXYSeriesCollection doubleDataset;
+
+    private XYSeriesCollection objectDataset;
+
+    /**
+     * The heap retained by a series, reported as a secondary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /** The bytes retained per item by the series. */
+        public double bytesPerItem;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.bytesPerItem = 0.0;
+        }
+
+    }
+
+    @Setup
+    public void setup() {
+        this.doubleDataset = new DoubleXYSeriesCollection(
+                createDoubleXYSeries());
+        this.objectDataset = new XYSeriesCollection(createXYSeries());
+    }
+
+    private DoubleXYSeries createDoubleXYSeries() {
+        DoubleXYSeries series = new DoubleXYSeries("S1");
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(i, Math.sin(i * 0.001), false);
+        }
+        return series;
+    }
+
+    private XYSeries createXYSeries() {
+        XYSeries series = new XYSeries("S1", true, true);
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(i, Math.sin(i * 0.001), false);
+        }
+        return series;
+    }
+
+    /**
+     * Returns the heap in use after a garbage collection.
+     *
+     * @return The number of bytes.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // System.gc() is only a hint, so repeat until the figure is stable
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            long u = runtime.totalMemory() - runtime.freeMemory();
+            if (u >= used) {
+                break;
+            }
+            used = u;
+        }
+        return used;
+    }
+
+    private static double sum(XYDataset dataset) {
+        double sum = 0.0;
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            for (int i = 0; i < dataset.getItemCount(s); i++) {
+                sum += dataset.getXValue(s, i) + dataset.getYValue(s, i);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Appends the items to a {@code DoubleXYSeries}.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public DoubleXYSeries appendDoubleXYSeries() {
+        return createDoubleXYSeries();
+    }
+
+    /**
+     * Appends the items to an {@code XYSeries}.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public XYSeries appendXYSeries() {
+        return createXYSeries();
+    }
+
+    /**
+     * Reads the items of a {@code DoubleXYSeriesCollection}.
+     *
+     * @return The sum of the values.
+     */
+    @Benchmark
+    public double readDoubleXYSeriesCollection() {
+        return sum(this.doubleDataset);
+    }
+
+    /**
+     * Reads the items of an {@code XYSeriesCollection}.
+     *
+     * @return The sum of the values.
+     */
+    @Benchmark
+    public double readXYSeriesCollection() {
+        return sum(this.objectDataset);
+    }
+
+    /**
+     * Measures the heap retained by a {@code DoubleXYSeries}.
+     *
+     * @param footprint  the footprint result.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1)
+    public DoubleXYSeries footprintDoubleXYSeries(Footprint footprint) {
+        long before = usedHeap();
+        DoubleXYSeries series = createDoubleXYSeries();
+        series.trimToSize();
+        footprint.bytesPerItem = (double) (usedHeap() - before)
+                / this.itemCount;
+        return series;
+    }
+
+    /**
+     * Measures the heap retained by an {@code XYSeries}.
+     *
+     * @param footprint  the footprint result.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1)
+    public XYSeries footprintXYSeries(Footprint footprint) {
+        long before = usedHeap();
+        XYSeries series = createXYSeries();
+        footprint.bytesPerItem = (double) (usedHeap() - before)
+                / this.itemCount;
+        return series;
+    }
+
+}
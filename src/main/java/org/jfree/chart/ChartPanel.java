@@ -51,6 +51,7 @@ package org.jfree.chart;
 
 import java.awt.AWTEvent;
 import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Cursor;
@@ -61,6 +62,8 @@ import java.awt.GraphicsConfiguration;
 import java.awt.Image;
 import java.awt.Insets;
 import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.Stroke;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.Toolkit;
@@ -75,6 +78,7 @@ import java.awt.event.MouseMotionListener;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
 import java.awt.print.Printable;
 import java.awt.print.PrinterException;
@@ -89,9 +93,19 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EventListener;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.swing.JFileChooser;
 import javax.swing.JMenu;
@@ -100,6 +114,7 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.ToolTipManager;
 import javax.swing.event.EventListenerList;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -108,18 +123,34 @@ import org.jfree.chart.editor.ChartEditor;
 import org.jfree.chart.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.IndexedEntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.panel.Overlay;
 import org.jfree.chart.event.OverlayChangeEvent;
 import org.jfree.chart.event.OverlayChangeListener;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.TitleChangeEvent;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Pannable;
+import org.jfree.chart.plot.PiePlot;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.SubplotRedrawable;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.plot.Zoomable;
+import org.jfree.chart.ui.Layer;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.xy.XYDataset;
 import org.jfree.chart.util.Args;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.chart.util.SerialUtils;
@@ -375,6 +406,131 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      */
     private boolean zoomAroundAnchor;
 
+    /**
+     * The default delay (in milliseconds) after the last pan or zoom event
+     * before the chart is redrawn in the pan and zoom preview mode.
+     *
+     * @since 1.6.0
+     */
+    public static final int DEFAULT_PAN_ZOOM_PREVIEW_DELAY = 250;
+
+    /**
+     * A flag that controls whether panning with the mouse and zooming with
+     * the mouse wheel transform the buffered image instead of redrawing the
+     * chart for every event.
+     */
+    private boolean panZoomPreview;
+
+    /**
+     * The delay (in milliseconds) after the last pan or zoom event before
+     * the chart is redrawn in the pan and zoom preview mode.
+     */
+    private int panZoomPreviewDelay = DEFAULT_PAN_ZOOM_PREVIEW_DELAY;
+
+    /** A flag that is set while a pan or zoom is applied to the plot. */
+    private transient boolean previewGesture;
+
+    /**
+     * The range of the plot's domain axis when the chart buffer was drawn,
+     * recorded when a preview starts ({@code null} if no preview is active).
+     */
+    private transient Range previewDomainRange;
+
+    /** The range of the plot's range axis when the chart buffer was drawn. */
+    private transient Range previewRangeRange;
+
+    /**
+     * The transform (in Java2D space) from the chart buffer to the current
+     * axis ranges ({@code null} if no preview is active).
+     */
+    private transient AffineTransform previewTransform;
+
+    /** The timer that triggers the redraw after a preview. */
+    private transient Timer previewTimer;
+
+    /**
+     * A flag that controls whether the chart buffer is drawn by a background
+     * thread instead of the event dispatch thread.
+     */
+    private boolean asyncRendering;
+
+    /** The background render in progress ({@code null} if there is none). */
+    private transient Future<?> renderTask;
+
+    /**
+     * Incremented whenever a background render is started or cancelled, so
+     * that the result of an earlier render can be recognised and discarded.
+     */
+    private transient int renderGeneration;
+
+    /**
+     * A flag that indicates that the last background render failed, so the
+     * next paint draws the chart buffer on the event dispatch thread.
+     */
+    private transient boolean renderFailed;
+
+    /** The executor for background renders (created when first needed). */
+    private static ExecutorService renderExecutor;
+
+    /** The logger for the failures of background renders. */
+    private static final Logger LOGGER = Logger.getLogger(
+            ChartPanel.class.getName());
+
+    /**
+     * A flag that controls whether a change to a title or subplot redraws
+     * only that part of the chart buffer.
+     */
+    private boolean partialRepaint;
+
+    /**
+     * The titles and subplots that have changed since the chart buffer was
+     * last drawn, if the buffer can be updated by redrawing just these.
+     */
+    private transient Set<Object> dirtyComponents
+            = new LinkedHashSet<Object>();
+
+    /**
+     * A flag that controls whether the chart buffer is updated by drawing
+     * just the items appended to the datasets of an {@link XYPlot}.
+     */
+    private boolean appendRendering;
+
+    /**
+     * A flag that indicates that the datasets have changed since the chart
+     * buffer was updated, and that it might be possible to draw just the
+     * appended items.
+     */
+    private transient boolean appendPending;
+
+    /**
+     * The datasets of the plot when the chart buffer was last updated
+     * ({@code null} if the append rendering mode does not apply).
+     */
+    private transient List<XYDataset> appendDatasets;
+
+    /** The range of the domain axis when the buffer was last updated. */
+    private transient Range appendDomainRange;
+
+    /** The range of the range axis when the buffer was last updated. */
+    private transient Range appendRangeRange;
+
+    /** The number of series when the buffer was last updated. */
+    private transient int appendSeriesCount;
+
+    /**
+     * The smallest x-value of the last line segment of each series when the
+     * buffer was last updated, which is where the next update starts
+     * ({@code NaN} if the datasets were empty).
+     */
+    private transient double appendDomainStart;
+
+    /**
+     * The part of the scrolling distance (in Java2D units) that the data
+     * area of the buffer has not been shifted by, since it is shifted by
+     * whole pixels.
+     */
+    private transient double appendResidual;
+
     /**
      * The paint used to draw the zoom rectangle outline.
      *
@@ -561,7 +717,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
         setChart(chart);
         this.chartMouseListeners = new EventListenerList();
-        this.info = new ChartRenderingInfo();
+        this.info = new ChartRenderingInfo(new IndexedEntityCollection());
         setPreferredSize(new Dimension(width, height));
         this.useBuffer = useBuffer;
         this.refreshBuffer = false;
@@ -631,6 +787,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         }
 
         // add the new chart
+        cancelRender();
         this.chart = chart;
         if (chart != null) {
             this.chart.addChangeListener(this);
@@ -1023,6 +1180,371 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.zoomAroundAnchor = zoomAroundAnchor;
     }
 
+    /**
+     * Returns the flag that controls the pan and zoom preview mode.  In this
+     * mode, panning with the mouse and zooming with the mouse wheel (for a
+     * chart with an {@link XYPlot}) do not redraw the chart for each event.
+     * Instead, the data area of the chart buffer is translated and scaled to
+     * the new axis ranges straight away, and the chart is redrawn once no
+     * more events have arrived for {@link #getPanZoomPreviewDelay()}
+     * milliseconds (or when the mouse button is released).  Until then, the
+     * axes show the old ranges.  The mode requires the off-screen buffer and
+     * is off by default.
+     *
+     * @return A boolean.
+     *
+     * @see #setPanZoomPreview(boolean)
+     *
+     * @since 1.6.0
+     */
+    public boolean isPanZoomPreview() {
+        return this.panZoomPreview;
+    }
+
+    /**
+     * Sets the flag that controls the pan and zoom preview mode (see
+     * {@link #isPanZoomPreview()}).
+     *
+     * @param preview  the new flag value.
+     *
+     * @since 1.6.0
+     */
+    public void setPanZoomPreview(boolean preview) {
+        this.panZoomPreview = preview;
+        if (!preview && this.previewTransform != null) {
+            endPreview();
+        }
+    }
+
+    /**
+     * Returns the delay (in milliseconds) after the last pan or zoom event
+     * before the chart is redrawn in the pan and zoom preview mode.  The
+     * default is {@link #DEFAULT_PAN_ZOOM_PREVIEW_DELAY}.
+     *
+     * @return The delay.
+     *
+     * @see #setPanZoomPreviewDelay(int)
+     *
+     * @since 1.6.0
+     */
+    public int getPanZoomPreviewDelay() {
+        return this.panZoomPreviewDelay;
+    }
+
+    /**
+     * Sets the delay (in milliseconds) after the last pan or zoom event
+     * before the chart is redrawn in the pan and zoom preview mode.
+     *
+     * @param delay  the delay (must be zero or positive).
+     *
+     * @since 1.6.0
+     */
+    public void setPanZoomPreviewDelay(int delay) {
+        Args.requireNonNegative(delay, "delay");
+        this.panZoomPreviewDelay = delay;
+    }
+
+    /**
+     * Returns the flag that controls whether the chart buffer is drawn by a
+     * background thread.  In this mode, a chart that takes a long time to
+     * draw does not block the event dispatch thread: the chart is copied
+     * (on the event dispatch thread) and the copy is drawn to a new buffer
+     * by a background thread, while the panel continues to show the previous
+     * buffer.  When the drawing is finished, the new buffer and rendering
+     * info replace the previous ones.  A chart change event that arrives
+     * while the copy is being drawn cancels the drawing (the plot rendering
+     * loops stop at the next item) and a new drawing is started when the
+     * panel is next painted.  The chart's progress listeners receive a
+     * {@code DRAWING_STARTED} event when a drawing is started and a
+     * {@code DRAWING_FINISHED} event when its buffer is shown, both on the
+     * event dispatch thread.
+     * <P>
+     * The mode requires the off-screen buffer and a chart with an
+     * {@link XYPlot}, a {@link CategoryPlot} or a {@link PiePlot} (charts
+     * with other plots are drawn on the event dispatch thread).  The copy is
+     * drawn from clones of the datasets, taken when the drawing starts, so
+     * the datasets can be modified on the event dispatch thread while it is
+     * drawn, but they must not be modified by other threads.  Cloning the
+     * datasets costs time and memory in proportion to their size, on the
+     * event dispatch thread; if a dataset cannot be cloned, the mode is
+     * switched off.  If a drawing fails, the exception is logged and the
+     * chart is drawn on the event dispatch thread for the next paint.  The
+     * mode is off by default.
+     *
+     * @return A boolean.
+     *
+     * @see #setAsyncRendering(boolean)
+     *
+     * @since 1.6.0
+     */
+    public boolean isAsyncRendering() {
+        return this.asyncRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the chart buffer is drawn by a
+     * background thread (see {@link #isAsyncRendering()}) and repaints the
+     * panel.
+     *
+     * @param async  the new flag value.
+     *
+     * @since 1.6.0
+     */
+    public void setAsyncRendering(boolean async) {
+        this.asyncRendering = async;
+        cancelRender();
+        if (!async) {
+            // the buffer may not match the panel size
+            this.chartBuffer = null;
+        }
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the flag that controls whether a change to a single title, or
+     * to a single subplot of a combined plot, redraws only that part of the
+     * chart buffer.  A subplot can only be redrawn separately when the
+     * combined plot implements {@link SubplotRedrawable}, and the legends
+     * are redrawn along with it.  If the change would alter the layout of
+     * the chart (for example, a shared axis range or the size of a title),
+     * the whole buffer is redrawn as usual.  The mode requires the
+     * off-screen buffer and does not apply while rendering in the
+     * background (see {@link #isAsyncRendering()}).  The mode is off by
+     * default.
+     *
+     * @return A boolean.
+     *
+     * @see #setPartialRepaint(boolean)
+     * @see JFreeChart#redraw(Graphics2D, Object, ChartRenderingInfo)
+     *
+     * @since 1.6.0
+     */
+    public boolean isPartialRepaint() {
+        return this.partialRepaint;
+    }
+
+    /**
+     * Sets the flag that controls whether a change to a title or subplot
+     * redraws only that part of the chart buffer (see
+     * {@link #isPartialRepaint()}).
+     *
+     * @param partial  the new flag value.
+     *
+     * @since 1.6.0
+     */
+    public void setPartialRepaint(boolean partial) {
+        this.partialRepaint = partial;
+        this.dirtyComponents.clear();
+    }
+
+    /**
+     * Returns the flag that controls whether the chart buffer is updated by
+     * drawing just the items that have been appended to the datasets, which
+     * is intended for live charts of streaming data.
+     * <P>
+     * The mode applies to a chart with an {@link XYPlot} that has a vertical
+     * orientation, a single domain axis (not inverted), a single range axis
+     * and datasets with x-values in ascending order (such as
+     * {@link org.jfree.data.time.TimeSeriesCollection} and
+     * {@link org.jfree.data.time.DynamicTimeSeriesCollection}).  When a
+     * dataset changes and the range axis is unchanged, the part of the data
+     * area from the last line segment of each series onwards is redrawn (so
+     * the newest item can be updated in place).  If the domain axis has
+     * scrolled (for example, with a fixed auto range) the data area of the
+     * buffer is shifted by whole pixels and the domain axis is redrawn, so
+     * the older content can be up to one pixel away from where a full redraw
+     * would put it.  Any other change, such as a rescaled axis, redraws the
+     * whole chart.
+     * <P>
+     * The datasets must only change by appending items (and removing the
+     * oldest items), since the other items are not redrawn.  The data area
+     * is only shifted if nothing in it stays in place as the data scrolls
+     * (annotations, range markers, a background image or dashed range
+     * gridlines, for example), otherwise the whole chart is redrawn when the
+     * domain axis scrolls.
+     * The entities for the data items are removed when the buffer is
+     * updated, so the tool tips for the items are only available after a
+     * full redraw.  The mode requires the off-screen buffer, does not apply
+     * while rendering in the background (see {@link #isAsyncRendering()})
+     * or when the chart is scaled to fit the panel, and is off by default.
+     *
+     * @return A boolean.
+     *
+     * @see #setAppendRendering(boolean)
+     *
+     * @since 1.6.0
+     */
+    public boolean isAppendRendering() {
+        return this.appendRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the chart buffer is updated by
+     * drawing just the appended items (see {@link #isAppendRendering()})
+     * and repaints the panel.
+     *
+     * @param append  the new flag value.
+     *
+     * @since 1.6.0
+     */
+    public void setAppendRendering(boolean append) {
+        this.appendRendering = append;
+        this.appendPending = false;
+        this.appendDatasets = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Called before a pan or zoom is applied to the plot.  If the pan and
+     * zoom preview mode applies, the change events for the pan or zoom
+     * update the preview instead of redrawing the chart.
+     *
+     * @return A boolean that indicates whether or not the preview applies
+     *     (if so, {@link #endPreviewGesture()} must be called afterwards).
+     */
+    boolean beginPreviewGesture() {
+        if (!this.panZoomPreview || !this.useBuffer || this.chartBuffer == null
+                || this.refreshBuffer || this.renderTask != null
+                || this.info == null
+                || !(this.chart.getPlot() instanceof XYPlot)) {
+            return false;
+        }
+        if (this.previewTransform == null) {
+            XYPlot plot = (XYPlot) this.chart.getPlot();
+            this.previewDomainRange = getRange(plot.getDomainAxis());
+            this.previewRangeRange = getRange(plot.getRangeAxis());
+            this.previewTransform = new AffineTransform();
+        }
+        this.previewGesture = true;
+        return true;
+    }
+
+    /**
+     * Called after a pan or zoom has been applied to the plot, when
+     * {@link #beginPreviewGesture()} returned {@code true}.  Restarts the
+     * timer for the redraw.
+     */
+    void endPreviewGesture() {
+        this.previewGesture = false;
+        if (this.previewTransform == null) {
+            return; // the preview was cancelled by another change
+        }
+        if (this.previewTimer == null) {
+            this.previewTimer = new Timer(this.panZoomPreviewDelay,
+                    new ActionListener() {
+                @Override
+                public void actionPerformed(ActionEvent e) {
+                    endPreview();
+                }
+            });
+            this.previewTimer.setRepeats(false);
+        }
+        this.previewTimer.setInitialDelay(this.panZoomPreviewDelay);
+        this.previewTimer.restart();
+    }
+
+    /**
+     * Ends the preview (if there is one) and redraws the chart.
+     */
+    private void endPreview() {
+        clearPreview();
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Discards the preview state and stops the redraw timer.
+     */
+    private void clearPreview() {
+        this.previewTransform = null;
+        this.previewDomainRange = null;
+        this.previewRangeRange = null;
+        if (this.previewTimer != null) {
+            this.previewTimer.stop();
+        }
+    }
+
+    /**
+     * Returns the range of an axis.
+     *
+     * @param axis  the axis ({@code null} permitted).
+     *
+     * @return The range (possibly {@code null}).
+     */
+    private static Range getRange(ValueAxis axis) {
+        return axis == null ? null : axis.getRange();
+    }
+
+    /**
+     * Calculates the transform (in Java2D space) that maps the data area of
+     * the chart buffer to the current ranges of the plot's primary axes.
+     * The mapping is exact for linear axes and approximate for other axes.
+     *
+     * @return The transform.
+     */
+    private AffineTransform calculatePreviewTransform() {
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        Rectangle2D dataArea = this.info.getPlotInfo().getDataArea();
+        double[] h = new double[] {1.0, 0.0};
+        double[] v = new double[] {1.0, 0.0};
+        RectangleEdge domainEdge = plot.getDomainAxisEdge();
+        double[] domainMap = calculateAxisTransform(plot.getDomainAxis(),
+                this.previewDomainRange, dataArea, domainEdge);
+        if (RectangleEdge.isTopOrBottom(domainEdge)) {
+            h = domainMap;
+        } else {
+            v = domainMap;
+        }
+        RectangleEdge rangeEdge = plot.getRangeAxisEdge();
+        double[] rangeMap = calculateAxisTransform(plot.getRangeAxis(),
+                this.previewRangeRange, dataArea, rangeEdge);
+        if (RectangleEdge.isTopOrBottom(rangeEdge)) {
+            h = rangeMap;
+        } else {
+            v = rangeMap;
+        }
+        return new AffineTransform(h[0], 0.0, 0.0, v[0], h[1], v[1]);
+    }
+
+    /**
+     * Calculates the scale and translation (in Java2D space, along the
+     * axis) that map the positions of values when the axis had the old
+     * range to their positions for the current range.
+     *
+     * @param axis  the axis ({@code null} permitted).
+     * @param oldRange  the old range ({@code null} permitted).
+     * @param dataArea  the data area.
+     * @param edge  the axis edge.
+     *
+     * @return An array containing the scale and the translation.
+     */
+    private static double[] calculateAxisTransform(ValueAxis axis,
+            Range oldRange, Rectangle2D dataArea, RectangleEdge edge) {
+        if (axis == null || oldRange == null) {
+            return new double[] {1.0, 0.0};
+        }
+        double lo = oldRange.getLowerBound();
+        double hi = oldRange.getUpperBound();
+        double oldLo, oldHi;
+        if (RectangleEdge.isTopOrBottom(edge)) {
+            oldLo = axis.isInverted() ? dataArea.getMaxX() : dataArea.getMinX();
+            oldHi = axis.isInverted() ? dataArea.getMinX() : dataArea.getMaxX();
+        } else {
+            oldLo = axis.isInverted() ? dataArea.getMinY() : dataArea.getMaxY();
+            oldHi = axis.isInverted() ? dataArea.getMaxY() : dataArea.getMinY();
+        }
+        double newLo = axis.valueToJava2D(lo, dataArea, edge);
+        double newHi = axis.valueToJava2D(hi, dataArea, edge);
+        if (oldHi == oldLo || Double.isNaN(newLo) || Double.isNaN(newHi)
+                || Double.isInfinite(newLo) || Double.isInfinite(newHi)) {
+            return new double[] {1.0, 0.0};
+        }
+        double scale = (newHi - newLo) / (oldHi - oldLo);
+        return new double[] {scale, newLo - scale * oldLo};
+    }
+
     /**
      * Returns the zoom rectangle fill paint.
      *
@@ -1346,7 +1868,36 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 drawHeight);
 
         // are we using the chart buffer?
-        if (this.useBuffer) {
+        boolean async = this.asyncRendering && !this.renderFailed;
+        this.renderFailed = false;
+        if (this.useBuffer && async
+                && ChartTemplate.isSupported(this.chart.getPlot())) {
+
+            // a new buffer is created for each background render, so a
+            // resize just triggers a render
+            if ((this.chartBufferWidth != available.getWidth())
+                    || (this.chartBufferHeight != available.getHeight())) {
+                this.chartBufferWidth = (int) available.getWidth();
+                this.chartBufferHeight = (int) available.getHeight();
+                this.refreshBuffer = true;
+            }
+
+            if (this.refreshBuffer && this.chartBufferWidth > 0
+                    && this.chartBufferHeight > 0) {
+                this.refreshBuffer = false; // clear the flag
+                clearPreview();
+                startRender(g2.getDeviceConfiguration(), chartArea, scale);
+            }
+
+            // show the last buffer until the render is finished
+            if (this.chartBuffer != null) {
+                g2.drawImage(this.chartBuffer, insets.left, insets.top, this);
+                if (this.previewTransform != null) {
+                    drawPreview(g2, insets);
+                }
+            }
+
+        } else if (this.useBuffer) {
 
             // do we need to resize the buffer?
             if ((this.chartBuffer == null)
@@ -1361,10 +1912,28 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 this.refreshBuffer = true;
             }
 
+            // redraw just the titles and subplots that have changed, if
+            // that is possible
+            if (!this.dirtyComponents.isEmpty()) {
+                if (!this.refreshBuffer) {
+                    this.refreshBuffer = !redrawDirtyComponents(scale);
+                }
+                this.dirtyComponents.clear();
+            }
+
+            // draw just the items appended to the datasets, if possible
+            if (this.appendPending) {
+                if (!this.refreshBuffer) {
+                    this.refreshBuffer = scale || !drawAppendedItems();
+                }
+                this.appendPending = false;
+            }
+
             // do we need to redraw the buffer?
             if (this.refreshBuffer) {
 
                 this.refreshBuffer = false; // clear the flag
+                clearPreview();
 
                 Rectangle2D bufferArea = new Rectangle2D.Double(
                         0, 0, this.chartBufferWidth, this.chartBufferHeight);
@@ -1393,10 +1962,15 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                             this.info);
                 }
                 bufferG2.dispose();
+                this.appendResidual = 0.0;
+                recordAppendState(scale);
             }
 
             // zap the buffer onto the panel...
             g2.drawImage(this.chartBuffer, insets.left, insets.top, this);
+            if (this.previewTransform != null) {
+                drawPreview(g2, insets);
+            }
 
         } else { // redrawing the chart every time...
             AffineTransform saved = g2.getTransform();
@@ -1425,6 +1999,516 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.anchor = null;
     }
 
+    /**
+     * Draws the data area of the chart buffer with the preview transform,
+     * over the data area of the buffer that has already been drawn.
+     *
+     * @param g2  the graphics target.
+     * @param insets  the panel insets.
+     */
+    private void drawPreview(Graphics2D g2, Insets insets) {
+        Shape savedClip = g2.getClip();
+        AffineTransform savedTransform = g2.getTransform();
+        Paint savedPaint = g2.getPaint();
+        Rectangle2D screenDataArea = getScreenDataArea();
+        g2.clip(screenDataArea);
+        Paint background = this.chart.getPlot().getBackgroundPaint();
+        g2.setPaint(background != null ? background : getBackground());
+        g2.fill(screenDataArea);
+        g2.translate(insets.left, insets.top);
+        g2.scale(this.scaleX, this.scaleY);
+        g2.transform(this.previewTransform);
+        g2.scale(1.0 / this.scaleX, 1.0 / this.scaleY);
+        g2.drawImage(this.chartBuffer, 0, 0, this);
+        g2.setTransform(savedTransform);
+        g2.setClip(savedClip);
+        g2.setPaint(savedPaint);
+    }
+
+    /**
+     * Starts a background render of a copy of the chart to a new buffer,
+     * cancelling any render that is already in progress.  The copy has
+     * clones of the datasets, so the originals can change while it is
+     * drawn.  If the chart or its datasets cannot be copied, the background
+     * rendering mode is switched off.
+     *
+     * @param gc  the device configuration for the buffer.
+     * @param chartArea  the drawing area when the chart is scaled.
+     * @param scale  a flag that indicates whether the chart is scaled.
+     */
+    private void startRender(GraphicsConfiguration gc, Rectangle2D chartArea,
+            final boolean scale) {
+        cancelRender();
+        JFreeChart chartCopy = null;
+        try {
+            chartCopy = ChartTemplate.copy(this.chart);
+            // the copy is drawn from a snapshot of the datasets, which also
+            // stops it reacting to changes to the original datasets
+            ChartTemplate.snapshotDatasets(chartCopy.getPlot());
+        } catch (CloneNotSupportedException e) {
+            if (chartCopy != null) {
+                ChartTemplate.detachDatasets(chartCopy.getPlot());
+            }
+            this.asyncRendering = false;
+            this.chartBuffer = null;
+            this.refreshBuffer = true;
+            repaint();
+            return;
+        }
+        final JFreeChart copy = chartCopy;
+
+        final BufferedImage image = gc.createCompatibleImage(
+                this.chartBufferWidth, this.chartBufferHeight,
+                Transparency.TRANSLUCENT);
+        final Rectangle2D area = scale ? chartArea : new Rectangle2D.Double(
+                0, 0, this.chartBufferWidth, this.chartBufferHeight);
+        final AffineTransform st = AffineTransform.getScaleInstance(
+                this.scaleX, this.scaleY);
+        final Point2D renderAnchor = this.anchor;
+        final ChartRenderingInfo renderInfo;
+        if (this.info != null) {
+            renderInfo = new ChartRenderingInfo(
+                    this.info.getEntityCollection() != null
+                    ? new IndexedEntityCollection() : null);
+        } else {
+            renderInfo = null;
+        }
+        final int generation = ++this.renderGeneration;
+        this.chart.notifyListeners(new ChartProgressEvent(this.chart,
+                this.chart, ChartProgressEvent.DRAWING_STARTED, 0));
+        this.renderTask = getRenderExecutor().submit(new Runnable() {
+            @Override
+            public void run() {
+                RuntimeException error = null;
+                Graphics2D bufferG2 = image.createGraphics();
+                try {
+                    if (scale) {
+                        bufferG2.transform(st);
+                    }
+                    copy.draw(bufferG2, area, renderAnchor, renderInfo);
+                } catch (RuntimeException e) {
+                    error = e;
+                } finally {
+                    bufferG2.dispose();
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    return; // cancelled, so the result is not needed
+                }
+                final RuntimeException renderError = error;
+                SwingUtilities.invokeLater(new Runnable() {
+                    @Override
+                    public void run() {
+                        finishRender(generation, image, renderInfo,
+                                copy.getPlot(), renderError);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Shows the result of a background render, unless the render has been
+     * superseded.  If the render failed, the exception is logged and the
+     * panel is repainted with the chart drawn on the event dispatch thread
+     * (the exception is not thrown here, where it would reach the event
+     * dispatch loop).  This method is called on the event dispatch thread.
+     *
+     * @param generation  the generation of the render.
+     * @param image  the buffer.
+     * @param renderInfo  the rendering info ({@code null} permitted).
+     * @param plot  the plot of the chart copy that was drawn.
+     * @param error  the exception thrown by the render ({@code null} if the
+     *     render completed normally).
+     */
+    private void finishRender(int generation, BufferedImage image,
+            ChartRenderingInfo renderInfo, Plot plot,
+            RuntimeException error) {
+        if (generation != this.renderGeneration) {
+            return;
+        }
+        this.renderTask = null;
+        if (error != null) {
+            LOGGER.log(Level.WARNING, "Background chart rendering failed.",
+                    error);
+            this.renderFailed = true;
+            this.refreshBuffer = true;
+            repaint();
+            return;
+        }
+        this.chartBuffer = image;
+        if (renderInfo != null) {
+            this.info = renderInfo;
+        }
+        // the crosshair values are updated by drawing the copy
+        Plot target = this.chart.getPlot();
+        if (target instanceof XYPlot && plot instanceof XYPlot) {
+            XYPlot xyTarget = (XYPlot) target;
+            XYPlot xySource = (XYPlot) plot;
+            xyTarget.setDomainCrosshairValue(
+                    xySource.getDomainCrosshairValue(), false);
+            xyTarget.setRangeCrosshairValue(
+                    xySource.getRangeCrosshairValue(), false);
+        } else if (target instanceof CategoryPlot
+                && plot instanceof CategoryPlot) {
+            CategoryPlot categoryTarget = (CategoryPlot) target;
+            CategoryPlot categorySource = (CategoryPlot) plot;
+            categoryTarget.setCrosshairDatasetIndex(
+                    categorySource.getCrosshairDatasetIndex(), false);
+            categoryTarget.setDomainCrosshairRowKey(
+                    categorySource.getDomainCrosshairRowKey(), false);
+            categoryTarget.setDomainCrosshairColumnKey(
+                    categorySource.getDomainCrosshairColumnKey(), false);
+            categoryTarget.setRangeCrosshairValue(
+                    categorySource.getRangeCrosshairValue(), false);
+        }
+        this.chart.notifyListeners(new ChartProgressEvent(this.chart,
+                this.chart, ChartProgressEvent.DRAWING_FINISHED, 100));
+        repaint();
+    }
+
+    /**
+     * Cancels the background render in progress (if there is one).  The
+     * rendering thread is interrupted, which stops the plot rendering loops.
+     */
+    private void cancelRender() {
+        if (this.renderTask != null) {
+            this.renderTask.cancel(true);
+            this.renderTask = null;
+        }
+        this.renderGeneration++;
+    }
+
+    /**
+     * Returns the executor for background renders, creating it if
+     * necessary.
+     *
+     * @return The executor.
+     */
+    private static synchronized ExecutorService getRenderExecutor() {
+        if (renderExecutor == null) {
+            renderExecutor = Executors.newCachedThreadPool(
+                    new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "ChartPanel-render");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return renderExecutor;
+    }
+
+    /**
+     * Redraws the titles and subplots that have changed in the chart buffer.
+     *
+     * @param scale  a flag that indicates whether the chart is scaled to
+     *     fit the buffer.
+     *
+     * @return {@code true} if all the components were redrawn, and
+     *     {@code false} if the whole buffer must be redrawn.
+     */
+    private boolean redrawDirtyComponents(boolean scale) {
+        Graphics2D bufferG2 = (Graphics2D) this.chartBuffer.getGraphics();
+        try {
+            if (scale) {
+                bufferG2.transform(AffineTransform.getScaleInstance(
+                        this.scaleX, this.scaleY));
+            }
+            for (Object component : this.dirtyComponents) {
+                if (!this.chart.redraw(bufferG2, component, this.info)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            bufferG2.dispose();
+        }
+    }
+
+    /**
+     * Returns the datasets of a plot for the append rendering mode.
+     *
+     * @param plot  the plot.
+     *
+     * @return The datasets that are not {@code null}, or {@code null} if
+     *     any of them does not have its x-values in ascending order.
+     */
+    private static List<XYDataset> getAppendDatasets(XYPlot plot) {
+        List<XYDataset> result = new ArrayList<XYDataset>();
+        for (XYDataset dataset : plot.getDatasets().values()) {
+            if (dataset == null) {
+                continue;
+            }
+            if (dataset.getDomainOrder() != DomainOrder.ASCENDING) {
+                return null;
+            }
+            result.add(dataset);
+        }
+        return result;
+    }
+
+    /**
+     * Records the state of the plot after the chart buffer has been updated,
+     * so that the next change to the datasets can be drawn by appending.
+     *
+     * @param scale  a flag that indicates whether the chart is scaled to
+     *     fit the buffer.
+     */
+    private void recordAppendState(boolean scale) {
+        this.appendDatasets = null;
+        Plot p = this.chart.getPlot();
+        if (!this.appendRendering || scale || this.info == null
+                || !(p instanceof XYPlot)) {
+            return;
+        }
+        XYPlot plot = (XYPlot) p;
+        if (plot.getDomainAxisCount() != 1 || plot.getRangeAxisCount() != 1
+                || plot.getDomainAxis() == null
+                || plot.getRangeAxis() == null) {
+            return;
+        }
+        List<XYDataset> datasets = getAppendDatasets(plot);
+        if (datasets == null) {
+            return;
+        }
+        double start = Double.NaN;
+        for (XYDataset dataset : datasets) {
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                int count = dataset.getItemCount(s);
+                if (count > 0) {
+                    double x = dataset.getXValue(s, Math.max(count - 2, 0));
+                    if (Double.isNaN(start) || x < start) {
+                        start = x;
+                    }
+                }
+            }
+        }
+        this.appendDatasets = datasets;
+        this.appendDomainRange = plot.getDomainAxis().getRange();
+        this.appendRangeRange = plot.getRangeAxis().getRange();
+        this.appendSeriesCount = plot.getSeriesCount();
+        this.appendDomainStart = start;
+    }
+
+    /**
+     * Updates the chart buffer after items have been appended to the
+     * datasets, by shifting the data area if the domain axis has scrolled
+     * and redrawing only the regions that have changed.
+     *
+     * @return {@code true} if the buffer was updated, and {@code false} if
+     *     the whole buffer must be redrawn.
+     */
+    private boolean drawAppendedItems() {
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        ValueAxis domainAxis = plot.getDomainAxis();
+        ValueAxis rangeAxis = plot.getRangeAxis();
+        List<XYDataset> datasets = getAppendDatasets(plot);
+        if (domainAxis == null || rangeAxis == null || datasets == null
+                || datasets.size() != this.appendDatasets.size()
+                || plot.getSeriesCount() != this.appendSeriesCount
+                || !rangeAxis.getRange().equals(this.appendRangeRange)
+                || plot.getOrientation() != PlotOrientation.VERTICAL
+                || domainAxis.isInverted()) {
+            return false;
+        }
+        for (int i = 0; i < datasets.size(); i++) {
+            if (datasets.get(i) != this.appendDatasets.get(i)) {
+                return false;
+            }
+        }
+        PlotRenderingInfo plotInfo = this.info.getPlotInfo();
+        Rectangle2D dataArea = plotInfo.getDataArea();
+        RectangleEdge edge = plot.getDomainAxisEdge();
+
+        // the items have moved by the same distance at both ends of the
+        // axis, unless it has been rescaled
+        double dx = domainAxis.valueToJava2D(
+                this.appendDomainRange.getLowerBound(), dataArea, edge)
+                - dataArea.getMinX();
+        double dx2 = domainAxis.valueToJava2D(
+                this.appendDomainRange.getUpperBound(), dataArea, edge)
+                - dataArea.getMaxX();
+        if (Math.abs(dx - dx2) > 0.01 || dx > 0.0
+                || -dx >= dataArea.getWidth()) {
+            return false;
+        }
+        int shift = (int) Math.round(dx + this.appendResidual);
+        if (shift != 0 && !isShiftable(plot)) {
+            return false;
+        }
+
+        Rectangle2D outline = new Rectangle2D.Double(dataArea.getX() - 2.0,
+                dataArea.getY() - 2.0, dataArea.getWidth() + 4.0,
+                dataArea.getHeight() + 4.0);
+        double x = outline.getMinX();
+        if (!Double.isNaN(this.appendDomainStart)) {
+            x = Math.max(x, domainAxis.valueToJava2D(this.appendDomainStart,
+                    dataArea, edge));
+        }
+        Graphics2D g2 = (Graphics2D) this.chartBuffer.getGraphics();
+        try {
+            if (shift != 0) {
+                int x0 = (int) Math.ceil(dataArea.getMinX());
+                int x1 = (int) Math.floor(dataArea.getMaxX());
+                int y0 = (int) Math.floor(dataArea.getMinY());
+                int y1 = (int) Math.ceil(dataArea.getMaxY());
+                g2.copyArea(x0 - shift, y0, x1 - x0 + shift, y1 - y0, shift,
+                        0);
+                // the left edge of the outline has been overwritten and the
+                // right edge is now inside the data area
+                this.chart.redrawRegion(g2, new Rectangle2D.Double(
+                        outline.getX(), outline.getY(), 4.0,
+                        outline.getHeight()), this.info);
+                x = Math.max(Math.min(x, x1 + shift), outline.getMinX());
+            }
+            if (dx != 0.0) {
+                // the tick labels have moved
+                Rectangle2D chartArea = this.info.getChartArea();
+                Rectangle2D plotArea = plotInfo.getPlotArea();
+                double y0 = edge == RectangleEdge.TOP ? plotArea.getMinY()
+                        : dataArea.getMaxY();
+                double y1 = edge == RectangleEdge.TOP ? dataArea.getMinY()
+                        : plotArea.getMaxY();
+                this.chart.redrawRegion(g2, new Rectangle2D.Double(
+                        chartArea.getX(), y0, chartArea.getWidth(), y1 - y0),
+                        this.info);
+            }
+            this.chart.redrawRegion(g2, new Rectangle2D.Double(x,
+                    outline.getY(), outline.getMaxX() - x,
+                    outline.getHeight()), this.info);
+        } finally {
+            g2.dispose();
+        }
+        this.appendResidual += dx - shift;
+        removeItemEntities();
+        recordAppendState(false);
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the data area of a plot can be shifted when
+     * the domain axis scrolls, which requires everything in the data area to
+     * move with the data (apart from solid horizontal lines).  For example,
+     * the pattern of a dashed range gridline starts at the edge of the data
+     * area, so it does not move with the data.
+     *
+     * @param plot  the plot.
+     *
+     * @return A boolean.
+     */
+    private static boolean isShiftable(XYPlot plot) {
+        if (!plot.getAnnotations().isEmpty()
+                || plot.getBackgroundImage() != null
+                || !(plot.getBackgroundPaint() == null
+                        || plot.getBackgroundPaint() instanceof Color)) {
+            return false;
+        }
+        for (int i = 0; i < plot.getRendererCount(); i++) {
+            Collection<?> foreground = plot.getRangeMarkers(i,
+                    Layer.FOREGROUND);
+            Collection<?> background = plot.getRangeMarkers(i,
+                    Layer.BACKGROUND);
+            if ((foreground != null && !foreground.isEmpty())
+                    || (background != null && !background.isEmpty())) {
+                return false;
+            }
+        }
+        return !(plot.isRangeGridlinesVisible()
+                        && isDashed(plot.getRangeGridlineStroke()))
+                && !(plot.isRangeMinorGridlinesVisible()
+                        && isDashed(plot.getRangeMinorGridlineStroke()))
+                && !(plot.isRangeZeroBaselineVisible()
+                        && isDashed(plot.getRangeZeroBaselineStroke()))
+                && !(plot.isRangeCrosshairVisible()
+                        && isDashed(plot.getRangeCrosshairStroke()));
+    }
+
+    /**
+     * Returns {@code true} unless a stroke is known to draw solid lines.
+     *
+     * @param stroke  the stroke ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean isDashed(Stroke stroke) {
+        return !(stroke instanceof BasicStroke)
+                || ((BasicStroke) stroke).getDashArray() != null;
+    }
+
+    /**
+     * Removes the entities for the data items, which no longer match the
+     * chart buffer after it has been updated by drawing the appended items.
+     */
+    private void removeItemEntities() {
+        EntityCollection entities = this.info.getEntityCollection();
+        if (entities == null) {
+            return;
+        }
+        List<ChartEntity> kept = new ArrayList<ChartEntity>();
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            if (!(entity instanceof XYItemEntity)) {
+                kept.add(entity);
+            }
+        }
+        if (kept.size() < entities.getEntityCount()) {
+            entities.clear();
+            for (ChartEntity entity : kept) {
+                entities.add(entity);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if an event is a change to the datasets of the
+     * plot that might be drawn by appending to the chart buffer.
+     *
+     * @param event  the chart change event.
+     *
+     * @return A boolean.
+     */
+    private boolean isAppendEvent(ChartChangeEvent event) {
+        return this.appendDatasets != null && this.useBuffer
+                && !this.asyncRendering && !this.refreshBuffer
+                && this.chartBuffer != null && this.previewTransform == null
+                && event instanceof PlotChangeEvent
+                && ((PlotChangeEvent) event).getPlot() == this.chart.getPlot()
+                && event.getType() == ChartChangeEventType.DATASET_UPDATED;
+    }
+
+    /**
+     * Returns the title or subplot that is the only part of the chart
+     * changed by an event, if the partial repaint mode applies and the chart
+     * buffer is up to date apart from the changes already recorded.
+     *
+     * @param event  the chart change event.
+     *
+     * @return The title or subplot, or {@code null} if the whole chart must
+     *     be redrawn.
+     */
+    private Object getChangedComponent(ChartChangeEvent event) {
+        if (!this.partialRepaint || !this.useBuffer || this.asyncRendering
+                || this.refreshBuffer || this.chartBuffer == null
+                || this.previewTransform != null || this.info == null) {
+            return null;
+        }
+        if (event instanceof TitleChangeEvent) {
+            return ((TitleChangeEvent) event).getTitle();
+        }
+        if (event instanceof PlotChangeEvent) {
+            PlotChangeEvent pce = (PlotChangeEvent) event;
+            if (pce.getSubplot() != null) {
+                return pce.getSubplot();
+            }
+            Plot plot = pce.getPlot();
+            if (plot != null && plot != this.chart.getPlot()) {
+                return plot;
+            }
+        }
+        return null;
+    }
+
     /**
      * Receives notification of changes to the chart, and redraws the chart.
      *
@@ -1432,7 +2516,27 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
+        if (this.previewGesture && this.previewTransform != null) {
+            // a pan or zoom in the preview mode, so transform the buffer
+            // instead of redrawing the chart
+            this.previewTransform = calculatePreviewTransform();
+            repaint();
+            return;
+        }
+        Object component = getChangedComponent(event);
+        if (component != null) {
+            this.dirtyComponents.add(component);
+            repaint();
+            return;
+        }
+        if (isAppendEvent(event)) {
+            this.appendPending = true;
+            repaint();
+            return;
+        }
         this.refreshBuffer = true;
+        clearPreview();
+        cancelRender();
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
@@ -1666,6 +2770,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             }
             double wPercent = -dx / this.panW;
             double hPercent = dy / this.panH;
+            boolean preview = beginPreviewGesture();
             boolean old = this.chart.getPlot().isNotify();
             this.chart.getPlot().setNotify(false);
             Pannable p = (Pannable) this.chart.getPlot();
@@ -1683,6 +2788,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             }
             this.panLast = e.getPoint();
             this.chart.getPlot().setNotify(old);
+            if (preview) {
+                endPreviewGesture();
+            }
             return;
         }
 
@@ -1760,6 +2868,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         if (this.panLast != null) {
             this.panLast = null;
             setCursor(Cursor.getDefaultCursor());
+            if (this.previewTransform != null) {
+                endPreview();
+            }
         }
 
         else if (this.zoomRectangle != null) {
@@ -1844,6 +2955,47 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
     }
 
+    /**
+     * Updates the crosshair values of an {@link XYPlot} for a new anchor
+     * point without redrawing the chart.  This is only possible when the
+     * plot does not draw its crosshairs (so the chart buffer does not
+     * change) and it can find the crosshair point without drawing (see
+     * {@link XYPlot#findCrosshairPoint(Point2D, Rectangle2D)}).  Crosshairs
+     * in a {@link org.jfree.chart.panel.CrosshairOverlay} are repainted
+     * separately.  The chart's progress listeners receive the
+     * {@link ChartProgressEvent#DRAWING_STARTED} and
+     * {@link ChartProgressEvent#DRAWING_FINISHED} events that a redraw would
+     * send, so that they can read the new crosshair values.
+     *
+     * @param anchor  the anchor point in Java2D space.
+     *
+     * @return A boolean that indicates whether or not the values were
+     *     updated (if not, the chart must be redrawn).
+     */
+    private boolean updateCrosshairValues(Point2D anchor) {
+        if (this.info == null || !this.chart.isNotify()
+                || !(this.chart.getPlot() instanceof XYPlot)) {
+            return false;
+        }
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        if (plot.isDomainCrosshairVisible() || plot.isRangeCrosshairVisible()) {
+            return false;
+        }
+        Rectangle2D dataArea = this.info.getPlotInfo().getDataArea();
+        CrosshairState state = plot.findCrosshairPoint(anchor, dataArea);
+        if (state == null) {
+            return false;
+        }
+        this.chart.notifyListeners(new ChartProgressEvent(this.chart,
+                this.chart, ChartProgressEvent.DRAWING_STARTED, 0));
+        plot.setDomainCrosshairValue(state.getCrosshairX(), false);
+        plot.setRangeCrosshairValue(state.getCrosshairY(), false);
+        this.anchor = null;
+        this.chart.notifyListeners(new ChartProgressEvent(this.chart,
+                this.chart, ChartProgressEvent.DRAWING_FINISHED, 100));
+        return true;
+    }
+
     /**
      * Receives notification of mouse clicks on the panel. These are
      * translated and passed on to any registered {@link ChartMouseListener}s.
@@ -1861,7 +3013,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         if (this.chart == null) {
             return;
         }
-        this.chart.setNotify(true);  // force a redraw
+        if (!updateCrosshairValues(this.anchor)) {
+            this.chart.setNotify(true);  // force a redraw
+        }
         // new entity code...
         Object[] listeners = this.chartMouseListeners.getListeners(
                 ChartMouseListener.class);
@@ -3015,6 +4169,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
         // we create a new but empty chartMouseListeners list
         this.chartMouseListeners = new EventListenerList();
+        this.dirtyComponents = new LinkedHashSet<Object>();
 
         // register as a listener with sub-components...
         if (this.chart != null) {
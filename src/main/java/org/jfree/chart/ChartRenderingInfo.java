@@ -54,10 +54,13 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.title.Title;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.chart.util.SerialUtils;
@@ -94,6 +97,12 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
      */
     private EntityCollection entities;
 
+    /**
+     * The layout of the titles in the order they were drawn, which allows
+     * a single title to be redrawn (not serialized).
+     */
+    private transient List<TitleLayout> titleLayouts;
+
     /**
      * Constructs a new ChartRenderingInfo structure that can be used to
      * collect information about the dimensions of a rendered chart.
@@ -114,6 +123,7 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
         this.chartArea = new Rectangle2D.Double();
         this.plotInfo = new PlotRenderingInfo(this);
         this.entities = entities;
+        this.titleLayouts = new ArrayList<TitleLayout>();
     }
 
     /**
@@ -169,6 +179,7 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
         if (this.entities != null) {
             this.entities.clear();
         }
+        this.titleLayouts.clear();
     }
 
     /**
@@ -225,6 +236,7 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
             PublicCloneable pc = (PublicCloneable) this.entities;
             clone.entities = (EntityCollection) pc.clone();
         }
+        clone.titleLayouts = new ArrayList<TitleLayout>(this.titleLayouts);
         return clone;
     }
 
@@ -252,6 +264,58 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
         throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
         this.chartArea = (Rectangle2D) SerialUtils.readShape(stream);
+        this.titleLayouts = new ArrayList<TitleLayout>();
+    }
+
+    /**
+     * Returns the (modifiable) list of title layouts recorded by the last
+     * drawing of the chart.
+     *
+     * @return The title layouts.
+     */
+    List<TitleLayout> getTitleLayouts() {
+        return this.titleLayouts;
+    }
+
+    /**
+     * The layout of a title, recorded by {@link JFreeChart} when the chart
+     * is drawn.
+     */
+    static final class TitleLayout {
+
+        /** The title. */
+        final Title title;
+
+        /** The area that was available to the title. */
+        final Rectangle2D area;
+
+        /** The area remaining for the titles and plot drawn later. */
+        final Rectangle2D remainingArea;
+
+        /** The index of the first entity added for the title. */
+        final int firstEntity;
+
+        /** The number of entities added for the title. */
+        final int entityCount;
+
+        /**
+         * Creates a new layout record.
+         *
+         * @param title  the title.
+         * @param area  the area available to the title.
+         * @param remainingArea  the area remaining after the title.
+         * @param firstEntity  the index of the first entity for the title.
+         * @param entityCount  the number of entities for the title.
+         */
+        TitleLayout(Title title, Rectangle2D area, Rectangle2D remainingArea,
+                int firstEntity, int entityCount) {
+            this.title = title;
+            this.area = (Rectangle2D) area.clone();
+            this.remainingArea = (Rectangle2D) remainingArea.clone();
+            this.firstEntity = firstEntity;
+            this.entityCount = entityCount;
+        }
+
     }
 
 }
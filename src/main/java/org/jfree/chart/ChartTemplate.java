@@ -0,0 +1,442 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * ChartTemplate.java
+ * ------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.CombinedDomainCategoryPlot;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeCategoryPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
+import org.jfree.chart.plot.PiePlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.title.LegendTitle;
+import org.jfree.chart.title.Title;
+import org.jfree.chart.util.Args;
+import org.jfree.chart.util.CloneUtils;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.PieDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A chart configuration that can be drawn by several threads at the same
+ * time, each with its own dataset.  This is intended for servers that render
+ * the same kind of chart for many requests.
+ * <P>
+ * A {@link JFreeChart} instance is not thread-safe: the renderers populate
+ * their series paints lazily, the axes store the tick unit and range
+ * calculated for the last drawing (which influences the next tick unit
+ * selection), the titles store their layout, and so on.  The template takes
+ * a copy of the chart when it is created.  For each call to one of the
+ * {@code draw()} methods it clones just the plot of that copy, which holds
+ * the state that depends on the dataset, so the output depends only on the
+ * dataset and not on what was drawn before.  The rest of the chart (the
+ * titles and the chart settings) is taken from a pool of copies that are
+ * reused for later drawings.  Each of these copies is used by one thread at
+ * a time, and the titles recalculate their layout for every drawing.
+ * <P>
+ * The dataset passed to the {@code draw()} methods replaces the primary
+ * dataset of the plot, which must be an {@link XYPlot}, a
+ * {@link CategoryPlot} or a {@link PiePlot}.  Any secondary datasets are
+ * taken from the original chart.  Later changes to the original chart are
+ * not seen by the template.  Datasets must not be modified while they are
+ * being drawn.
+ *
+ * @since 1.6.0
+ */
+public class ChartTemplate {
+
+    /** The chart that the copies are cloned from (never drawn). */
+    private final JFreeChart prototype;
+
+    /**
+     * The copies of the prototype that are not being drawn (the pool grows
+     * to the number of threads that draw at the same time).
+     */
+    private final ArrayDeque<JFreeChart> idle;
+
+    /**
+     * Creates a new template.
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     *
+     * @throws CloneNotSupportedException if the chart cannot be cloned.
+     */
+    public ChartTemplate(JFreeChart chart) throws CloneNotSupportedException {
+        Args.nullNotPermitted(chart, "chart");
+        checkPlot(chart.getPlot());
+        this.prototype = copy(chart);
+        detachDatasets(this.prototype.getPlot());
+        setDataset(this.prototype.getPlot(), null);
+        this.idle = new ArrayDeque<JFreeChart>();
+    }
+
+    /**
+     * Draws the chart for a dataset.  This method can be called by several
+     * threads at the same time.
+     *
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param area  the area within which the chart should be drawn
+     *     ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} permitted), which must be of
+     *     the type required by the plot.
+     * @param info  records info about the drawing ({@code null} means
+     *     collect no info).
+     */
+    public void draw(Graphics2D g2, Rectangle2D area, Dataset dataset,
+            ChartRenderingInfo info) {
+        Args.nullNotPermitted(g2, "g2");
+        Args.nullNotPermitted(area, "area");
+        checkDataset(dataset);
+        Plot plot;
+        try {
+            // the prototype is never modified, so it can be cloned by
+            // several threads at once
+            plot = (Plot) this.prototype.getPlot().clone();
+        } catch (CloneNotSupportedException e) {
+            // the prototype is itself a clone, so this should not happen
+            throw new IllegalStateException(e);
+        }
+        // the clone registers itself as a listener on the secondary datasets
+        detachDatasets(plot);
+        JFreeChart chart = acquire();
+        try {
+            Plot previous = chart.getPlot();
+            chart.replacePlot(plot);
+            redirectLegends(chart, previous, plot);
+            setDataset(plot, dataset);
+            chart.draw(g2, area, null, info);
+        } finally {
+            detachDatasets(plot);
+            release(chart);
+        }
+    }
+
+    /**
+     * Creates an image containing the chart drawn for a dataset.  This
+     * method can be called by several threads at the same time.
+     *
+     * @param dataset  the dataset ({@code null} permitted), which must be of
+     *     the type required by the plot.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  records info about the drawing ({@code null} means
+     *     collect no info).
+     *
+     * @return An image.
+     */
+    public BufferedImage createBufferedImage(Dataset dataset, int width,
+            int height, ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(width, height,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            draw(g2, new Rectangle2D.Double(0, 0, width, height), dataset,
+                    info);
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Takes a copy of the prototype from the pool, or creates a new one if
+     * the pool is empty.
+     *
+     * @return A copy of the prototype.
+     */
+    private JFreeChart acquire() {
+        synchronized (this.idle) {
+            JFreeChart chart = this.idle.poll();
+            if (chart != null) {
+                return chart;
+            }
+        }
+        JFreeChart chart;
+        try {
+            chart = copy(this.prototype);
+        } catch (CloneNotSupportedException e) {
+            // the prototype is itself a clone, so this should not happen
+            throw new IllegalStateException(e);
+        }
+        // the plot of the copy is replaced before drawing, but the clone
+        // registers itself as a listener on the secondary datasets
+        detachDatasets(chart.getPlot());
+        return chart;
+    }
+
+    /**
+     * Returns a copy of the prototype to the pool, after removing the
+     * references to the dataset that was drawn.
+     *
+     * @param chart  the copy.
+     */
+    private void release(JFreeChart chart) {
+        setDataset(chart.getPlot(), null);
+        for (int i = 0; i < chart.getSubtitleCount(); i++) {
+            Title subtitle = chart.getSubtitle(i);
+            if (subtitle instanceof LegendTitle) {
+                ((LegendTitle) subtitle).getItemContainer().clear();
+            }
+        }
+        synchronized (this.idle) {
+            this.idle.push(chart);
+        }
+    }
+
+    /**
+     * Returns an independent copy of a chart.  The legend of a cloned chart
+     * still refers to the plot of the original chart, so it is redirected
+     * to the plot of the copy.
+     *
+     * @param chart  the chart.
+     *
+     * @return The copy.
+     *
+     * @throws CloneNotSupportedException if the chart cannot be cloned.
+     */
+    static JFreeChart copy(JFreeChart chart)
+            throws CloneNotSupportedException {
+        JFreeChart result = (JFreeChart) chart.clone();
+        result.setNotify(false);
+        redirectLegends(result, chart.getPlot(), result.getPlot());
+        return result;
+    }
+
+    /**
+     * Changes the legends of a chart that take their items from one plot so
+     * that they take them from another plot.
+     *
+     * @param chart  the chart.
+     * @param from  the plot that the legends refer to.
+     * @param to  the plot that the legends should refer to.
+     */
+    private static void redirectLegends(JFreeChart chart, Plot from,
+            Plot to) {
+        for (int i = 0; i < chart.getSubtitleCount(); i++) {
+            Title subtitle = chart.getSubtitle(i);
+            if (subtitle instanceof LegendTitle) {
+                LegendTitle legend = (LegendTitle) subtitle;
+                LegendItemSource[] sources = legend.getSources().clone();
+                for (int s = 0; s < sources.length; s++) {
+                    if (sources[s] == from) {
+                        sources[s] = (LegendItemSource) to;
+                    }
+                }
+                legend.setSources(sources);
+            }
+        }
+    }
+
+    /**
+     * Checks that a plot is one of the types supported by the template.
+     *
+     * @param plot  the plot.
+     */
+    private static void checkPlot(Plot plot) {
+        if (!isSupported(plot)) {
+            throw new IllegalArgumentException(
+                    "The chart must have an XYPlot, CategoryPlot or PiePlot.");
+        }
+    }
+
+    /**
+     * Returns {@code true} if the plot is one of the types that can be
+     * copied with {@link #copy(JFreeChart)} and detached from its datasets
+     * with {@link #detachDatasets(Plot)}.
+     *
+     * @param plot  the plot ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(Plot plot) {
+        return plot instanceof XYPlot || plot instanceof CategoryPlot
+                || plot instanceof PiePlot;
+    }
+
+    /**
+     * Deregisters a plot (and its subplots, if it is a combined plot) as a
+     * listener on all of its datasets, without changing the datasets of the
+     * plot.  A cloned plot registers itself as a listener on the datasets of
+     * the original, so this must be called for a copy that is discarded
+     * after drawing, otherwise the datasets keep a reference to the copy and
+     * update its axes whenever they change.
+     *
+     * @param plot  the plot ({@code null} permitted).
+     */
+    static void detachDatasets(Plot plot) {
+        List<?> subplots = null;
+        if (plot instanceof XYPlot) {
+            for (XYDataset dataset : ((XYPlot) plot).getDatasets().values()) {
+                if (dataset != null) {
+                    dataset.removeChangeListener(plot);
+                }
+            }
+            if (plot instanceof CombinedDomainXYPlot) {
+                subplots = ((CombinedDomainXYPlot) plot).getSubplots();
+            } else if (plot instanceof CombinedRangeXYPlot) {
+                subplots = ((CombinedRangeXYPlot) plot).getSubplots();
+            }
+        } else if (plot instanceof CategoryPlot) {
+            for (CategoryDataset dataset
+                    : ((CategoryPlot) plot).getDatasets().values()) {
+                if (dataset != null) {
+                    dataset.removeChangeListener(plot);
+                }
+            }
+            if (plot instanceof CombinedDomainCategoryPlot) {
+                subplots = ((CombinedDomainCategoryPlot) plot).getSubplots();
+            } else if (plot instanceof CombinedRangeCategoryPlot) {
+                subplots = ((CombinedRangeCategoryPlot) plot).getSubplots();
+            }
+        } else if (plot instanceof PiePlot) {
+            PieDataset dataset = ((PiePlot) plot).getDataset();
+            if (dataset != null) {
+                dataset.removeChangeListener(plot);
+            }
+        }
+        if (subplots != null) {
+            for (Object subplot : subplots) {
+                detachDatasets((Plot) subplot);
+            }
+        }
+    }
+
+    /**
+     * Replaces the datasets of a plot (and of its subplots, if it is a
+     * combined plot) with clones, so that the plot can be drawn by another
+     * thread while the original datasets are modified.  The plot stops
+     * listening to the original datasets.  If a dataset cannot be cloned,
+     * the plot may be left with some of the original datasets.
+     *
+     * @param plot  the plot ({@code null} permitted).
+     *
+     * @throws CloneNotSupportedException if a dataset cannot be cloned.
+     */
+    static void snapshotDatasets(Plot plot)
+            throws CloneNotSupportedException {
+        List<?> subplots = null;
+        if (plot instanceof XYPlot) {
+            XYPlot xyPlot = (XYPlot) plot;
+            for (Integer index
+                    : new ArrayList<Integer>(xyPlot.getDatasets().keySet())) {
+                XYDataset dataset = xyPlot.getDataset(index);
+                if (dataset != null) {
+                    xyPlot.setDataset(index,
+                            (XYDataset) CloneUtils.clone(dataset));
+                }
+            }
+            if (plot instanceof CombinedDomainXYPlot) {
+                subplots = ((CombinedDomainXYPlot) plot).getSubplots();
+            } else if (plot instanceof CombinedRangeXYPlot) {
+                subplots = ((CombinedRangeXYPlot) plot).getSubplots();
+            }
+        } else if (plot instanceof CategoryPlot) {
+            CategoryPlot categoryPlot = (CategoryPlot) plot;
+            for (Integer index : new ArrayList<Integer>(
+                    categoryPlot.getDatasets().keySet())) {
+                CategoryDataset dataset = categoryPlot.getDataset(index);
+                if (dataset != null) {
+                    categoryPlot.setDataset(index,
+                            (CategoryDataset) CloneUtils.clone(dataset));
+                }
+            }
+            if (plot instanceof CombinedDomainCategoryPlot) {
+                subplots = ((CombinedDomainCategoryPlot) plot).getSubplots();
+            } else if (plot instanceof CombinedRangeCategoryPlot) {
+                subplots = ((CombinedRangeCategoryPlot) plot).getSubplots();
+            }
+        } else if (plot instanceof PiePlot) {
+            PiePlot piePlot = (PiePlot) plot;
+            if (piePlot.getDataset() != null) {
+                piePlot.setDataset((PieDataset) CloneUtils.clone(
+                        piePlot.getDataset()));
+            }
+        }
+        if (subplots != null) {
+            for (Object subplot : subplots) {
+                snapshotDatasets((Plot) subplot);
+            }
+        }
+    }
+
+    /**
+     * Checks that a dataset is of the type required by the plot.
+     *
+     * @param dataset  the dataset ({@code null} permitted).
+     */
+    private void checkDataset(Dataset dataset) {
+        if (dataset == null) {
+            return;
+        }
+        Plot plot = this.prototype.getPlot();
+        if ((plot instanceof XYPlot && !(dataset instanceof XYDataset))
+                || (plot instanceof CategoryPlot
+                        && !(dataset instanceof CategoryDataset))
+                || (plot instanceof PiePlot
+                        && !(dataset instanceof PieDataset))) {
+            throw new IllegalArgumentException("The dataset type ("
+                    + dataset.getClass().getName()
+                    + ") is not supported by the plot.");
+        }
+    }
+
+    /**
+     * Sets the primary dataset for a plot.
+     *
+     * @param plot  the plot.
+     * @param dataset  the dataset ({@code null} permitted).
+     */
+    private static void setDataset(Plot plot, Dataset dataset) {
+        if (plot instanceof XYPlot) {
+            ((XYPlot) plot).setDataset((XYDataset) dataset);
+        } else if (plot instanceof CategoryPlot) {
+            ((CategoryPlot) plot).setDataset((CategoryDataset) dataset);
+        } else if (plot instanceof PiePlot) {
+            ((PiePlot) plot).setDataset((PieDataset) dataset);
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * ChartUpdate.java
+ * ----------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart;
+
+import org.jfree.chart.plot.Plot;
+
+/**
+ * A batch of changes to a chart, started by {@link JFreeChart#beginUpdate()}
+ * and ended by {@link #close()}.  This class implements
+ * {@code AutoCloseable} so that it can be used in a try-with-resources
+ * statement.
+ *
+ * @since 1.6.0
+ */
+public final class ChartUpdate implements AutoCloseable {
+
+    /** The chart. */
+    private final JFreeChart chart;
+
+    /** The plot that the update was started on (may be {@code null}). */
+    private final Plot plot;
+
+    /** A flag that indicates whether or not the update has ended. */
+    private boolean closed;
+
+    /**
+     * Creates a new instance (see {@link JFreeChart#beginUpdate()}).
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     * @param plot  the chart's plot ({@code null} permitted).
+     */
+    ChartUpdate(JFreeChart chart, Plot plot) {
+        this.chart = chart;
+        this.plot = plot;
+    }
+
+    /**
+     * Returns the chart that is being updated.
+     *
+     * @return The chart (never {@code null}).
+     */
+    public JFreeChart getChart() {
+        return this.chart;
+    }
+
+    /**
+     * Ends the update.  If this is the outermost update for the chart, the
+     * deferred dataset changes are processed and a single chart change event
+     * is sent (if anything changed).  Calling this method more than once has
+     * no further effect.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.chart.endUpdate(this.plot);
+    }
+
+}
@@ -49,8 +49,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 
+import org.jfree.chart.encoders.BufferedImagePool;
 import org.jfree.chart.encoders.EncoderUtil;
 import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.encoders.PNGEncoder;
 import org.jfree.chart.imagemap.ImageMapUtils;
 import org.jfree.chart.imagemap.OverLIBToolTipTagFragmentGenerator;
 import org.jfree.chart.imagemap.StandardToolTipTagFragmentGenerator;
@@ -213,6 +215,50 @@ public abstract class ChartUtils {
 
     }
 
+    /**
+     * Writes a chart to an output stream in PNG format, drawing the chart
+     * into an image taken from {@code pool} (the image is returned to the
+     * pool afterwards) and streaming the encoded data to the output stream.
+     * This is intended for servers that generate many charts of the same
+     * size, where allocating a new image for each chart is expensive.
+     *
+     * @param out  the output stream ({@code null} not permitted).
+     * @param chart  the chart ({@code null} not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart rendering info ({@code null}
+     *              permitted).
+     * @param pool  the image pool ({@code null} not permitted).
+     * @param encoder  the PNG encoder ({@code null} not permitted).
+     *
+     * @throws IOException if there are any I/O errors.
+     *
+     * @since 1.6.0
+     */
+    public static void writeChartAsPNG(OutputStream out, JFreeChart chart,
+            int width, int height, ChartRenderingInfo info,
+            BufferedImagePool pool, PNGEncoder encoder) throws IOException {
+
+        Args.nullNotPermitted(out, "out");
+        Args.nullNotPermitted(chart, "chart");
+        Args.nullNotPermitted(pool, "pool");
+        Args.nullNotPermitted(encoder, "encoder");
+        BufferedImage image = pool.acquire(width, height,
+                BufferedImage.TYPE_INT_ARGB);
+        try {
+            Graphics2D g2 = image.createGraphics();
+            try {
+                chart.draw(g2, new Rectangle2D.Double(0, 0, width, height),
+                        null, info);
+            } finally {
+                g2.dispose();
+            }
+            encoder.encode(image, out);
+        } finally {
+            pool.release(image);
+        }
+    }
+
     /**
      * Writes a scaled version of a chart to an output stream in PNG format.
      *
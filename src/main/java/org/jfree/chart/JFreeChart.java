@@ -76,8 +76,10 @@ import org.jfree.chart.block.BlockParams;
 import org.jfree.chart.block.EntityBlockResult;
 import org.jfree.chart.block.LengthConstraintType;
 import org.jfree.chart.block.RectangleConstraint;
+import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.JFreeChartEntity;
+import org.jfree.chart.entity.PlotEntity;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
@@ -89,6 +91,8 @@ import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.PlotState;
+import org.jfree.chart.plot.SubplotRedrawable;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
@@ -222,6 +226,18 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     private boolean notify;
 
+    /**
+     * The number of updates (see {@link #beginUpdate()}) that are in
+     * progress.
+     */
+    private transient int updateCount;
+
+    /**
+     * A flag that records whether a change event was held back while an
+     * update was in progress.
+     */
+    private transient boolean updatePending;
+
     /** 
      * A flag that controls whether or not rendering hints that identify
      * chart element should be added during rendering.  This defaults to false
@@ -761,6 +777,21 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         return this.plot;
     }
 
+    /**
+     * Replaces the plot for the chart, without sending a change event.  This
+     * is used by {@link ChartTemplate}, which draws a new copy of the plot
+     * for each dataset with the titles of a chart that it reuses.
+     *
+     * @param plot  the plot ({@code null} not permitted).
+     */
+    void replacePlot(Plot plot) {
+        Args.nullNotPermitted(plot, "plot");
+        this.plot.removeChangeListener(this);
+        plot.setChart(this);
+        plot.addChangeListener(this);
+        this.plot = plot;
+    }
+
     /**
      * Returns the plot cast as a {@link CategoryPlot}.
      * <p>
@@ -1027,6 +1058,68 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         }
     }
 
+    /**
+     * Starts a batch of changes to the chart and its datasets.  Until the
+     * returned object is closed, dataset changes are deferred by the plot
+     * (see {@link Plot#beginUpdate()}) and chart change events are held
+     * back, then the plot processes the dataset changes once and (if
+     * anything changed) a single {@link ChartChangeEvent} is sent to the
+     * registered listeners.  The typical usage is:
+     * <pre>
+     * try (ChartUpdate update = chart.beginUpdate()) {
+     *     for (...) {
+     *         series.add(x, y);
+     *     }
+     * }</pre>
+     * Updates can be nested, the events are sent when the outermost update
+     * is closed.
+     *
+     * @return An object that ends the update when it is closed (never
+     *     {@code null}).
+     *
+     * @since 1.6.0
+     */
+    public ChartUpdate beginUpdate() {
+        this.updateCount++;
+        if (this.plot != null) {
+            this.plot.beginUpdate();
+        }
+        return new ChartUpdate(this, this.plot);
+    }
+
+    /**
+     * Ends an update started with {@link #beginUpdate()}, called by
+     * {@link ChartUpdate#close()}.
+     *
+     * @param plot  the plot that the update was started on ({@code null}
+     *     permitted).
+     */
+    void endUpdate(Plot plot) {
+        try {
+            if (plot != null) {
+                plot.endUpdate();
+            }
+        } finally {
+            this.updateCount--;
+            if (this.updateCount == 0 && this.updatePending) {
+                this.updatePending = false;
+                notifyListeners(new ChartChangeEvent(this));
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if an update (see {@link #beginUpdate()}) is in
+     * progress, and {@code false} otherwise.
+     *
+     * @return A boolean.
+     *
+     * @since 1.6.0
+     */
+    public boolean isUpdating() {
+        return this.updateCount > 0;
+    }
+
     /**
      * Draws the chart on a Java 2D graphics device (such as the screen or a
      * printer).
@@ -1097,8 +1190,48 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         g2.clip(chartArea);
 
         g2.addRenderingHints(this.renderingHints);
+        drawBackground(g2, chartArea);
+
+        // draw the title and subtitles...
+        Rectangle2D nonTitleArea = new Rectangle2D.Double();
+        nonTitleArea.setRect(chartArea);
+        this.padding.trim(nonTitleArea);
 
-        // draw the chart background...
+        if (this.title != null && this.title.isVisible()) {
+            drawTitle(this.title, g2, nonTitleArea, entities, info);
+        }
+
+        for (Title currentTitle : this.subtitles) {
+            if (currentTitle.isVisible()) {
+                drawTitle(currentTitle, g2, nonTitleArea, entities, info);
+            }
+        }
+
+        Rectangle2D plotArea = nonTitleArea;
+
+        // draw the plot (axes and data visualisation)
+        PlotRenderingInfo plotInfo = null;
+        if (info != null) {
+            plotInfo = info.getPlotInfo();
+        }
+        this.plot.draw(g2, plotArea, anchor, null, plotInfo);
+        g2.setClip(savedClip);
+        if (this.elementHinting) {         
+            g2.setRenderingHint(ChartHints.KEY_END_ELEMENT, Boolean.TRUE);            
+        }
+
+        notifyListeners(new ChartProgressEvent(this, this,
+                ChartProgressEvent.DRAWING_FINISHED, 100));
+    }
+
+    /**
+     * Draws the chart background (the background paint, the background
+     * image and the border).
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the area within which the chart is drawn.
+     */
+    private void drawBackground(Graphics2D g2, Rectangle2D chartArea) {
         if (this.backgroundPaint != null) {
             g2.setPaint(this.backgroundPaint);
             g2.fill(chartArea);
@@ -1131,47 +1264,343 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 g2.draw(borderArea);
             }
         }
+    }
 
-        // draw the title and subtitles...
-        Rectangle2D nonTitleArea = new Rectangle2D.Double();
-        nonTitleArea.setRect(chartArea);
-        this.padding.trim(nonTitleArea);
+    /**
+     * Draws a title, adds its entities to the collection and records its
+     * layout in the rendering info so that it can be redrawn later.
+     *
+     * @param t  the title.
+     * @param g2  the graphics device.
+     * @param area  the chart area, excluding any existing titles (updated to
+     *     exclude this title).
+     * @param entities  the entity collection ({@code null} permitted).
+     * @param info  the rendering info ({@code null} permitted).
+     */
+    private void drawTitle(Title t, Graphics2D g2, Rectangle2D area,
+            EntityCollection entities, ChartRenderingInfo info) {
+        Rectangle2D available = (Rectangle2D) area.clone();
+        int first = entities != null ? entities.getEntityCount() : 0;
+        EntityCollection e = drawTitle(t, g2, area, (entities != null));
+        if (e != null && entities != null) {
+            entities.addAll(e);
+        }
+        if (info != null) {
+            int count = entities != null
+                    ? entities.getEntityCount() - first : 0;
+            info.getTitleLayouts().add(new ChartRenderingInfo.TitleLayout(t,
+                    available, area, first, count));
+        }
+    }
 
-        if (this.title != null && this.title.isVisible()) {
-            EntityCollection e = drawTitle(this.title, g2, nonTitleArea,
-                    (entities != null));
-            if (e != null && entities != null) {
-                entities.addAll(e);
+    /**
+     * Redraws one component of a chart that has been drawn previously,
+     * leaving the rest of the drawing unchanged.  The component can be a
+     * title of the chart or, if the plot implements
+     * {@link SubplotRedrawable}, one of its subplots (in which case the
+     * legends are redrawn too, since their items may come from the subplot).
+     * This is only possible if a full redraw would not change the layout of
+     * the chart.  The area of the component is cleared, the chart background
+     * and the component are drawn again within it, and the entities in the
+     * rendering info are updated.
+     * <P>
+     * The caller must check that the change does not affect other parts of
+     * the chart, such as the range of an axis that is shared with other
+     * subplots.  The plot change events from a combined plot only have a
+     * subplot as their source when this is the case.
+     *
+     * @param g2  the graphics device holding the previous drawing
+     *     ({@code null} not permitted).
+     * @param component  the title or subplot that has changed
+     *     ({@code null} not permitted).
+     * @param info  the rendering info from the previous drawing
+     *     ({@code null} not permitted).
+     *
+     * @return {@code true} if the component was redrawn, and {@code false}
+     *     if the whole chart must be redrawn instead (in which case nothing
+     *     has been drawn).
+     *
+     * @since 1.6.0
+     */
+    public boolean redraw(Graphics2D g2, Object component,
+            ChartRenderingInfo info) {
+        Args.nullNotPermitted(g2, "g2");
+        Args.nullNotPermitted(component, "component");
+        Args.nullNotPermitted(info, "info");
+        List<Title> titles = new ArrayList<Title>();
+        Rectangle2D subplotArea = null;
+        if (component instanceof Title) {
+            titles.add((Title) component);
+        } else if (component instanceof Plot
+                && this.plot instanceof SubplotRedrawable) {
+            subplotArea = ((SubplotRedrawable) this.plot).calculateRedrawArea(
+                    g2, (Plot) component, info.getPlotInfo());
+            if (subplotArea == null) {
+                return false;
+            }
+            for (Title t : this.subtitles) {
+                if (t instanceof LegendTitle && t.isVisible()) {
+                    titles.add(t);
+                }
             }
+        } else {
+            return false;
         }
 
-        for (Title currentTitle : this.subtitles) {
-            if (currentTitle.isVisible()) {
-                EntityCollection e = drawTitle(currentTitle, g2, nonTitleArea,
-                        (entities != null));
-                if (e != null && entities != null) {
-                    entities.addAll(e);
+        // check that the titles would be drawn in the same place...
+        List<Rectangle2D> titleAreas = new ArrayList<Rectangle2D>();
+        for (Title t : titles) {
+            Rectangle2D titleArea = calculateTitleRedrawArea(t, g2, info);
+            if (titleArea == null) {
+                return false;
+            }
+            titleAreas.add(titleArea);
+        }
+
+        // ...and find the entities for the subplot, which start with its
+        // plot entity
+        EntityCollection entities = info.getEntityCollection();
+        int start = -1;
+        int end = -1;
+        if (subplotArea != null && entities != null) {
+            for (int i = 0; i < entities.getEntityCount(); i++) {
+                ChartEntity entity = entities.getEntity(i);
+                if (entity instanceof PlotEntity) {
+                    if (start >= 0) {
+                        end = i;
+                        break;
+                    }
+                    if (((PlotEntity) entity).getPlot() == component) {
+                        start = i;
+                    }
                 }
             }
+            if (start < 0) {
+                return false;
+            }
+            if (end < 0) {
+                end = entities.getEntityCount();
+            }
         }
 
-        Rectangle2D plotArea = nonTitleArea;
-
-        // draw the plot (axes and data visualisation)
-        PlotRenderingInfo plotInfo = null;
-        if (info != null) {
-            plotInfo = info.getPlotInfo();
+        notifyListeners(new ChartProgressEvent(this, this,
+                ChartProgressEvent.DRAWING_STARTED, 0));
+        Shape savedClip = g2.getClip();
+        g2.addRenderingHints(this.renderingHints);
+        Rectangle2D chartArea = info.getChartArea();
+        if (subplotArea != null) {
+            prepareRedraw(g2, subplotArea, chartArea);
+            int count = entities != null ? entities.getEntityCount() : 0;
+            ((SubplotRedrawable) this.plot).redrawSubplot(g2,
+                    (Plot) component, info.getPlotInfo());
+            g2.setClip(savedClip);
+            if (entities != null) {
+                List<ChartEntity> added = new ArrayList<ChartEntity>();
+                for (int i = count; i < entities.getEntityCount(); i++) {
+                    added.add(entities.getEntity(i));
+                }
+                replaceEntities(entities, start, end, count, added);
+            }
         }
-        this.plot.draw(g2, plotArea, anchor, null, plotInfo);
-        g2.setClip(savedClip);
-        if (this.elementHinting) {         
-            g2.setRenderingHint(ChartHints.KEY_END_ELEMENT, Boolean.TRUE);            
+        List<ChartRenderingInfo.TitleLayout> layouts = info.getTitleLayouts();
+        for (int i = 0; i < titles.size(); i++) {
+            Title t = titles.get(i);
+            int index = indexOfTitleLayout(layouts, t);
+            ChartRenderingInfo.TitleLayout layout = layouts.get(index);
+            prepareRedraw(g2, titleAreas.get(i), chartArea);
+            EntityCollection e = drawTitle(t, g2,
+                    (Rectangle2D) layout.area.clone(), (entities != null));
+            g2.setClip(savedClip);
+            int count = layout.entityCount;
+            if (entities != null) {
+                List<ChartEntity> added = new ArrayList<ChartEntity>();
+                if (e != null) {
+                    for (int j = 0; j < e.getEntityCount(); j++) {
+                        added.add(e.getEntity(j));
+                    }
+                }
+                replaceEntities(entities, layout.firstEntity,
+                        layout.firstEntity + layout.entityCount,
+                        entities.getEntityCount(), added);
+                count = added.size();
+            }
+            // the entities of the titles drawn later have moved
+            int shift = count - layout.entityCount;
+            for (int j = index + 1; j < layouts.size(); j++) {
+                ChartRenderingInfo.TitleLayout later = layouts.get(j);
+                layouts.set(j, new ChartRenderingInfo.TitleLayout(later.title,
+                        later.area, later.remainingArea,
+                        later.firstEntity + shift, later.entityCount));
+            }
+            layouts.set(index, new ChartRenderingInfo.TitleLayout(t,
+                    layout.area, layout.remainingArea, layout.firstEntity,
+                    count));
         }
+        notifyListeners(new ChartProgressEvent(this, this,
+                ChartProgressEvent.DRAWING_FINISHED, 100));
+        return true;
+    }
 
+    /**
+     * Redraws a region of a chart that has been drawn previously, using the
+     * layout recorded in the rendering info.  The region is cleared and
+     * everything within it is drawn again.  For an {@link XYPlot}, only the
+     * items that can be visible within the region are rendered (see
+     * {@link XYPlot#drawRegion(Graphics2D, Rectangle2D, Rectangle2D,
+     * PlotState)}), so this is much faster than a full redraw when the
+     * region is small, for example to show the items appended to a dataset.
+     * The caller must check that a full redraw would not change the layout
+     * of the chart.  The rendering info is not updated.
+     *
+     * @param g2  the graphics device holding the previous drawing
+     *     ({@code null} not permitted).
+     * @param region  the region to redraw ({@code null} not permitted).
+     * @param info  the rendering info from the previous drawing
+     *     ({@code null} not permitted).
+     *
+     * @since 1.6.0
+     */
+    public void redrawRegion(Graphics2D g2, Rectangle2D region,
+            ChartRenderingInfo info) {
+        Args.nullNotPermitted(g2, "g2");
+        Args.nullNotPermitted(region, "region");
+        Args.nullNotPermitted(info, "info");
+        notifyListeners(new ChartProgressEvent(this, this,
+                ChartProgressEvent.DRAWING_STARTED, 0));
+        Shape savedClip = g2.getClip();
+        g2.addRenderingHints(this.renderingHints);
+        Rectangle2D chartArea = info.getChartArea();
+        prepareRedraw(g2, region, chartArea);
+        Rectangle2D plotArea = new Rectangle2D.Double();
+        plotArea.setRect(chartArea);
+        this.padding.trim(plotArea);
+        for (ChartRenderingInfo.TitleLayout layout : info.getTitleLayouts()) {
+            drawTitle(layout.title, g2, (Rectangle2D) layout.area.clone(),
+                    false);
+            plotArea.setRect(layout.remainingArea);
+        }
+        if (this.plot instanceof XYPlot) {
+            ((XYPlot) this.plot).drawRegion(g2, plotArea, region, null);
+        } else {
+            this.plot.draw(g2, plotArea, null, null, null);
+        }
+        g2.setClip(savedClip);
         notifyListeners(new ChartProgressEvent(this, this,
                 ChartProgressEvent.DRAWING_FINISHED, 100));
     }
 
+    /**
+     * Returns the index of the layout recorded for a title, or -1 if the
+     * title was not drawn.
+     *
+     * @param layouts  the title layouts.
+     * @param t  the title.
+     *
+     * @return The index.
+     */
+    private static int indexOfTitleLayout(
+            List<ChartRenderingInfo.TitleLayout> layouts, Title t) {
+        for (int i = 0; i < layouts.size(); i++) {
+            if (layouts.get(i).title == t) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the area to redraw for a title, or {@code null} if the title
+     * cannot be redrawn because a full redraw would not leave the same area
+     * for the titles and plot drawn after it.
+     *
+     * @param t  the title.
+     * @param g2  the graphics device.
+     * @param info  the rendering info from the previous drawing.
+     *
+     * @return The area (possibly {@code null}).
+     */
+    private Rectangle2D calculateTitleRedrawArea(Title t, Graphics2D g2,
+            ChartRenderingInfo info) {
+        int index = indexOfTitleLayout(info.getTitleLayouts(), t);
+        if (index < 0 || !t.isVisible()) {
+            return null;
+        }
+        ChartRenderingInfo.TitleLayout layout
+                = info.getTitleLayouts().get(index);
+        Rectangle2D area = layout.area;
+        Size2D size = arrangeTitle(t, g2, area);
+        if (size == null) {
+            return null;
+        }
+        RectangleEdge position = t.getPosition();
+        Rectangle2D remaining = (Rectangle2D) area.clone();
+        trimTitleArea(remaining, size, position);
+        if (!remaining.equals(layout.remainingArea)) {
+            return null;
+        }
+        // the title is drawn in the strip between the two areas
+        if (position == RectangleEdge.TOP) {
+            return new Rectangle2D.Double(area.getX(), area.getY(),
+                    area.getWidth(), remaining.getY() - area.getY());
+        } else if (position == RectangleEdge.BOTTOM) {
+            return new Rectangle2D.Double(area.getX(), remaining.getMaxY(),
+                    area.getWidth(), area.getMaxY() - remaining.getMaxY());
+        } else if (position == RectangleEdge.RIGHT) {
+            return new Rectangle2D.Double(remaining.getMaxX(), area.getY(),
+                    area.getMaxX() - remaining.getMaxX(), area.getHeight());
+        } else {
+            return new Rectangle2D.Double(area.getX(), area.getY(),
+                    remaining.getX() - area.getX(), area.getHeight());
+        }
+    }
+
+    /**
+     * Prepares to redraw an area of the chart: the clip is reduced to the
+     * area, which is cleared, and the chart background is drawn again.
+     *
+     * @param g2  the graphics device.
+     * @param area  the area to redraw.
+     * @param chartArea  the area within which the chart was drawn.
+     */
+    private void prepareRedraw(Graphics2D g2, Rectangle2D area,
+            Rectangle2D chartArea) {
+        g2.clip(chartArea);
+        g2.clip(area);
+        Composite originalComposite = g2.getComposite();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fill(area);
+        g2.setComposite(originalComposite);
+        drawBackground(g2, chartArea);
+    }
+
+    /**
+     * Replaces a range of entities in a collection.
+     *
+     * @param entities  the entity collection.
+     * @param start  the index of the first entity to replace.
+     * @param end  the index after the last entity to replace.
+     * @param count  the number of entities to keep from the collection (any
+     *     entities after these are dropped).
+     * @param replacement  the new entities.
+     */
+    private static void replaceEntities(EntityCollection entities, int start,
+            int end, int count, List<ChartEntity> replacement) {
+        List<ChartEntity> existing = new ArrayList<ChartEntity>(count);
+        for (int i = 0; i < count; i++) {
+            existing.add(entities.getEntity(i));
+        }
+        entities.clear();
+        for (int i = 0; i < start; i++) {
+            entities.add(existing.get(i));
+        }
+        for (ChartEntity entity : replacement) {
+            entities.add(entity);
+        }
+        for (int i = end; i < count; i++) {
+            entities.add(existing.get(i));
+        }
+    }
+
     /**
      * Creates a rectangle that is aligned to the frame.
      *
@@ -1229,8 +1658,51 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
         Args.nullNotPermitted(t, "t");
         Args.nullNotPermitted(area, "area");
+        Size2D size = arrangeTitle(t, g2, area);
+        if (size == null) {
+            return null;
+        }
         Rectangle2D titleArea;
         RectangleEdge position = t.getPosition();
+        if (position == RectangleEdge.TOP) {
+            titleArea = createAlignedRectangle2D(size, area,
+                    t.getHorizontalAlignment(), VerticalAlignment.TOP);
+        } else if (position == RectangleEdge.BOTTOM) {
+            titleArea = createAlignedRectangle2D(size, area,
+                    t.getHorizontalAlignment(), VerticalAlignment.BOTTOM);
+        } else if (position == RectangleEdge.RIGHT) {
+            titleArea = createAlignedRectangle2D(size, area,
+                    HorizontalAlignment.RIGHT, t.getVerticalAlignment());
+        } else if (position == RectangleEdge.LEFT) {
+            titleArea = createAlignedRectangle2D(size, area,
+                    HorizontalAlignment.LEFT, t.getVerticalAlignment());
+        }
+        else {
+            throw new RuntimeException("Unrecognised title position.");
+        }
+        BlockParams p = new BlockParams();
+        p.setGenerateEntities(entities);
+        Object retValue = t.draw(g2, titleArea, p);
+        trimTitleArea(area, size, position);
+        EntityCollection result = null;
+        if (retValue instanceof EntityBlockResult) {
+            EntityBlockResult ebr = (EntityBlockResult) retValue;
+            result = ebr.getEntityCollection();
+        }
+        return result;
+    }
+
+    /**
+     * Arranges a title within the available area.
+     *
+     * @param t  the title.
+     * @param g2  the graphics device.
+     * @param area  the area available to the title.
+     *
+     * @return The size of the title, or {@code null} if the area is empty.
+     */
+    private static Size2D arrangeTitle(Title t, Graphics2D g2,
+            Rectangle2D area) {
         double ww = area.getWidth();
         if (ww <= 0.0) {
             return null;
@@ -1242,48 +1714,32 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         RectangleConstraint constraint = new RectangleConstraint(ww,
                 new Range(0.0, ww), LengthConstraintType.RANGE, hh,
                 new Range(0.0, hh), LengthConstraintType.RANGE);
-        Object retValue = null;
-        BlockParams p = new BlockParams();
-        p.setGenerateEntities(entities);
+        return t.arrange(g2, constraint);
+    }
+
+    /**
+     * Removes the space used by a title from the available area.
+     *
+     * @param area  the area available to the title (updated in place).
+     * @param size  the size of the title.
+     * @param position  the position of the title.
+     */
+    private static void trimTitleArea(Rectangle2D area, Size2D size,
+            RectangleEdge position) {
         if (position == RectangleEdge.TOP) {
-            Size2D size = t.arrange(g2, constraint);
-            titleArea = createAlignedRectangle2D(size, area,
-                    t.getHorizontalAlignment(), VerticalAlignment.TOP);
-            retValue = t.draw(g2, titleArea, p);
             area.setRect(area.getX(), Math.min(area.getY() + size.height,
                     area.getMaxY()), area.getWidth(), Math.max(area.getHeight()
                     - size.height, 0));
         } else if (position == RectangleEdge.BOTTOM) {
-            Size2D size = t.arrange(g2, constraint);
-            titleArea = createAlignedRectangle2D(size, area,
-                    t.getHorizontalAlignment(), VerticalAlignment.BOTTOM);
-            retValue = t.draw(g2, titleArea, p);
             area.setRect(area.getX(), area.getY(), area.getWidth(),
                     area.getHeight() - size.height);
         } else if (position == RectangleEdge.RIGHT) {
-            Size2D size = t.arrange(g2, constraint);
-            titleArea = createAlignedRectangle2D(size, area,
-                    HorizontalAlignment.RIGHT, t.getVerticalAlignment());
-            retValue = t.draw(g2, titleArea, p);
             area.setRect(area.getX(), area.getY(), area.getWidth()
                     - size.width, area.getHeight());
         } else if (position == RectangleEdge.LEFT) {
-            Size2D size = t.arrange(g2, constraint);
-            titleArea = createAlignedRectangle2D(size, area,
-                    HorizontalAlignment.LEFT, t.getVerticalAlignment());
-            retValue = t.draw(g2, titleArea, p);
             area.setRect(area.getX() + size.width, area.getY(), area.getWidth()
                     - size.width, area.getHeight());
         }
-        else {
-            throw new RuntimeException("Unrecognised title position.");
-        }
-        EntityCollection result = null;
-        if (retValue instanceof EntityBlockResult) {
-            EntityBlockResult ebr = (EntityBlockResult) retValue;
-            result = ebr.getEntityCollection();
-        }
-        return result;
     }
 
     /**
@@ -1426,6 +1882,10 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      *               notification.
      */
     protected void notifyListeners(ChartChangeEvent event) {
+        if (this.notify && this.updateCount > 0) {
+            this.updatePending = true;
+            return;
+        }
         if (this.notify) {
             Object[] listeners = this.changeListeners.getListenerList();
             for (int i = listeners.length - 2; i >= 0; i -= 2) {
@@ -1643,6 +2103,8 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
         chart.progressListeners = new EventListenerList();
         chart.changeListeners = new EventListenerList();
+        chart.updateCount = 0;
+        chart.updatePending = false;
         return chart;
     }
 
@@ -140,6 +140,9 @@ class MouseWheelHandler implements MouseWheelListener, Serializable {
         }
 
         Plot plot = (Plot) zoomable;
+        // in the pan and zoom preview mode, the change event transforms the
+        // chart buffer instead of redrawing the chart
+        boolean preview = this.chartPanel.beginPreviewGesture();
         // do not notify while zooming each axis
         boolean notifyState = plot.isNotify();
         plot.setNotify(false);
@@ -155,6 +158,9 @@ class MouseWheelHandler implements MouseWheelListener, Serializable {
             zoomable.zoomRangeAxes(zf, pinfo, p, true);
         }
         plot.setNotify(notifyState);  // this generates the change event too
+        if (preview) {
+            this.chartPanel.endPreviewGesture();
+        }
     }
 
 }
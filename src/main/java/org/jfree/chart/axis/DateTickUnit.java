@@ -196,7 +196,8 @@ public class DateTickUnit extends TickUnit implements Serializable {
     }
 
     /**
-     * Formats a value.
+     * Formats a value.  Tick units are shared by axis clones, so access to
+     * the (not thread-safe) formatter is synchronized.
      *
      * @param milliseconds  date in milliseconds since 01-01-1970.
      *
@@ -204,7 +205,7 @@ public class DateTickUnit extends TickUnit implements Serializable {
      */
     @Override
     public String valueToString(double milliseconds) {
-        return this.formatter.format(new Date((long) milliseconds));
+        return dateToString(new Date((long) milliseconds));
     }
 
     /**
@@ -215,7 +216,9 @@ public class DateTickUnit extends TickUnit implements Serializable {
      * @return The formatted date.
      */
     public String dateToString(Date date) {
-        return this.formatter.format(date);
+        synchronized (this.formatter) {
+            return this.formatter.format(date);
+        }
     }
 
     /**
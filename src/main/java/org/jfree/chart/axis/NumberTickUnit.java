@@ -104,7 +104,9 @@ public class NumberTickUnit extends TickUnit implements Serializable {
     }
 
     /**
-     * Converts a value to a string.
+     * Converts a value to a string.  Tick units are shared by axis clones
+     * (and the formatter may be shared by several tick units), so access to
+     * the (not thread-safe) formatter is synchronized.
      *
      * @param value  the value.
      *
@@ -112,7 +114,9 @@ public class NumberTickUnit extends TickUnit implements Serializable {
      */
     @Override
     public String valueToString(double value) {
-        return this.formatter.format(value);
+        synchronized (this.formatter) {
+            return this.formatter.format(value);
+        }
     }
 
     /**
@@ -53,13 +53,16 @@ import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.ui.Size2D;
 import org.jfree.chart.util.Args;
+import org.jfree.chart.util.CloneUtils;
 import org.jfree.chart.util.PublicCloneable;
 
 /**
@@ -268,7 +271,10 @@ public class BlockContainer extends AbstractBlock
     }
 
     /**
-     * Returns a clone of the container.
+     * Returns a clone of the container.  The blocks in the container are
+     * cloned too (except for blocks that are not {@code Cloneable}, which
+     * are shared with the clone), since they record their bounds when they
+     * are arranged.
      *
      * @return A clone.
      *
@@ -277,7 +283,25 @@ public class BlockContainer extends AbstractBlock
     @Override
     public Object clone() throws CloneNotSupportedException {
         BlockContainer clone = (BlockContainer) super.clone();
-        // TODO : complete this
+        Map<Block, Block> copies = new IdentityHashMap<Block, Block>();
+        clone.blocks = new ArrayList(this.blocks.size());
+        for (Object obj : this.blocks) {
+            Block block = (Block) obj;
+            Block copy = copies.get(block);
+            if (copy == null) {
+                copy = block;
+                if (block instanceof Cloneable) {
+                    copy = (Block) CloneUtils.clone(block);
+                }
+                copies.put(block, copy);
+            }
+            clone.blocks.add(copy);
+        }
+        // the other standard arrangements do not record the blocks
+        if (this.arrangement instanceof BorderArrangement) {
+            clone.arrangement = ((BorderArrangement) this.arrangement).copy(
+                    copies);
+        }
         return clone;
     }
 
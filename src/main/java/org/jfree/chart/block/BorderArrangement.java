@@ -50,6 +50,7 @@ package org.jfree.chart.block;
 import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
+import java.util.Map;
 import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.chart.ui.Size2D;
 import org.jfree.chart.util.ObjectUtils;
@@ -534,4 +535,36 @@ public class BorderArrangement implements Arrangement, Serializable {
         }
         return true;
     }
+
+    /**
+     * Returns a new arrangement with the same layout as this one, in which
+     * each block is replaced by its copy (this is used to clone a
+     * {@link BlockContainer}).
+     *
+     * @param copies  the copy of each block in the container.
+     *
+     * @return The new arrangement.
+     */
+    BorderArrangement copy(Map<Block, Block> copies) {
+        BorderArrangement result = new BorderArrangement();
+        result.centerBlock = copyOf(this.centerBlock, copies);
+        result.topBlock = copyOf(this.topBlock, copies);
+        result.bottomBlock = copyOf(this.bottomBlock, copies);
+        result.leftBlock = copyOf(this.leftBlock, copies);
+        result.rightBlock = copyOf(this.rightBlock, copies);
+        return result;
+    }
+
+    /**
+     * Returns the copy of a block, or the block itself if it has no copy.
+     *
+     * @param block  the block ({@code null} permitted).
+     * @param copies  the copy of each block in the container.
+     *
+     * @return The copy.
+     */
+    private static Block copyOf(Block block, Map<Block, Block> copies) {
+        Block copy = copies.get(block);
+        return copy != null ? copy : block;
+    }
 }
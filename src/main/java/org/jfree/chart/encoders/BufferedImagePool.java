@@ -0,0 +1,228 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * BufferedImagePool.java
+ * ----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jfree.chart.util.Args;
+
+/**
+ * A pool of {@link BufferedImage} instances, keyed by width, height and
+ * image type, that allows servers generating many charts of the same size
+ * to reuse the image rasters instead of allocating new ones for each chart.
+ * Images are cleared (to transparent black) before they are handed out.
+ * <P>
+ * The pool is thread-safe.  An image must not be used after it has been
+ * released back to the pool.
+ *
+ * @since 1.6.0
+ */
+public class BufferedImagePool {
+
+    /** The default maximum number of idle images kept for each key. */
+    public static final int DEFAULT_MAXIMUM_IDLE = 4;
+
+    /** The maximum number of idle images kept for each key. */
+    private final int maximumIdle;
+
+    /** The idle images, keyed by size and type. */
+    private final Map<Key, ArrayDeque<BufferedImage>> idle;
+
+    /** The number of idle images in the pool. */
+    private int idleCount;
+
+    /**
+     * Creates a new pool with the default maximum number of idle images.
+     */
+    public BufferedImagePool() {
+        this(DEFAULT_MAXIMUM_IDLE);
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maximumIdle  the maximum number of idle images kept for each
+     *     combination of width, height and image type (zero or more).
+     */
+    public BufferedImagePool(int maximumIdle) {
+        if (maximumIdle < 0) {
+            throw new IllegalArgumentException("Requires maximumIdle >= 0.");
+        }
+        this.maximumIdle = maximumIdle;
+        this.idle = new HashMap<Key, ArrayDeque<BufferedImage>>();
+    }
+
+    /**
+     * Returns the maximum number of idle images kept for each combination
+     * of width, height and image type.
+     *
+     * @return The maximum.
+     */
+    public int getMaximumIdle() {
+        return this.maximumIdle;
+    }
+
+    /**
+     * Returns the number of idle images held by the pool.
+     *
+     * @return The number of idle images.
+     */
+    public synchronized int getIdleCount() {
+        return this.idleCount;
+    }
+
+    /**
+     * Returns a cleared image with the specified size and type, reusing an
+     * idle image from the pool if there is one.
+     *
+     * @param width  the image width (must be positive).
+     * @param height  the image height (must be positive).
+     * @param imageType  the image type (for example,
+     *     {@code BufferedImage.TYPE_INT_ARGB}).
+     *
+     * @return An image (never {@code null}).
+     *
+     * @see #release(BufferedImage)
+     */
+    public BufferedImage acquire(int width, int height, int imageType) {
+        BufferedImage image = null;
+        synchronized (this) {
+            ArrayDeque<BufferedImage> images = this.idle.get(
+                    new Key(width, height, imageType));
+            if (images != null && !images.isEmpty()) {
+                image = images.pop();
+                this.idleCount--;
+            }
+        }
+        if (image == null) {
+            return new BufferedImage(width, height, imageType);
+        }
+        Graphics2D g2 = image.createGraphics();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fillRect(0, 0, width, height);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Returns an image to the pool so that it can be reused.  If the pool
+     * already holds the maximum number of idle images of the same size and
+     * type, the image is discarded.
+     *
+     * @param image  the image ({@code null} not permitted).
+     */
+    public void release(BufferedImage image) {
+        Args.nullNotPermitted(image, "image");
+        Key key = new Key(image.getWidth(), image.getHeight(),
+                image.getType());
+        synchronized (this) {
+            ArrayDeque<BufferedImage> images = this.idle.get(key);
+            if (images == null) {
+                images = new ArrayDeque<BufferedImage>();
+                this.idle.put(key, images);
+            }
+            if (images.size() < this.maximumIdle) {
+                images.push(image);
+                this.idleCount++;
+            }
+        }
+    }
+
+    /**
+     * Discards all the idle images in the pool.
+     */
+    public synchronized void clear() {
+        this.idle.clear();
+        this.idleCount = 0;
+    }
+
+    /**
+     * The key for a group of idle images.
+     */
+    private static final class Key {
+
+        /** The image width. */
+        private final int width;
+
+        /** The image height. */
+        private final int height;
+
+        /** The image type. */
+        private final int imageType;
+
+        /**
+         * Creates a new key.
+         *
+         * @param width  the image width.
+         * @param height  the image height.
+         * @param imageType  the image type.
+         */
+        Key(int width, int height, int imageType) {
+            this.width = width;
+            this.height = height;
+            this.imageType = imageType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.width == that.width && this.height == that.height
+                    && this.imageType == that.imageType;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.width;
+            result = 31 * result + this.height;
+            result = 31 * result + this.imageType;
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,510 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * PNGEncoder.java
+ * ---------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.jfree.chart.util.Args;
+
+/**
+ * An {@link ImageEncoder} that writes PNG images directly to an output
+ * stream.  Unlike {@link SunPNGEncoderAdapter}, which goes through
+ * {@code ImageIO}, the image rows are filtered and compressed one at a time
+ * and the compressed data is written out in fixed size chunks, so the memory
+ * used does not grow with the size of the image.  The compression level and
+ * the row filter can be configured.
+ * <P>
+ * An encoder holds no state between calls to the {@code encode()} methods,
+ * so a single instance can be shared by several threads once it has been
+ * configured.
+ *
+ * @since 1.6.0
+ */
+public class PNGEncoder implements ImageEncoder {
+
+    /** The default compression level. */
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10,
+            26, 10};
+
+    /** The IHDR chunk type. */
+    private static final byte[] IHDR = {'I', 'H', 'D', 'R'};
+
+    /** The IDAT chunk type. */
+    private static final byte[] IDAT = {'I', 'D', 'A', 'T'};
+
+    /** The IEND chunk type. */
+    private static final byte[] IEND = {'I', 'E', 'N', 'D'};
+
+    /** The maximum size of the data in each IDAT chunk. */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    /** The compression level (0-9). */
+    private int compressionLevel;
+
+    /** A flag that controls whether the alpha channel is encoded. */
+    private boolean encodingAlpha;
+
+    /** The row filter. */
+    private PNGFilter filter;
+
+    /**
+     * Creates a new encoder with the default compression level, the
+     * {@link PNGFilter#UP} row filter and alpha encoding switched on.  The
+     * UP filter is cheap to apply and suits chart images well (most rows
+     * differ little from the row above), typically giving smaller output
+     * than the adaptive filter in a fraction of the time.
+     */
+    public PNGEncoder() {
+        this.compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+        this.encodingAlpha = true;
+        this.filter = PNGFilter.UP;
+    }
+
+    /**
+     * Returns the compression level as a float, for compatibility with the
+     * {@link ImageEncoder} interface.
+     *
+     * @return The compression level.
+     *
+     * @see #getCompressionLevel()
+     */
+    @Override
+    public float getQuality() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the compression level, for compatibility with the
+     * {@link ImageEncoder} interface (the value is rounded to the nearest
+     * integer).
+     *
+     * @param quality  the compression level (0-9).
+     *
+     * @see #setCompressionLevel(int)
+     */
+    @Override
+    public void setQuality(float quality) {
+        setCompressionLevel(Math.round(quality));
+    }
+
+    /**
+     * Returns the compression level.
+     *
+     * @return The compression level (0-9).
+     */
+    public int getCompressionLevel() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the compression level, from 0 (no compression, fastest) to 9
+     * (best compression, slowest).
+     *
+     * @param level  the compression level (0-9).
+     */
+    public void setCompressionLevel(int level) {
+        if (level < 0 || level > 9) {
+            throw new IllegalArgumentException(
+                    "Requires 0 <= level <= 9.");
+        }
+        this.compressionLevel = level;
+    }
+
+    /**
+     * Returns the flag that controls whether the alpha channel is encoded
+     * for images that have one.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isEncodingAlpha() {
+        return this.encodingAlpha;
+    }
+
+    /**
+     * Sets the flag that controls whether the alpha channel is encoded for
+     * images that have one.
+     *
+     * @param encodingAlpha  the flag.
+     */
+    @Override
+    public void setEncodingAlpha(boolean encodingAlpha) {
+        this.encodingAlpha = encodingAlpha;
+    }
+
+    /**
+     * Returns the row filter.
+     *
+     * @return The row filter (never {@code null}).
+     */
+    public PNGFilter getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Sets the row filter.
+     *
+     * @param filter  the filter ({@code null} not permitted).
+     */
+    public void setFilter(PNGFilter filter) {
+        Args.nullNotPermitted(filter, "filter");
+        this.filter = filter;
+    }
+
+    /**
+     * Encodes an image in PNG format.
+     *
+     * @param bufferedImage  the image ({@code null} not permitted).
+     *
+     * @return A byte array in PNG format.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Override
+    public byte[] encode(BufferedImage bufferedImage) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        encode(bufferedImage, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to a channel.  The
+     * channel is not closed.
+     *
+     * @param bufferedImage  the image ({@code null} not permitted).
+     * @param channel  the channel ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void encode(BufferedImage bufferedImage,
+            WritableByteChannel channel) throws IOException {
+        Args.nullNotPermitted(channel, "channel");
+        encode(bufferedImage, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to an output stream.  The
+     * stream is not closed.
+     *
+     * @param bufferedImage  the image ({@code null} not permitted).
+     * @param outputStream  the output stream ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Override
+    public void encode(BufferedImage bufferedImage, OutputStream outputStream)
+            throws IOException {
+        Args.nullNotPermitted(bufferedImage, "bufferedImage");
+        Args.nullNotPermitted(outputStream, "outputStream");
+        int width = bufferedImage.getWidth();
+        int height = bufferedImage.getHeight();
+        boolean alpha = this.encodingAlpha
+                && bufferedImage.getColorModel().hasAlpha();
+        int bpp = alpha ? 4 : 3;
+
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[CHUNK_SIZE];
+        outputStream.write(SIGNATURE);
+        writeInt(buffer, 0, width);
+        writeInt(buffer, 4, height);
+        buffer[8] = 8; // bit depth
+        buffer[9] = (byte) (alpha ? 6 : 2); // colour type
+        buffer[10] = 0; // compression method
+        buffer[11] = 0; // filter method
+        buffer[12] = 0; // interlace method
+        writeChunk(outputStream, IHDR, buffer, 13, crc);
+
+        int rowLength = width * bpp;
+        int[] pixels = new int[width];
+        byte[] row = new byte[rowLength];
+        byte[] previous = new byte[rowLength];
+        byte[][] filtered = new byte[this.filter == PNGFilter.ADAPTIVE
+                ? 5 : 1][rowLength + 1];
+        boolean packed = bufferedImage.getType() == BufferedImage.TYPE_INT_RGB
+                || bufferedImage.getType() == BufferedImage.TYPE_INT_ARGB;
+        Deflater deflater = new Deflater(this.compressionLevel);
+        try {
+            int count = 0;
+            for (int y = 0; y < height; y++) {
+                if (packed) {
+                    bufferedImage.getRaster().getDataElements(0, y, width, 1,
+                            pixels);
+                } else {
+                    bufferedImage.getRGB(0, y, width, 1, pixels, 0, width);
+                }
+                unpack(pixels, row, alpha);
+                byte[] data = filterRow(row, previous, bpp, filtered);
+                deflater.setInput(data);
+                while (!deflater.needsInput()) {
+                    count = deflate(deflater, outputStream, buffer, count,
+                            crc);
+                }
+                byte[] swap = previous;
+                previous = row;
+                row = swap;
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                count = deflate(deflater, outputStream, buffer, count, crc);
+            }
+            if (count > 0) {
+                writeChunk(outputStream, IDAT, buffer, count, crc);
+            }
+        } finally {
+            deflater.end();
+        }
+        writeChunk(outputStream, IEND, buffer, 0, crc);
+        outputStream.flush();
+    }
+
+    /**
+     * Compresses some of the pending input into the buffer, writing an IDAT
+     * chunk whenever the buffer is full.
+     *
+     * @param deflater  the deflater.
+     * @param out  the output stream.
+     * @param buffer  the chunk buffer.
+     * @param count  the number of bytes in the buffer.
+     * @param crc  the checksum to use for the chunks.
+     *
+     * @return The new number of bytes in the buffer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static int deflate(Deflater deflater, OutputStream out,
+            byte[] buffer, int count, CRC32 crc) throws IOException {
+        count += deflater.deflate(buffer, count, buffer.length - count);
+        if (count == buffer.length) {
+            writeChunk(out, IDAT, buffer, count, crc);
+            count = 0;
+        }
+        return count;
+    }
+
+    /**
+     * Converts a row of ARGB pixels to RGB or RGBA bytes.
+     *
+     * @param pixels  the pixels.
+     * @param row  the array for the bytes.
+     * @param alpha  include the alpha channel?
+     */
+    private static void unpack(int[] pixels, byte[] row, boolean alpha) {
+        int i = 0;
+        for (int pixel : pixels) {
+            row[i++] = (byte) (pixel >> 16);
+            row[i++] = (byte) (pixel >> 8);
+            row[i++] = (byte) pixel;
+            if (alpha) {
+                row[i++] = (byte) (pixel >>> 24);
+            }
+        }
+    }
+
+    /**
+     * Applies the row filter, returning the filter type byte followed by the
+     * filtered row.
+     *
+     * @param row  the row.
+     * @param previous  the previous row (all zero for the first row).
+     * @param bpp  the number of bytes per pixel.
+     * @param filtered  the arrays to hold the filtered rows (one array, or
+     *     one for each filter type if the filter is adaptive).
+     *
+     * @return The filtered row.
+     */
+    private byte[] filterRow(byte[] row, byte[] previous, int bpp,
+            byte[][] filtered) {
+        if (this.filter != PNGFilter.ADAPTIVE) {
+            applyFilter(this.filter.ordinal(), row, previous, bpp,
+                    filtered[0]);
+            return filtered[0];
+        }
+        byte[] best = null;
+        long bestSum = Long.MAX_VALUE;
+        for (int type = 0; type < filtered.length; type++) {
+            applyFilter(type, row, previous, bpp, filtered[type]);
+            long sum = sumAbsolute(filtered[type], bestSum);
+            if (sum < bestSum) {
+                best = filtered[type];
+                bestSum = sum;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Applies one of the PNG filter types to a row.
+     *
+     * @param type  the filter type (0 to 4).
+     * @param row  the row.
+     * @param previous  the previous row.
+     * @param bpp  the number of bytes per pixel.
+     * @param out  the array for the type byte and the filtered row.
+     */
+    private static void applyFilter(int type, byte[] row, byte[] previous,
+            int bpp, byte[] out) {
+        out[0] = (byte) type;
+        int n = row.length;
+        switch (type) {
+            case 1:
+                System.arraycopy(row, 0, out, 1, bpp);
+                for (int i = bpp; i < n; i++) {
+                    out[i + 1] = (byte) (row[i] - row[i - bpp]);
+                }
+                break;
+            case 2:
+                for (int i = 0; i < n; i++) {
+                    out[i + 1] = (byte) (row[i] - previous[i]);
+                }
+                break;
+            case 3:
+                for (int i = 0; i < bpp; i++) {
+                    out[i + 1] = (byte) (row[i] - ((previous[i] & 0xFF) >> 1));
+                }
+                for (int i = bpp; i < n; i++) {
+                    int a = row[i - bpp] & 0xFF;
+                    int b = previous[i] & 0xFF;
+                    out[i + 1] = (byte) (row[i] - ((a + b) >> 1));
+                }
+                break;
+            case 4:
+                for (int i = 0; i < bpp; i++) {
+                    out[i + 1] = (byte) (row[i] - previous[i]);
+                }
+                for (int i = bpp; i < n; i++) {
+                    int a = row[i - bpp] & 0xFF;
+                    int b = previous[i] & 0xFF;
+                    int c = previous[i - bpp] & 0xFF;
+                    out[i + 1] = (byte) (row[i] - paeth(a, b, c));
+                }
+                break;
+            default:
+                System.arraycopy(row, 0, out, 1, n);
+        }
+    }
+
+    /**
+     * Returns the sum of the absolute values of the filtered bytes (as
+     * signed values), which is used to choose the adaptive filter.  The
+     * sum stops early once it reaches {@code limit}.
+     *
+     * @param filtered  the type byte and the filtered row.
+     * @param limit  the sum for the best filter so far.
+     *
+     * @return The sum (or a value at least equal to {@code limit}).
+     */
+    private static long sumAbsolute(byte[] filtered, long limit) {
+        long sum = 0L;
+        for (int i = 1; i < filtered.length; i++) {
+            sum += Math.abs(filtered[i]);
+            if (sum >= limit) {
+                break;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the Paeth predictor for a byte.
+     *
+     * @param a  the byte to the left.
+     * @param b  the byte above.
+     * @param c  the byte above and to the left.
+     *
+     * @return The predictor.
+     */
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a);
+        int pb = Math.abs(p - b);
+        int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) {
+            return a;
+        }
+        return (pb <= pc) ? b : c;
+    }
+
+    /**
+     * Writes a chunk to the output stream.
+     *
+     * @param out  the output stream.
+     * @param type  the chunk type.
+     * @param data  the chunk data.
+     * @param length  the length of the chunk data.
+     * @param crc  the checksum to use.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeChunk(OutputStream out, byte[] type, byte[] data,
+            int length, CRC32 crc) throws IOException {
+        byte[] header = new byte[4];
+        writeInt(header, 0, length);
+        out.write(header);
+        out.write(type);
+        out.write(data, 0, length);
+        crc.reset();
+        crc.update(type);
+        crc.update(data, 0, length);
+        writeInt(header, 0, (int) crc.getValue());
+        out.write(header);
+    }
+
+    /**
+     * Writes a big-endian integer to an array.
+     *
+     * @param array  the array.
+     * @param offset  the offset.
+     * @param value  the value.
+     */
+    private static void writeInt(byte[] array, int offset, int value) {
+        array[offset] = (byte) (value >>> 24);
+        array[offset + 1] = (byte) (value >>> 16);
+        array[offset + 2] = (byte) (value >>> 8);
+        array[offset + 3] = (byte) value;
+    }
+
+}
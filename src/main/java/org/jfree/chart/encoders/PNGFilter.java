@@ -0,0 +1,72 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * PNGFilter.java
+ * --------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+/**
+ * The row filters that the {@link PNGEncoder} can apply before compressing
+ * the image data.  Filtering makes the rows of a typical chart image (large
+ * areas of flat colour) much more compressible.
+ *
+ * @since 1.6.0
+ */
+public enum PNGFilter {
+
+    /** No filtering. */
+    NONE,
+
+    /** Each byte is replaced by its difference from the byte to its left. */
+    SUB,
+
+    /** Each byte is replaced by its difference from the byte above it. */
+    UP,
+
+    /**
+     * Each byte is replaced by its difference from the mean of the bytes
+     * to its left and above it.
+     */
+    AVERAGE,
+
+    /** Each byte is replaced by its difference from the Paeth predictor. */
+    PAETH,
+
+    /**
+     * The filter is chosen for each row, by trying all of the filters and
+     * keeping the one with the smallest sum of absolute differences.
+     */
+    ADAPTIVE
+
+}
@@ -0,0 +1,472 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * IndexedEntityCollection.java
+ * ----------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.jfree.chart.util.Args;
+
+/**
+ * An entity collection that maintains a spatial index (a uniform grid over
+ * the bounds of the entity areas) so that {@link #getEntity(double, double)}
+ * does not need to test every entity in the collection.  The index is built
+ * the first time a query is made after the collection has been changed, so
+ * there is no extra cost while a chart is being rendered.  Queries return
+ * the same results as {@link StandardEntityCollection}; in particular
+ * {@code getEntity(x, y)} returns the <i>last</i> entity (in the order
+ * added) with an area that contains the point.
+ * <P>
+ * The index assumes that the area of an entity does not change after the
+ * entity has been added to the collection.
+ *
+ * @since 1.6.0
+ */
+public class IndexedEntityCollection extends StandardEntityCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4379625270883516442L;
+
+    /** Below this number of entities no index is built. */
+    private static final int MIN_INDEXED_ENTITY_COUNT = 32;
+
+    /** The maximum number of rows (or columns) in the grid. */
+    private static final int MAX_GRID_SIZE = 1024;
+
+    /**
+     * Entities that span more than this number of grid cells are kept in a
+     * separate list rather than in the grid.
+     */
+    private static final int MAX_CELLS_PER_ENTITY = 16;
+
+    /** The index (or {@code null} if it needs to be rebuilt). */
+    private transient Grid grid;
+
+    /**
+     * Creates a new empty collection.
+     */
+    public IndexedEntityCollection() {
+        super();
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.grid = null;
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity ({@code null} not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        super.add(entity);
+        this.grid = null;
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     *
+     * @param collection  the collection of entities ({@code null} not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        super.addAll(collection);
+        this.grid = null;
+    }
+
+    /**
+     * Returns the last entity in the collection with an area that encloses
+     * the specified coordinates, or {@code null} if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        Grid g = getGrid();
+        if (g == null) {
+            return super.getEntity(x, y);
+        }
+        int best = -1;
+        int cell = g.cellAt(x, y);
+        if (cell >= 0) {
+            for (int i = g.cellStart[cell + 1] - 1; i >= g.cellStart[cell];
+                    i--) {
+                int index = g.cellItems[i];
+                if (g.contains(index, x, y)
+                        && getEntity(index).getArea().contains(x, y)) {
+                    best = index;
+                    break;
+                }
+            }
+        }
+        for (int i = g.largeItems.length - 1; i >= 0; i--) {
+            int index = g.largeItems[i];
+            if (index < best) {
+                break;
+            }
+            if (g.contains(index, x, y)
+                    && getEntity(index).getArea().contains(x, y)) {
+                best = index;
+                break;
+            }
+        }
+        return best >= 0 ? getEntity(best) : null;
+    }
+
+    /**
+     * Returns a list of the entities with an area that intersects the
+     * specified region (for example, the rectangle drawn by a user to
+     * select items in a chart).  The entities are returned in the order
+     * that they were added to the collection.
+     *
+     * @param region  the region, in Java2D space ({@code null} not
+     *     permitted).
+     *
+     * @return A list of entities (possibly empty, never {@code null}).
+     */
+    public List<ChartEntity> getEntities(Rectangle2D region) {
+        Args.nullNotPermitted(region, "region");
+        List<ChartEntity> result = new ArrayList<ChartEntity>();
+        Grid g = getGrid();
+        if (g == null) {
+            for (int i = 0; i < getEntityCount(); i++) {
+                ChartEntity entity = getEntity(i);
+                if (entity.getArea().intersects(region)) {
+                    result.add(entity);
+                }
+            }
+            return result;
+        }
+        BitSet candidates = new BitSet(getEntityCount());
+        for (int index : g.largeItems) {
+            candidates.set(index);
+        }
+        int c0 = g.column(region.getMinX());
+        int c1 = g.column(region.getMaxX());
+        int r0 = g.row(region.getMinY());
+        int r1 = g.row(region.getMaxY());
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * g.columns + c;
+                for (int i = g.cellStart[cell]; i < g.cellStart[cell + 1];
+                        i++) {
+                    candidates.set(g.cellItems[i]);
+                }
+            }
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0;
+                i = candidates.nextSetBit(i + 1)) {
+            if (g.intersects(i, region)) {
+                ChartEntity entity = getEntity(i);
+                if (entity.getArea().intersects(region)) {
+                    result.add(entity);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index, building it first if necessary.
+     *
+     * @return The index, or {@code null} if the collection is too small to
+     *     need one.
+     */
+    private Grid getGrid() {
+        int count = getEntityCount();
+        if (count < MIN_INDEXED_ENTITY_COUNT) {
+            return null;
+        }
+        if (this.grid == null || this.grid.entityCount != count) {
+            this.grid = new Grid(this);
+        }
+        return this.grid;
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        IndexedEntityCollection clone = (IndexedEntityCollection) super.clone();
+        clone.grid = null;
+        return clone;
+    }
+
+    /**
+     * A uniform grid over the bounding boxes of the entities in a
+     * collection.  Each cell records (in ascending order) the indices of
+     * the entities whose bounding boxes overlap the cell.
+     */
+    private static class Grid {
+
+        /** The number of entities indexed. */
+        int entityCount;
+
+        /** The bounding boxes (minX, minY, maxX, maxY) of the entities. */
+        double[] bounds;
+
+        /** The x-coordinate of the left edge of the grid. */
+        double x0;
+
+        /** The y-coordinate of the top edge of the grid. */
+        double y0;
+
+        /** The width of each cell. */
+        double cellWidth;
+
+        /** The height of each cell. */
+        double cellHeight;
+
+        /** The number of columns. */
+        int columns;
+
+        /** The number of rows. */
+        int rows;
+
+        /**
+         * The start offset in {@code cellItems} for each cell (with an
+         * extra element for the end of the last cell).
+         */
+        int[] cellStart;
+
+        /** The entity indices for all the cells. */
+        int[] cellItems;
+
+        /** The indices of entities that span many cells (ascending). */
+        int[] largeItems;
+
+        /**
+         * Builds the index for a collection.
+         *
+         * @param entities  the entities.
+         */
+        Grid(EntityCollection entities) {
+            int n = entities.getEntityCount();
+            this.entityCount = n;
+            this.bounds = new double[n * 4];
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            double totalSize = 0.0;
+            for (int i = 0; i < n; i++) {
+                Rectangle2D b = entities.getEntity(i).getArea().getBounds2D();
+                this.bounds[i * 4] = b.getMinX();
+                this.bounds[i * 4 + 1] = b.getMinY();
+                this.bounds[i * 4 + 2] = b.getMaxX();
+                this.bounds[i * 4 + 3] = b.getMaxY();
+                double size = (b.getWidth() + b.getHeight()) / 2.0;
+                if (size < Double.POSITIVE_INFINITY) {
+                    totalSize += size;
+                }
+                // written this way to skip NaN coordinates
+                if (b.getMinX() < minX) {
+                    minX = b.getMinX();
+                }
+                if (b.getMinY() < minY) {
+                    minY = b.getMinY();
+                }
+                if (b.getMaxX() > maxX) {
+                    maxX = b.getMaxX();
+                }
+                if (b.getMaxY() > maxY) {
+                    maxY = b.getMaxY();
+                }
+            }
+            if (minX > maxX || minY > maxY) {
+                minX = 0.0;
+                minY = 0.0;
+                maxX = 0.0;
+                maxY = 0.0;
+            }
+            double w = Math.max(maxX - minX, 1.0);
+            double h = Math.max(maxY - minY, 1.0);
+            // aim for roughly one entity per cell, but with cells no
+            // smaller than the typical entity so that few entities span
+            // more than four cells
+            double cellSize = Math.max(Math.sqrt(w * h / n), totalSize / n);
+            this.columns = (int) Math.max(1, Math.min(MAX_GRID_SIZE,
+                    Math.ceil(w / cellSize)));
+            this.rows = (int) Math.max(1, Math.min(MAX_GRID_SIZE,
+                    Math.ceil(h / cellSize)));
+            this.x0 = minX;
+            this.y0 = minY;
+            this.cellWidth = w / this.columns;
+            this.cellHeight = h / this.rows;
+
+            // first pass counts the items in each cell, second pass fills
+            int cellCount = this.columns * this.rows;
+            this.cellStart = new int[cellCount + 1];
+            int[] large = new int[16];
+            int largeCount = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                int[] next = null;
+                if (pass == 1) {
+                    for (int c = 0; c < cellCount; c++) {
+                        this.cellStart[c + 1] += this.cellStart[c];
+                    }
+                    this.cellItems = new int[this.cellStart[cellCount]];
+                    next = new int[cellCount];
+                    System.arraycopy(this.cellStart, 0, next, 0, cellCount);
+                }
+                for (int i = 0; i < n; i++) {
+                    int c0 = column(this.bounds[i * 4]);
+                    int c1 = column(this.bounds[i * 4 + 2]);
+                    int r0 = row(this.bounds[i * 4 + 1]);
+                    int r1 = row(this.bounds[i * 4 + 3]);
+                    if ((c1 - c0 + 1) * (r1 - r0 + 1) > MAX_CELLS_PER_ENTITY) {
+                        if (pass == 0) {
+                            if (largeCount == large.length) {
+                                large = Arrays.copyOf(large,
+                                        largeCount * 2);
+                            }
+                            large[largeCount++] = i;
+                        }
+                        continue;
+                    }
+                    for (int r = r0; r <= r1; r++) {
+                        for (int c = c0; c <= c1; c++) {
+                            int cell = r * this.columns + c;
+                            if (pass == 0) {
+                                this.cellStart[cell + 1]++;
+                            }
+                            else {
+                                this.cellItems[next[cell]++] = i;
+                            }
+                        }
+                    }
+                }
+            }
+            this.largeItems = Arrays.copyOf(large, largeCount);
+        }
+
+        /**
+         * Returns the column containing the x-coordinate (clamped to the
+         * grid).
+         *
+         * @param x  the x-coordinate.
+         *
+         * @return The column index.
+         */
+        int column(double x) {
+            int c = (int) Math.floor((x - this.x0) / this.cellWidth);
+            return Math.max(0, Math.min(this.columns - 1, c));
+        }
+
+        /**
+         * Returns the row containing the y-coordinate (clamped to the grid).
+         *
+         * @param y  the y-coordinate.
+         *
+         * @return The row index.
+         */
+        int row(double y) {
+            int r = (int) Math.floor((y - this.y0) / this.cellHeight);
+            return Math.max(0, Math.min(this.rows - 1, r));
+        }
+
+        /**
+         * Returns the cell containing a point, or {@code -1} if the point
+         * is outside the grid.
+         *
+         * @param x  the x-coordinate.
+         * @param y  the y-coordinate.
+         *
+         * @return The cell index (or {@code -1}).
+         */
+        int cellAt(double x, double y) {
+            if (x < this.x0 || y < this.y0
+                    || x > this.x0 + this.cellWidth * this.columns
+                    || y > this.y0 + this.cellHeight * this.rows) {
+                return -1;
+            }
+            return row(y) * this.columns + column(x);
+        }
+
+        /**
+         * Returns {@code true} if the bounding box of an entity contains
+         * the specified point.
+         *
+         * @param index  the entity index.
+         * @param x  the x-coordinate.
+         * @param y  the y-coordinate.
+         *
+         * @return A boolean.
+         */
+        boolean contains(int index, double x, double y) {
+            int i = index * 4;
+            return x >= this.bounds[i] && y >= this.bounds[i + 1]
+                    && x <= this.bounds[i + 2] && y <= this.bounds[i + 3];
+        }
+
+        /**
+         * Returns {@code true} if the bounding box of an entity intersects
+         * the specified region.
+         *
+         * @param index  the entity index.
+         * @param region  the region.
+         *
+         * @return A boolean.
+         */
+        boolean intersects(int index, Rectangle2D region) {
+            int i = index * 4;
+            return this.bounds[i] <= region.getMaxX()
+                    && this.bounds[i + 2] >= region.getMinX()
+                    && this.bounds[i + 1] <= region.getMaxY()
+                    && this.bounds[i + 3] >= region.getMinY();
+        }
+
+    }
+
+}
@@ -55,6 +55,12 @@ public class PlotChangeEvent extends ChartChangeEvent {
     /** The plot that generated the event. */
     private Plot plot;
 
+    /**
+     * The subplot that is the only part of the plot affected by the change
+     * ({@code null} if this is not known).
+     */
+    private Plot subplot;
+
     /**
      * Creates a new PlotChangeEvent.
      *
@@ -74,4 +80,33 @@ public class PlotChangeEvent extends ChartChangeEvent {
         return this.plot;
     }
 
+    /**
+     * Returns the subplot that is the only part of the plot affected by the
+     * change, if the plot that generated the event knows this.  Listeners
+     * can use this as a hint to redraw just the subplot.
+     *
+     * @return The subplot (possibly {@code null}).
+     *
+     * @see #setSubplot(Plot)
+     *
+     * @since 1.6.0
+     */
+    public Plot getSubplot() {
+        return this.subplot;
+    }
+
+    /**
+     * Sets the subplot that is the only part of the plot affected by the
+     * change.
+     *
+     * @param subplot  the subplot ({@code null} permitted).
+     *
+     * @see #getSubplot()
+     *
+     * @since 1.6.0
+     */
+    public void setSubplot(Plot subplot) {
+        this.subplot = subplot;
+    }
+
 }
@@ -0,0 +1,189 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * NearestItemCrosshairOverlay.java
+ * --------------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.panel;
+
+import java.awt.event.MouseEvent;
+import java.awt.geom.Point2D;
+
+import org.jfree.chart.ChartMouseEvent;
+import org.jfree.chart.ChartMouseListener;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.plot.Crosshair;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.XYPlot;
+
+/**
+ * A {@link CrosshairOverlay} that moves its crosshairs to the data item
+ * nearest to the mouse when the chart is clicked (or, optionally, whenever
+ * the mouse moves).  Register the overlay with the panel both as an overlay
+ * and as a {@link ChartMouseListener}:
+ * <pre>
+ * NearestItemCrosshairOverlay overlay = new NearestItemCrosshairOverlay();
+ * overlay.addDomainCrosshair(new Crosshair());
+ * overlay.addRangeCrosshair(new Crosshair());
+ * chartPanel.addOverlay(overlay);
+ * chartPanel.addChartMouseListener(overlay);</pre>
+ * The item is found with {@link XYPlot#findCrosshairPoint(Point2D,
+ * java.awt.geom.Rectangle2D)}, which uses an index of the data items, and
+ * only the overlay is repainted, so moving the crosshairs does not redraw the
+ * chart.  As for the plot's own crosshairs, the domain (range) crosshairs
+ * snap to the data only if the plot's crosshair is locked on the data.  The
+ * overlay draws the crosshairs against the plot's primary axes.  Nothing
+ * happens if the chart does not have an {@link XYPlot} or the plot cannot
+ * find the crosshair point without drawing.
+ *
+ * @since 1.6.0
+ */
+public class NearestItemCrosshairOverlay extends CrosshairOverlay
+        implements ChartMouseListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4120562346172457319L;
+
+    /**
+     * A flag that controls whether the crosshairs follow the mouse (if not,
+     * they move only when the chart is clicked).
+     */
+    private boolean followMouse;
+
+    /**
+     * Creates a new overlay that initially contains no crosshairs.
+     */
+    public NearestItemCrosshairOverlay() {
+        super();
+        this.followMouse = false;
+    }
+
+    /**
+     * Returns the flag that controls whether the crosshairs follow the
+     * mouse.  The default value is {@code false} (the crosshairs only move
+     * when the chart is clicked).
+     *
+     * @return A boolean.
+     */
+    public boolean getFollowMouse() {
+        return this.followMouse;
+    }
+
+    /**
+     * Sets the flag that controls whether the crosshairs follow the mouse.
+     *
+     * @param follow  the new flag value.
+     */
+    public void setFollowMouse(boolean follow) {
+        this.followMouse = follow;
+    }
+
+    /**
+     * Moves the crosshairs to the item nearest to the click.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void chartMouseClicked(ChartMouseEvent event) {
+        moveCrosshairs(event);
+    }
+
+    /**
+     * Moves the crosshairs to the item nearest to the mouse, if the
+     * crosshairs follow the mouse.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void chartMouseMoved(ChartMouseEvent event) {
+        if (this.followMouse) {
+            moveCrosshairs(event);
+        }
+    }
+
+    /**
+     * Moves the crosshairs to the crosshair point for the location of a
+     * mouse event.
+     *
+     * @param event  the event.
+     */
+    private void moveCrosshairs(ChartMouseEvent event) {
+        MouseEvent trigger = event.getTrigger();
+        if (!(trigger.getSource() instanceof ChartPanel)
+                || !(event.getChart().getPlot() instanceof XYPlot)) {
+            return;
+        }
+        ChartPanel panel = (ChartPanel) trigger.getSource();
+        ChartRenderingInfo info = panel.getChartRenderingInfo();
+        if (info == null) {
+            return;
+        }
+        XYPlot plot = (XYPlot) event.getChart().getPlot();
+        Point2D anchor = panel.translateScreenToJava2D(trigger.getPoint());
+        CrosshairState state = plot.findCrosshairPoint(anchor,
+                info.getPlotInfo().getDataArea());
+        if (state == null) {
+            return;
+        }
+        for (Crosshair crosshair : getDomainCrosshairs()) {
+            crosshair.setValue(state.getCrosshairX());
+        }
+        for (Crosshair crosshair : getRangeCrosshairs()) {
+            crosshair.setValue(state.getCrosshairY());
+        }
+    }
+
+    /**
+     * Tests this overlay for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof NearestItemCrosshairOverlay)) {
+            return false;
+        }
+        NearestItemCrosshairOverlay that = (NearestItemCrosshairOverlay) obj;
+        if (this.followMouse != that.followMouse) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+}
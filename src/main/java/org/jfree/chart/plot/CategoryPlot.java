@@ -1360,6 +1360,18 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         return this.datasets.size();
     }
 
+    /**
+     * Returns an unmodifiable view of the datasets for the plot, keyed by
+     * dataset index.
+     *
+     * @return The datasets (never {@code null}).
+     *
+     * @since 1.6.0
+     */
+    public Map<Integer, CategoryDataset> getDatasets() {
+        return Collections.unmodifiableMap(this.datasets);
+    }
+
     /**
      * Returns the index of the specified dataset, or {@code -1} if the
      * dataset does not belong to the plot.
@@ -2273,6 +2285,9 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
+        if (deferDatasetChange(event)) {
+            return;
+        }
         for (ValueAxis yAxis : this.rangeAxes.values()) {
             if (yAxis != null) {
                 yAxis.configure();
@@ -3854,7 +3869,9 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
 
     /**
      * Draws a representation of a dataset within the dataArea region using the
-     * appropriate renderer.
+     * appropriate renderer.  If the current thread is interrupted, the
+     * rendering stops before the next column (the caller is abandoning the
+     * drawing).
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3885,9 +3902,13 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
             int columnCount = currentDataset.getColumnCount();
             int rowCount = currentDataset.getRowCount();
             int passCount = renderer.getPassCount();
+            Thread thread = Thread.currentThread();
             for (int pass = 0; pass < passCount; pass++) {
                 if (this.columnRenderingOrder == SortOrder.ASCENDING) {
                     for (int column = 0; column < columnCount; column++) {
+                        if (thread.isInterrupted()) {
+                            return foundData;
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
@@ -3906,6 +3927,9 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
                 }
                 else {
                     for (int column = columnCount - 1; column >= 0; column--) {
+                        if (thread.isInterrupted()) {
+                            return foundData;
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
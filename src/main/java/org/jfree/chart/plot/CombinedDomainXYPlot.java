@@ -113,6 +113,7 @@ import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.AxisState;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.PlotChangeListener;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
@@ -130,7 +131,7 @@ import org.jfree.data.xy.XYDataset;
  * common domain axis.
  */
 public class CombinedDomainXYPlot extends XYPlot
-        implements PlotChangeListener {
+        implements PlotChangeListener, SubplotRedrawable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7765545541261907383L;
@@ -382,6 +383,26 @@ public class CombinedDomainXYPlot extends XYPlot
     @Override
     protected AxisSpace calculateAxisSpace(Graphics2D g2,
             Rectangle2D plotArea) {
+        Rectangle2D[] areas = new Rectangle2D[this.subplots.size()];
+        AxisSpace space = calculateAxisSpace(g2, plotArea, areas);
+        this.subplotAreas = areas;
+        return space;
+    }
+
+    /**
+     * Calculates the axis space required and the area for each subplot,
+     * without changing the state of this plot or the subplots.  The space
+     * for the range axes of the subplots is calculated without the fixed
+     * range axis space that the {@code draw()} method sets for them.
+     *
+     * @param g2  the graphics device.
+     * @param plotArea  the plot area.
+     * @param areas  an array that receives the area for each subplot.
+     *
+     * @return The space.
+     */
+    private AxisSpace calculateAxisSpace(Graphics2D g2, Rectangle2D plotArea,
+            Rectangle2D[] areas) {
 
         AxisSpace space = new AxisSpace();
         PlotOrientation orientation = getOrientation();
@@ -416,7 +437,6 @@ public class CombinedDomainXYPlot extends XYPlot
             XYPlot sub = (XYPlot) this.subplots.get(i);
             totalWeight += sub.getWeight();
         }
-        this.subplotAreas = new Rectangle2D[n];
         double x = adjustedPlotArea.getX();
         double y = adjustedPlotArea.getY();
         double usableSize = 0.0;
@@ -433,19 +453,19 @@ public class CombinedDomainXYPlot extends XYPlot
             // calculate sub-plot area
             if (orientation == PlotOrientation.HORIZONTAL) {
                 double w = usableSize * plot.getWeight() / totalWeight;
-                this.subplotAreas[i] = new Rectangle2D.Double(x, y, w,
+                areas[i] = new Rectangle2D.Double(x, y, w,
                         adjustedPlotArea.getHeight());
                 x = x + w + this.gap;
             }
             else if (orientation == PlotOrientation.VERTICAL) {
                 double h = usableSize * plot.getWeight() / totalWeight;
-                this.subplotAreas[i] = new Rectangle2D.Double(x, y,
+                areas[i] = new Rectangle2D.Double(x, y,
                         adjustedPlotArea.getWidth(), h);
                 y = y + h + this.gap;
             }
 
-            AxisSpace subSpace = plot.calculateRangeAxisSpace(g2,
-                    this.subplotAreas[i], null);
+            AxisSpace subSpace = plot.reserveRangeAxisSpace(g2, areas[i],
+                    null);
             space.ensureAtLeast(subSpace);
 
         }
@@ -513,6 +533,82 @@ public class CombinedDomainXYPlot extends XYPlot
 
     }
 
+    /**
+     * Calculates the layout of the plot and returns the area of a subplot,
+     * if the subplot can be redrawn without changing the layout recorded
+     * in {@code info}.  This is the case when the space required by the
+     * domain axis and the widest range axis, and the weights of the
+     * subplots, are unchanged.  This method does not change the state of
+     * the plot or its subplots.
+     *
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param subplot  the subplot ({@code null} not permitted).
+     * @param info  the rendering info for the last drawing of the plot
+     *     ({@code null} not permitted).
+     *
+     * @return The area occupied by the subplot (possibly {@code null}).
+     */
+    @Override
+    public Rectangle2D calculateRedrawArea(Graphics2D g2, Plot subplot,
+            PlotRenderingInfo info) {
+        Args.nullNotPermitted(g2, "g2");
+        Args.nullNotPermitted(subplot, "subplot");
+        Args.nullNotPermitted(info, "info");
+        int index = this.subplots.indexOf(subplot);
+        if (index < 0 || info.getPlotArea() == null
+                || info.getDataArea() == null
+                || info.getSubplotCount() != this.subplots.size()) {
+            return null;
+        }
+        // the recorded plot area has already been trimmed by the insets
+        Rectangle2D area = (Rectangle2D) info.getPlotArea().clone();
+        Rectangle2D[] areas = new Rectangle2D[this.subplots.size()];
+        AxisSpace space = calculateAxisSpace(g2, area, areas);
+        if (!space.shrink(area, null).equals(info.getDataArea())) {
+            return null;
+        }
+        for (int i = 0; i < this.subplots.size(); i++) {
+            Rectangle2D subplotArea = (Rectangle2D) areas[i].clone();
+            this.subplots.get(i).getInsets().trim(subplotArea);
+            if (!subplotArea.equals(info.getSubplotInfo(i).getPlotArea())) {
+                return null;
+            }
+        }
+        return areas[index];
+    }
+
+    /**
+     * Redraws a subplot in the area returned by
+     * {@link #calculateRedrawArea(Graphics2D, Plot, PlotRenderingInfo)}.
+     * The shared domain axis is drawn again (without entities) because the
+     * subplot needs its state for the gridlines.
+     *
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param subplot  the subplot ({@code null} not permitted).
+     * @param info  the rendering info for the last drawing of the plot
+     *     ({@code null} not permitted).
+     */
+    @Override
+    public void redrawSubplot(Graphics2D g2, Plot subplot,
+            PlotRenderingInfo info) {
+        Args.nullNotPermitted(g2, "g2");
+        Args.nullNotPermitted(info, "info");
+        int index = this.subplots.indexOf(subplot);
+        if (index < 0) {
+            throw new IllegalArgumentException("Not a subplot of this plot.");
+        }
+        ValueAxis axis = getDomainAxis();
+        RectangleEdge edge = getDomainAxisEdge();
+        Rectangle2D dataArea = info.getDataArea();
+        double cursor = RectangleEdge.coordinate(dataArea, edge);
+        AxisState axisState = axis.draw(g2, cursor, info.getPlotArea(),
+                dataArea, edge, null);
+        PlotState parentState = new PlotState();
+        parentState.getSharedAxisStates().put(axis, axisState);
+        subplot.draw(g2, this.subplotAreas[index], null, parentState,
+                info.getSubplotInfo(index));
+    }
+
     /**
      * Returns a collection of legend items for the plot.
      *
@@ -692,6 +788,23 @@ public class CombinedDomainXYPlot extends XYPlot
         }
     }
 
+    /**
+     * Returns {@code null}, because the crosshairs of a combined plot are
+     * managed by the subplots.
+     *
+     * @param anchor  the anchor point ({@code null} not permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     *
+     * @return {@code null}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public CrosshairState findCrosshairPoint(Point2D anchor,
+            Rectangle2D dataArea) {
+        return null;
+    }
+
     /**
      * Handles a 'click' on the plot by updating the anchor values.
      *
@@ -714,24 +827,48 @@ public class CombinedDomainXYPlot extends XYPlot
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
-     * The axis ranges are updated if necessary.
+     * The axis ranges are updated if necessary.  If the dataset belongs to
+     * a single subplot and the range of the shared domain axis is unchanged,
+     * the plot change event that is sent to the listeners names that
+     * subplot (see {@link PlotChangeEvent#getSubplot()}), since no other
+     * part of the plot needs to be redrawn.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
-        super.datasetChanged(event);
-        if (this.subplots == null) {
-            return;  // this can happen during plot construction
+        if (deferDatasetChange(event)) {
+            return;
         }
-        XYDataset dataset = null;
-        if (event.getDataset() instanceof XYDataset) {
-            dataset = (XYDataset) event.getDataset();
+        ValueAxis domainAxis = getDomainAxis();
+        Range domainRange = domainAxis != null ? domainAxis.getRange() : null;
+        configureAxes(event);
+        XYPlot changed = null;
+        boolean shared = false;
+        if (this.subplots != null) { // null during plot construction
+            XYDataset dataset = null;
+            if (event.getDataset() instanceof XYDataset) {
+                dataset = (XYDataset) event.getDataset();
+            }
+            for (XYPlot subplot : this.subplots) {
+                if (subplot.indexOf(dataset) >= 0) {
+                    subplot.configureRangeAxes();
+                    shared = changed != null;
+                    changed = subplot;
+                }
+            }
         }
-        for (XYPlot subplot : this.subplots) {
-            if (subplot.indexOf(dataset) >= 0) {
-                subplot.configureRangeAxes();
+        if (getParent() != null) {
+            getParent().datasetChanged(event);
+        } else {
+            PlotChangeEvent e = new PlotChangeEvent(this);
+            e.setType(ChartChangeEventType.DATASET_UPDATED);
+            if (changed != null && !shared && domainAxis != null
+                    && event.getDataset() != null
+                    && domainAxis.getRange().equals(domainRange)) {
+                e.setSubplot(changed);
             }
+            notifyListeners(e);
         }
     }
 
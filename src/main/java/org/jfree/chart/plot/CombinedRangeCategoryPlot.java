@@ -76,6 +76,7 @@ import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.AxisState;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.PlotChangeListener;
 import org.jfree.chart.ui.RectangleEdge;
@@ -84,12 +85,14 @@ import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.Args;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.DatasetChangeEvent;
 
 /**
  * A combined category plot where the range axis is shared.
  */
 public class CombinedRangeCategoryPlot extends CategoryPlot
-        implements PlotChangeListener {
+        implements PlotChangeListener, SubplotRedrawable {
 
     /** For serialization. */
     private static final long serialVersionUID = 7260210007554504515L;
@@ -246,6 +249,24 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
     @Override
     protected AxisSpace calculateAxisSpace(Graphics2D g2, 
             Rectangle2D plotArea) {
+        Rectangle2D[] areas = new Rectangle2D[this.subplots.size()];
+        AxisSpace space = calculateAxisSpace(g2, plotArea, areas);
+        this.subplotArea = areas;
+        return space;
+    }
+
+    /**
+     * Calculates the space required for the axes and the area for each
+     * subplot, without changing the state of this plot.
+     *
+     * @param g2  the graphics device.
+     * @param plotArea  the plot area.
+     * @param areas  an array that receives the area for each subplot.
+     *
+     * @return The space required for the axes.
+     */
+    private AxisSpace calculateAxisSpace(Graphics2D g2, Rectangle2D plotArea,
+            Rectangle2D[] areas) {
 
         AxisSpace space = new AxisSpace();
         PlotOrientation orientation = getOrientation();
@@ -282,7 +303,6 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         }
         // calculate plotAreas of all sub-plots, maximum vertical/horizontal
         // axis width/height
-        this.subplotArea = new Rectangle2D[n];
         double x = adjustedPlotArea.getX();
         double y = adjustedPlotArea.getY();
         double usableSize = 0.0;
@@ -299,19 +319,19 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
             // calculate sub-plot area
             if (orientation == PlotOrientation.VERTICAL) {
                 double w = usableSize * plot.getWeight() / totalWeight;
-                this.subplotArea[i] = new Rectangle2D.Double(x, y, w,
+                areas[i] = new Rectangle2D.Double(x, y, w,
                         adjustedPlotArea.getHeight());
                 x = x + w + this.gap;
             }
             else if (orientation == PlotOrientation.HORIZONTAL) {
                 double h = usableSize * plot.getWeight() / totalWeight;
-                this.subplotArea[i] = new Rectangle2D.Double(x, y,
+                areas[i] = new Rectangle2D.Double(x, y,
                         adjustedPlotArea.getWidth(), h);
                 y = y + h + this.gap;
             }
 
-            AxisSpace subSpace = plot.calculateDomainAxisSpace(g2,
-                    this.subplotArea[i], null);
+            AxisSpace subSpace = plot.calculateDomainAxisSpace(g2, areas[i],
+                    null);
             space.ensureAtLeast(subSpace);
 
         }
@@ -386,6 +406,83 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
 
     }
 
+    /**
+     * Calculates the layout of the plot and returns the area of a subplot,
+     * if the subplot can be redrawn without changing the layout recorded
+     * in {@code info}.  This is the case when the space required by the
+     * range axis and the domain axes, and the weights of the subplots, are
+     * unchanged.  This method does not change the state of the plot or its
+     * subplots.
+     *
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param subplot  the subplot ({@code null} not permitted).
+     * @param info  the rendering info for the last drawing of the plot
+     *     ({@code null} not permitted).
+     *
+     * @return The area occupied by the subplot (possibly {@code null}).
+     */
+    @Override
+    public Rectangle2D calculateRedrawArea(Graphics2D g2, Plot subplot,
+            PlotRenderingInfo info) {
+        Args.nullNotPermitted(g2, "g2");
+        Args.nullNotPermitted(subplot, "subplot");
+        Args.nullNotPermitted(info, "info");
+        int index = this.subplots.indexOf(subplot);
+        if (index < 0 || info.getPlotArea() == null
+                || info.getDataArea() == null
+                || info.getSubplotCount() != this.subplots.size()) {
+            return null;
+        }
+        // the recorded plot area has already been trimmed by the insets
+        Rectangle2D area = (Rectangle2D) info.getPlotArea().clone();
+        Rectangle2D[] areas = new Rectangle2D[this.subplots.size()];
+        AxisSpace space = calculateAxisSpace(g2, area, areas);
+        if (!space.shrink(area, null).equals(info.getDataArea())) {
+            return null;
+        }
+        for (int i = 0; i < this.subplots.size(); i++) {
+            CategoryPlot plot = (CategoryPlot) this.subplots.get(i);
+            Rectangle2D plotArea = (Rectangle2D) areas[i].clone();
+            plot.getInsets().trim(plotArea);
+            if (!plotArea.equals(info.getSubplotInfo(i).getPlotArea())) {
+                return null;
+            }
+        }
+        return areas[index];
+    }
+
+    /**
+     * Redraws a subplot in the area returned by
+     * {@link #calculateRedrawArea(Graphics2D, Plot, PlotRenderingInfo)}.
+     * The shared range axis is drawn again (without entities) because the
+     * subplot needs its state for the gridlines.
+     *
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param subplot  the subplot ({@code null} not permitted).
+     * @param info  the rendering info for the last drawing of the plot
+     *     ({@code null} not permitted).
+     */
+    @Override
+    public void redrawSubplot(Graphics2D g2, Plot subplot,
+            PlotRenderingInfo info) {
+        Args.nullNotPermitted(g2, "g2");
+        Args.nullNotPermitted(info, "info");
+        int index = this.subplots.indexOf(subplot);
+        if (index < 0) {
+            throw new IllegalArgumentException("Not a subplot of this plot.");
+        }
+        ValueAxis axis = getRangeAxis();
+        RectangleEdge rangeEdge = getRangeAxisEdge();
+        Rectangle2D dataArea = info.getDataArea();
+        double cursor = RectangleEdge.coordinate(dataArea, rangeEdge);
+        AxisState state = axis.draw(g2, cursor, info.getPlotArea(), dataArea,
+                rangeEdge, null);
+        PlotState parentState = new PlotState();
+        parentState.getSharedAxisStates().put(axis, state);
+        subplot.draw(g2, this.subplotArea[index], null, parentState,
+                info.getSubplotInfo(index));
+    }
+
     /**
      * Sets the orientation for the plot (and all the subplots).
      *
@@ -501,6 +598,51 @@ public class CombinedRangeCategoryPlot extends CategoryPlot
         }
     }
 
+    /**
+     * Receives notification of a change to the plot's dataset.
+     * <P>
+     * The range axes are updated if necessary.  If the dataset belongs to a
+     * single subplot and the range of the shared range axis is unchanged,
+     * the plot change event that is sent to the listeners names that
+     * subplot (see {@link PlotChangeEvent#getSubplot()}), since no other
+     * part of the plot needs to be redrawn.
+     *
+     * @param event  information about the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        if (deferDatasetChange(event)) {
+            return;
+        }
+        ValueAxis rangeAxis = getRangeAxis();
+        Range range = rangeAxis != null ? rangeAxis.getRange() : null;
+        configureRangeAxes();
+        CategoryPlot changed = null;
+        boolean shared = false;
+        if (this.subplots != null && event.getDataset() instanceof
+                CategoryDataset) {
+            CategoryDataset dataset = (CategoryDataset) event.getDataset();
+            for (Object subplot : this.subplots) {
+                CategoryPlot plot = (CategoryPlot) subplot;
+                if (plot.indexOf(dataset) >= 0) {
+                    shared = changed != null;
+                    changed = plot;
+                }
+            }
+        }
+        if (getParent() != null) {
+            getParent().datasetChanged(event);
+        } else {
+            PlotChangeEvent e = new PlotChangeEvent(this);
+            e.setType(ChartChangeEventType.DATASET_UPDATED);
+            if (changed != null && !shared && rangeAxis != null
+                    && rangeAxis.getRange().equals(range)) {
+                e.setSubplot(changed);
+            }
+            notifyListeners(e);
+        }
+    }
+
     /**
      * Receives a {@link PlotChangeEvent} and responds by notifying all
      * listeners.
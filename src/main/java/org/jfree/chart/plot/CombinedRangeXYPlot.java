@@ -691,6 +691,23 @@ public class CombinedRangeXYPlot extends XYPlot
         }
     }
 
+    /**
+     * Returns {@code null}, because the crosshairs of a combined plot are
+     * managed by the subplots.
+     *
+     * @param anchor  the anchor point ({@code null} not permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     *
+     * @return {@code null}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public CrosshairState findCrosshairPoint(Point2D anchor,
+            Rectangle2D dataArea) {
+        return null;
+    }
+
     /**
      * Handles a 'click' on the plot by updating the anchor values...
      *
@@ -154,6 +154,8 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.swing.event.EventListenerList;
 
@@ -311,6 +313,19 @@ public abstract class Plot implements AxisChangeListener,
      */
     private boolean notify;
 
+    /**
+     * The number of calls to {@link #beginUpdate()} that have not yet been
+     * matched by a call to {@link #endUpdate()}.
+     */
+    private transient int updateCount;
+
+    /**
+     * The merged dataset change events for each plot (this plot or a
+     * subplot) that has deferred a dataset change while an update is in
+     * progress, in the order that the plots were first changed.
+     */
+    private transient Map<Plot, DatasetChangeEvent> deferredDatasetChanges;
+
     /**
      * Creates a new plot.
      */
@@ -984,6 +999,105 @@ public abstract class Plot implements AxisChangeListener,
         }
     }
 
+    /**
+     * Starts a batch of changes to the datasets for this plot (and any
+     * subplots).  Until the matching call to {@link #endUpdate()}, dataset
+     * change events are recorded rather than processed, then each plot that
+     * received dataset changes processes them once (so, for example, the
+     * axis ranges are recalculated once rather than for every data item
+     * added).  Calls can be nested, and each call must be matched by a call
+     * to {@link #endUpdate()}.
+     * <P>
+     * In most cases it is simpler to use {@link JFreeChart#beginUpdate()},
+     * which also coalesces the chart change events.
+     *
+     * @see #endUpdate()
+     * @see #isUpdating()
+     *
+     * @since 1.6.0
+     */
+    public void beginUpdate() {
+        this.updateCount++;
+    }
+
+    /**
+     * Ends a batch of changes started with {@link #beginUpdate()}.  When the
+     * outermost batch ends, the deferred dataset changes are processed.
+     *
+     * @throws IllegalStateException if there is no matching call to
+     *     {@link #beginUpdate()}.
+     *
+     * @since 1.6.0
+     */
+    public void endUpdate() {
+        if (this.updateCount == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        this.updateCount--;
+        if (this.updateCount == 0 && this.deferredDatasetChanges != null) {
+            Map<Plot, DatasetChangeEvent> changes
+                    = this.deferredDatasetChanges;
+            this.deferredDatasetChanges = null;
+            for (Map.Entry<Plot, DatasetChangeEvent> entry
+                    : changes.entrySet()) {
+                entry.getKey().datasetChanged(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if a batch of changes (started with
+     * {@link #beginUpdate()}) is in progress for this plot or one of its
+     * parent plots.
+     *
+     * @return A boolean.
+     *
+     * @since 1.6.0
+     */
+    public boolean isUpdating() {
+        return this.updateCount > 0
+                || (this.parent != null && this.parent.isUpdating());
+    }
+
+    /**
+     * Defers a dataset change event if a batch of changes is in progress
+     * for this plot or one of its parent plots.  Subclasses that override
+     * {@link #datasetChanged(DatasetChangeEvent)} should call this method
+     * first, and return without further processing if it returns
+     * {@code true}.  The events for each plot are merged (see
+     * {@link DatasetChangeEvent#merge(DatasetChangeEvent)}), so that a batch
+     * that only appends items to one dataset still describes the appended
+     * items, and the merged event is passed to
+     * {@link #datasetChanged(DatasetChangeEvent)} when the batch ends.
+     *
+     * @param event  the event ({@code null} not permitted).
+     *
+     * @return A boolean that indicates whether or not the event was deferred.
+     *
+     * @since 1.6.0
+     */
+    protected boolean deferDatasetChange(DatasetChangeEvent event) {
+        // the changes are recorded by the outermost plot with an update in
+        // progress, since that is the last update to end
+        Plot owner = null;
+        for (Plot p = this; p != null; p = p.parent) {
+            if (p.updateCount > 0) {
+                owner = p;
+            }
+        }
+        if (owner == null) {
+            return false;
+        }
+        if (owner.deferredDatasetChanges == null) {
+            owner.deferredDatasetChanges
+                    = new LinkedHashMap<Plot, DatasetChangeEvent>();
+        }
+        DatasetChangeEvent previous = owner.deferredDatasetChanges.get(this);
+        owner.deferredDatasetChanges.put(this,
+                previous == null ? event : previous.merge(event));
+        return true;
+    }
+
     /**
      * Registers an object for notification of changes to the plot.
      *
@@ -1282,6 +1396,9 @@ public abstract class Plot implements AxisChangeListener,
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
+        if (deferDatasetChange(event)) {
+            return;
+        }
         PlotChangeEvent newEvent = new PlotChangeEvent(this);
         newEvent.setType(ChartChangeEventType.DATASET_UPDATED);
         notifyListeners(newEvent);
@@ -1437,6 +1554,8 @@ public abstract class Plot implements AxisChangeListener,
         clone.drawingSupplier
             = (DrawingSupplier) ObjectUtils.clone(this.drawingSupplier);
         clone.listenerList = new EventListenerList();
+        clone.updateCount = 0;
+        clone.deferredDatasetChanges = null;
         return clone;
 
     }
@@ -40,6 +40,7 @@
 
 package org.jfree.chart.plot;
 
+import java.awt.geom.Rectangle2D;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -51,6 +52,12 @@ public class PlotState {
     /** The shared axis states. */
     private Map sharedAxisStates;
 
+    /**
+     * The region being drawn, which limits the items that are rendered
+     * ({@code null} for a full drawing).
+     */
+    private Rectangle2D renderRegion;
+
     /**
      * Creates a new state object.
      */
@@ -67,4 +74,29 @@ public class PlotState {
         return this.sharedAxisStates;
     }
 
+    /**
+     * Returns the region being drawn (see
+     * {@link XYPlot#drawRegion(java.awt.Graphics2D, Rectangle2D, Rectangle2D,
+     * PlotState)}).
+     *
+     * @return The region in Java2D space ({@code null} for a full drawing).
+     *
+     * @since 1.6.0
+     */
+    public Rectangle2D getRenderRegion() {
+        return this.renderRegion;
+    }
+
+    /**
+     * Sets the region being drawn.  Plots that support it render only the
+     * items that can be visible within the region.
+     *
+     * @param region  the region in Java2D space ({@code null} permitted).
+     *
+     * @since 1.6.0
+     */
+    public void setRenderRegion(Rectangle2D region) {
+        this.renderRegion = region;
+    }
+
 }
@@ -1730,6 +1730,9 @@ public class PolarPlot extends Plot implements ValueAxisPlot, Zoomable,
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
+        if (deferDatasetChange(event)) {
+            return;
+        }
         for (int i = 0; i < this.axes.size(); i++) {
             final ValueAxis axis = (ValueAxis) this.axes.get(i);
             if (axis != null) {
@@ -0,0 +1,83 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * SubplotRedrawable.java
+ * ----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * A plot with subplots that can redraw one of its subplots on its own,
+ * using the layout from the last time the plot was drawn.  The
+ * {@link org.jfree.chart.JFreeChart} class uses this to redraw only the
+ * subplot that has changed.
+ *
+ * @since 1.6.0
+ */
+public interface SubplotRedrawable {
+
+    /**
+     * Calculates the layout of the plot and returns the area of a subplot,
+     * if the subplot can be redrawn without changing the layout recorded
+     * in {@code info} when the plot was last drawn.  Otherwise, the whole
+     * plot must be redrawn and this method returns {@code null}.
+     *
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param subplot  the subplot ({@code null} not permitted).
+     * @param info  the rendering info for the last drawing of the plot
+     *     ({@code null} not permitted).
+     *
+     * @return The area occupied by the subplot (possibly {@code null}).
+     */
+    Rectangle2D calculateRedrawArea(Graphics2D g2, Plot subplot,
+            PlotRenderingInfo info);
+
+    /**
+     * Redraws a subplot in the area returned by
+     * {@link #calculateRedrawArea(Graphics2D, Plot, PlotRenderingInfo)},
+     * which must be called first.  The caller is responsible for clearing
+     * the area and clipping the drawing to it.  The rendering info for the
+     * subplot is updated and its entities are added to the end of the
+     * owner's entity collection.
+     *
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param subplot  the subplot ({@code null} not permitted).
+     * @param info  the rendering info for the last drawing of the plot
+     *     ({@code null} not permitted).
+     */
+    void redrawSubplot(Graphics2D g2, Plot subplot, PlotRenderingInfo info);
+
+}
@@ -1273,6 +1273,9 @@ public class ThermometerPlot extends Plot implements ValueAxisPlot,
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
+        if (deferDatasetChange(event)) {
+            return;
+        }
         if (this.dataset != null) {
             Number vn = this.dataset.getValue();
             if (vn != null) {
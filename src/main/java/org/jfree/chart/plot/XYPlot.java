@@ -239,12 +239,14 @@ import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Composite;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -258,6 +260,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -265,6 +268,10 @@ import java.util.Map.Entry;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 
 import org.jfree.chart.LegendItem;
@@ -277,18 +284,29 @@ import org.jfree.chart.axis.AxisCollection;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.AxisState;
+import org.jfree.chart.axis.CyclicNumberAxis;
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.LogarithmicAxis;
+import org.jfree.chart.axis.ModuloAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.Timeline;
 import org.jfree.chart.axis.TickType;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.event.AnnotationChangeEvent;
 import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
+import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.renderer.RendererUtils;
 import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.jfree.chart.renderer.xy.DecimatedXYDataset;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.ui.Layer;
 import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.chart.ui.RectangleInsets;
@@ -304,6 +322,7 @@ import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtils;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYNearestItemIndex;
 
 /**
  * A general class for plotting data in the form of (x, y) pairs.  This plot can
@@ -526,6 +545,54 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     private boolean rangeCrosshairLockedOnData = true;
 
+    /**
+     * The nearest item index for each dataset, created on first use by
+     * {@link #findCrosshairPoint(Point2D, Rectangle2D)} and discarded when
+     * any dataset changes ({@code null} until needed).
+     */
+    private transient Map<Integer, XYNearestItemIndex> nearestItemIndices;
+
+    /**
+     * The {@link XYItemRendererState#getProcessVisibleItemsOnly()} flag for
+     * each renderer, recorded when the plot is drawn and used by
+     * {@link #findCrosshairPoint(Point2D, Rectangle2D)} ({@code null} until
+     * needed).  The plot can be drawn on several threads at once, so this is
+     * a synchronized map (with the renderers compared by reference, since
+     * their hash codes change as their settings change).
+     */
+    private transient volatile Map<XYItemRenderer, Boolean> visibleItemsOnly;
+
+    /**
+     * The dataset part of the data range last calculated for each axis by
+     * {@link #getDataRange(ValueAxis)} since the datasets or renderers last
+     * changed ({@code null} until needed).
+     */
+    private transient Map<ValueAxis, DatasetRange> datasetRanges;
+
+    /**
+     * The dataset change being processed by
+     * {@link #datasetChanged(DatasetChangeEvent)} if it only appended items
+     * ({@code null} otherwise).
+     */
+    private transient DatasetChangeEvent appendEvent;
+
+    /**
+     * The dataset ranges from before the change in {@link #appendEvent},
+     * which the appended items are added to.
+     */
+    private transient Map<ValueAxis, DatasetRange> appendBaseRanges;
+
+    /** The timeline of a {@link DateAxis} that maps values linearly. */
+    private static final Timeline DEFAULT_TIMELINE
+            = new DateAxis().getTimeline();
+
+    /**
+     * The distance (in Java2D units) beyond a render region within which
+     * items are still rendered, to allow for the size of the item shapes
+     * and lines.
+     */
+    private static final double RENDER_REGION_MARGIN = 20.0;
+
     /** A map of lists of foreground markers (optional) for the domain axes. */
     private Map foregroundDomainMarkers;
 
@@ -606,6 +673,26 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     private ShadowGenerator shadowGenerator;
 
+    /**
+     * A flag that controls whether or not each series is reduced to the
+     * first, last, minimum and maximum items in each pixel column before the
+     * items are passed to the renderer.
+     *
+     * @since 1.6.0
+     */
+    private boolean decimationEnabled;
+
+    /**
+     * A flag that controls whether or not the datasets are rendered in
+     * parallel (each to its own image layer).
+     *
+     * @since 1.6.0
+     */
+    private boolean parallelRenderingEnabled;
+
+    /** The pool used for parallel rendering (created when first needed). */
+    private static ForkJoinPool renderingPool;
+
     /**
      * Creates a new {@code XYPlot} instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -717,6 +804,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         this.rangeCrosshairStroke = DEFAULT_CROSSHAIR_STROKE;
         this.rangeCrosshairPaint = DEFAULT_CROSSHAIR_PAINT;
         this.shadowGenerator = null;
+        this.decimationEnabled = false;
+        this.parallelRenderingEnabled = false;
     }
 
     /**
@@ -1407,6 +1496,18 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         return this.datasets.size();
     }
 
+    /**
+     * Returns an unmodifiable view of the datasets for the plot, keyed by
+     * dataset index.
+     *
+     * @return The datasets (never {@code null}).
+     *
+     * @since 1.6.0
+     */
+    public Map<Integer, XYDataset> getDatasets() {
+        return Collections.unmodifiableMap(this.datasets);
+    }
+
     /**
      * Returns the index of the specified dataset, or {@code -1} if the
      * dataset does not belong to the plot.
@@ -1416,6 +1517,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      * @return The index or -1.
      */
     public int indexOf(XYDataset dataset) {
+        if (dataset instanceof DecimatedXYDataset) {
+            dataset = ((DecimatedXYDataset) dataset).getSource();
+        }
         for (Map.Entry<Integer, XYDataset> entry: this.datasets.entrySet()) {
             if (dataset == entry.getValue()) {
                 return entry.getKey();
@@ -2976,6 +3080,88 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether or not the items in each series
+     * are decimated before they are passed to the renderer.  The default
+     * value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setDecimationEnabled(boolean)
+     *
+     * @since 1.6.0
+     */
+    public boolean isDecimationEnabled() {
+        return this.decimationEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the items in each series
+     * are decimated before they are passed to the renderer, and sends a
+     * {@link PlotChangeEvent} to all registered listeners.  When this flag
+     * is set, a series that has many more items than there are pixels along
+     * the domain axis is reduced to the first, last, minimum and maximum
+     * items in each pixel column (see {@link DecimatedXYDataset}).  For line,
+     * step and area renderers the output looks the same but the rendering
+     * time no longer depends on the number of items.  Decimation is only
+     * applied to datasets where the x-values are in ascending order, and
+     * only for renderers that draw no shapes or item labels (see
+     * {@link DecimatedXYDataset#isDecimationSupported(XYItemRenderer,
+     * XYDataset)}), so other renderers still draw every item.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @see #isDecimationEnabled()
+     *
+     * @since 1.6.0
+     */
+    public void setDecimationEnabled(boolean enabled) {
+        this.decimationEnabled = enabled;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether or not the datasets are
+     * rendered in parallel.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRenderingEnabled(boolean)
+     *
+     * @since 1.6.0
+     */
+    public boolean isParallelRenderingEnabled() {
+        return this.parallelRenderingEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the datasets are rendered
+     * in parallel, and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  When this flag is set, each dataset is rendered on a
+     * {@link ForkJoinPool} thread into its own transparent image layer, and
+     * the layers are then drawn in the dataset rendering order.  The
+     * entities and crosshair values produced by each dataset are merged in
+     * the same order, so the results match sequential rendering.
+     * <P>
+     * Parallel rendering is only used when there are at least two datasets
+     * to render, each dataset has a different renderer instance, and the
+     * target {@code Graphics2D} has no scaling, rotation or shear
+     * transform.  Otherwise the datasets are rendered sequentially, as
+     * usual.  Since the layers are bitmaps, this mode is intended for
+     * raster output (on screen or to an image), not for vector output such
+     * as SVG or PDF.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @see #isParallelRenderingEnabled()
+     *
+     * @since 1.6.0
+     */
+    public void setParallelRenderingEnabled(boolean enabled) {
+        this.parallelRenderingEnabled = enabled;
+        fireChangeEvent();
+    }
+
     /**
      * Calculates the space required for all the axes in the plot.
      *
@@ -3071,19 +3257,38 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             }
         }
         else {
-            // reserve space for the range axes...
-            for (ValueAxis axis: this.rangeAxes.values()) {
-                if (axis != null) {
-                    RectangleEdge edge = getRangeAxisEdge(
-                            findRangeAxisIndex(axis));
-                    space = axis.reserveSpace(g2, this, plotArea, edge, space);
-                }
-            }
+            space = reserveRangeAxisSpace(g2, plotArea, space);
         }
         return space;
 
     }
 
+    /**
+     * Calculates the space required for the range axes, ignoring the fixed
+     * range axis space (if any).
+     *
+     * @param g2  the graphics device.
+     * @param plotArea  the plot area.
+     * @param space  a carrier for the result ({@code null} permitted).
+     *
+     * @return The required space.
+     */
+    AxisSpace reserveRangeAxisSpace(Graphics2D g2, Rectangle2D plotArea,
+            AxisSpace space) {
+        if (space == null) {
+            space = new AxisSpace();
+        }
+        // reserve space for the range axes...
+        for (ValueAxis axis: this.rangeAxes.values()) {
+            if (axis != null) {
+                RectangleEdge edge = getRangeAxisEdge(
+                        findRangeAxisIndex(axis));
+                space = axis.reserveSpace(g2, this, plotArea, edge, space);
+            }
+        }
+        return space;
+    }
+
     /**
      * Trims a rectangle to integer coordinates.
      *
@@ -3099,6 +3304,50 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         return new Rectangle(x0, y0, (x1 - x0), (y1 - y0));
     }
 
+    /**
+     * Draws the part of the plot that lies within a region of its data area.
+     * This gives the same result as
+     * {@link #draw(Graphics2D, Rectangle2D, Point2D, PlotState,
+     * PlotRenderingInfo)} with the drawing clipped to the region, but only
+     * the items that can be visible within the region are rendered (unless
+     * the renderer needs to process all the items), so it is much faster
+     * when the region is a narrow strip of the data area.  The region is
+     * passed to {@code draw()} in the plot state (see
+     * {@link PlotState#getRenderRegion()}), so the plot can be drawn on other
+     * threads at the same time.  No rendering info is collected.
+     *
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param area  the plot area (in Java2D space, {@code null} not
+     *     permitted).
+     * @param region  the region to draw (in Java2D space, {@code null} not
+     *     permitted).
+     * @param parentState  the state from the parent plot, if there is one
+     *     ({@code null} permitted).
+     *
+     * @since 1.6.0
+     */
+    public void drawRegion(Graphics2D g2, Rectangle2D area, Rectangle2D region,
+            PlotState parentState) {
+        Args.nullNotPermitted(g2, "g2");
+        Args.nullNotPermitted(area, "area");
+        Args.nullNotPermitted(region, "region");
+        // the region is passed down in the state (rather than held by the
+        // plot) as the plot may be drawn on other threads at the same time
+        PlotState state = new PlotState();
+        if (parentState != null) {
+            state.getSharedAxisStates().putAll(
+                    parentState.getSharedAxisStates());
+        }
+        state.setRenderRegion(region);
+        Shape savedClip = g2.getClip();
+        g2.clip(region);
+        try {
+            draw(g2, area, null, state, null);
+        } finally {
+            g2.setClip(savedClip);
+        }
+    }
+
     /**
      * Draws the plot within the specified area on a graphics device.
      *
@@ -3269,10 +3518,21 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
 
         // render data items...
-        for (int datasetIndex : datasetIndices) {
-            XYDataset dataset = this.getDataset(datasetIndex);
-            foundData = render(g2, dataArea, datasetIndex, info, 
-                    crosshairState) || foundData;
+        Rectangle2D region = null;
+        if (parentState != null) {
+            region = parentState.getRenderRegion();
+        }
+        if (this.parallelRenderingEnabled
+                && isParallelRenderingPossible(g2, datasetIndices)) {
+            foundData = renderInParallel(g2, dataArea, datasetIndices, info,
+                    crosshairState, region) || foundData;
+        }
+        else {
+            Thread thread = Thread.currentThread();
+            for (int datasetIndex : datasetIndices) {
+                foundData = render(g2, dataArea, datasetIndex, info,
+                        crosshairState, thread, region) || foundData;
+            }
         }
 
         // draw foreground annotations
@@ -3682,7 +3942,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      * current renderer.
      * <P>
      * The {@code info} and {@code crosshairState} arguments may be
-     * {@code null}.
+     * {@code null}.  If the current thread is interrupted, the rendering
+     * stops before the next item (the caller is abandoning the drawing).
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3695,6 +3956,30 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     public boolean render(Graphics2D g2, Rectangle2D dataArea, int index,
             PlotRenderingInfo info, CrosshairState crosshairState) {
+        return render(g2, dataArea, index, info, crosshairState,
+                Thread.currentThread(), null);
+    }
+
+    /**
+     * Draws a representation of the data within the dataArea region, stopping
+     * early if the specified thread is interrupted.  When a region is
+     * specified, only the items that can be visible within it are rendered.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param index  the dataset index.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        ({@code null} permitted).
+     * @param thread  the thread that is drawing the chart.
+     * @param region  the region being drawn ({@code null} for a full
+     *     drawing).
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean render(Graphics2D g2, Rectangle2D dataArea, int index,
+            PlotRenderingInfo info, CrosshairState crosshairState,
+            Thread thread, Rectangle2D region) {
 
         boolean foundData = false;
         XYDataset dataset = getDataset(index);
@@ -3715,7 +4000,21 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
+            Map<XYItemRenderer, Boolean> flags = this.visibleItemsOnly;
+            if (flags == null) {
+                flags = Collections.synchronizedMap(
+                        new IdentityHashMap<XYItemRenderer, Boolean>());
+                this.visibleItemsOnly = flags;
+            }
+            flags.put(renderer, state.getProcessVisibleItemsOnly());
             int passCount = renderer.getPassCount();
+            if (this.decimationEnabled
+                    && DecimatedXYDataset.isDecimationSupported(renderer,
+                    dataset)) {
+                dataset = decimate(dataset, state, xAxis, dataArea);
+            }
+            Range liveRange = calculateLiveDomainRange(xAxis, dataArea,
+                    region);
 
             SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
             if (seriesOrder == SeriesRenderingOrder.REVERSE) {
@@ -3729,15 +4028,21 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                             continue;
                         }
                         if (state.getProcessVisibleItemsOnly()) {
+                            if (liveRange == null) {
+                                continue;
+                            }
                             int[] itemBounds = RendererUtils.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
-                                    xAxis.getUpperBound());
+                                    dataset, series, liveRange.getLowerBound(),
+                                    liveRange.getUpperBound());
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
                         for (int item = firstItem; item <= lastItem; item++) {
+                            if (thread.isInterrupted()) {
+                                return foundData;
+                            }
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
@@ -3755,15 +4060,21 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                         int firstItem = 0;
                         int lastItem = dataset.getItemCount(series) - 1;
                         if (state.getProcessVisibleItemsOnly()) {
+                            if (liveRange == null) {
+                                continue;
+                            }
                             int[] itemBounds = RendererUtils.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
-                                    xAxis.getUpperBound());
+                                    dataset, series, liveRange.getLowerBound(),
+                                    liveRange.getUpperBound());
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
                         for (int item = firstItem; item <= lastItem; item++) {
+                            if (thread.isInterrupted()) {
+                                return foundData;
+                            }
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
@@ -3777,6 +4088,288 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         return foundData;
     }
 
+    /**
+     * Returns the range of x-values for the items to render: the range of
+     * the domain axis or, while a region is being drawn, the part of that
+     * range that corresponds to the region (plus a margin).  There are no
+     * items to render for a region outside the data area.
+     *
+     * @param xAxis  the domain axis.
+     * @param dataArea  the data area.
+     * @param region  the region being drawn ({@code null} for a full
+     *     drawing).
+     *
+     * @return The range, or {@code null} if no items need to be rendered.
+     */
+    private Range calculateLiveDomainRange(ValueAxis xAxis,
+            Rectangle2D dataArea, Rectangle2D region) {
+        Range range = xAxis.getRange();
+        if (region == null) {
+            return range;
+        }
+        // the items are clipped to the data area, so a region beside it
+        // (the tick labels of an axis, for example) has no items to render
+        if (!region.intersects(dataArea)) {
+            return null;
+        }
+        RectangleEdge edge = getDomainAxisEdge(getDomainAxisIndex(xAxis));
+        double v1, v2;
+        if (this.orientation == PlotOrientation.VERTICAL) {
+            v1 = xAxis.java2DToValue(region.getMinX()
+                    - RENDER_REGION_MARGIN, dataArea, edge);
+            v2 = xAxis.java2DToValue(region.getMaxX()
+                    + RENDER_REGION_MARGIN, dataArea, edge);
+        } else {
+            v1 = xAxis.java2DToValue(region.getMinY()
+                    - RENDER_REGION_MARGIN, dataArea, edge);
+            v2 = xAxis.java2DToValue(region.getMaxY()
+                    + RENDER_REGION_MARGIN, dataArea, edge);
+        }
+        double lower = Math.max(range.getLowerBound(), Math.min(v1, v2));
+        double upper = Math.min(range.getUpperBound(), Math.max(v1, v2));
+        if (!(lower < upper)) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns {@code true} if the specified datasets can be rendered in
+     * parallel to the target, and {@code false} otherwise.
+     *
+     * @param g2  the graphics target.
+     * @param datasetIndices  the dataset indices.
+     *
+     * @return A boolean.
+     */
+    private boolean isParallelRenderingPossible(Graphics2D g2,
+            List<Integer> datasetIndices) {
+        int type = g2.getTransform().getType();
+        if (type != AffineTransform.TYPE_IDENTITY
+                && type != AffineTransform.TYPE_TRANSLATION) {
+            return false;
+        }
+        // a renderer is not safe to use from two threads at once
+        Set<XYItemRenderer> renderers = new HashSet<XYItemRenderer>();
+        int count = 0;
+        for (int i : datasetIndices) {
+            if (DatasetUtils.isEmptyOrNull(getDataset(i))) {
+                continue;
+            }
+            XYItemRenderer renderer = getRenderer(i);
+            if (renderer == null) {
+                renderer = getRenderer();
+            }
+            if (renderer == null) {
+                continue;
+            }
+            if (!renderers.add(renderer)) {
+                return false;
+            }
+            count++;
+        }
+        return count > 1;
+    }
+
+    /**
+     * Renders the specified datasets in parallel, each to its own image
+     * layer, then draws the layers to the target in order and merges the
+     * entities and crosshair values from each layer.
+     *
+     * @param g2  the graphics target.
+     * @param dataArea  the data area.
+     * @param datasetIndices  the dataset indices (in rendering order).
+     * @param info  the plot rendering info ({@code null} permitted).
+     * @param crosshairState  the crosshair state.
+     * @param region  the region being drawn ({@code null} for a full
+     *     drawing).
+     *
+     * @return A flag that indicates whether any data was found.
+     */
+    private boolean renderInParallel(final Graphics2D g2,
+            final Rectangle2D dataArea, List<Integer> datasetIndices,
+            PlotRenderingInfo info, CrosshairState crosshairState,
+            final Rectangle2D region) {
+
+        // assign series paints, shapes and strokes from the drawing supplier
+        // in dataset order, as sequential rendering would
+        for (int i : datasetIndices) {
+            XYDataset dataset = getDataset(i);
+            XYItemRenderer r = getRenderer(i);
+            if (r == null) {
+                r = getRenderer();
+            }
+            if (dataset != null && r instanceof AbstractRenderer) {
+                AbstractRenderer renderer = (AbstractRenderer) r;
+                for (int series = 0; series < dataset.getSeriesCount();
+                        series++) {
+                    renderer.lookupSeriesPaint(series);
+                    renderer.lookupSeriesFillPaint(series);
+                    renderer.lookupSeriesOutlinePaint(series);
+                    renderer.lookupSeriesStroke(series);
+                    renderer.lookupSeriesOutlineStroke(series);
+                    renderer.lookupSeriesShape(series);
+                }
+            }
+        }
+
+        EntityCollection entities = null;
+        if (info != null && info.getOwner() != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+        // the layers are aligned with the device pixels of the target, so
+        // that they are copied to it without resampling or truncation
+        AffineTransform transform = g2.getTransform();
+        final double tx = transform.getTranslateX();
+        final double ty = transform.getTranslateY();
+        final double ox = Math.floor(dataArea.getX() + tx);
+        final double oy = Math.floor(dataArea.getY() + ty);
+        final int w = Math.max(1,
+                (int) (Math.ceil(dataArea.getMaxX() + tx) - ox));
+        final int h = Math.max(1,
+                (int) (Math.ceil(dataArea.getMaxY() + ty) - oy));
+        final RenderingHints hints = g2.getRenderingHints();
+        final Font font = g2.getFont();
+        final Composite composite = g2.getComposite();
+        // the layers check the calling thread for cancellation
+        final Thread caller = Thread.currentThread();
+        int n = datasetIndices.size();
+        final BufferedImage[] layers = new BufferedImage[n];
+        final PlotRenderingInfo[] layerInfo = new PlotRenderingInfo[n];
+        final CrosshairState[] layerCrosshairs = new CrosshairState[n];
+        List<ForkJoinTask<Boolean>> tasks
+                = new ArrayList<ForkJoinTask<Boolean>>(n);
+        for (int k = 0; k < n; k++) {
+            final int index = k;
+            final int datasetIndex = datasetIndices.get(k);
+            if (info != null) {
+                ChartRenderingInfo owner = new ChartRenderingInfo(
+                        entities != null ? new StandardEntityCollection()
+                        : null);
+                layerInfo[k] = new PlotRenderingInfo(owner);
+                layerInfo[k].setPlotArea(info.getPlotArea());
+                layerInfo[k].setDataArea(info.getDataArea());
+            }
+            layerCrosshairs[k] = copyOf(crosshairState);
+            tasks.add(getRenderingPool().submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    BufferedImage image = new BufferedImage(w, h,
+                            BufferedImage.TYPE_INT_ARGB);
+                    Graphics2D layer = image.createGraphics();
+                    try {
+                        layer.setRenderingHints(hints);
+                        layer.setFont(font);
+                        layer.setComposite(composite);
+                        layer.translate(tx - ox, ty - oy);
+                        layer.clip(dataArea);
+                        boolean found = render(layer, dataArea, datasetIndex,
+                                layerInfo[index], layerCrosshairs[index],
+                                caller, region);
+                        layers[index] = image;
+                        return found;
+                    }
+                    finally {
+                        layer.dispose();
+                    }
+                }
+            }));
+        }
+
+        boolean foundData = false;
+        for (int k = 0; k < n; k++) {
+            foundData = tasks.get(k).join() || foundData;
+        }
+        g2.setComposite(AlphaComposite.SrcOver);
+        for (int k = 0; k < n; k++) {
+            g2.drawImage(layers[k],
+                    AffineTransform.getTranslateInstance(ox - tx, oy - ty),
+                    null);
+            if (entities != null) {
+                entities.addAll(layerInfo[k].getOwner().getEntityCollection());
+            }
+            // the first of the closest points wins, as in sequential order
+            CrosshairState cs = layerCrosshairs[k];
+            if (cs.getCrosshairDistance()
+                    < crosshairState.getCrosshairDistance()) {
+                crosshairState.setCrosshairX(cs.getCrosshairX());
+                crosshairState.setCrosshairY(cs.getCrosshairY());
+                crosshairState.setDatasetIndex(cs.getDatasetIndex());
+                crosshairState.setCrosshairDistance(
+                        cs.getCrosshairDistance());
+            }
+        }
+        g2.setComposite(composite);
+        return foundData;
+    }
+
+    /**
+     * Returns a new crosshair state with the same settings as the
+     * specified state.
+     *
+     * @param state  the state to copy.
+     *
+     * @return A new crosshair state.
+     */
+    private static CrosshairState copyOf(CrosshairState state) {
+        CrosshairState result = new CrosshairState();
+        result.setAnchor(state.getAnchor());
+        result.setAnchorX(state.getAnchorX());
+        result.setAnchorY(state.getAnchorY());
+        result.setCrosshairX(state.getCrosshairX());
+        result.setCrosshairY(state.getCrosshairY());
+        result.setDatasetIndex(state.getDatasetIndex());
+        result.setCrosshairDistance(state.getCrosshairDistance());
+        return result;
+    }
+
+    /**
+     * Returns the pool used for parallel rendering, creating it if
+     * necessary.
+     *
+     * @return The pool.
+     */
+    private static synchronized ForkJoinPool getRenderingPool() {
+        if (renderingPool == null) {
+            renderingPool = new ForkJoinPool();
+        }
+        return renderingPool;
+    }
+
+    /**
+     * Returns a view of the dataset in which the items in each series that
+     * will be passed to the renderer are reduced to the first, last, minimum
+     * and maximum items in each pixel column.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param state  the renderer state.
+     * @param xAxis  the domain axis for the dataset.
+     * @param dataArea  the data area.
+     *
+     * @return The decimated dataset (or {@code dataset} if no series
+     *     needed to be decimated).
+     */
+    private XYDataset decimate(XYDataset dataset, XYItemRendererState state,
+            ValueAxis xAxis, Rectangle2D dataArea) {
+        int seriesCount = dataset.getSeriesCount();
+        int[] firstItems = new int[seriesCount];
+        int[] lastItems = new int[seriesCount];
+        for (int series = 0; series < seriesCount; series++) {
+            int firstItem = 0;
+            int lastItem = dataset.getItemCount(series) - 1;
+            if (lastItem >= 0 && state.getProcessVisibleItemsOnly()) {
+                int[] itemBounds = RendererUtils.findLiveItems(dataset,
+                        series, xAxis.getLowerBound(), xAxis.getUpperBound());
+                firstItem = Math.max(itemBounds[0] - 1, 0);
+                lastItem = Math.min(itemBounds[1] + 1, lastItem);
+            }
+            firstItems[series] = firstItem;
+            lastItems[series] = lastItem;
+        }
+        return DecimatedXYDataset.decimate(dataset, firstItems, lastItems,
+                xAxis, dataArea, getDomainAxisEdge());
+    }
+
     /**
      * Returns the domain axis for a dataset.
      *
@@ -4284,6 +4877,215 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
     }
 
+    /**
+     * Finds the crosshair point for an anchor point, giving the same result
+     * as the renderers do while the plot is drawn but without iterating over
+     * all the data items.  Instead, an {@link XYNearestItemIndex} is created
+     * for each dataset when first needed and reused until a dataset changes.
+     * This allows the crosshairs to be moved (for example, by a
+     * {@code CrosshairOverlay}) without redrawing the chart.
+     * <P>
+     * When the crosshairs are locked on the data, the visible item nearest
+     * to the anchor point in Java2D space is found (or the item nearest
+     * along the domain or range axis if only one of the crosshairs is
+     * locked on the data).  A crosshair that is not locked on the data takes
+     * its value from the anchor point.  The index can only reproduce the
+     * distances measured by the renderers if every dataset is drawn by an
+     * {@link XYLineAndShapeRenderer} against linear axes (a
+     * {@link NumberAxis} or a {@link DateAxis} with the default
+     * timeline), otherwise this method returns {@code null} and the plot must
+     * be drawn to find the crosshair point.  One difference remains: items
+     * in different series of a dataset at exactly the same distance are
+     * resolved in favour of the lower series index, whatever the series
+     * rendering order.
+     * <P>
+     * If the renderer state only processes the visible items (see
+     * {@link XYItemRendererState#getProcessVisibleItemsOnly()}), the search
+     * is limited to the items that the renderer draws: those within the
+     * range of the domain axis plus one item on each side.  The flag is
+     * recorded when the plot is drawn, so this method returns {@code null}
+     * until the plot has been drawn with the current renderers.
+     * <P>
+     * Note that the index does not see changes to a dataset that has its
+     * notification flag switched off.
+     *
+     * @param anchor  the anchor point in Java2D space ({@code null} not
+     *     permitted).
+     * @param dataArea  the data area from the last time the plot was drawn
+     *     ({@code null} not permitted).
+     *
+     * @return The crosshair state, which holds the crosshair values and the
+     *     index of the dataset (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    public CrosshairState findCrosshairPoint(Point2D anchor,
+            Rectangle2D dataArea) {
+        Args.nullNotPermitted(anchor, "anchor");
+        Args.nullNotPermitted(dataArea, "dataArea");
+        if (!dataArea.contains(anchor)) {
+            return null;
+        }
+        boolean vertical = (getOrientation() == PlotOrientation.VERTICAL);
+        double hh = vertical ? anchor.getX() : anchor.getY();
+        double vv = vertical ? anchor.getY() : anchor.getX();
+        double hLength = vertical ? dataArea.getWidth() : dataArea.getHeight();
+        double vLength = vertical ? dataArea.getHeight() : dataArea.getWidth();
+        CrosshairState result = new CrosshairState();
+        result.setCrosshairDistance(Double.POSITIVE_INFINITY);
+        result.setAnchor(anchor);
+        result.setCrosshairX(getDomainCrosshairValue());
+        result.setCrosshairY(getRangeCrosshairValue());
+        boolean domainLocked = this.domainCrosshairLockedOnData;
+        boolean rangeLocked = this.rangeCrosshairLockedOnData;
+        // visit the datasets in the same order as the renderers, so that
+        // ties are resolved in the same way
+        for (int index : getDatasetIndices(getDatasetRenderingOrder())) {
+            XYDataset dataset = getDataset(index);
+            XYItemRenderer renderer = getRendererForDataset(dataset);
+            if (renderer == null) {
+                continue;
+            }
+            ValueAxis xAxis = getDomainAxisForDataset(index);
+            ValueAxis yAxis = getRangeAxisForDataset(index);
+            if (!(renderer instanceof XYLineAndShapeRenderer)
+                    || !isLinear(xAxis) || !isLinear(yAxis)) {
+                return null;
+            }
+            if (!domainLocked && !rangeLocked) {
+                continue;
+            }
+            double x = xAxis.java2DToValue(hh, dataArea,
+                    getDomainAxisEdge(getDomainAxisIndex(xAxis)));
+            double y = yAxis.java2DToValue(vv, dataArea,
+                    getRangeAxisEdge(getRangeAxisIndex(yAxis)));
+            double xScale = domainLocked
+                    ? hLength / xAxis.getRange().getLength() : 0.0;
+            double yScale = rangeLocked
+                    ? vLength / yAxis.getRange().getLength() : 0.0;
+            boolean[] visible = new boolean[dataset.getSeriesCount()];
+            for (int s = 0; s < visible.length; s++) {
+                visible[s] = renderer.isSeriesVisible(s);
+            }
+            int[][] itemBounds = findProcessedItems(renderer, dataset,
+                    xAxis);
+            if (itemBounds == null) {
+                return null;
+            }
+            int[] item = getNearestItemIndex(index, dataset).findNearestItem(
+                    x, y, xScale, yScale, visible, itemBounds[0],
+                    itemBounds[1]);
+            if (item == null) {
+                continue;
+            }
+            double itemX = dataset.getXValue(item[0], item[1]);
+            double itemY = dataset.getYValue(item[0], item[1]);
+            double dx = (itemX - x) * xScale;
+            double dy = (itemY - y) * yScale;
+            double d = dx * dx + dy * dy;
+            if (d < result.getCrosshairDistance()) {
+                result.setCrosshairX(itemX);
+                result.setCrosshairY(itemY);
+                result.setDatasetIndex(index);
+                result.setCrosshairDistance(d);
+            }
+        }
+        int datasetIndex = result.getDatasetIndex();
+        if (!domainLocked) {
+            ValueAxis xAxis = getDomainAxisForDataset(datasetIndex);
+            result.setCrosshairX(xAxis.java2DToValue(hh, dataArea,
+                    getDomainAxisEdge(getDomainAxisIndex(xAxis))));
+        }
+        if (!rangeLocked) {
+            ValueAxis yAxis = getRangeAxisForDataset(datasetIndex);
+            result.setCrosshairY(yAxis.java2DToValue(vv, dataArea,
+                    getRangeAxisEdge(getRangeAxisIndex(yAxis))));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indices of the first and last items that a renderer
+     * processes in each series of a dataset when the plot is drawn (see
+     * {@link #render(Graphics2D, Rectangle2D, int, PlotRenderingInfo,
+     * CrosshairState)}).
+     *
+     * @param renderer  the renderer.
+     * @param dataset  the dataset.
+     * @param xAxis  the domain axis for the dataset.
+     *
+     * @return An array holding the first item indices and the last item
+     *     indices (both {@code null} if the renderer processes all the
+     *     items), or {@code null} if the renderer has not drawn the plot.
+     */
+    private int[][] findProcessedItems(XYItemRenderer renderer,
+            XYDataset dataset, ValueAxis xAxis) {
+        // the renderer state from the last drawing tells us which items are
+        // processed (initialising the renderer here would be too costly)
+        Map<XYItemRenderer, Boolean> flags = this.visibleItemsOnly;
+        Boolean flag = flags != null ? flags.get(renderer) : null;
+        if (flag == null) {
+            return null;
+        }
+        if (!flag) {
+            return new int[2][];
+        }
+        int seriesCount = dataset.getSeriesCount();
+        int[] firstItems = new int[seriesCount];
+        int[] lastItems = new int[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            lastItems[s] = dataset.getItemCount(s) - 1;
+            if (lastItems[s] >= 0) {
+                int[] itemBounds = RendererUtils.findLiveItems(dataset, s,
+                        xAxis.getLowerBound(), xAxis.getUpperBound());
+                firstItems[s] = Math.max(itemBounds[0] - 1, 0);
+                lastItems[s] = Math.min(itemBounds[1] + 1, lastItems[s]);
+            }
+        }
+        return new int[][] {firstItems, lastItems};
+    }
+
+    /**
+     * Returns the nearest item index for a dataset, creating it if
+     * necessary.
+     *
+     * @param index  the dataset index.
+     * @param dataset  the dataset.
+     *
+     * @return The index.
+     */
+    private XYNearestItemIndex getNearestItemIndex(int index,
+            XYDataset dataset) {
+        if (this.nearestItemIndices == null) {
+            this.nearestItemIndices
+                    = new HashMap<Integer, XYNearestItemIndex>();
+        }
+        XYNearestItemIndex result = this.nearestItemIndices.get(index);
+        if (result == null) {
+            result = new XYNearestItemIndex(dataset);
+            this.nearestItemIndices.put(index, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if an axis maps data values to Java2D
+     * coordinates with a linear function.
+     *
+     * @param axis  the axis ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean isLinear(ValueAxis axis) {
+        if (axis instanceof DateAxis) {
+            return ((DateAxis) axis).getTimeline().equals(DEFAULT_TIMELINE);
+        }
+        return axis instanceof NumberAxis
+                && !(axis instanceof LogarithmicAxis)
+                && !(axis instanceof CyclicNumberAxis)
+                && !(axis instanceof ModuloAxis);
+    }
+
     /**
      * A utility method that returns a list of datasets that are mapped to a
      * particular axis.
@@ -4410,7 +5212,6 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     @Override
     public Range getDataRange(ValueAxis axis) {
 
-        Range result = null;
         List<XYDataset> mappedDatasets = new ArrayList<XYDataset>();
         List<XYAnnotation> includedAnnotations = new ArrayList<XYAnnotation>();
         boolean isDomainAxis = true;
@@ -4448,11 +5249,44 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             }
         }
 
-        // iterate through the datasets that map to the axis and get the union
-        // of the ranges.
+        List<XYDataset> datasets = new ArrayList<XYDataset>();
+        List<XYItemRenderer> renderers = new ArrayList<XYItemRenderer>();
+        List<Range> xRanges = new ArrayList<Range>();
         for (XYDataset d : mappedDatasets) {
             if (d != null) {
                 XYItemRenderer r = getRendererForDataset(d);
+                datasets.add(d);
+                renderers.add(r);
+                xRanges.add(isDomainAxis ? null : findXRange(r));
+                // FIXME: the XYItemRenderer interface doesn't specify the
+                // getAnnotations() method but it should
+                if (r instanceof AbstractXYItemRenderer) {
+                    AbstractXYItemRenderer rr = (AbstractXYItemRenderer) r;
+                    Collection c = rr.getAnnotations();
+                    Iterator i = c.iterator();
+                    while (i.hasNext()) {
+                        XYAnnotation a = (XYAnnotation) i.next();
+                        if (a instanceof XYAnnotationBoundsInfo) {
+                            includedAnnotations.add(a);
+                        }
+                    }
+                }
+            }
+        }
+
+        // get the union of the ranges of the datasets that map to the axis,
+        // adding just the appended items to the previous union if we can
+        DatasetRange previous = this.appendBaseRanges != null
+                ? this.appendBaseRanges.get(axis) : null;
+        Range result;
+        if (canAppend(previous, isDomainAxis, datasets, renderers, xRanges)) {
+            result = Range.combine(previous.range, findAppendedBounds(
+                    isDomainAxis, datasets, renderers, xRanges));
+        } else {
+            result = null;
+            for (int i = 0; i < datasets.size(); i++) {
+                XYDataset d = datasets.get(i);
+                XYItemRenderer r = renderers.get(i);
                 if (isDomainAxis) {
                     if (r != null) {
                         result = Range.combine(result, r.findDomainBounds(d));
@@ -4471,21 +5305,13 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                                 DatasetUtils.findRangeBounds(d));
                     }
                 }
-                // FIXME: the XYItemRenderer interface doesn't specify the
-                // getAnnotations() method but it should
-                if (r instanceof AbstractXYItemRenderer) {
-                    AbstractXYItemRenderer rr = (AbstractXYItemRenderer) r;
-                    Collection c = rr.getAnnotations();
-                    Iterator i = c.iterator();
-                    while (i.hasNext()) {
-                        XYAnnotation a = (XYAnnotation) i.next();
-                        if (a instanceof XYAnnotationBoundsInfo) {
-                            includedAnnotations.add(a);
-                        }
-                    }
-                }
             }
         }
+        if (this.datasetRanges == null) {
+            this.datasetRanges = new IdentityHashMap<ValueAxis, DatasetRange>();
+        }
+        this.datasetRanges.put(axis,
+                new DatasetRange(datasets, renderers, xRanges, result));
 
         Iterator it = includedAnnotations.iterator();
         while (it.hasNext()) {
@@ -4504,6 +5330,172 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
     }
 
+    /**
+     * Returns the x-range that a renderer limits the y-values of its
+     * dataset to when it finds the range bounds (see
+     * {@link AbstractXYItemRenderer#findRangeBounds(XYDataset)}).
+     *
+     * @param r  the renderer ({@code null} permitted).
+     *
+     * @return The x-range ({@code null} if the renderer uses all the
+     *     items).
+     */
+    private Range findXRange(XYItemRenderer r) {
+        if (!(r instanceof AbstractXYItemRenderer)
+                || !((AbstractXYItemRenderer) r)
+                        .getDataBoundsIncludesVisibleSeriesOnly()) {
+            return null;
+        }
+        ValueAxis xAxis = null;
+        int index = getIndexOf(r);
+        if (index >= 0) {
+            xAxis = getDomainAxisForDataset(index);
+        }
+        if (xAxis == null) {
+            return new Range(Double.NEGATIVE_INFINITY,
+                    Double.POSITIVE_INFINITY);
+        }
+        return xAxis.getRange();
+    }
+
+    /**
+     * Returns {@code true} if the dataset part of an axis data range can be
+     * found by adding the items in {@link #appendEvent} to the previous
+     * range, and {@code false} if it must be recalculated.  This requires
+     * the same datasets and renderers as before, renderers that find their
+     * bounds from the item values (see
+     * {@link AbstractXYItemRenderer#hasItemValueBounds()}) and, for a range
+     * axis with renderers that only use the items within the domain axis
+     * range, a domain axis range that is unchanged or has grown from one
+     * that held all the items.
+     *
+     * @param previous  the previous range ({@code null} permitted).
+     * @param isDomainAxis  is the axis a domain axis?
+     * @param datasets  the datasets mapped to the axis.
+     * @param renderers  the renderers for the datasets.
+     * @param xRanges  the x-ranges for the datasets (see
+     *     {@link #findXRange(XYItemRenderer)}).
+     *
+     * @return A boolean.
+     */
+    private boolean canAppend(DatasetRange previous, boolean isDomainAxis,
+            List<XYDataset> datasets, List<XYItemRenderer> renderers,
+            List<Range> xRanges) {
+        if (previous == null || this.appendEvent == null
+                || !sameItems(previous.datasets, datasets)
+                || !sameItems(previous.renderers, renderers)) {
+            return false;
+        }
+        for (int i = 0; i < datasets.size(); i++) {
+            XYItemRenderer r = renderers.get(i);
+            if (!(r instanceof AbstractXYItemRenderer)
+                    || !((AbstractXYItemRenderer) r).hasItemValueBounds()) {
+                return false;
+            }
+            Range x0 = previous.xRanges.get(i);
+            Range x1 = xRanges.get(i);
+            if (isDomainAxis || ObjectUtils.equal(x0, x1)) {
+                continue;
+            }
+            if (x0 == null || x1 == null || !encloses(x1, x0)) {
+                return false;
+            }
+            // the items outside the old x-range (which were left out) must
+            // all be appended items
+            DatasetRange xData = this.appendBaseRanges.get(
+                    getDomainAxisForDataset(getIndexOf(renderers.get(i))));
+            if (xData == null || !encloses(x0, xData.range)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if two lists hold the same objects (compared by
+     * reference) in the same order.
+     *
+     * @param list1  the first list.
+     * @param list2  the second list.
+     *
+     * @return A boolean.
+     */
+    private static boolean sameItems(List<?> list1, List<?> list2) {
+        if (list1.size() != list2.size()) {
+            return false;
+        }
+        for (int i = 0; i < list1.size(); i++) {
+            if (list1.get(i) != list2.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if {@code outer} contains all of {@code inner}.
+     *
+     * @param outer  the outer range.
+     * @param inner  the inner range ({@code null} for an empty range).
+     *
+     * @return A boolean.
+     */
+    private static boolean encloses(Range outer, Range inner) {
+        return inner == null
+                || (outer.getLowerBound() <= inner.getLowerBound()
+                && inner.getUpperBound() <= outer.getUpperBound());
+    }
+
+    /**
+     * Returns the bounds of the items in {@link #appendEvent} that a domain
+     * or range axis data range includes.
+     *
+     * @param isDomainAxis  is the axis a domain axis?
+     * @param datasets  the datasets mapped to the axis.
+     * @param renderers  the renderers for the datasets.
+     * @param xRanges  the x-ranges for the datasets (see
+     *     {@link #findXRange(XYItemRenderer)}).
+     *
+     * @return The bounds ({@code null} if there are no such items).
+     */
+    private Range findAppendedBounds(boolean isDomainAxis,
+            List<XYDataset> datasets, List<XYItemRenderer> renderers,
+            List<Range> xRanges) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < datasets.size(); i++) {
+            XYDataset d = datasets.get(i);
+            if (d != this.appendEvent.getDataset()) {
+                continue;
+            }
+            AbstractXYItemRenderer r
+                    = (AbstractXYItemRenderer) renderers.get(i);
+            boolean visibleOnly = r.getDataBoundsIncludesVisibleSeriesOnly();
+            Range xRange = xRanges.get(i);
+            for (int s = 0; s < d.getSeriesCount(); s++) {
+                int first = this.appendEvent.getFirstAppendedItem(s);
+                if (first < 0 || (visibleOnly && !r.isSeriesVisible(s))) {
+                    continue;
+                }
+                for (int item = first; item < d.getItemCount(s); item++) {
+                    double x = d.getXValue(s, item);
+                    double v = x;
+                    if (!isDomainAxis) {
+                        if (xRange != null && !xRange.contains(x)) {
+                            continue;
+                        }
+                        v = d.getYValue(s, item);
+                    }
+                    if (!Double.isNaN(v)) {
+                        lower = Math.min(lower, v);
+                        upper = Math.max(upper, v);
+                    }
+                }
+            }
+        }
+        return lower <= upper ? new Range(lower, upper) : null;
+    }
+
     /**
      * Receives notification of a change to an {@link Annotation} added to
      * this plot.
@@ -4526,14 +5518,20 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
-     * The axis ranges are updated if necessary.
+     * The axis ranges are updated if necessary.  If the event records that
+     * items were only appended to a dataset (see
+     * {@link DatasetChangeEvent#isAppend()}), the data ranges for the axes
+     * are found by adding the new items to the previous ones where possible.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
-        configureDomainAxes();
-        configureRangeAxes();
+        this.nearestItemIndices = null;
+        if (deferDatasetChange(event)) {
+            return;
+        }
+        configureAxes(event);
         if (getParent() != null) {
             getParent().datasetChanged(event);
         }
@@ -4544,6 +5542,41 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
     }
 
+    /**
+     * Configures the axes after a change to a dataset.  The data ranges
+     * found so far are discarded, but if the event records that items were
+     * only appended to one of the datasets for this plot, the new ranges are
+     * found by adding the new items to the previous ones.  This method is
+     * called by {@link #datasetChanged(DatasetChangeEvent)}, and can be
+     * called by subclasses that override that method to send a different
+     * change event.
+     *
+     * @param event  information about the event ({@code null} not
+     *     permitted).
+     *
+     * @since 1.6.0
+     */
+    protected void configureAxes(DatasetChangeEvent event) {
+        Args.nullNotPermitted(event, "event");
+        this.nearestItemIndices = null;
+        // the data ranges found so far no longer hold, but if items were
+        // only appended to one of our datasets the axes can be updated from
+        // them (a wrapper dataset may pass on the event of another dataset)
+        if (event.isAppend() && event.getDataset() instanceof XYDataset
+                && indexOf((XYDataset) event.getDataset()) >= 0) {
+            this.appendEvent = event;
+            this.appendBaseRanges = this.datasetRanges;
+        }
+        this.datasetRanges = null;
+        try {
+            configureDomainAxes();
+            configureRangeAxes();
+        } finally {
+            this.appendEvent = null;
+            this.appendBaseRanges = null;
+        }
+    }
+
     /**
      * Receives notification of a renderer change event.
      *
@@ -4551,6 +5584,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     @Override
     public void rendererChanged(RendererChangeEvent event) {
+        this.datasetRanges = null;
+        this.visibleItemsOnly = null;
         // if the event was caused by a change to series visibility, then
         // the axis ranges might need updating...
         if (event.getSeriesVisibilityChanged()) {
@@ -5513,6 +6548,12 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 that.shadowGenerator)) {
             return false;
         }
+        if (this.decimationEnabled != that.decimationEnabled) {
+            return false;
+        }
+        if (this.parallelRenderingEnabled != that.parallelRenderingEnabled) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -5548,6 +6589,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
         // the datasets are not cloned, but listeners need to be added...
         clone.datasets = new HashMap<Integer, XYDataset>(this.datasets);
+        clone.nearestItemIndices = null;
+        clone.visibleItemsOnly = null;
+        clone.datasetRanges = null;
         for (XYDataset dataset : clone.datasets.values()) {
             if (dataset != null) {
                 dataset.addChangeListener(clone);
@@ -5691,4 +6735,41 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
     }
 
+    /**
+     * The part of an axis data range that comes from the datasets, with the
+     * state it was found for.
+     */
+    private static class DatasetRange {
+
+        /** The datasets mapped to the axis. */
+        private final List<XYDataset> datasets;
+
+        /** The renderers for the datasets. */
+        private final List<XYItemRenderer> renderers;
+
+        /** The x-ranges for the datasets (for a range axis). */
+        private final List<Range> xRanges;
+
+        /** The range ({@code null} if there is no data). */
+        private final Range range;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param datasets  the datasets mapped to the axis.
+         * @param renderers  the renderers for the datasets.
+         * @param xRanges  the x-ranges for the datasets.
+         * @param range  the range ({@code null} permitted).
+         */
+        DatasetRange(List<XYDataset> datasets,
+                List<XYItemRenderer> renderers, List<Range> xRanges,
+                Range range) {
+            this.datasets = datasets;
+            this.renderers = renderers;
+            this.xRanges = xRanges;
+            this.range = range;
+        }
+
+    }
+
 }
@@ -0,0 +1,436 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * CompiledPaintScale.java
+ * -----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Color;
+import java.awt.Paint;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.jfree.chart.HashUtils;
+import org.jfree.chart.util.Args;
+import org.jfree.chart.util.PaintUtils;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.chart.util.SerialUtils;
+
+/**
+ * An immutable paint scale that is created from another paint scale by
+ * dividing the range between its lower and upper bounds into a fixed number
+ * of equal-sized buckets, and looking up the paint for the midpoint of each
+ * bucket.  After that, {@link #getPaint(double)} is a simple array lookup
+ * (shared {@code Color} instances are returned, so nothing is allocated),
+ * and the {@link #getPaints(double[], int[])} method converts an array of
+ * values to packed ARGB colors in a single call, for renderers that write
+ * pixels directly to an image.
+ * <P>
+ * The paints for values below the lower bound, above the upper bound and
+ * for {@code Double.NaN} are the paints that the source scale returns for
+ * negative infinity, positive infinity and {@code Double.NaN}.  Since the
+ * lookup table is created once, later changes to the source scale are not
+ * reflected in this scale.
+ *
+ * @since 1.6.0
+ */
+public class CompiledPaintScale
+        implements PaintScale, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3370562411539386011L;
+
+    /** The default number of buckets. */
+    public static final int DEFAULT_SIZE = 1024;
+
+    /** The lower bound. */
+    private double lowerBound;
+
+    /** The upper bound. */
+    private double upperBound;
+
+    /** The paint for each bucket. */
+    private transient Paint[] paints;
+
+    /** The paint for values below the lower bound. */
+    private transient Paint lowPaint;
+
+    /** The paint for values above the upper bound. */
+    private transient Paint highPaint;
+
+    /** The paint for {@code Double.NaN}. */
+    private transient Paint nanPaint;
+
+    /**
+     * The ARGB colors for each bucket, then the colors for values below the
+     * lower bound, above the upper bound and {@code Double.NaN} (or
+     * {@code null} if any of the paints is not a {@code Color}).
+     */
+    private transient int[] colors;
+
+    /**
+     * Creates a new paint scale with {@link #DEFAULT_SIZE} buckets.
+     *
+     * @param source  the source scale ({@code null} not permitted).
+     */
+    public CompiledPaintScale(PaintScale source) {
+        this(source, DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a new paint scale.
+     *
+     * @param source  the source scale ({@code null} not permitted).
+     * @param size  the number of buckets (must be at least 1).
+     *
+     * @throws IllegalArgumentException if the lower bound of the source
+     *     scale is not less than its upper bound, or if the source scale
+     *     returns {@code null} for any of the values that are looked up.
+     */
+    public CompiledPaintScale(PaintScale source, int size) {
+        Args.nullNotPermitted(source, "source");
+        if (size < 1) {
+            throw new IllegalArgumentException("Requires size >= 1.");
+        }
+        double lower = source.getLowerBound();
+        double upper = source.getUpperBound();
+        if (!(lower < upper)) {
+            throw new IllegalArgumentException(
+                    "Requires lowerBound < upperBound.");
+        }
+        this.lowerBound = lower;
+        this.upperBound = upper;
+        this.paints = new Paint[size];
+        double step = (upper - lower) / size;
+        for (int i = 0; i < size; i++) {
+            this.paints[i] = sourcePaint(source, lower + (i + 0.5) * step);
+        }
+        this.lowPaint = sourcePaint(source, Double.NEGATIVE_INFINITY);
+        this.highPaint = sourcePaint(source, Double.POSITIVE_INFINITY);
+        this.nanPaint = sourcePaint(source, Double.NaN);
+        initColors();
+    }
+
+    /**
+     * Returns the paint that the source scale returns for a value.
+     *
+     * @param source  the source scale.
+     * @param value  the value.
+     *
+     * @return The paint (never {@code null}).
+     *
+     * @throws IllegalArgumentException if the source scale returns
+     *     {@code null}.
+     */
+    private static Paint sourcePaint(PaintScale source, double value) {
+        Paint paint = source.getPaint(value);
+        if (paint == null) {
+            throw new IllegalArgumentException(
+                    "The source scale returned a null paint for value "
+                    + value + ".");
+        }
+        return paint;
+    }
+
+    /**
+     * Shares equal paint instances between adjacent buckets, and creates the
+     * ARGB color array.
+     */
+    private void initColors() {
+        for (int i = 1; i < this.paints.length; i++) {
+            if (this.paints[i].equals(this.paints[i - 1])) {
+                this.paints[i] = this.paints[i - 1];
+            }
+        }
+        int n = this.paints.length;
+        int[] argb = new int[n + 3];
+        for (int i = 0; i < n + 3; i++) {
+            Paint p;
+            if (i < n) {
+                p = this.paints[i];
+            }
+            else if (i == n) {
+                p = this.lowPaint;
+            }
+            else if (i == n + 1) {
+                p = this.highPaint;
+            }
+            else {
+                p = this.nanPaint;
+            }
+            if (!(p instanceof Color)) {
+                this.colors = null;
+                return;
+            }
+            argb[i] = ((Color) p).getRGB();
+        }
+        this.colors = argb;
+    }
+
+    /**
+     * Returns the lower bound.
+     *
+     * @return The lower bound.
+     *
+     * @see #getUpperBound()
+     */
+    @Override
+    public double getLowerBound() {
+        return this.lowerBound;
+    }
+
+    /**
+     * Returns the upper bound.
+     *
+     * @return The upper bound.
+     *
+     * @see #getLowerBound()
+     */
+    @Override
+    public double getUpperBound() {
+        return this.upperBound;
+    }
+
+    /**
+     * Returns the number of buckets in the lookup table.
+     *
+     * @return The number of buckets.
+     */
+    public int getSize() {
+        return this.paints.length;
+    }
+
+    /**
+     * Returns {@code true} if all the paints in this scale are
+     * {@code Color} instances, which is required for the
+     * {@link #getPaints(double[], int[])} method.
+     *
+     * @return A boolean.
+     */
+    public boolean isColorOnly() {
+        return this.colors != null;
+    }
+
+    /**
+     * Returns the index into the lookup table for a value.
+     *
+     * @param value  the value.
+     *
+     * @return The index (the bucket index, or the size of the table plus 0,
+     *     1 or 2 for values below the lower bound, above the upper bound or
+     *     {@code Double.NaN}).
+     */
+    private int indexOf(double value) {
+        int n = this.paints.length;
+        if (value >= this.lowerBound && value <= this.upperBound) {
+            int index = (int) ((value - this.lowerBound) * n
+                    / (this.upperBound - this.lowerBound));
+            return Math.min(index, n - 1);
+        }
+        if (value < this.lowerBound) {
+            return n;
+        }
+        if (value > this.upperBound) {
+            return n + 1;
+        }
+        return n + 2;
+    }
+
+    /**
+     * Returns the paint for the specified value.
+     *
+     * @param value  the value.
+     *
+     * @return The paint (never {@code null}).
+     */
+    @Override
+    public Paint getPaint(double value) {
+        int index = indexOf(value);
+        int n = this.paints.length;
+        if (index < n) {
+            return this.paints[index];
+        }
+        if (index == n) {
+            return this.lowPaint;
+        }
+        if (index == n + 1) {
+            return this.highPaint;
+        }
+        return this.nanPaint;
+    }
+
+    /**
+     * Looks up the colors for an array of values, and writes them (as packed
+     * ARGB integers, see {@link Color#getRGB()}) to an output array.  No
+     * objects are allocated by this method.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param argbOut  the output array ({@code null} not permitted, and
+     *     at least as long as {@code values}).
+     *
+     * @throws IllegalStateException if this scale contains paints that are
+     *     not {@code Color} instances (see {@link #isColorOnly()}).
+     */
+    public void getPaints(double[] values, int[] argbOut) {
+        Args.nullNotPermitted(values, "values");
+        Args.nullNotPermitted(argbOut, "argbOut");
+        if (argbOut.length < values.length) {
+            throw new IllegalArgumentException(
+                    "The 'argbOut' array is shorter than 'values'.");
+        }
+        int[] argb = this.colors;
+        if (argb == null) {
+            throw new IllegalStateException(
+                    "The scale contains paints that are not Color instances.");
+        }
+        // the same index calculation as getPaint(), so that both methods
+        // always agree on the bucket for a value
+        for (int i = 0; i < values.length; i++) {
+            argbOut[i] = argb[indexOf(values[i])];
+        }
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CompiledPaintScale)) {
+            return false;
+        }
+        CompiledPaintScale that = (CompiledPaintScale) obj;
+        if (this.lowerBound != that.lowerBound) {
+            return false;
+        }
+        if (this.upperBound != that.upperBound) {
+            return false;
+        }
+        if (this.paints.length != that.paints.length) {
+            return false;
+        }
+        for (int i = 0; i < this.paints.length; i++) {
+            if (!PaintUtils.equal(this.paints[i], that.paints[i])) {
+                return false;
+            }
+        }
+        if (!PaintUtils.equal(this.lowPaint, that.lowPaint)) {
+            return false;
+        }
+        if (!PaintUtils.equal(this.highPaint, that.highPaint)) {
+            return false;
+        }
+        if (!PaintUtils.equal(this.nanPaint, that.nanPaint)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = HashUtils.hashCode(hash, this.lowerBound);
+        hash = HashUtils.hashCode(hash, this.upperBound);
+        hash = 43 * hash + this.paints.length;
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this instance (since instances are immutable, the
+     * lookup table is shared).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *     instance.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(this.paints.length);
+        for (Paint paint : this.paints) {
+            SerialUtils.writePaint(paint, stream);
+        }
+        SerialUtils.writePaint(this.lowPaint, stream);
+        SerialUtils.writePaint(this.highPaint, stream);
+        SerialUtils.writePaint(this.nanPaint, stream);
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int size = stream.readInt();
+        this.paints = new Paint[size];
+        for (int i = 0; i < size; i++) {
+            this.paints[i] = SerialUtils.readPaint(stream);
+        }
+        this.lowPaint = SerialUtils.readPaint(stream);
+        this.highPaint = SerialUtils.readPaint(stream);
+        this.nanPaint = SerialUtils.readPaint(stream);
+        initColors();
+    }
+
+}
@@ -71,6 +71,12 @@ public class GrayPaintScale
      */
     private int alpha;
 
+    /**
+     * The colors for each gray level (0-255), created the first time that
+     * {@link #getPaint(double)} is called.
+     */
+    private transient volatile Color[] colors;
+
     /**
      * Creates a new {@code GrayPaintScale} instance with default values.
      */
@@ -168,9 +174,15 @@ public class GrayPaintScale
         v = Math.min(v, this.upperBound);
         int g = (int) ((v - this.lowerBound) / (this.upperBound
                 - this.lowerBound) * 255.0);
-        // FIXME:  it probably makes sense to allocate an array of 256 Colors
-        // and lazily populate this array...
-        return new Color(g, g, g, this.alpha);
+        Color[] c = this.colors;
+        if (c == null) {
+            c = new Color[256];
+            for (int i = 0; i < 256; i++) {
+                c[i] = new Color(i, i, i, this.alpha);
+            }
+            this.colors = c;
+        }
+        return c[g];
     }
 
     /**
@@ -107,6 +107,7 @@ import org.jfree.chart.labels.ItemLabelAnchor;
 import org.jfree.chart.labels.ItemLabelPosition;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.chart.ui.TextAnchor;
 import org.jfree.chart.util.PublicCloneable;
@@ -299,12 +300,17 @@ public class StackedBarRenderer extends BarRenderer
             return;
         }
 
+        ColumnStack stack;
+        if (state instanceof State) {
+            stack = ((State) state).getColumnStack(this, dataset, column);
+        }
+        else {
+            stack = calculateColumnStack(dataset, column, row,
+                    state.getVisibleSeriesArray());
+        }
         double value = dataValue.doubleValue();
-        double total = 0.0;  // only needed if calculating percentages
         if (this.renderAsPercentages) {
-            total = DataUtils.calculateColumnTotal(dataset, column,
-                    state.getVisibleSeriesArray());
-            value = value / total;
+            value = value / stack.total;
         }
 
         PlotOrientation orientation = plot.getOrientation();
@@ -312,24 +318,8 @@ public class StackedBarRenderer extends BarRenderer
                 dataArea, plot.getDomainAxisEdge())
                 - state.getBarWidth() / 2.0;
 
-        double positiveBase = getBase();
-        double negativeBase = positiveBase;
-
-        for (int i = 0; i < row; i++) {
-            Number v = dataset.getValue(i, column);
-            if (v != null && isSeriesVisible(i)) {
-                double d = v.doubleValue();
-                if (this.renderAsPercentages) {
-                    d = d / total;
-                }
-                if (d > 0) {
-                    positiveBase = positiveBase + d;
-                }
-                else {
-                    negativeBase = negativeBase + d;
-                }
-            }
-        }
+        double positiveBase = stack.positiveBases[row];
+        double negativeBase = stack.negativeBases[row];
 
         double translatedBase;
         double translatedValue;
@@ -406,6 +396,61 @@ public class StackedBarRenderer extends BarRenderer
         }
     }
 
+    /**
+     * Creates a new state instance that caches the stack bases for each
+     * column, so that they are calculated once per drawing pass rather than
+     * once per item.
+     *
+     * @param info  collects plot rendering info ({@code null} permitted).
+     *
+     * @return The new state instance (never {@code null}).
+     */
+    @Override
+    protected CategoryItemRendererState createState(PlotRenderingInfo info) {
+        return new State(info);
+    }
+
+    /**
+     * Calculates the bases for the bars in one column of the dataset.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param column  the column index.
+     * @param rows  the number of rows to calculate bases for.
+     * @param visibleRows  the indices of the visible rows.
+     *
+     * @return The bases for the column.
+     */
+    private ColumnStack calculateColumnStack(CategoryDataset dataset,
+            int column, int rows, int[] visibleRows) {
+        ColumnStack stack = new ColumnStack(rows);
+        if (this.renderAsPercentages) {
+            stack.total = DataUtils.calculateColumnTotal(dataset, column,
+                    visibleRows);
+        }
+        double positiveBase = getBase();
+        double negativeBase = positiveBase;
+        for (int i = 0; i < rows; i++) {
+            stack.positiveBases[i] = positiveBase;
+            stack.negativeBases[i] = negativeBase;
+            Number v = dataset.getValue(i, column);
+            if (v != null && isSeriesVisible(i)) {
+                double d = v.doubleValue();
+                if (this.renderAsPercentages) {
+                    d = d / stack.total;
+                }
+                if (d > 0) {
+                    positiveBase = positiveBase + d;
+                }
+                else {
+                    negativeBase = negativeBase + d;
+                }
+            }
+        }
+        stack.positiveBases[rows] = positiveBase;
+        stack.negativeBases[rows] = negativeBase;
+        return stack;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
@@ -428,4 +473,78 @@ public class StackedBarRenderer extends BarRenderer
         return super.equals(obj);
     }
 
+    /**
+     * The bases for the bars in one column of a dataset.
+     */
+    private static class ColumnStack {
+
+        /** The column total (only calculated for percentages). */
+        double total;
+
+        /** The positive base for each row. */
+        final double[] positiveBases;
+
+        /** The negative base for each row. */
+        final double[] negativeBases;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param rows  the number of rows.
+         */
+        ColumnStack(int rows) {
+            this.positiveBases = new double[rows + 1];
+            this.negativeBases = new double[rows + 1];
+        }
+
+    }
+
+    /**
+     * The state for the renderer, which caches the bases for each column as
+     * it is first drawn.  A new state is created for each drawing pass, so
+     * the cache never outlives a change to the dataset.
+     */
+    static class State extends CategoryItemRendererState {
+
+        /** The dataset that the cache was built for. */
+        private CategoryDataset dataset;
+
+        /** The bases for each column (entries are {@code null} until used). */
+        private ColumnStack[] columns;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info ({@code null} permitted).
+         */
+        State(PlotRenderingInfo info) {
+            super(info);
+        }
+
+        /**
+         * Returns the bases for a column, calculating them if necessary.
+         *
+         * @param renderer  the renderer.
+         * @param dataset  the dataset.
+         * @param column  the column index.
+         *
+         * @return The bases.
+         */
+        ColumnStack getColumnStack(StackedBarRenderer renderer,
+                CategoryDataset dataset, int column) {
+            if (this.dataset != dataset) {
+                this.dataset = dataset;
+                this.columns = new ColumnStack[dataset.getColumnCount()];
+            }
+            ColumnStack stack = this.columns[column];
+            if (stack == null) {
+                stack = renderer.calculateColumnStack(dataset, column,
+                        dataset.getRowCount(), getVisibleSeriesArray());
+                this.columns[column] = stack;
+            }
+            return stack;
+        }
+
+    }
+
 }
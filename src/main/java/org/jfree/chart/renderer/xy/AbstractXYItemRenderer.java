@@ -791,6 +791,23 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         return DatasetUtils.findRangeBounds(dataset, includeInterval);
     }
 
+    /**
+     * Returns {@code true} if {@link #findDomainBounds(XYDataset)} and
+     * {@link #findRangeBounds(XYDataset)} return the bounds of the x- and
+     * y-values of the items, as the methods in this class do.  The plot then
+     * extends the axis ranges by the bounds of appended items rather than
+     * finding the bounds of the whole dataset again.  Subclasses that find
+     * the bounds in another way must override this method to return
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @since 1.6.0
+     */
+    public boolean hasItemValueBounds() {
+        return true;
+    }
+
     /**
      * Returns a (possibly empty) collection of legend items for the series
      * that this renderer is responsible for drawing.
@@ -1625,6 +1642,12 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
                              XYDataset dataset, int series, int item, double entityX,
                              double entityY) {
 
+        if (dataset instanceof DecimatedXYDataset) {
+            // report the item in the dataset that was added to the plot
+            DecimatedXYDataset d = (DecimatedXYDataset) dataset;
+            item = d.getSourceItem(series, item);
+            dataset = d.getSource();
+        }
         if (!getItemCreateEntity(series, item)) {
             return;
         }
@@ -573,6 +573,19 @@ public class CandlestickRenderer extends AbstractXYItemRenderer
         return findRangeBounds(dataset, true);
     }
 
+    /**
+     * Returns {@code false}, because the range bounds include the high and low
+     * values.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Initialises the renderer then returns the number of 'passes' through the
      * data that the renderer will require (usually just one).  This method
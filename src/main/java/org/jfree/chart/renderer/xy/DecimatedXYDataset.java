@@ -0,0 +1,658 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DecimatedXYDataset.java
+ * -----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.chart.util.Args;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.TableXYDataset;
+import org.jfree.data.xy.VectorXYDataset;
+import org.jfree.data.xy.WindDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYLevelOfDetailInfo;
+import org.jfree.data.xy.XYZDataset;
+
+/**
+ * A read-only view of an {@link XYDataset} in which each series is reduced
+ * to the first, last, minimum and maximum items that fall within each pixel
+ * column (in Java2D space) along the domain axis.  The {@link XYPlot} uses
+ * this view, when decimation is enabled, so that a renderer is only asked to
+ * draw the items that can make a visible difference to a line (or area, or
+ * step) chart, regardless of how many items there are in the series.  Items
+ * with a {@code null} or {@code Double.NaN} y-value are retained so that
+ * gaps in a line are preserved.  For an {@link IntervalXYDataset}, the items
+ * with the lowest and highest start/end y-values and start/end x-values in
+ * each column are also retained, so that bands keep their extent.
+ * <p>
+ * If the dataset implements {@link XYLevelOfDetailInfo}, only the items
+ * selected by its level-of-detail index are grouped into columns, so the
+ * cost of building the view depends on the size of the data area rather
+ * than the number of items.
+ * <p>
+ * Item indices in the view do not match the indices in the underlying
+ * dataset; use {@link #getSourceItem(int, int)} to convert them.
+ *
+ * @see XYPlot#setDecimationEnabled(boolean)
+ *
+ * @since 1.6.0
+ */
+public class DecimatedXYDataset extends AbstractXYDataset {
+
+    /** The underlying dataset. */
+    private XYDataset source;
+
+    /**
+     * The item indices (in the underlying dataset) for each series, or
+     * {@code null} for a series that is passed through unchanged.
+     */
+    private int[][] items;
+
+    /**
+     * Creates a new view of the specified dataset, initially with every
+     * series passed through unchanged.
+     *
+     * @param source  the underlying dataset ({@code null} not permitted).
+     */
+    protected DecimatedXYDataset(XYDataset source) {
+        Args.nullNotPermitted(source, "source");
+        this.source = source;
+        this.items = new int[source.getSeriesCount()][];
+    }
+
+    /**
+     * Returns {@code true} if the items in the specified dataset can be
+     * decimated.  This requires the x-values to be in ascending order, and
+     * excludes datasets (such as {@link XYZDataset} or
+     * {@link TableXYDataset}) where a renderer relies on every item or on
+     * values other than x and y.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isDecimationSupported(XYDataset dataset) {
+        Args.nullNotPermitted(dataset, "dataset");
+        if (dataset.getDomainOrder() != DomainOrder.ASCENDING) {
+            return false;
+        }
+        return !(dataset instanceof XYZDataset
+                || dataset instanceof OHLCDataset
+                || dataset instanceof TableXYDataset
+                || dataset instanceof VectorXYDataset
+                || dataset instanceof WindDataset);
+    }
+
+    /**
+     * Returns {@code true} if the items in the specified dataset can be
+     * decimated before they are passed to the specified renderer, without
+     * changing what the renderer draws.  In addition to the requirements of
+     * {@link #isDecimationSupported(XYDataset)}, the renderer must be an
+     * {@link XYLineAndShapeRenderer}, {@link XYStepRenderer},
+     * {@link DeviationRenderer}, {@link XYAreaRenderer},
+     * {@link XYAreaRenderer2} or {@link XYStepAreaRenderer} (not a subclass)
+     * that draws no shapes and no item labels for the series in the
+     * dataset.  Other renderers draw something for every item, so every
+     * item is passed to them.  The entities (if any) are created for the
+     * remaining items only.
+     *
+     * @param renderer  the renderer ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isDecimationSupported(XYItemRenderer renderer,
+            XYDataset dataset) {
+        Args.nullNotPermitted(renderer, "renderer");
+        if (!isDecimationSupported(dataset)) {
+            return false;
+        }
+        // a subclass can draw the items in another way, so only the
+        // renderer classes themselves are known to give the same output
+        int seriesCount = dataset.getSeriesCount();
+        Class<?> c = renderer.getClass();
+        if (c == XYLineAndShapeRenderer.class || c == XYStepRenderer.class
+                || c == DeviationRenderer.class) {
+            XYLineAndShapeRenderer r = (XYLineAndShapeRenderer) renderer;
+            for (int series = 0; series < seriesCount; series++) {
+                if (r.getItemShapeVisible(series, 0)) {
+                    return false;
+                }
+            }
+        } else if (c == XYAreaRenderer.class) {
+            if (((XYAreaRenderer) renderer).getPlotShapes()) {
+                return false;
+            }
+        } else if (c == XYStepAreaRenderer.class) {
+            if (((XYStepAreaRenderer) renderer).getShapesVisible()) {
+                return false;
+            }
+        } else if (c != XYAreaRenderer2.class) {
+            return false;
+        }
+        for (int series = 0; series < seriesCount; series++) {
+            if (renderer.isItemLabelVisible(series, 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a view of the dataset in which each series is reduced to (at
+     * most) four items per pixel column (eight for an
+     * {@link IntervalXYDataset}).  A series is only reduced if the
+     * number of items in the specified range is more than four times the
+     * length (in pixels) of the domain axis.  If no series is reduced, the
+     * dataset itself is returned.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param firstItems  the index of the first item to consider in each
+     *     series.
+     * @param lastItems  the index of the last item to consider in each
+     *     series.
+     * @param xAxis  the domain axis ({@code null} not permitted).
+     * @param dataArea  the area within which the data is plotted
+     *     ({@code null} not permitted).
+     * @param xAxisEdge  the edge along which the domain axis is located
+     *     ({@code null} not permitted).
+     *
+     * @return The decimated view, or {@code dataset}.
+     */
+    public static XYDataset decimate(XYDataset dataset, int[] firstItems,
+            int[] lastItems, ValueAxis xAxis, Rectangle2D dataArea,
+            RectangleEdge xAxisEdge) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(xAxis, "xAxis");
+        Args.nullNotPermitted(dataArea, "dataArea");
+        Args.nullNotPermitted(xAxisEdge, "xAxisEdge");
+        double length = RectangleEdge.isTopOrBottom(xAxisEdge)
+                ? dataArea.getWidth() : dataArea.getHeight();
+        int threshold = (int) Math.ceil(Math.max(length, 1.0) * 4.0);
+        DecimatedXYDataset result = null;
+        int seriesCount = dataset.getSeriesCount();
+        for (int series = 0; series < seriesCount; series++) {
+            int first = firstItems[series];
+            int last = lastItems[series];
+            if (last - first + 1 <= threshold) {
+                continue;
+            }
+            if (result == null) {
+                result = (dataset instanceof IntervalXYDataset)
+                        ? new Interval((IntervalXYDataset) dataset)
+                        : new DecimatedXYDataset(dataset);
+            }
+            int[] candidates = null;
+            // the level-of-detail index only covers the y-values
+            if (dataset instanceof XYLevelOfDetailInfo
+                    && !(dataset instanceof IntervalXYDataset)) {
+                // two buckets per pixel keeps the column envelopes intact
+                candidates = ((XYLevelOfDetailInfo) dataset)
+                        .getLevelOfDetailItems(series, first, last,
+                        threshold / 2);
+            }
+            result.items[series] = decimateSeries(dataset, series, first,
+                    last, candidates, xAxis, dataArea, xAxisEdge);
+        }
+        return result != null ? result : dataset;
+    }
+
+    /**
+     * Returns the indices of the items in one series that are retained
+     * after decimation.  The items are grouped by the pixel column that
+     * the x-value maps to and, for each group, the first, last, minimum and
+     * maximum items are retained (in their original order).  For an
+     * {@link IntervalXYDataset}, the items with the lowest and highest
+     * start/end y-values and start/end x-values are retained as well.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param first  the index of the first item to consider.
+     * @param last  the index of the last item to consider.
+     * @param candidates  the indices of the items to consider (in ascending
+     *     order), or {@code null} to consider every item from {@code first}
+     *     to {@code last}.
+     * @param xAxis  the domain axis.
+     * @param dataArea  the data area.
+     * @param xAxisEdge  the domain axis edge.
+     *
+     * @return The item indices.
+     */
+    private static int[] decimateSeries(XYDataset dataset, int series,
+            int first, int last, int[] candidates, ValueAxis xAxis,
+            Rectangle2D dataArea, RectangleEdge xAxisEdge) {
+        IntervalXYDataset intervals = (dataset instanceof IntervalXYDataset)
+                ? (IntervalXYDataset) dataset : null;
+        // the values tracked for each column: the lowest value is kept for
+        // the even indices and the highest value for the odd indices
+        int extremeCount = intervals != null ? 6 : 2;
+        double[] values = new double[extremeCount];
+        double[] extremes = new double[extremeCount];
+        int[] extremeItems = new int[extremeCount];
+        int[] columnItems = new int[extremeCount + 2];
+        int[] result = new int[64];
+        int count = 0;
+        long column = Long.MIN_VALUE;
+        int firstInColumn = -1;
+        int lastInColumn = -1;
+        boolean previousIsGap = false;
+        int n = candidates != null ? candidates.length : last - first + 1;
+        for (int i = 0; i <= n; i++) {
+            int item = -1;
+            long c = Long.MAX_VALUE;
+            double y = Double.NaN;
+            if (i < n) {
+                item = candidates != null ? candidates[i] : first + i;
+                double x = dataset.getXValue(series, item);
+                c = (long) Math.floor(xAxis.valueToJava2D(x, dataArea,
+                        xAxisEdge));
+                y = dataset.getYValue(series, item);
+            }
+            boolean gap = Double.isNaN(y) && i < n;
+            if (c != column || gap) {
+                // flush the current column
+                if (firstInColumn >= 0) {
+                    if (result.length < count + columnItems.length) {
+                        result = Arrays.copyOf(result, Math.max(
+                                result.length * 2, count + columnItems.length));
+                    }
+                    columnItems[0] = firstInColumn;
+                    System.arraycopy(extremeItems, 0, columnItems, 1,
+                            extremeCount);
+                    columnItems[extremeCount + 1] = lastInColumn;
+                    count = addColumn(result, count, columnItems);
+                    previousIsGap = false;
+                }
+                firstInColumn = -1;
+                column = c;
+            }
+            if (i == n) {
+                break;
+            }
+            if (gap) {
+                // one item is enough to break the line
+                if (!previousIsGap) {
+                    if (result.length == count) {
+                        result = Arrays.copyOf(result, result.length * 2);
+                    }
+                    result[count++] = item;
+                    previousIsGap = true;
+                }
+                column = Long.MIN_VALUE;
+                continue;
+            }
+            values[0] = y;
+            values[1] = y;
+            if (intervals != null) {
+                double y0 = intervals.getStartYValue(series, item);
+                double y1 = intervals.getEndYValue(series, item);
+                values[2] = lower(y0, y1);
+                values[3] = upper(y0, y1);
+                double x0 = intervals.getStartXValue(series, item);
+                double x1 = intervals.getEndXValue(series, item);
+                values[4] = lower(x0, x1);
+                values[5] = upper(x0, x1);
+            }
+            if (firstInColumn < 0) {
+                firstInColumn = item;
+                Arrays.fill(extremeItems, item);
+                System.arraycopy(values, 0, extremes, 0, extremeCount);
+            }
+            else {
+                for (int k = 0; k < extremeCount; k++) {
+                    double v = values[k];
+                    if ((k % 2 == 0 ? v < extremes[k] : v > extremes[k])
+                            || (Double.isNaN(extremes[k])
+                            && !Double.isNaN(v))) {
+                        extremeItems[k] = item;
+                        extremes[k] = v;
+                    }
+                }
+            }
+            lastInColumn = item;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Appends the (distinct) indices for one column to the array, in
+     * ascending order.
+     *
+     * @param result  the array (with room for the column items).
+     * @param count  the number of items in the array.
+     * @param columnItems  the items retained for the column, in any order
+     *     and possibly with duplicates (this array is sorted in place).
+     *
+     * @return The new number of items in the array.
+     */
+    private static int addColumn(int[] result, int count,
+            int[] columnItems) {
+        Arrays.sort(columnItems);
+        result[count++] = columnItems[0];
+        for (int i = 1; i < columnItems.length; i++) {
+            if (columnItems[i] != columnItems[i - 1]) {
+                result[count++] = columnItems[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the lower of two values, ignoring {@code Double.NaN}.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The lower value ({@code Double.NaN} if both are NaN).
+     */
+    private static double lower(double a, double b) {
+        return Double.isNaN(a) ? b : (Double.isNaN(b) ? a : Math.min(a, b));
+    }
+
+    /**
+     * Returns the higher of two values, ignoring {@code Double.NaN}.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The higher value ({@code Double.NaN} if both are NaN).
+     */
+    private static double upper(double a, double b) {
+        return Double.isNaN(a) ? b : (Double.isNaN(b) ? a : Math.max(a, b));
+    }
+
+    /**
+     * Returns the underlying dataset.
+     *
+     * @return The underlying dataset (never {@code null}).
+     */
+    public XYDataset getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the index in the underlying dataset of an item in this view.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The item index in the underlying dataset.
+     */
+    public int getSourceItem(int series, int item) {
+        int[] indices = this.items[series];
+        return indices == null ? item : indices[item];
+    }
+
+    /**
+     * Returns the domain order of the underlying dataset.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.source.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.source.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The series key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the number of items in a series of this view.
+     *
+     * @param series  the series index.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        int[] indices = this.items[series];
+        return indices == null ? this.source.getItemCount(series)
+                : indices.length;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.source.getX(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.source.getXValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return this.source.getY(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.source.getYValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * A decimated view of an {@link IntervalXYDataset}.
+     */
+    private static class Interval extends DecimatedXYDataset
+            implements IntervalXYDataset {
+
+        /** The underlying dataset. */
+        private IntervalXYDataset intervalSource;
+
+        /**
+         * Creates a new view.
+         *
+         * @param source  the underlying dataset.
+         */
+        Interval(IntervalXYDataset source) {
+            super(source);
+            this.intervalSource = source;
+        }
+
+        /**
+         * Returns the starting x-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index (in this view).
+         *
+         * @return The starting x-value.
+         */
+        @Override
+        public Number getStartX(int series, int item) {
+            return this.intervalSource.getStartX(series,
+                    getSourceItem(series, item));
+        }
+
+        /**
+         * Returns the starting x-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index (in this view).
+         *
+         * @return The starting x-value.
+         */
+        @Override
+        public double getStartXValue(int series, int item) {
+            return this.intervalSource.getStartXValue(series,
+                    getSourceItem(series, item));
+        }
+
+        /**
+         * Returns the ending x-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index (in this view).
+         *
+         * @return The ending x-value.
+         */
+        @Override
+        public Number getEndX(int series, int item) {
+            return this.intervalSource.getEndX(series,
+                    getSourceItem(series, item));
+        }
+
+        /**
+         * Returns the ending x-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index (in this view).
+         *
+         * @return The ending x-value.
+         */
+        @Override
+        public double getEndXValue(int series, int item) {
+            return this.intervalSource.getEndXValue(series,
+                    getSourceItem(series, item));
+        }
+
+        /**
+         * Returns the starting y-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index (in this view).
+         *
+         * @return The starting y-value.
+         */
+        @Override
+        public Number getStartY(int series, int item) {
+            return this.intervalSource.getStartY(series,
+                    getSourceItem(series, item));
+        }
+
+        /**
+         * Returns the starting y-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index (in this view).
+         *
+         * @return The starting y-value.
+         */
+        @Override
+        public double getStartYValue(int series, int item) {
+            return this.intervalSource.getStartYValue(series,
+                    getSourceItem(series, item));
+        }
+
+        /**
+         * Returns the ending y-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index (in this view).
+         *
+         * @return The ending y-value.
+         */
+        @Override
+        public Number getEndY(int series, int item) {
+            return this.intervalSource.getEndY(series,
+                    getSourceItem(series, item));
+        }
+
+        /**
+         * Returns the ending y-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index (in this view).
+         *
+         * @return The ending y-value.
+         */
+        @Override
+        public double getEndYValue(int series, int item) {
+            return this.intervalSource.getEndYValue(series,
+                    getSourceItem(series, item));
+        }
+
+    }
+
+}
@@ -185,6 +185,18 @@ public class DeviationRenderer extends XYLineAndShapeRenderer {
         return findRangeBounds(dataset, true);
     }
 
+    /**
+     * Returns {@code false}, because the range bounds include the y-intervals.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Initialises and returns a state object that can be passed to each
      * invocation of the {@link #drawItem} method.
@@ -298,6 +298,19 @@ public class HighLowRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns {@code false}, because the range bounds include the high and low
+     * values.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Draws the visual representation of a single data item.
      *
@@ -371,6 +371,19 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
         }
     }
 
+    /**
+     * Returns {@code false}, because the range bounds are the bounds of the
+     * stacked values.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Draws the visual representation of a single data item.
      *
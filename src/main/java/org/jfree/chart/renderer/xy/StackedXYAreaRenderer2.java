@@ -94,6 +94,13 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
     /** For serialization. */
     private static final long serialVersionUID = 7752676509764539182L;
 
+    /**
+     * The maximum number of (series, item) cells for which the stack values
+     * are cached during drawing.  Larger datasets fall back to summing the
+     * lower series for each item.
+     */
+    private static final int MAX_CACHED_CELLS = 1 << 21;
+
     /**
      * This flag controls whether or not the x-coordinates (in Java2D space)
      * are rounded to integers.  When set to true, this can avoid the vertical
@@ -185,6 +192,46 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         return new Range(min, max);
     }
 
+    /**
+     * Returns {@code false}, because the range bounds are the bounds of the
+     * stacked values.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
+    /**
+     * Initialises the renderer and returns a state object that caches the
+     * cumulative stack values for the dataset, so that they are calculated
+     * once per drawing pass rather than once per item.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  an optional info collection object to return data back
+     *     to the caller.
+     *
+     * @return A state object.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        if (dataset instanceof TableXYDataset) {
+            TableXYDataset d = (TableXYDataset) dataset;
+            long cells = (long) d.getSeriesCount() * d.getItemCount();
+            if (cells <= MAX_CACHED_CELLS) {
+                return new State(info, d);
+            }
+        }
+        return super.initialise(g2, dataArea, plot, dataset, info);
+    }
+
     /**
      * Returns the number of passes required by the renderer.
      *
@@ -233,7 +280,11 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         if (Double.isNaN(y1)) {
             y1 = 0.0;
         }
-        double[] stack1 = getStackValues(tdataset, series, item);
+        State stackState = null;
+        if (state instanceof State && ((State) state).dataset == dataset) {
+            stackState = (State) state;
+        }
+        double[] stack1 = getStackValues(stackState, tdataset, series, item);
 
         // get the previous point and the next point so we can calculate a
         // "hot spot" for the area (used by the chart entity)...
@@ -242,8 +293,8 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         if (Double.isNaN(y0)) {
             y0 = 0.0;
         }
-        double[] stack0 = getStackValues(tdataset, series, Math.max(item - 1,
-                0));
+        double[] stack0 = getStackValues(stackState, tdataset, series,
+                Math.max(item - 1, 0));
 
         int itemCount = dataset.getItemCount(series);
         double x2 = dataset.getXValue(series, Math.min(item + 1,
@@ -253,8 +304,8 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         if (Double.isNaN(y2)) {
             y2 = 0.0;
         }
-        double[] stack2 = getStackValues(tdataset, series, Math.min(item + 1,
-                itemCount - 1));
+        double[] stack2 = getStackValues(stackState, tdataset, series,
+                Math.min(item + 1, itemCount - 1));
 
         double xleft = (x0 + x1) / 2.0;
         double xright = (x1 + x2) / 2.0;
@@ -476,6 +527,27 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         return result;
     }
 
+    /**
+     * Returns the stacked values for an item, using the cache in the
+     * renderer state when there is one.
+     *
+     * @param state  the renderer state ({@code null} permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param index  the item index.
+     *
+     * @return An array containing the cumulative negative and positive values
+     *     for all series values up to but excluding {@code series}
+     *     for {@code index}.
+     */
+    private double[] getStackValues(State state, TableXYDataset dataset,
+            int series, int index) {
+        if (state != null) {
+            return state.getStackValues(series, index);
+        }
+        return getStackValues(dataset, series, index);
+    }
+
     /**
      * Returns a pair of "stack" values calculated as the mean of the two
      * specified stack value pairs.
@@ -553,4 +625,94 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         return super.clone();
     }
 
+    /**
+     * The state for the renderer, which caches the cumulative negative and
+     * positive values of the lower series for each item.  The rows of the
+     * cache are calculated on demand, each from the row beneath it, so the
+     * whole cache costs one pass over the dataset whatever order the series
+     * are drawn in.  A new state is created for each drawing pass, so the
+     * cache never outlives a change to the dataset.
+     */
+    static class State extends XYItemRendererState {
+
+        /** The dataset that the cache was built for. */
+        final TableXYDataset dataset;
+
+        /** The negative totals for each series (indexed by series, item). */
+        private final double[][] negative;
+
+        /** The positive totals for each series (indexed by series, item). */
+        private final double[][] positive;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info ({@code null} permitted).
+         * @param dataset  the dataset ({@code null} not permitted).
+         */
+        State(PlotRenderingInfo info, TableXYDataset dataset) {
+            super(info);
+            this.dataset = dataset;
+            int seriesCount = dataset.getSeriesCount();
+            this.negative = new double[seriesCount][];
+            this.positive = new double[seriesCount][];
+        }
+
+        /**
+         * Returns the stacked values (one negative and one positive) of all
+         * series up to, but not including, {@code series} for the specified
+         * item.
+         *
+         * @param series  the series index.
+         * @param index  the item index.
+         *
+         * @return The cumulative negative and positive values.
+         */
+        double[] getStackValues(int series, int index) {
+            if (this.positive[series] == null) {
+                calculateRows(series);
+            }
+            return new double[] {this.negative[series][index],
+                    this.positive[series][index]};
+        }
+
+        /**
+         * Calculates the rows of the cache up to and including
+         * {@code series}.  The values are accumulated in series order, so
+         * they are identical to those found by summing each item directly.
+         *
+         * @param series  the series index.
+         */
+        private void calculateRows(int series) {
+            int itemCount = this.dataset.getItemCount();
+            int s = series;
+            while (s > 0 && this.positive[s - 1] == null) {
+                s--;
+            }
+            if (s == 0) {
+                this.negative[0] = new double[itemCount];
+                this.positive[0] = new double[itemCount];
+                s = 1;
+            }
+            for (; s <= series; s++) {
+                double[] neg = this.negative[s - 1].clone();
+                double[] pos = this.positive[s - 1].clone();
+                for (int i = 0; i < itemCount; i++) {
+                    double v = this.dataset.getYValue(s - 1, i);
+                    if (!Double.isNaN(v)) {
+                        if (v >= 0.0) {
+                            pos[i] += v;
+                        }
+                        else {
+                            neg[i] += v;
+                        }
+                    }
+                }
+                this.negative[s] = neg;
+                this.positive[s] = pos;
+            }
+        }
+
+    }
+
 }
@@ -202,6 +202,18 @@ public class VectorRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns {@code false}, because the bounds include the vectors.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Draws the block representing the specified item.
      *
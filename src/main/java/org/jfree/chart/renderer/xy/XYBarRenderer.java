@@ -1190,6 +1190,19 @@ public class XYBarRenderer extends AbstractXYItemRenderer
         return findRangeBounds(dataset, this.useYInterval);
     }
 
+    /**
+     * Returns {@code false}, because the bounds include the x-interval (and the
+     * y-interval, if it is used).
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Returns a clone of the renderer.
      *
@@ -36,10 +36,16 @@
 
 package org.jfree.chart.renderer.xy;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.Serializable;
+import java.util.Arrays;
 
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.EntityCollection;
@@ -48,9 +54,11 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.CompiledPaintScale;
 import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.ui.RectangleAnchor;
+import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.chart.util.Args;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.Range;
@@ -107,6 +115,17 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
      */
     private boolean useOutlinePaint;
 
+    /**
+     * A flag that controls whether a series that forms a regular grid is
+     * drawn as a single image rather than one block at a time.
+     *
+     * @since 1.6.0
+     */
+    private boolean rasterRenderingEnabled;
+
+    /** The maximum number of cells (pixels) in a raster image. */
+    private static final int MAX_RASTER_CELLS = 1 << 24;
+
     /**
      * Creates a new {@code XYBlockRenderer} instance with default
      * attributes.
@@ -286,6 +305,54 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether a series that forms a regular
+     * grid is drawn as a single image (raster mode).  The default value is
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setRasterRenderingEnabled(boolean)
+     *
+     * @since 1.6.0
+     */
+    public boolean isRasterRenderingEnabled() {
+        return this.rasterRenderingEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether a series that forms a regular grid
+     * is drawn as a single image, and sends a {@link RendererChangeEvent} to
+     * all registered listeners.  In raster mode, the color for each block is
+     * written directly to the pixels of an image with one pixel per block,
+     * and the image is then drawn (scaled to the data area) with a single
+     * call.  This is much faster than filling each block for large grids
+     * (heat maps).  The colors are the paints that the paint scale returns,
+     * so the output is the same as for blocks drawn individually.  If the
+     * paint scale is a {@link CompiledPaintScale}, the colors are looked up
+     * in batches, which is faster again (but the compiled scale gives the
+     * paint for the midpoint of the bucket that holds each value, rather
+     * than for the value itself).
+     * <P>
+     * Raster mode is used for a series only when the x-values and y-values
+     * lie on a grid with a spacing equal to the block width and height, the
+     * axes are linear, the paint scale returns {@code Color} instances, and
+     * block outlines are not drawn (or are drawn with the block color, since
+     * there are no gaps between the blocks in the image).  Otherwise the
+     * blocks are drawn individually.  Item labels, entities and crosshair
+     * values are handled in the same way in either mode.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @see #isRasterRenderingEnabled()
+     *
+     * @since 1.6.0
+     */
+    public void setRasterRenderingEnabled(boolean enabled) {
+        this.rasterRenderingEnabled = enabled;
+        fireChangeEvent();
+    }
+
     /**
      * Updates the offsets to take into account the block width, height and
      * anchor.
@@ -381,6 +448,36 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns {@code false}, because the bounds allow for the block sizes.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
+    /**
+     * Initialises the renderer and returns a state object that will be
+     * passed to the {@code drawItem()} method.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  the plot rendering info ({@code null} permitted).
+     *
+     * @return The renderer state.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        return new State(info);
+    }
+
     /**
      * Draws the block representing the specified item.
      *
@@ -405,43 +502,62 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
 
         double x = dataset.getXValue(series, item);
         double y = dataset.getYValue(series, item);
-        double z = 0.0;
-        if (dataset instanceof XYZDataset) {
-            z = ((XYZDataset) dataset).getZValue(series, item);
-        }
 
-        Paint p = this.paintScale.getPaint(z);
-        double xx0 = domainAxis.valueToJava2D(x + this.xOffset, dataArea,
-                plot.getDomainAxisEdge());
-        double yy0 = rangeAxis.valueToJava2D(y + this.yOffset, dataArea,
-                plot.getRangeAxisEdge());
-        double xx1 = domainAxis.valueToJava2D(x + this.blockWidth
-                + this.xOffset, dataArea, plot.getDomainAxisEdge());
-        double yy1 = rangeAxis.valueToJava2D(y + this.blockHeight
-                + this.yOffset, dataArea, plot.getRangeAxisEdge());
-        Rectangle2D block;
+        // in raster mode, the whole series is drawn when the first item is
+        // processed
+        boolean rasterDrawn = false;
+        if (state instanceof State) {
+            State s = (State) state;
+            if (s.rasterSeries != series) {
+                s.rasterSeries = series;
+                s.rasterDrawn = this.rasterRenderingEnabled
+                        && drawSeriesAsRaster(g2, dataArea, plot, domainAxis,
+                        rangeAxis, dataset, series);
+            }
+            rasterDrawn = s.rasterDrawn;
+        }
         PlotOrientation orientation = plot.getOrientation();
-        if (orientation.equals(PlotOrientation.HORIZONTAL)) {
-            block = new Rectangle2D.Double(Math.min(yy0, yy1),
-                    Math.min(xx0, xx1), Math.abs(yy1 - yy0),
-                    Math.abs(xx0 - xx1));
+        EntityCollection entities = state.getEntityCollection();
+        boolean labelVisible = isItemLabelVisible(series, item);
+        Rectangle2D block = null;
+        if (!rasterDrawn || labelVisible || entities != null) {
+            double xx0 = domainAxis.valueToJava2D(x + this.xOffset, dataArea,
+                    plot.getDomainAxisEdge());
+            double yy0 = rangeAxis.valueToJava2D(y + this.yOffset, dataArea,
+                    plot.getRangeAxisEdge());
+            double xx1 = domainAxis.valueToJava2D(x + this.blockWidth
+                    + this.xOffset, dataArea, plot.getDomainAxisEdge());
+            double yy1 = rangeAxis.valueToJava2D(y + this.blockHeight
+                    + this.yOffset, dataArea, plot.getRangeAxisEdge());
+            if (orientation.equals(PlotOrientation.HORIZONTAL)) {
+                block = new Rectangle2D.Double(Math.min(yy0, yy1),
+                        Math.min(xx0, xx1), Math.abs(yy1 - yy0),
+                        Math.abs(xx0 - xx1));
+            }
+            else {
+                block = new Rectangle2D.Double(Math.min(xx0, xx1),
+                        Math.min(yy0, yy1), Math.abs(xx1 - xx0),
+                        Math.abs(yy1 - yy0));
+            }
         }
-        else {
-            block = new Rectangle2D.Double(Math.min(xx0, xx1),
-                    Math.min(yy0, yy1), Math.abs(xx1 - xx0),
-                    Math.abs(yy1 - yy0));
-        }
-        g2.setPaint(p);
-        g2.fill(block);
-        if (getDrawOutlines()) {
-            if (getUseOutlinePaint()) {
-                g2.setPaint(getItemOutlinePaint(series, item));
+        if (!rasterDrawn) {
+            double z = 0.0;
+            if (dataset instanceof XYZDataset) {
+                z = ((XYZDataset) dataset).getZValue(series, item);
+            }
+            Paint p = this.paintScale.getPaint(z);
+            g2.setPaint(p);
+            g2.fill(block);
+            if (getDrawOutlines()) {
+                if (getUseOutlinePaint()) {
+                    g2.setPaint(getItemOutlinePaint(series, item));
+                }
+                g2.setStroke(lookupSeriesOutlineStroke(series));
+                g2.draw(block);
             }
-            g2.setStroke(lookupSeriesOutlineStroke(series));
-            g2.draw(block);
         }
 
-        if (isItemLabelVisible(series, item)) {
+        if (labelVisible) {
             drawItemLabel(g2, orientation, dataset, series, item, 
                     block.getCenterX(), block.getCenterY(), y < 0.0);
         }
@@ -454,7 +570,6 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         updateCrosshairValues(crosshairState, x, y, datasetIndex,
                 transX, transY, orientation);
 
-        EntityCollection entities = state.getEntityCollection();
         if (entities != null) {
             addEntity(entities, block, dataset, series, item, 
                     block.getCenterX(), block.getCenterY());
@@ -462,6 +577,202 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Draws all the blocks for a series as a single image, if the series
+     * forms a regular grid (see {@link #setRasterRenderingEnabled(boolean)}).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return A boolean that indicates whether or not the series was drawn
+     *     (if {@code false}, the blocks should be drawn individually).
+     */
+    private boolean drawSeriesAsRaster(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+            XYDataset dataset, int series) {
+
+        if (getDrawOutlines() && getUseOutlinePaint()) {
+            return false;
+        }
+        RectangleEdge xEdge = plot.getDomainAxisEdge();
+        RectangleEdge yEdge = plot.getRangeAxisEdge();
+        if (!isLinear(domainAxis, dataArea, xEdge)
+                || !isLinear(rangeAxis, dataArea, yEdge)) {
+            return false;
+        }
+        // a compiled scale is used as it is (with the colors looked up in
+        // batches), other scales are asked for the paint for each value
+        CompiledPaintScale compiled = null;
+        if (this.paintScale instanceof CompiledPaintScale) {
+            compiled = (CompiledPaintScale) this.paintScale;
+            if (!compiled.isColorOnly()) {
+                return false;
+            }
+        }
+        int itemCount = dataset.getItemCount(series);
+        double xMin = Double.POSITIVE_INFINITY;
+        double xMax = Double.NEGATIVE_INFINITY;
+        double yMin = Double.POSITIVE_INFINITY;
+        double yMax = Double.NEGATIVE_INFINITY;
+        for (int item = 0; item < itemCount; item++) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            xMin = Math.min(xMin, x);
+            xMax = Math.max(xMax, x);
+            yMin = Math.min(yMin, y);
+            yMax = Math.max(yMax, y);
+        }
+        if (Double.isInfinite(xMin) || Double.isInfinite(xMax)
+                || Double.isInfinite(yMin) || Double.isInfinite(yMax)) {
+            return xMin > xMax;  // true if there is nothing to draw
+        }
+
+        // the cells (one per pixel) that overlap the axis ranges
+        double x0 = xMin + this.xOffset;
+        double y0 = yMin + this.yOffset;
+        Range xRange = domainAxis.getRange();
+        Range yRange = rangeAxis.getRange();
+        double i0 = Math.max(0.0, Math.floor((xRange.getLowerBound() - x0)
+                / this.blockWidth));
+        double i1 = Math.min(Math.rint((xMax - xMin) / this.blockWidth) + 1,
+                Math.ceil((xRange.getUpperBound() - x0) / this.blockWidth));
+        double j0 = Math.max(0.0, Math.floor((yRange.getLowerBound() - y0)
+                / this.blockHeight));
+        double j1 = Math.min(Math.rint((yMax - yMin) / this.blockHeight) + 1,
+                Math.ceil((yRange.getUpperBound() - y0) / this.blockHeight));
+        if (i1 <= i0 || j1 <= j0) {
+            return true;  // nothing is visible
+        }
+        if ((i1 - i0) * (j1 - j0) > MAX_RASTER_CELLS) {
+            return false;
+        }
+        int w = (int) (i1 - i0);
+        int h = (int) (j1 - j0);
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        // a compiled scale looks up the colors in batches
+        int batchSize = compiled != null ? Math.min(itemCount, 4096) : 0;
+        double[] zBuffer = new double[batchSize];
+        int[] pixelBuffer = new int[batchSize];
+        int[] argbBuffer = new int[batchSize];
+        int count = 0;
+        boolean hasZ = dataset instanceof XYZDataset;
+        for (int item = 0; item < itemCount; item++) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            double fi = (x - xMin) / this.blockWidth;
+            double fj = (y - yMin) / this.blockHeight;
+            double i = Math.rint(fi);
+            double j = Math.rint(fj);
+            if (Math.abs(fi - i) > 1e-6 || Math.abs(fj - j) > 1e-6) {
+                return false;  // not a regular grid
+            }
+            if (i < i0 || i >= i1 || j < j0 || j >= j1) {
+                continue;
+            }
+            double z = 0.0;
+            if (hasZ) {
+                z = ((XYZDataset) dataset).getZValue(series, item);
+            }
+            int pixel = (int) (j - j0) * w + (int) (i - i0);
+            if (compiled == null) {
+                Paint paint = this.paintScale.getPaint(z);
+                if (!(paint instanceof Color)) {
+                    return false;
+                }
+                pixels[pixel] = ((Color) paint).getRGB();
+                continue;
+            }
+            zBuffer[count] = z;
+            pixelBuffer[count] = pixel;
+            count++;
+            if (count == zBuffer.length) {
+                compiled.getPaints(zBuffer, argbBuffer);
+                for (int k = 0; k < count; k++) {
+                    pixels[pixelBuffer[k]] = argbBuffer[k];
+                }
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            compiled.getPaints(Arrays.copyOf(zBuffer, count), argbBuffer);
+            for (int k = 0; k < count; k++) {
+                pixels[pixelBuffer[k]] = argbBuffer[k];
+            }
+        }
+
+        // map the image to the data area, the x and y coordinates are
+        // linear in the cell indices (so an affine transform will do)
+        double xx0 = domainAxis.valueToJava2D(x0 + i0 * this.blockWidth,
+                dataArea, xEdge);
+        double xx1 = domainAxis.valueToJava2D(x0 + i1 * this.blockWidth,
+                dataArea, xEdge);
+        double yy0 = rangeAxis.valueToJava2D(y0 + j0 * this.blockHeight,
+                dataArea, yEdge);
+        double yy1 = rangeAxis.valueToJava2D(y0 + j1 * this.blockHeight,
+                dataArea, yEdge);
+        AffineTransform transform;
+        if (plot.getOrientation().equals(PlotOrientation.HORIZONTAL)) {
+            transform = new AffineTransform(0.0, (xx1 - xx0) / w,
+                    (yy1 - yy0) / h, 0.0, yy0, xx0);
+        }
+        else {
+            transform = new AffineTransform((xx1 - xx0) / w, 0.0, 0.0,
+                    (yy1 - yy0) / h, xx0, yy0);
+        }
+        // the hints are restored as a whole, since there may be no
+        // interpolation hint to put back
+        RenderingHints savedHints = g2.getRenderingHints();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        try {
+            g2.drawImage(image, transform, null);
+        } finally {
+            g2.setRenderingHints(savedHints);
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the axis maps values linearly to Java2D
+     * coordinates (checked at a few points within the axis range).
+     *
+     * @param axis  the axis.
+     * @param area  the data area.
+     * @param edge  the axis edge.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLinear(ValueAxis axis, Rectangle2D area,
+            RectangleEdge edge) {
+        double lower = axis.getLowerBound();
+        double upper = axis.getUpperBound();
+        double v0 = axis.valueToJava2D(lower, area, edge);
+        double v1 = axis.valueToJava2D(upper, area, edge);
+        for (int i = 1; i < 4; i++) {
+            double t = i / 4.0;
+            double v = axis.valueToJava2D(lower + t * (upper - lower), area,
+                    edge);
+            if (Math.abs(v - (v0 + t * (v1 - v0))) > 0.01) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Tests this {@code XYBlockRenderer} for equality with an arbitrary
      * object.  This method returns {@code true} if and only if:
@@ -503,6 +814,9 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         if (this.useOutlinePaint != that.useOutlinePaint) {
             return false;
         }
+        if (this.rasterRenderingEnabled != that.rasterRenderingEnabled) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -524,4 +838,27 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         return clone;
     }
 
+    /**
+     * The state for the renderer, which records whether the current series
+     * has been drawn in raster mode.
+     */
+    private static class State extends XYItemRendererState {
+
+        /** The index of the series that the raster flag applies to. */
+        int rasterSeries = -1;
+
+        /** A flag that indicates whether the series was drawn as an image. */
+        boolean rasterDrawn;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info ({@code null} permitted).
+         */
+        State(PlotRenderingInfo info) {
+            super(info);
+        }
+
+    }
+
 }
@@ -291,6 +291,19 @@ public class XYBoxAndWhiskerRenderer extends AbstractXYItemRenderer
         return findRangeBounds(dataset, true);
     }
 
+    /**
+     * Returns {@code false}, because the range bounds include the
+     * box-and-whisker values.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Returns the box paint or, if this is {@code null}, the item
      * paint.
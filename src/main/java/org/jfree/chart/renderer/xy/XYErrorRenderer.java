@@ -284,6 +284,18 @@ public class XYErrorRenderer extends XYLineAndShapeRenderer {
         return findRangeBounds(dataset, true);
     }
 
+    /**
+     * Returns {@code false}, because the bounds include the error intervals.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Draws the visual representation for one data item.
      *
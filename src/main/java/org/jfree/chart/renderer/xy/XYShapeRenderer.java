@@ -382,6 +382,19 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
                 + offset);
     }
 
+    /**
+     * Returns {@code false}, because the bounds include the items in hidden
+     * series.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Return the range of z-values in the specified dataset.
      *  
@@ -155,6 +155,18 @@ public class YIntervalRenderer extends AbstractXYItemRenderer
         return findRangeBounds(dataset, true);
     }
 
+    /**
+     * Returns {@code false}, because the range bounds include the y-intervals.
+     *
+     * @return {@code false}.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public boolean hasItemValueBounds() {
+        return false;
+    }
+
     /**
      * Draws the visual representation of a single data item.
      *
@@ -209,8 +209,8 @@ public class TextFragment implements Serializable {
      */
     public float calculateBaselineOffset(Graphics2D g2, TextAnchor anchor) {
         float result = 0.0f;
-        FontMetrics fm = g2.getFontMetrics(this.font);
-        LineMetrics lm = fm.getLineMetrics("ABCxyz", g2);
+        LineMetrics lm = TextUtils.getLineMetrics("ABCxyz", this.font,
+                g2.getFontRenderContext());
         if (anchor.isTop()) {
             result = lm.getAscent();
         }
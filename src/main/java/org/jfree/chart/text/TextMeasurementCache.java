@@ -0,0 +1,370 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache for the text measurements made by {@link TextUtils}
+ * (string bounds and line metrics).  The measurements are keyed by the text,
+ * the font and the font render context, so the tick labels, item labels and
+ * titles that are measured on every repaint of a chart are only measured
+ * once.  There is no cache by default; an application installs one with
+ * {@link TextUtils#setTextMeasurementCache(TextMeasurementCache)}.
+ * <P>
+ * The cache is thread-safe.  It is divided into a number of segments, each
+ * with its own lock, so that threads measuring different text rarely wait
+ * for each other.  When a segment is full, its least recently used entry is
+ * discarded.  The hit and miss counts can be used to choose a suitable
+ * capacity.
+ *
+ * @since 1.6.0
+ */
+public class TextMeasurementCache {
+
+    /** The default capacity. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** The default number of segments. */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    /** The kind of entry that holds text bounds. */
+    static final int BOUNDS = 0;
+
+    /** The kind of entry that holds line metrics. */
+    static final int LINE_METRICS = 1;
+
+    /** The maximum number of entries. */
+    private final int capacity;
+
+    /** The segments (each one is locked separately). */
+    private final Segment[] segments;
+
+    /**
+     * Creates a new cache with the default capacity and the default number
+     * of segments.
+     */
+    public TextMeasurementCache() {
+        this(DEFAULT_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates a new cache with a single segment, so that the least recently
+     * used entry of the whole cache is discarded when it is full.
+     *
+     * @param capacity  the maximum number of entries (must be positive).
+     */
+    public TextMeasurementCache(int capacity) {
+        this(capacity, 1);
+    }
+
+    /**
+     * Creates a new cache.  The capacity is divided evenly between the
+     * segments.
+     *
+     * @param capacity  the maximum number of entries (must be positive).
+     * @param concurrencyLevel  the number of segments (in the range 1 to
+     *     {@code capacity}).
+     */
+    public TextMeasurementCache(int capacity, int concurrencyLevel) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Requires capacity > 0.");
+        }
+        if (concurrencyLevel <= 0 || concurrencyLevel > capacity) {
+            throw new IllegalArgumentException(
+                    "Requires 0 < concurrencyLevel <= capacity.");
+        }
+        this.capacity = capacity;
+        this.segments = new Segment[concurrencyLevel];
+        for (int i = 0; i < concurrencyLevel; i++) {
+            int size = capacity / concurrencyLevel;
+            if (i < capacity % concurrencyLevel) {
+                size++;
+            }
+            this.segments[i] = new Segment(size);
+        }
+    }
+
+    /**
+     * Returns the maximum number of entries in the cache.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of segments in the cache.
+     *
+     * @return The number of segments.
+     */
+    public int getConcurrencyLevel() {
+        return this.segments.length;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The number of entries.
+     */
+    public int getSize() {
+        int result = 0;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                result += segment.entries.size();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached measurement.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        long result = 0L;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                result += segment.hitCount;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of lookups that had to measure the text.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        long result = 0L;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                result += segment.missCount;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fraction of lookups that found a cached measurement, or
+     * {@code 0.0} if there have been no lookups.
+     *
+     * @return The hit rate (in the range 0.0 to 1.0).
+     */
+    public double getHitRate() {
+        long hits = 0L;
+        long count = 0L;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                hits += segment.hitCount;
+                count += segment.hitCount + segment.missCount;
+            }
+        }
+        return (count == 0L ? 0.0 : (double) hits / count);
+    }
+
+    /**
+     * Resets the hit and miss counts to zero.
+     */
+    public void resetStatistics() {
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                segment.hitCount = 0L;
+                segment.missCount = 0L;
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the cache (the statistics are not reset).
+     */
+    public void clear() {
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns a cached measurement, updating the hit and miss counts.
+     *
+     * @param kind  the kind of measurement.
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param frc  the font render context ({@code null} not permitted).
+     *
+     * @return The measurement, or {@code null} if it is not cached.
+     */
+    Object get(int kind, String text, Font font, FontRenderContext frc) {
+        Key key = new Key(kind, text, font, frc);
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            Object result = segment.entries.get(key);
+            if (result != null) {
+                segment.hitCount++;
+            } else {
+                segment.missCount++;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Adds a measurement to the cache.  The value must not be modified
+     * after it is added, since it is shared by all callers.
+     *
+     * @param kind  the kind of measurement.
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param frc  the font render context ({@code null} not permitted).
+     * @param value  the measurement ({@code null} not permitted).
+     */
+    void put(int kind, String text, Font font, FontRenderContext frc,
+            Object value) {
+        Key key = new Key(kind, text, font, frc);
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.entries.put(key, value);
+        }
+    }
+
+    /**
+     * Returns the segment that holds the entry for a key.
+     *
+     * @param key  the key.
+     *
+     * @return The segment.
+     */
+    private Segment segmentFor(Key key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return this.segments[(h & 0x7fffffff) % this.segments.length];
+    }
+
+    /**
+     * A part of the cache with its own lock, entries and statistics.
+     */
+    private static final class Segment {
+
+        /** The entries, in access order. */
+        private final LinkedHashMap<Key, Object> entries;
+
+        /** The number of lookups that found an entry. */
+        private long hitCount;
+
+        /** The number of lookups that did not find an entry. */
+        private long missCount;
+
+        /**
+         * Creates a new segment.
+         *
+         * @param capacity  the maximum number of entries.
+         */
+        Segment(final int capacity) {
+            this.entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Key, Object> e) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+    }
+
+    /**
+     * The key for a cache entry.
+     */
+    private static final class Key {
+
+        /** The kind of measurement. */
+        private final int kind;
+
+        /** The text. */
+        private final String text;
+
+        /** The font. */
+        private final Font font;
+
+        /** The font render context. */
+        private final FontRenderContext frc;
+
+        /** The hash code (calculated once, since keys are looked up). */
+        private final int hash;
+
+        /**
+         * Creates a new key.
+         *
+         * @param kind  the kind of measurement.
+         * @param text  the text.
+         * @param font  the font.
+         * @param frc  the font render context.
+         */
+        Key(int kind, String text, Font font, FontRenderContext frc) {
+            this.kind = kind;
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            int h = kind;
+            h = 31 * h + text.hashCode();
+            h = 31 * h + font.hashCode();
+            h = 31 * h + frc.hashCode();
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hash == that.hash && this.kind == that.kind
+                    && this.text.equals(that.text)
+                    && this.font.equals(that.font)
+                    && this.frc.equals(that.frc);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
@@ -69,6 +69,12 @@ public class TextUtils {
      */
     private static boolean useFontMetricsGetStringBounds = false;
 
+    /**
+     * The cache for text measurements ({@code null} if measurements are not
+     * cached).
+     */
+    private static volatile TextMeasurementCache textMeasurementCache;
+
     /**
      * Private constructor prevents object creation.
      */
@@ -265,6 +271,37 @@ public class TextUtils {
     public static Rectangle2D getTextBounds(String text, Graphics2D g2, 
             FontMetrics fm) {
 
+        TextMeasurementCache cache = textMeasurementCache;
+        if (cache == null || text == null) {
+            return calculateTextBounds(text, g2, fm);
+        }
+        Font font = fm.getFont();
+        FontRenderContext frc = g2.getFontRenderContext();
+        Rectangle2D bounds = (Rectangle2D) cache.get(
+                TextMeasurementCache.BOUNDS, text, font, frc);
+        if (bounds == null) {
+            bounds = calculateTextBounds(text, g2, fm);
+            cache.put(TextMeasurementCache.BOUNDS, text, font, frc,
+                    bounds.clone());
+            return bounds;
+        }
+        // callers are free to modify the result, so return a copy
+        return (Rectangle2D) bounds.clone();
+    }
+
+    /**
+     * Calculates the bounds for the specified text, without using the
+     * measurement cache.
+     *
+     * @param text  the text.
+     * @param g2  the graphics context (not {@code null}).
+     * @param fm  the font metrics (not {@code null}).
+     *
+     * @return The text bounds.
+     */
+    private static Rectangle2D calculateTextBounds(String text, Graphics2D g2,
+            FontMetrics fm) {
+
         Rectangle2D bounds;
         if (TextUtils.useFontMetricsGetStringBounds) {
             bounds = fm.getStringBounds(text, g2);
@@ -285,6 +322,32 @@ public class TextUtils {
         return bounds;
     }
 
+    /**
+     * Returns the line metrics for the specified text, using the measurement
+     * cache if there is one.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param frc  the font render context ({@code null} not permitted).
+     *
+     * @return The line metrics.
+     */
+    static LineMetrics getLineMetrics(String text, Font font,
+            FontRenderContext frc) {
+        TextMeasurementCache cache = textMeasurementCache;
+        if (cache == null) {
+            return font.getLineMetrics(text, frc);
+        }
+        LineMetrics result = (LineMetrics) cache.get(
+                TextMeasurementCache.LINE_METRICS, text, font, frc);
+        if (result == null) {
+            result = font.getLineMetrics(text, frc);
+            cache.put(TextMeasurementCache.LINE_METRICS, text, font, frc,
+                    result);
+        }
+        return result;
+    }
+
 
     /**
      * Returns the bounds of an aligned string.
@@ -367,7 +430,7 @@ public class TextUtils {
         Font f = g2.getFont();
         FontMetrics fm = g2.getFontMetrics(f);
         Rectangle2D bounds = TextUtils.getTextBounds(text, g2, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
+        LineMetrics metrics = getLineMetrics(text, f, frc);
         float ascent = metrics.getAscent();
         result[2] = -ascent;
         float halfAscent = ascent / 2.0f;
@@ -588,7 +651,7 @@ public class TextUtils {
         Font f = g2.getFont();
         FontMetrics fm = g2.getFontMetrics(f);
         Rectangle2D bounds = getTextBounds(text, g2, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
+        LineMetrics metrics = getLineMetrics(text, f, frc);
         float ascent = metrics.getAscent();
         float halfAscent = ascent / 2.0f;
         float descent = metrics.getDescent();
@@ -640,7 +703,7 @@ public class TextUtils {
 
         float[] result = new float[2];
         FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics metrics = g2.getFont().getLineMetrics(text, frc);
+        LineMetrics metrics = getLineMetrics(text, g2.getFont(), frc);
         FontMetrics fm = g2.getFontMetrics();
         Rectangle2D bounds = TextUtils.getTextBounds(text, g2, fm);
         float ascent = metrics.getAscent();
@@ -735,6 +798,35 @@ public class TextUtils {
      */
     public static void setUseFontMetricsGetStringBounds(boolean use) {
         useFontMetricsGetStringBounds = use;
+        TextMeasurementCache cache = textMeasurementCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the cache used for text measurements.  By default there is no
+     * cache, so text is measured each time it is drawn.
+     *
+     * @return The cache (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    public static TextMeasurementCache getTextMeasurementCache() {
+        return textMeasurementCache;
+    }
+
+    /**
+     * Sets the cache used for text measurements.  Setting the cache to
+     * {@code null} turns caching off, so that text is measured each time
+     * it is drawn.
+     *
+     * @param cache  the cache ({@code null} permitted).
+     *
+     * @since 1.6.0
+     */
+    public static void setTextMeasurementCache(TextMeasurementCache cache) {
+        textMeasurementCache = cache;
     }
 
     /**
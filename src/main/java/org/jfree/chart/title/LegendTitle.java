@@ -71,6 +71,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.List;
 
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -669,6 +670,64 @@ public class LegendTitle extends Title
         return true;
     }
 
+    /**
+     * Returns a clone of the legend title.  The clone has its own container
+     * for the legend item blocks (which are recreated each time the legend
+     * is drawn) and its own copy of the wrapper container (if there is one)
+     * so that the clone and the original can be drawn independently.  The
+     * sources are shared.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        LegendTitle clone = (LegendTitle) super.clone();
+        clone.items = null;
+        if (this.wrapper != null) {
+            clone.wrapper = (BlockContainer) this.wrapper.clone();
+            // the wrapper usually contains the item container, and the copy
+            // of the wrapper must contain the item container of the clone
+            clone.items = findCopy(this.wrapper, clone.wrapper, this.items);
+        }
+        if (clone.items == null) {
+            clone.items = new BlockContainer(this.items.getArrangement());
+        }
+        return clone;
+    }
+
+    /**
+     * Finds the copy of a container within the clone of another container.
+     *
+     * @param original  the original container.
+     * @param copy  the clone of the original container.
+     * @param target  the container to find (within {@code original}).
+     *
+     * @return The copy of {@code target} (or {@code null} if
+     *     {@code original} does not contain it).
+     */
+    private static BlockContainer findCopy(BlockContainer original,
+            BlockContainer copy, BlockContainer target) {
+        if (original == target) {
+            return copy;
+        }
+        List<?> blocks = original.getBlocks();
+        List<?> copies = copy.getBlocks();
+        for (int i = 0; i < blocks.size(); i++) {
+            if (blocks.get(i) instanceof BlockContainer
+                    && copies.get(i) instanceof BlockContainer) {
+                BlockContainer result = findCopy(
+                        (BlockContainer) blocks.get(i),
+                        (BlockContainer) copies.get(i), target);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Provides serialization support.
      *
@@ -43,6 +43,7 @@
 package org.jfree.data;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.jfree.chart.util.ObjectUtils;
@@ -72,6 +73,13 @@ public class ComparableObjectSeries extends Series
     /** A flag that controls whether or not duplicate x-values are allowed. */
     private boolean allowDuplicateXValues;
 
+    /**
+     * The minimum and maximum (in pairs) of each of the values tracked for
+     * the items (see {@link #getTrackedValueCount()}), or {@code null} if
+     * they need to be recalculated.
+     */
+    private transient double[] valueBounds;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -161,7 +169,8 @@ public class ComparableObjectSeries extends Series
         this.maximumItemCount = maximum;
         boolean dataRemoved = false;
         while (this.data.size() > maximum) {
-            this.data.remove(0);
+            updateBoundsForRemovedItem(
+                    (ComparableObjectItem) this.data.remove(0));
             dataRemoved = true;
         }
         if (dataRemoved) {
@@ -251,8 +260,10 @@ public class ComparableObjectSeries extends Series
             }
             this.data.add(item);
         }
+        updateBoundsForAddedItem(item);
         if (getItemCount() > this.maximumItemCount) {
-            this.data.remove(0);
+            updateBoundsForRemovedItem(
+                    (ComparableObjectItem) this.data.remove(0));
         }
         if (notify) {
             fireSeriesChanged();
@@ -302,7 +313,9 @@ public class ComparableObjectSeries extends Series
         }
         else {
             ComparableObjectItem item = getDataItem(index);
+            updateBoundsForRemovedItem(item);
             item.setObject(y);
+            updateBoundsForAddedItem(item);
             fireSeriesChanged();
         }
     }
@@ -316,7 +329,9 @@ public class ComparableObjectSeries extends Series
      */
     protected void updateByIndex(int index, Object y) {
         ComparableObjectItem item = getDataItem(index);
+        updateBoundsForRemovedItem(item);
         item.setObject(y);
+        updateBoundsForAddedItem(item);
         fireSeriesChanged();
     }
 
@@ -340,7 +355,8 @@ public class ComparableObjectSeries extends Series
      */
     protected void delete(int start, int end) {
         for (int i = start; i <= end; i++) {
-            this.data.remove(start);
+            updateBoundsForRemovedItem(
+                    (ComparableObjectItem) this.data.remove(start));
         }
         fireSeriesChanged();
     }
@@ -353,6 +369,7 @@ public class ComparableObjectSeries extends Series
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.valueBounds = null;
             fireSeriesChanged();
         }
     }
@@ -368,6 +385,7 @@ public class ComparableObjectSeries extends Series
     protected ComparableObjectItem remove(int index) {
         ComparableObjectItem result = (ComparableObjectItem) this.data.remove(
                 index);
+        updateBoundsForRemovedItem(result);
         fireSeriesChanged();
         return result;
     }
@@ -384,6 +402,157 @@ public class ComparableObjectSeries extends Series
         return remove(indexOf(x));
     }
 
+    /**
+     * Returns the number of values, for each item, that the series keeps
+     * track of the minimum and maximum of.  The default implementation
+     * returns zero.  Subclasses can override this method, together with
+     * {@link #getTrackedValue(ComparableObjectItem, int)}, so that the
+     * bounds of the values are maintained as items are added (which is
+     * cheaper than iterating over all the items each time the bounds are
+     * required).
+     *
+     * @return The number of tracked values.
+     *
+     * @since 1.6.0
+     */
+    protected int getTrackedValueCount() {
+        return 0;
+    }
+
+    /**
+     * Returns one of the tracked values for an item.  The default
+     * implementation returns {@code Double.NaN}.
+     *
+     * @param item  the item.
+     * @param index  the value index (from zero to
+     *     {@code getTrackedValueCount() - 1}).
+     *
+     * @return The value ({@code Double.NaN} values are ignored).
+     *
+     * @since 1.6.0
+     */
+    protected double getTrackedValue(ComparableObjectItem item, int index) {
+        return Double.NaN;
+    }
+
+    /**
+     * Returns the minimum of one of the tracked values over all the items
+     * in the series, ignoring {@code Double.NaN} values.
+     *
+     * @param index  the value index.
+     *
+     * @return The minimum (or {@code Double.NaN} if there is no value).
+     *
+     * @since 1.6.0
+     */
+    protected double getMinimumValue(int index) {
+        return getValueBounds()[2 * index];
+    }
+
+    /**
+     * Returns the maximum of one of the tracked values over all the items
+     * in the series, ignoring {@code Double.NaN} values.
+     *
+     * @param index  the value index.
+     *
+     * @return The maximum (or {@code Double.NaN} if there is no value).
+     *
+     * @since 1.6.0
+     */
+    protected double getMaximumValue(int index) {
+        return getValueBounds()[2 * index + 1];
+    }
+
+    /**
+     * Returns the bounds of the tracked values, recalculating them if
+     * necessary.
+     *
+     * @return The bounds.
+     */
+    private double[] getValueBounds() {
+        if (this.valueBounds == null) {
+            double[] bounds = new double[2 * getTrackedValueCount()];
+            Arrays.fill(bounds, Double.NaN);
+            for (Object item : this.data) {
+                includeInBounds(bounds, (ComparableObjectItem) item);
+            }
+            this.valueBounds = bounds;
+        }
+        return this.valueBounds;
+    }
+
+    /**
+     * Updates the bounds of the tracked values for an item that has been
+     * added to the series.
+     *
+     * @param item  the item.
+     */
+    private void updateBoundsForAddedItem(ComparableObjectItem item) {
+        if (this.valueBounds != null) {
+            includeInBounds(this.valueBounds, item);
+        }
+    }
+
+    /**
+     * Updates the bounds of the tracked values for an item that has been
+     * (or is about to be) removed from the series.  If one of the item's
+     * values is on a bound, the bounds are recalculated when next required.
+     *
+     * @param item  the item.
+     */
+    private void updateBoundsForRemovedItem(ComparableObjectItem item) {
+        if (this.valueBounds == null) {
+            return;
+        }
+        int count = this.valueBounds.length / 2;
+        for (int i = 0; i < count; i++) {
+            double value = getTrackedValue(item, i);
+            if (value <= this.valueBounds[2 * i]
+                    || value >= this.valueBounds[2 * i + 1]) {
+                this.valueBounds = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Extends some bounds to include the tracked values for an item.
+     *
+     * @param bounds  the bounds.
+     * @param item  the item.
+     */
+    private void includeInBounds(double[] bounds, ComparableObjectItem item) {
+        for (int i = 0; i < bounds.length / 2; i++) {
+            double value = getTrackedValue(item, i);
+            if (!Double.isNaN(value)) {
+                double min = bounds[2 * i];
+                double max = bounds[2 * i + 1];
+                bounds[2 * i] = Double.isNaN(min) ? value
+                        : Math.min(min, value);
+                bounds[2 * i + 1] = Double.isNaN(max) ? value
+                        : Math.max(max, value);
+            }
+        }
+    }
+
+    /**
+     * Returns a clone of the series.  The clone has its own list of data
+     * items, so that it is independent of the original series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        ComparableObjectSeries clone = (ComparableObjectSeries) super.clone();
+        clone.data = (List) ObjectUtils.deepClone(this.data);
+        clone.valueBounds = null;
+        return clone;
+    }
+
     /**
      * Tests this series for equality with an arbitrary object.
      *
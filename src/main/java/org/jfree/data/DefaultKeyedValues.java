@@ -280,24 +280,29 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
             this.values.set(pos, value);
         }
         else {
+            int start = position;
             if (pos >= 0) {
                 this.keys.remove(pos);
                 this.values.remove(pos);
+                start = Math.min(pos, position);
             }
 
             this.keys.add(position, key);
             this.values.add(position, value);
-            rebuildIndex();
+            rebuildIndex(start);
         }
     }
 
     /**
      * Rebuilds the key to indexed-position mapping after an positioned insert
-     * or a remove operation.
+     * or a remove operation.  Only the keys from position {@code start}
+     * onwards have moved, so the entries for the keys before that position
+     * are left as they are.
+     *
+     * @param start  the first position to update.
      */
-    private void rebuildIndex () {
-        this.indexMap.clear();
-        for (int i = 0; i < this.keys.size(); i++) {
+    private void rebuildIndex(int start) {
+        for (int i = start; i < this.keys.size(); i++) {
             final Object key = this.keys.get(i);
             this.indexMap.put(key, new Integer(i));
         }
@@ -313,9 +318,10 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
      *     the specified range.
      */
     public void removeValue(int index) {
-        this.keys.remove(index);
+        Object key = this.keys.remove(index);
         this.values.remove(index);
-        rebuildIndex();
+        this.indexMap.remove(key);
+        rebuildIndex(index);
     }
 
     /**
@@ -58,8 +58,11 @@
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ObjectUtils;
@@ -89,6 +92,12 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     /** If the row keys should be sorted by their comparable order. */
     private boolean sortRowKeys;
 
+    /** A map from each row key to its index. */
+    private transient HashMap rowIndexMap;
+
+    /** A map from each column key to its index. */
+    private transient HashMap columnIndexMap;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -106,6 +115,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
         this.sortRowKeys = sortRowKeys;
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
     }
 
     /**
@@ -186,12 +197,15 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     @Override
     public int getRowIndex(Comparable key) {
         Args.nullNotPermitted(key, "key");
+        Integer index = (Integer) this.rowIndexMap.get(key);
+        if (index != null) {
+            return index.intValue();
+        }
         if (this.sortRowKeys) {
+            // gives the insertion point for a new key
             return Collections.binarySearch(this.rowKeys, key);
         }
-        else {
-            return this.rowKeys.indexOf(key);
-        }
+        return -1;
     }
 
     /**
@@ -235,7 +249,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     @Override
     public int getColumnIndex(Comparable key) {
         Args.nullNotPermitted(key, "key");
-        return this.columnKeys.indexOf(key);
+        Integer index = (Integer) this.columnIndexMap.get(key);
+        return (index != null ? index.intValue() : -1);
     }
 
     /**
@@ -269,7 +284,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         Args.nullNotPermitted(columnKey, "columnKey");
 
         // check that the column key is defined in the 2D structure
-        if (!(this.columnKeys.contains(columnKey))) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             throw new UnknownKeyException("Unrecognised columnKey: "
                     + columnKey);
         }
@@ -331,17 +346,21 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
                 rowIndex = -rowIndex - 1;
                 this.rowKeys.add(rowIndex, rowKey);
                 this.rows.add(rowIndex, row);
+                updateIndex(this.rowIndexMap, this.rowKeys, rowIndex);
             }
             else {
                 this.rowKeys.add(rowKey);
                 this.rows.add(row);
+                this.rowIndexMap.put(rowKey,
+                        Integer.valueOf(this.rowKeys.size() - 1));
             }
         }
         row.setValue(columnKey, value);
 
-        int columnIndex = this.columnKeys.indexOf(columnKey);
-        if (columnIndex < 0) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             this.columnKeys.add(columnKey);
+            this.columnIndexMap.put(columnKey,
+                    Integer.valueOf(this.columnKeys.size() - 1));
         }
     }
 
@@ -372,8 +391,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         }
 
         if (allNull) {
-            this.rowKeys.remove(rowIndex);
-            this.rows.remove(rowIndex);
+            removeRow(rowIndex);
         }
 
         // 2. check whether the column is now empty.
@@ -399,7 +417,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
                     row.removeValue(columnIndex);
                 }
             }
-            this.columnKeys.remove(columnKey);
+            removeColumnKey(columnKey);
         }
     }
 
@@ -412,8 +430,10 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
      * @see #removeColumn(int)
      */
     public void removeRow(int rowIndex) {
-        this.rowKeys.remove(rowIndex);
+        Object rowKey = this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        this.rowIndexMap.remove(rowKey);
+        updateIndex(this.rowIndexMap, this.rowKeys, rowIndex);
     }
 
     /**
@@ -466,7 +486,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
      */
     public void removeColumn(Comparable columnKey) {
         Args.nullNotPermitted(columnKey, "columnKey");
-        if (!this.columnKeys.contains(columnKey)) {
+        if (!this.columnIndexMap.containsKey(columnKey)) {
             throw new UnknownKeyException("Unknown key: " + columnKey);
         }
         Iterator iterator = this.rows.iterator();
@@ -477,7 +497,35 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
                 rowData.removeValue(columnKey);
             }
         }
-        this.columnKeys.remove(columnKey);
+        removeColumnKey(columnKey);
+    }
+
+    /**
+     * Removes a column key and updates the indices of the keys that follow
+     * it.
+     *
+     * @param columnKey  the column key (must be present).
+     */
+    private void removeColumnKey(Comparable columnKey) {
+        Integer index = (Integer) this.columnIndexMap.remove(columnKey);
+        this.columnKeys.remove(index.intValue());
+        updateIndex(this.columnIndexMap, this.columnKeys, index.intValue());
+    }
+
+    /**
+     * Updates an index map for the keys from position {@code start}
+     * onwards, following an insertion or removal at that position.  Keys
+     * before {@code start} keep their indices, so appending and removing
+     * at the end of the list are constant time operations.
+     *
+     * @param indexMap  the index map.
+     * @param keys  the keys.
+     * @param start  the first position to update.
+     */
+    private static void updateIndex(HashMap indexMap, List keys, int start) {
+        for (int i = start; i < keys.size(); i++) {
+            indexMap.put(keys.get(i), Integer.valueOf(i));
+        }
     }
 
     /**
@@ -487,6 +535,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         this.rowKeys.clear();
         this.columnKeys.clear();
         this.rows.clear();
+        this.rowIndexMap.clear();
+        this.columnIndexMap.clear();
     }
 
     /**
@@ -575,9 +625,29 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         clone.columnKeys = new java.util.ArrayList(this.columnKeys);
         clone.rowKeys = new java.util.ArrayList(this.rowKeys);
 
+        clone.rowIndexMap = new HashMap(this.rowIndexMap);
+        clone.columnIndexMap = new HashMap(this.columnIndexMap);
+
         // but the row data requires a deep copy
         clone.rows = (List) ObjectUtils.deepClone(this.rows);
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowIndexMap = new HashMap();
+        updateIndex(this.rowIndexMap, this.rowKeys, 0);
+        this.columnIndexMap = new HashMap();
+        updateIndex(this.columnIndexMap, this.columnKeys, 0);
+    }
+
 }
@@ -44,7 +44,10 @@
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.Args;
@@ -61,11 +64,15 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
     /** Storage for the data. */
     private List data;
 
+    /** A map from each key to its index. */
+    private transient HashMap indexMap;
+
     /**
      * Creates a new collection (initially empty).
      */
     public KeyedObjects() {
         this.data = new java.util.ArrayList();
+        this.indexMap = new HashMap();
     }
 
     /**
@@ -126,16 +133,8 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public int getIndex(Comparable key) {
         Args.nullNotPermitted(key, "key");
-        int i = 0;
-        Iterator iterator = this.data.iterator();
-        while (iterator.hasNext()) {
-            KeyedObject ko = (KeyedObject) iterator.next();
-            if (ko.getKey().equals(key)) {
-                return i;
-            }
-            i++;
-        }
-        return -1;
+        Integer index = (Integer) this.indexMap.get(key);
+        return (index != null ? index.intValue() : -1);
     }
 
     /**
@@ -204,6 +203,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         else {
             KeyedObject ko = new KeyedObject(key, object);
             this.data.add(ko);
+            this.indexMap.put(key, Integer.valueOf(this.data.size() - 1));
         }
     }
 
@@ -225,8 +225,10 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         }
         Args.nullNotPermitted(key, "key");
         int pos = getIndex(key);
+        int start = position;
         if (pos >= 0) {
             this.data.remove(pos);
+            start = Math.min(pos, position);
         }
         KeyedObject item = new KeyedObject(key, value);
         if (position <= this.data.size()) {
@@ -234,6 +236,21 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         }
         else {
             this.data.add(item);
+            start = Math.min(start, this.data.size() - 1);
+        }
+        updateIndex(start);
+    }
+
+    /**
+     * Updates the index map for the items from position {@code start}
+     * onwards, following an insertion or removal at that position.
+     *
+     * @param start  the first position to update.
+     */
+    private void updateIndex(int start) {
+        for (int i = start; i < this.data.size(); i++) {
+            KeyedObject ko = (KeyedObject) this.data.get(i);
+            this.indexMap.put(ko.getKey(), Integer.valueOf(i));
         }
     }
 
@@ -245,7 +262,9 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      * @see #removeValue(Comparable)
      */
     public void removeValue(int index) {
-        this.data.remove(index);
+        KeyedObject ko = (KeyedObject) this.data.remove(index);
+        this.indexMap.remove(ko.getKey());
+        updateIndex(index);
     }
 
     /**
@@ -274,6 +293,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public void clear() {
         this.data.clear();
+        this.indexMap.clear();
     }
 
     /**
@@ -294,9 +314,25 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
             KeyedObject ko = (KeyedObject) iterator.next();
             clone.data.add(ko.clone());
         }
+        clone.indexMap = new HashMap(this.indexMap);
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.indexMap = new HashMap();
+        updateIndex(0);
+    }
+
     /**
      * Tests this object for equality with an arbitrary object.
      *
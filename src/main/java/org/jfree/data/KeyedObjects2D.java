@@ -45,8 +45,11 @@
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.Args;
@@ -69,6 +72,12 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     /** The row data. */
     private List rows;
 
+    /** A map from each row key to its index. */
+    private transient HashMap rowIndexMap;
+
+    /** A map from each column key to its index. */
+    private transient HashMap columnIndexMap;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -76,6 +85,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         this.rowKeys = new java.util.ArrayList();
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
+        this.rowIndexMap = new HashMap();
+        this.columnIndexMap = new HashMap();
     }
 
     /**
@@ -150,7 +161,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      */
     public int getRowIndex(Comparable key) {
         Args.nullNotPermitted(key, "key");
-        return this.rowKeys.indexOf(key);
+        Integer index = (Integer) this.rowIndexMap.get(key);
+        return (index != null ? index.intValue() : -1);
     }
 
     /**
@@ -189,7 +201,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      */
     public int getColumnIndex(Comparable key) {
         Args.nullNotPermitted(key, "key");
-        return this.columnKeys.indexOf(key);
+        Integer index = (Integer) this.columnIndexMap.get(key);
+        return (index != null ? index.intValue() : -1);
     }
 
     /**
@@ -219,12 +232,12 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public Object getObject(Comparable rowKey, Comparable columnKey) {
         Args.nullNotPermitted(rowKey, "rowKey");
         Args.nullNotPermitted(columnKey, "columnKey");
-        int row = this.rowKeys.indexOf(rowKey);
+        int row = getRowIndex(rowKey);
         if (row < 0) {
             throw new UnknownKeyException("Row key (" + rowKey
                     + ") not recognised.");
         }
-        int column = this.columnKeys.indexOf(columnKey);
+        int column = getColumnIndex(columnKey);
         if (column < 0) {
             throw new UnknownKeyException("Column key (" + columnKey
                     + ") not recognised.");
@@ -263,7 +276,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         Args.nullNotPermitted(rowKey, "rowKey");
         Args.nullNotPermitted(columnKey, "columnKey");
         KeyedObjects row;
-        int rowIndex = this.rowKeys.indexOf(rowKey);
+        int rowIndex = getRowIndex(rowKey);
         if (rowIndex >= 0) {
             row = (KeyedObjects) this.rows.get(rowIndex);
         }
@@ -271,11 +284,15 @@ public class KeyedObjects2D implements Cloneable, Serializable {
             this.rowKeys.add(rowKey);
             row = new KeyedObjects();
             this.rows.add(row);
+            this.rowIndexMap.put(rowKey,
+                    Integer.valueOf(this.rowKeys.size() - 1));
         }
         row.setObject(columnKey, object);
-        int columnIndex = this.columnKeys.indexOf(columnKey);
+        int columnIndex = getColumnIndex(columnKey);
         if (columnIndex < 0) {
             this.columnKeys.add(columnKey);
+            this.columnIndexMap.put(columnKey,
+                    Integer.valueOf(this.columnKeys.size() - 1));
         }
     }
 
@@ -315,8 +332,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         }
 
         if (allNull) {
-            this.rowKeys.remove(rowIndex);
-            this.rows.remove(rowIndex);
+            removeRow(rowIndex);
         }
 
         // 2. check whether the column is now empty.
@@ -341,7 +357,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
                     row.removeValue(colIndex);
                 }
             }
-            this.columnKeys.remove(columnKey);
+            removeColumnKey(columnIndex);
         }
     }
 
@@ -353,8 +369,10 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      * @see #removeColumn(int)
      */
     public void removeRow(int rowIndex) {
-        this.rowKeys.remove(rowIndex);
+        Object rowKey = this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        this.rowIndexMap.remove(rowKey);
+        updateIndex(this.rowIndexMap, this.rowKeys, rowIndex);
     }
 
     /**
@@ -410,7 +428,33 @@ public class KeyedObjects2D implements Cloneable, Serializable {
                 rowData.removeValue(i);
             }
         }
-        this.columnKeys.remove(columnKey);
+        removeColumnKey(index);
+    }
+
+    /**
+     * Removes a column key and updates the indices of the keys that follow
+     * it.
+     *
+     * @param columnIndex  the column index.
+     */
+    private void removeColumnKey(int columnIndex) {
+        Object columnKey = this.columnKeys.remove(columnIndex);
+        this.columnIndexMap.remove(columnKey);
+        updateIndex(this.columnIndexMap, this.columnKeys, columnIndex);
+    }
+
+    /**
+     * Updates an index map for the keys from position {@code start}
+     * onwards, following a removal at that position.
+     *
+     * @param indexMap  the index map.
+     * @param keys  the keys.
+     * @param start  the first position to update.
+     */
+    private static void updateIndex(HashMap indexMap, List keys, int start) {
+        for (int i = start; i < keys.size(); i++) {
+            indexMap.put(keys.get(i), Integer.valueOf(i));
+        }
     }
 
     /**
@@ -422,6 +466,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         this.rowKeys.clear();
         this.columnKeys.clear();
         this.rows.clear();
+        this.rowIndexMap.clear();
+        this.columnIndexMap.clear();
     }
 
     /**
@@ -501,6 +547,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         KeyedObjects2D clone = (KeyedObjects2D) super.clone();
         clone.columnKeys = new java.util.ArrayList(this.columnKeys);
         clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+        clone.rowIndexMap = new HashMap(this.rowIndexMap);
+        clone.columnIndexMap = new HashMap(this.columnIndexMap);
         clone.rows = new java.util.ArrayList(this.rows.size());
         Iterator iterator = this.rows.iterator();
         while (iterator.hasNext()) {
@@ -510,4 +558,21 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowIndexMap = new HashMap();
+        updateIndex(this.rowIndexMap, this.rowKeys, 0);
+        this.columnIndexMap = new HashMap();
+        updateIndex(this.columnIndexMap, this.columnKeys, 0);
+    }
+
 }
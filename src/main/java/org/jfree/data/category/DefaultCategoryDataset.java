@@ -49,10 +49,14 @@
 package org.jfree.data.category;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import org.jfree.chart.util.Args;
 import org.jfree.chart.util.PublicCloneable;
 
 import org.jfree.data.DefaultKeyedValues2D;
+import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.AbstractDataset;
 import org.jfree.data.general.DatasetChangeEvent;
@@ -61,7 +65,8 @@ import org.jfree.data.general.DatasetChangeEvent;
  * A default implementation of the {@link CategoryDataset} interface.
  */
 public class DefaultCategoryDataset extends AbstractDataset
-        implements CategoryDataset, PublicCloneable, Serializable {
+        implements CategoryDataset, CategoryRangeInfo, PublicCloneable,
+        Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -8168173757291644622L;
@@ -69,6 +74,19 @@ public class DefaultCategoryDataset extends AbstractDataset
     /** A storage structure for the data. */
     private DefaultKeyedValues2D data;
 
+    /**
+     * The minimum and maximum value for each row (keyed by row key), used
+     * to find the range bounds without iterating over the data.  An entry
+     * is added when the bounds for a row are first requested, extended as
+     * values are added and removed when a change could shrink the bounds.
+     * This field is {@code null} until it is first used.  Since the bounds
+     * are requested by methods that only read the dataset (and several
+     * charts can read it at the same time), the map and the arrays in it are
+     * never changed once they are assigned to this field: each change
+     * assigns a changed copy of the map instead.
+     */
+    private transient volatile HashMap rowBounds;
+
     /**
      * Creates a new (empty) dataset.
      */
@@ -229,6 +247,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void addValue(Number value, Comparable rowKey,
                          Comparable columnKey) {
+        updateRowBounds(value, rowKey, columnKey);
         this.data.addValue(value, rowKey, columnKey);
         fireDatasetChanged();
     }
@@ -259,6 +278,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void setValue(Number value, Comparable rowKey,
                          Comparable columnKey) {
+        updateRowBounds(value, rowKey, columnKey);
         this.data.setValue(value, rowKey, columnKey);
         fireDatasetChanged();
     }
@@ -310,6 +330,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void removeValue(Comparable rowKey, Comparable columnKey) {
         this.data.removeValue(rowKey, columnKey);
+        invalidateRowBounds(rowKey);
         fireDatasetChanged();
     }
 
@@ -322,6 +343,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      * @see #removeColumn(int)
      */
     public void removeRow(int rowIndex) {
+        invalidateRowBounds(getRowKey(rowIndex));
         this.data.removeRow(rowIndex);
         fireDatasetChanged();
     }
@@ -336,6 +358,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void removeRow(Comparable rowKey) {
         this.data.removeRow(rowKey);
+        invalidateRowBounds(rowKey);
         fireDatasetChanged();
     }
 
@@ -349,6 +372,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void removeColumn(int columnIndex) {
         this.data.removeColumn(columnIndex);
+        this.rowBounds = null;
         fireDatasetChanged();
     }
 
@@ -365,6 +389,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void removeColumn(Comparable columnKey) {
         this.data.removeColumn(columnKey);
+        this.rowBounds = null;
         fireDatasetChanged();
     }
 
@@ -374,9 +399,142 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void clear() {
         this.data.clear();
+        this.rowBounds = null;
         fireDatasetChanged();
     }
 
+    /**
+     * Returns the range of the values in the specified rows.  The bounds
+     * for each row are cached, so after the first call only the rows that
+     * have been changed in a way that could shrink their bounds are
+     * scanned again.
+     *
+     * @param visibleSeriesKeys  the keys of the rows to include
+     *     ({@code null} not permitted).
+     * @param includeInterval  ignored (this dataset has no intervals).
+     *
+     * @return The range (or {@code null} if the rows contain no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable rowKey = (Comparable) iterator.next();
+            double[] bounds = getRowBounds(rowKey);
+            minimum = Math.min(minimum, bounds[0]);
+            maximum = Math.max(maximum, bounds[1]);
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Returns the minimum and maximum value in a row, ignoring
+     * {@code null} and {@code NaN} values.  If the row contains no values,
+     * the minimum is positive infinity and the maximum negative infinity.
+     *
+     * @param rowKey  the row key.
+     *
+     * @return The bounds (never {@code null}).
+     */
+    private double[] getRowBounds(Comparable rowKey) {
+        HashMap cache = this.rowBounds;
+        double[] bounds = null;
+        if (cache != null) {
+            bounds = (double[]) cache.get(rowKey);
+        }
+        if (bounds == null) {
+            bounds = new double[] {Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY};
+            int row = getRowIndex(rowKey);
+            if (row < 0) {
+                throw new UnknownKeyException("Row key (" + rowKey
+                        + ") not recognised.");
+            }
+            int columnCount = getColumnCount();
+            for (int column = 0; column < columnCount; column++) {
+                Number value = getValue(row, column);
+                if (value != null) {
+                    double v = value.doubleValue();
+                    if (!Double.isNaN(v)) {
+                        bounds[0] = Math.min(bounds[0], v);
+                        bounds[1] = Math.max(bounds[1], v);
+                    }
+                }
+            }
+            // publish a new map, so that other threads never see a map
+            // that is being changed (if two threads add an entry at the same
+            // time, one of the entries is lost and found again later)
+            HashMap copy = cache == null ? new HashMap() : new HashMap(cache);
+            copy.put(rowKey, bounds);
+            this.rowBounds = copy;
+        }
+        return bounds;
+    }
+
+    /**
+     * Updates the cached bounds for a row before a value in the row is set.
+     * The bounds are extended to include the new value unless the existing
+     * value lies on one of the bounds, in which case the bounds might
+     * shrink and are discarded.
+     *
+     * @param value  the new value ({@code null} permitted).
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     */
+    private void updateRowBounds(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        HashMap cache = this.rowBounds;
+        if (cache == null) {
+            return;
+        }
+        double[] bounds = (double[]) cache.get(rowKey);
+        if (bounds == null) {
+            return;
+        }
+        if (getColumnIndex(columnKey) >= 0) {
+            Number existing = getValue(rowKey, columnKey);
+            if (existing != null) {
+                double v = existing.doubleValue();
+                if (v <= bounds[0] || v >= bounds[1]) {
+                    invalidateRowBounds(rowKey);
+                    return;
+                }
+            }
+        }
+        if (value != null) {
+            double v = value.doubleValue();
+            if (v < bounds[0] || v > bounds[1]) {
+                HashMap copy = new HashMap(cache);
+                copy.put(rowKey, new double[] {Math.min(bounds[0], v),
+                        Math.max(bounds[1], v)});
+                this.rowBounds = copy;
+            }
+        }
+    }
+
+    /**
+     * Discards the cached bounds for a row.
+     *
+     * @param rowKey  the row key.
+     */
+    private void invalidateRowBounds(Comparable rowKey) {
+        HashMap cache = this.rowBounds;
+        if (cache != null && cache.containsKey(rowKey)) {
+            HashMap copy = new HashMap(cache);
+            copy.remove(rowKey);
+            this.rowBounds = copy;
+        }
+    }
+
     /**
      * Tests this dataset for equality with an arbitrary object.
      *
@@ -440,6 +598,7 @@ public class DefaultCategoryDataset extends AbstractDataset
     public Object clone() throws CloneNotSupportedException {
         DefaultCategoryDataset clone = (DefaultCategoryDataset) super.clone();
         clone.data = (DefaultKeyedValues2D) this.data.clone();
+        clone.rowBounds = null;
         return clone;
     }
 
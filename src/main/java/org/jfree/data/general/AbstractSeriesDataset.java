@@ -45,6 +45,8 @@
 package org.jfree.data.general;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * An abstract implementation of the {@link SeriesDataset} interface,
@@ -114,4 +116,41 @@ public abstract class AbstractSeriesDataset extends AbstractDataset
         fireDatasetChanged();
     }
 
+    /**
+     * Sends a {@link DatasetChangeEvent} to all registered listeners for a
+     * change to one of the series in the dataset.  If the series change only
+     * appended items (see {@link SeriesChangeEvent#getFirstAppendedItem()}),
+     * the dataset event records the appended items, which requires the
+     * items of each series in the dataset to match the items of the
+     * corresponding series object.
+     *
+     * @param event  the series change event ({@code null} not permitted).
+     * @param seriesList  the series objects, in the order of the series in
+     *     the dataset ({@code null} not permitted).
+     *
+     * @since 1.6.0
+     */
+    protected void fireDatasetChanged(SeriesChangeEvent event,
+            List<?> seriesList) {
+        int first = event.getFirstAppendedItem();
+        int series = -1;
+        if (first >= 0) {
+            for (int i = 0; i < seriesList.size(); i++) {
+                if (seriesList.get(i) == event.getSource()) {
+                    series = i;
+                    break;
+                }
+            }
+        }
+        if (series < 0) {
+            fireDatasetChanged();
+        }
+        else if (getNotify()) {
+            int[] items = new int[getSeriesCount()];
+            Arrays.fill(items, -1);
+            items[series] = first;
+            notifyListeners(new DatasetChangeEvent(this, this, items));
+        }
+    }
+
 }
@@ -47,8 +47,14 @@
 
 package org.jfree.data.general;
 
+import java.util.Arrays;
+
 /**
  * A change event that encapsulates information about a change to a dataset.
+ * <P>
+ * An event can also record that the change only appended items to the end
+ * of some series (see {@link #isAppend()}), which listeners can use as a
+ * hint to update derived values (such as axis ranges) incrementally.
  */
 public class DatasetChangeEvent extends java.util.EventObject {
 
@@ -57,6 +63,13 @@ public class DatasetChangeEvent extends java.util.EventObject {
      */
     private Dataset dataset;
 
+    /**
+     * For a change that only appended items, the index of the first appended
+     * item in each series (-1 for a series with no new items), otherwise
+     * {@code null}.
+     */
+    private int[] firstAppendedItems;
+
     /**
      * Constructs a new event.  The source is either the dataset or the
      * {@link org.jfree.chart.plot.Plot} class.  The dataset can be
@@ -72,6 +85,29 @@ public class DatasetChangeEvent extends java.util.EventObject {
         this.dataset = dataset;
     }
 
+    /**
+     * Constructs a new event for a change that appended items to the end of
+     * one or more series of a dataset, without changing any other items.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event ({@code null}
+     *     not permitted).
+     * @param firstAppendedItems  the index of the first appended item in
+     *     each series, or -1 for a series with no new items ({@code null}
+     *     not permitted).  The array is copied.
+     *
+     * @since 1.6.0
+     */
+    public DatasetChangeEvent(Object source, Dataset dataset,
+            int[] firstAppendedItems) {
+        this(source, dataset);
+        if (dataset == null || firstAppendedItems == null) {
+            throw new IllegalArgumentException(
+                    "Null 'dataset' or 'firstAppendedItems' argument.");
+        }
+        this.firstAppendedItems = firstAppendedItems.clone();
+    }
+
     /**
      * Returns the dataset that generated the event.  Note that the dataset
      * may be {@code null} since adding a {@code null} dataset to a
@@ -83,4 +119,72 @@ public class DatasetChangeEvent extends java.util.EventObject {
         return this.dataset;
     }
 
+    /**
+     * Returns {@code true} if the change only appended items to the end of
+     * one or more series (see {@link #getFirstAppendedItem(int)}), and
+     * {@code false} if the change is not known to be an append.
+     *
+     * @return A boolean.
+     *
+     * @since 1.6.0
+     */
+    public boolean isAppend() {
+        return this.firstAppendedItems != null;
+    }
+
+    /**
+     * Returns the index of the first item appended to a series, or -1 if no
+     * items were appended to the series (or the change is not an append).
+     *
+     * @param series  the series index.
+     *
+     * @return The item index, or -1.
+     *
+     * @see #isAppend()
+     *
+     * @since 1.6.0
+     */
+    public int getFirstAppendedItem(int series) {
+        if (this.firstAppendedItems == null || series < 0
+                || series >= this.firstAppendedItems.length) {
+            return -1;
+        }
+        return this.firstAppendedItems[series];
+    }
+
+    /**
+     * Returns an event that describes this change followed by a later change.
+     * If both events describe items appended to the same dataset, the result
+     * describes all the appended items, otherwise it is a general event for
+     * the dataset of the later change.  This is used to coalesce the events
+     * received during a batch of changes.
+     *
+     * @param later  the later event ({@code null} not permitted).
+     *
+     * @return The combined event.
+     *
+     * @since 1.6.0
+     */
+    public DatasetChangeEvent merge(DatasetChangeEvent later) {
+        if (later == null) {
+            throw new IllegalArgumentException("Null 'later' argument.");
+        }
+        if (!isAppend() || !later.isAppend() || this.dataset != later.dataset
+                || this.firstAppendedItems.length
+                != later.firstAppendedItems.length) {
+            return later.isAppend()
+                    ? new DatasetChangeEvent(later.getSource(), later.dataset)
+                    : later;
+        }
+        int[] items = Arrays.copyOf(this.firstAppendedItems,
+                this.firstAppendedItems.length);
+        for (int s = 0; s < items.length; s++) {
+            int item = later.firstAppendedItems[s];
+            if (item >= 0 && (items[s] < 0 || item < items[s])) {
+                items[s] = item;
+            }
+        }
+        return new DatasetChangeEvent(later.getSource(), this.dataset, items);
+    }
+
 }
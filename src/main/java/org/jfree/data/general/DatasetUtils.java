@@ -132,6 +132,8 @@ package org.jfree.data.general;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import org.jfree.chart.util.ArrayUtils;
 import org.jfree.chart.util.Args;
 
@@ -172,6 +174,72 @@ public final class DatasetUtils {
         // now try to instantiate this ;-)
     }
 
+    /**
+     * The maximum number of items from one series that are scanned by a
+     * single task when the bounds are calculated in parallel.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 65536;
+
+    /**
+     * The number of items above which bounds are calculated in parallel
+     * ({@code Integer.MAX_VALUE} turns the parallel calculation off).
+     */
+    private static volatile int parallelThreshold = Integer.MAX_VALUE;
+
+    /** The pool used to calculate bounds in parallel (created lazily). */
+    private static ForkJoinPool boundsPool;
+
+    /**
+     * Returns the total number of items (over the series being scanned) at
+     * or above which the {@code iterateDomainBounds()},
+     * {@code iterateRangeBounds()}, {@code iterateZBounds()} and
+     * {@code iterateToFindRangeBounds()} methods for {@link XYDataset}
+     * split the work across several threads.  The default value is
+     * {@code Integer.MAX_VALUE}, so the bounds are calculated on the calling
+     * thread unless the parallel calculation has been turned on with
+     * {@link #setParallelThreshold(int)}.
+     *
+     * @return The threshold.
+     *
+     * @see #setParallelThreshold(int)
+     *
+     * @since 1.6.0
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the total number of items at or above which the bounds of an
+     * {@link XYDataset} are calculated in parallel (a value of about one
+     * million items is a reasonable choice), or {@code Integer.MAX_VALUE} to
+     * turn the parallel calculation off.  The results are the same either
+     * way (including the handling of {@code NaN} values), but in the
+     * parallel case the dataset is read by several threads at the same
+     * time.  Only turn the parallel calculation on if every dataset of this
+     * size that the application scans is safe for concurrent reads: the
+     * collections backed by primitive arrays (such as
+     * {@link org.jfree.data.xy.DefaultXYDataset} and
+     * {@link org.jfree.data.xy.DoubleXYSeriesCollection}) are, while
+     * {@link org.jfree.data.time.TimeSeriesCollection} and
+     * {@link org.jfree.data.time.DynamicTimeSeriesCollection} are not,
+     * because they evaluate the x-values with a shared {@code Calendar}.
+     * Datasets must not be modified while their bounds are calculated.
+     *
+     * @param threshold  the threshold (must be positive).
+     *
+     * @see #getParallelThreshold()
+     *
+     * @since 1.6.0
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'threshold' to be positive.");
+        }
+        parallelThreshold = threshold;
+    }
+
     /**
      * Calculates the total of all the values in a {@link PieDataset}.  If
      * the dataset contains negative or {@code null} values, they are
@@ -715,6 +783,8 @@ public final class DatasetUtils {
     /**
      * Iterates over the items in an {@link XYDataset} to find
      * the range of x-values.
+     * Large datasets can be scanned in parallel (see
+     * {@link #setParallelThreshold(int)}).
      *
      * @param dataset  the dataset ({@code null} not permitted).
      * @param includeInterval  a flag that determines, for an
@@ -726,46 +796,61 @@ public final class DatasetUtils {
     public static Range iterateDomainBounds(XYDataset dataset,
             boolean includeInterval) {
         Args.nullNotPermitted(dataset, "dataset");
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        int seriesCount = dataset.getSeriesCount();
-        double lvalue, uvalue;
+        BoundsScanner scanner;
         if (includeInterval && dataset instanceof IntervalXYDataset) {
-            IntervalXYDataset intervalXYData = (IntervalXYDataset) dataset;
-            for (int series = 0; series < seriesCount; series++) {
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double value = intervalXYData.getXValue(series, item);
-                    lvalue = intervalXYData.getStartXValue(series, item);
-                    uvalue = intervalXYData.getEndXValue(series, item);
-                    if (!Double.isNaN(value)) {
-                        minimum = Math.min(minimum, value);
-                        maximum = Math.max(maximum, value);
-                    }
-                    if (!Double.isNaN(lvalue)) {
-                        minimum = Math.min(minimum, lvalue);
-                        maximum = Math.max(maximum, lvalue);
-                    }
-                    if (!Double.isNaN(uvalue)) {
-                        minimum = Math.min(minimum, uvalue);
-                        maximum = Math.max(maximum, uvalue);
+            final IntervalXYDataset intervalXYData = (IntervalXYDataset) dataset;
+            scanner = new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    double minimum = bounds[0];
+                    double maximum = bounds[1];
+                    double lvalue, uvalue;
+                    for (int item = start; item < end; item++) {
+                        double value = intervalXYData.getXValue(series, item);
+                        lvalue = intervalXYData.getStartXValue(series, item);
+                        uvalue = intervalXYData.getEndXValue(series, item);
+                        if (!Double.isNaN(value)) {
+                            minimum = Math.min(minimum, value);
+                            maximum = Math.max(maximum, value);
+                        }
+                        if (!Double.isNaN(lvalue)) {
+                            minimum = Math.min(minimum, lvalue);
+                            maximum = Math.max(maximum, lvalue);
+                        }
+                        if (!Double.isNaN(uvalue)) {
+                            minimum = Math.min(minimum, uvalue);
+                            maximum = Math.max(maximum, uvalue);
+                        }
                     }
+                    bounds[0] = minimum;
+                    bounds[1] = maximum;
                 }
-            }
+            };
         }
         else {
-            for (int series = 0; series < seriesCount; series++) {
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    lvalue = dataset.getXValue(series, item);
-                    uvalue = lvalue;
-                    if (!Double.isNaN(lvalue)) {
-                        minimum = Math.min(minimum, lvalue);
-                        maximum = Math.max(maximum, uvalue);
+            final XYDataset d = dataset;
+            scanner = new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    double minimum = bounds[0];
+                    double maximum = bounds[1];
+                    double lvalue, uvalue;
+                    for (int item = start; item < end; item++) {
+                        lvalue = d.getXValue(series, item);
+                        uvalue = lvalue;
+                        if (!Double.isNaN(lvalue)) {
+                            minimum = Math.min(minimum, lvalue);
+                            maximum = Math.max(maximum, uvalue);
+                        }
                     }
+                    bounds[0] = minimum;
+                    bounds[1] = maximum;
                 }
-            }
+            };
         }
+        double[] bounds = scanBounds(dataset, allSeries(dataset), scanner);
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (minimum > maximum) {
             return null;
         }
@@ -1161,6 +1246,8 @@ public final class DatasetUtils {
     /**
      * Iterates over the data items of the xy dataset to find
      * the range bounds.
+     * Large datasets can be scanned in parallel (see
+     * {@link #setParallelThreshold(int)}).
      *
      * @param dataset  the dataset ({@code null} not permitted).
      * @param includeInterval  a flag that determines, for an
@@ -1173,70 +1260,88 @@ public final class DatasetUtils {
      */
     public static Range iterateRangeBounds(XYDataset dataset,
             boolean includeInterval) {
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        int seriesCount = dataset.getSeriesCount();
+        BoundsScanner scanner;
 
         // handle three cases by dataset type
         if (includeInterval && dataset instanceof IntervalXYDataset) {
             // handle special case of IntervalXYDataset
-            IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
-            for (int series = 0; series < seriesCount; series++) {
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double value = ixyd.getYValue(series, item);
-                    double lvalue = ixyd.getStartYValue(series, item);
-                    double uvalue = ixyd.getEndYValue(series, item);
-                    if (!Double.isNaN(value)) {
-                        minimum = Math.min(minimum, value);
-                        maximum = Math.max(maximum, value);
-                    }
-                    if (!Double.isNaN(lvalue)) {
-                        minimum = Math.min(minimum, lvalue);
-                        maximum = Math.max(maximum, lvalue);
-                    }
-                    if (!Double.isNaN(uvalue)) {
-                        minimum = Math.min(minimum, uvalue);
-                        maximum = Math.max(maximum, uvalue);
+            final IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
+            scanner = new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    double minimum = bounds[0];
+                    double maximum = bounds[1];
+                    for (int item = start; item < end; item++) {
+                        double value = ixyd.getYValue(series, item);
+                        double lvalue = ixyd.getStartYValue(series, item);
+                        double uvalue = ixyd.getEndYValue(series, item);
+                        if (!Double.isNaN(value)) {
+                            minimum = Math.min(minimum, value);
+                            maximum = Math.max(maximum, value);
+                        }
+                        if (!Double.isNaN(lvalue)) {
+                            minimum = Math.min(minimum, lvalue);
+                            maximum = Math.max(maximum, lvalue);
+                        }
+                        if (!Double.isNaN(uvalue)) {
+                            minimum = Math.min(minimum, uvalue);
+                            maximum = Math.max(maximum, uvalue);
+                        }
                     }
+                    bounds[0] = minimum;
+                    bounds[1] = maximum;
                 }
-            }
+            };
         }
         else if (includeInterval && dataset instanceof OHLCDataset) {
             // handle special case of OHLCDataset
-            OHLCDataset ohlc = (OHLCDataset) dataset;
-            for (int series = 0; series < seriesCount; series++) {
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double lvalue = ohlc.getLowValue(series, item);
-                    double uvalue = ohlc.getHighValue(series, item);
-                    if (!Double.isNaN(lvalue)) {
-                        minimum = Math.min(minimum, lvalue);
-                    }
-                    if (!Double.isNaN(uvalue)) {
-                        maximum = Math.max(maximum, uvalue);
+            final OHLCDataset ohlc = (OHLCDataset) dataset;
+            scanner = new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    double minimum = bounds[0];
+                    double maximum = bounds[1];
+                    for (int item = start; item < end; item++) {
+                        double lvalue = ohlc.getLowValue(series, item);
+                        double uvalue = ohlc.getHighValue(series, item);
+                        if (!Double.isNaN(lvalue)) {
+                            minimum = Math.min(minimum, lvalue);
+                        }
+                        if (!Double.isNaN(uvalue)) {
+                            maximum = Math.max(maximum, uvalue);
+                        }
                     }
+                    bounds[0] = minimum;
+                    bounds[1] = maximum;
                 }
-            }
+            };
         }
         else {
             // standard case - plain XYDataset
-            for (int series = 0; series < seriesCount; series++) {
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double value = dataset.getYValue(series, item);
-                    if (!Double.isNaN(value)) {
-                        minimum = Math.min(minimum, value);
-                        maximum = Math.max(maximum, value);
+            final XYDataset d = dataset;
+            scanner = new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    double minimum = bounds[0];
+                    double maximum = bounds[1];
+                    for (int item = start; item < end; item++) {
+                        double value = d.getYValue(series, item);
+                        if (!Double.isNaN(value)) {
+                            minimum = Math.min(minimum, value);
+                            maximum = Math.max(maximum, value);
+                        }
                     }
+                    bounds[0] = minimum;
+                    bounds[1] = maximum;
                 }
-            }
+            };
         }
-        if (minimum == Double.POSITIVE_INFINITY) {
+        double[] bounds = scanBounds(dataset, allSeries(dataset), scanner);
+        if (bounds[0] == Double.POSITIVE_INFINITY) {
             return null;
         }
         else {
-            return new Range(minimum, maximum);
+            return new Range(bounds[0], bounds[1]);
         }
     }
 
@@ -1309,6 +1414,8 @@ public final class DatasetUtils {
     /**
      * Iterates over the data items of the xyz dataset to find
      * the z-dimension bounds.
+     * Large datasets can be scanned in parallel (see
+     * {@link #setParallelThreshold(int)}).
      *
      * @param dataset  the dataset ({@code null} not permitted).
      * @param includeInterval  include the z-interval (if the dataset has a
@@ -1318,26 +1425,29 @@ public final class DatasetUtils {
      */
     public static Range iterateZBounds(XYZDataset dataset,
             boolean includeInterval) {
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        int seriesCount = dataset.getSeriesCount();
-
-        for (int series = 0; series < seriesCount; series++) {
-            int itemCount = dataset.getItemCount(series);
-            for (int item = 0; item < itemCount; item++) {
-                double value = dataset.getZValue(series, item);
-                if (!Double.isNaN(value)) {
-                    minimum = Math.min(minimum, value);
-                    maximum = Math.max(maximum, value);
+        final XYZDataset d = dataset;
+        BoundsScanner scanner = new BoundsScanner() {
+            @Override
+            void scan(int series, int start, int end, double[] bounds) {
+                double minimum = bounds[0];
+                double maximum = bounds[1];
+                for (int item = start; item < end; item++) {
+                    double value = d.getZValue(series, item);
+                    if (!Double.isNaN(value)) {
+                        minimum = Math.min(minimum, value);
+                        maximum = Math.max(maximum, value);
+                    }
                 }
+                bounds[0] = minimum;
+                bounds[1] = maximum;
             }
-        }
-
-        if (minimum == Double.POSITIVE_INFINITY) {
+        };
+        double[] bounds = scanBounds(dataset, allSeries(dataset), scanner);
+        if (bounds[0] == Double.POSITIVE_INFINITY) {
             return null;
         }
         else {
-            return new Range(minimum, maximum);
+            return new Range(bounds[0], bounds[1]);
         }
     }
 
@@ -1415,7 +1525,8 @@ public final class DatasetUtils {
     /**
      * Returns the range of y-values in the specified dataset for the
      * data items belonging to the visible series and with x-values in the
-     * given range.
+     * given range.  Large datasets can be scanned in parallel (see
+     * {@link #setParallelThreshold(int)}).
      *
      * @param dataset  the dataset ({@code null} not permitted).
      * @param visibleSeriesKeys  the visible series keys ({@code null} not
@@ -1436,106 +1547,124 @@ public final class DatasetUtils {
         Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
         Args.nullNotPermitted(xRange, "xRange");
 
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
+        final double xLower = xRange.getLowerBound();
+        final double xUpper = xRange.getUpperBound();
+        BoundsScanner scanner;
 
         // handle three cases by dataset type
         if (includeInterval && dataset instanceof OHLCDataset) {
             // handle special case of OHLCDataset
-            OHLCDataset ohlc = (OHLCDataset) dataset;
-            Iterator iterator = visibleSeriesKeys.iterator();
-            while (iterator.hasNext()) {
-                Comparable seriesKey = (Comparable) iterator.next();
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double x = ohlc.getXValue(series, item);
-                    if (xRange.contains(x)) {
-                        double lvalue = ohlc.getLowValue(series, item);
-                        double uvalue = ohlc.getHighValue(series, item);
-                        if (!Double.isNaN(lvalue)) {
-                            minimum = Math.min(minimum, lvalue);
-                        }
-                        if (!Double.isNaN(uvalue)) {
-                            maximum = Math.max(maximum, uvalue);
+            final OHLCDataset ohlc = (OHLCDataset) dataset;
+            scanner = new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    double minimum = bounds[0];
+                    double maximum = bounds[1];
+                    for (int item = start; item < end; item++) {
+                        double x = ohlc.getXValue(series, item);
+                        if (x >= xLower && x <= xUpper) {
+                            double lvalue = ohlc.getLowValue(series, item);
+                            double uvalue = ohlc.getHighValue(series, item);
+                            if (!Double.isNaN(lvalue)) {
+                                minimum = Math.min(minimum, lvalue);
+                            }
+                            if (!Double.isNaN(uvalue)) {
+                                maximum = Math.max(maximum, uvalue);
+                            }
                         }
                     }
+                    bounds[0] = minimum;
+                    bounds[1] = maximum;
                 }
-            }
+            };
         }
         else if (includeInterval && dataset instanceof BoxAndWhiskerXYDataset) {
             // handle special case of BoxAndWhiskerXYDataset
-            BoxAndWhiskerXYDataset bx = (BoxAndWhiskerXYDataset) dataset;
-            Iterator iterator = visibleSeriesKeys.iterator();
-            while (iterator.hasNext()) {
-                Comparable seriesKey = (Comparable) iterator.next();
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double x = bx.getXValue(series, item);
-                    if (xRange.contains(x)) {
-                        Number lvalue = bx.getMinRegularValue(series, item);
-                        Number uvalue = bx.getMaxRegularValue(series, item);
-                        if (lvalue != null) {
-                            minimum = Math.min(minimum, lvalue.doubleValue());
-                        }
-                        if (uvalue != null) {
-                            maximum = Math.max(maximum, uvalue.doubleValue());
+            final BoxAndWhiskerXYDataset bx = (BoxAndWhiskerXYDataset) dataset;
+            scanner = new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    double minimum = bounds[0];
+                    double maximum = bounds[1];
+                    for (int item = start; item < end; item++) {
+                        double x = bx.getXValue(series, item);
+                        if (x >= xLower && x <= xUpper) {
+                            Number lvalue = bx.getMinRegularValue(series, item);
+                            Number uvalue = bx.getMaxRegularValue(series, item);
+                            if (lvalue != null) {
+                                minimum = Math.min(minimum,
+                                        lvalue.doubleValue());
+                            }
+                            if (uvalue != null) {
+                                maximum = Math.max(maximum,
+                                        uvalue.doubleValue());
+                            }
                         }
                     }
+                    bounds[0] = minimum;
+                    bounds[1] = maximum;
                 }
-            }
+            };
         }
         else if (includeInterval && dataset instanceof IntervalXYDataset) {
             // handle special case of IntervalXYDataset
-            IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
-            Iterator iterator = visibleSeriesKeys.iterator();
-            while (iterator.hasNext()) {
-                Comparable seriesKey = (Comparable) iterator.next();
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double x = ixyd.getXValue(series, item);
-                    if (xRange.contains(x)) {
-                        double yvalue = ixyd.getYValue(series, item);
-                        double lvalue = ixyd.getStartYValue(series, item);
-                        double uvalue = ixyd.getEndYValue(series, item);
-                        if (!Double.isNaN(yvalue)) {
-                            minimum = Math.min(minimum, yvalue);
-                            maximum = Math.max(maximum, yvalue);
-                        }
-                        if (!Double.isNaN(lvalue)) {
-                            minimum = Math.min(minimum, lvalue);
-                        }
-                        if (!Double.isNaN(uvalue)) {
-                            maximum = Math.max(maximum, uvalue);
+            final IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
+            scanner = new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    double minimum = bounds[0];
+                    double maximum = bounds[1];
+                    for (int item = start; item < end; item++) {
+                        double x = ixyd.getXValue(series, item);
+                        if (x >= xLower && x <= xUpper) {
+                            double yvalue = ixyd.getYValue(series, item);
+                            double lvalue = ixyd.getStartYValue(series, item);
+                            double uvalue = ixyd.getEndYValue(series, item);
+                            if (!Double.isNaN(yvalue)) {
+                                minimum = Math.min(minimum, yvalue);
+                                maximum = Math.max(maximum, yvalue);
+                            }
+                            if (!Double.isNaN(lvalue)) {
+                                minimum = Math.min(minimum, lvalue);
+                            }
+                            if (!Double.isNaN(uvalue)) {
+                                maximum = Math.max(maximum, uvalue);
+                            }
                         }
                     }
+                    bounds[0] = minimum;
+                    bounds[1] = maximum;
                 }
-            }
+            };
         } else {
             // standard case - plain XYDataset
-            Iterator iterator = visibleSeriesKeys.iterator();
-            while (iterator.hasNext()) {
-                Comparable seriesKey = (Comparable) iterator.next();
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double x = dataset.getXValue(series, item);
-                    double y = dataset.getYValue(series, item);
-                    if (xRange.contains(x)) {
-                        if (!Double.isNaN(y)) {
-                            minimum = Math.min(minimum, y);
-                            maximum = Math.max(maximum, y);
+            final XYDataset d = dataset;
+            scanner = new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    double minimum = bounds[0];
+                    double maximum = bounds[1];
+                    for (int item = start; item < end; item++) {
+                        double x = d.getXValue(series, item);
+                        double y = d.getYValue(series, item);
+                        if (x >= xLower && x <= xUpper) {
+                            if (!Double.isNaN(y)) {
+                                minimum = Math.min(minimum, y);
+                                maximum = Math.max(maximum, y);
+                            }
                         }
                     }
+                    bounds[0] = minimum;
+                    bounds[1] = maximum;
                 }
-            }
+            };
         }
-        if (minimum == Double.POSITIVE_INFINITY) {
+        double[] bounds = scanBounds(dataset,
+                seriesIndices(dataset, visibleSeriesKeys), scanner);
+        if (bounds[0] == Double.POSITIVE_INFINITY) {
             return null;
         } else {
-            return new Range(minimum, maximum);
+            return new Range(bounds[0], bounds[1]);
         }
     }
 
@@ -2375,4 +2504,194 @@ public final class DatasetUtils {
         }
     }
 
+    /**
+     * Returns the indices of all the series in a dataset.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     *
+     * @return The series indices.
+     */
+    private static int[] allSeries(XYDataset dataset) {
+        int[] result = new int[dataset.getSeriesCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indices of the series with the specified keys.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param seriesKeys  the series keys ({@code null} not permitted).
+     *
+     * @return The series indices.
+     */
+    private static int[] seriesIndices(XYDataset dataset, List seriesKeys) {
+        int[] result = new int[seriesKeys.size()];
+        Iterator iterator = seriesKeys.iterator();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dataset.indexOf((Comparable) iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * Scans the items in some series of a dataset and returns the bounds
+     * found by the scanner as a two element array (minimum then maximum,
+     * {@code Double.POSITIVE_INFINITY} and {@code Double.NEGATIVE_INFINITY}
+     * if nothing is found).  When the total item count reaches the
+     * parallel threshold, the series are split into chunks that are scanned
+     * concurrently and the partial bounds are combined with
+     * {@code Math.min()} and {@code Math.max()}.  Those functions are
+     * associative and commutative (also for {@code NaN}, which is never
+     * dropped once it has been found), so the result does not depend on how
+     * the work is split.
+     *
+     * @param dataset  the dataset.
+     * @param series  the indices of the series to scan.
+     * @param scanner  the scanner.
+     *
+     * @return The bounds.
+     */
+    private static double[] scanBounds(XYDataset dataset, int[] series,
+            BoundsScanner scanner) {
+        int[] itemCounts = new int[series.length];
+        long total = 0L;
+        int chunkCount = 0;
+        for (int i = 0; i < series.length; i++) {
+            itemCounts[i] = dataset.getItemCount(series[i]);
+            total += itemCounts[i];
+            chunkCount += (itemCounts[i] + PARALLEL_CHUNK_SIZE - 1)
+                    / PARALLEL_CHUNK_SIZE;
+        }
+        double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+        if (total < parallelThreshold || chunkCount < 2) {
+            for (int i = 0; i < series.length; i++) {
+                scanner.scan(series[i], 0, itemCounts[i], bounds);
+            }
+            return bounds;
+        }
+        int[] chunkSeries = new int[chunkCount];
+        int[] chunkStart = new int[chunkCount];
+        int[] chunkEnd = new int[chunkCount];
+        int c = 0;
+        for (int i = 0; i < series.length; i++) {
+            for (int start = 0; start < itemCounts[i];
+                    start += PARALLEL_CHUNK_SIZE) {
+                chunkSeries[c] = series[i];
+                chunkStart[c] = start;
+                chunkEnd[c] = Math.min(itemCounts[i],
+                        start + PARALLEL_CHUNK_SIZE);
+                c++;
+            }
+        }
+        return getBoundsPool().invoke(new BoundsTask(scanner, chunkSeries,
+                chunkStart, chunkEnd, 0, chunkCount));
+    }
+
+    /**
+     * Returns the pool used to calculate bounds in parallel, creating it if
+     * necessary.
+     *
+     * @return The pool.
+     */
+    private static synchronized ForkJoinPool getBoundsPool() {
+        if (boundsPool == null) {
+            boundsPool = new ForkJoinPool();
+        }
+        return boundsPool;
+    }
+
+    /**
+     * Updates the bounds with the relevant values of a range of items in one
+     * series.  There is one implementation per dataset type in each of the
+     * methods that iterate over an {@link XYDataset} to find bounds.
+     */
+    private static abstract class BoundsScanner {
+
+        /**
+         * Updates the bounds with the values of the items in the range
+         * {@code start} (inclusive) to {@code end} (exclusive).
+         *
+         * @param series  the series index.
+         * @param start  the index of the first item.
+         * @param end  the index after the last item.
+         * @param bounds  the minimum and maximum found so far, updated by
+         *     this method.
+         */
+        abstract void scan(int series, int start, int end, double[] bounds);
+
+    }
+
+    /**
+     * A task that scans a range of chunks, splitting it in two until a
+     * single chunk remains.
+     */
+    private static class BoundsTask extends RecursiveTask<double[]> {
+
+        /** The scanner. */
+        private final BoundsScanner scanner;
+
+        /** The series index for each chunk. */
+        private final int[] chunkSeries;
+
+        /** The first item for each chunk. */
+        private final int[] chunkStart;
+
+        /** The item after the last item for each chunk. */
+        private final int[] chunkEnd;
+
+        /** The first chunk for this task. */
+        private final int first;
+
+        /** The chunk after the last chunk for this task. */
+        private final int last;
+
+        /**
+         * Creates a new task.
+         *
+         * @param scanner  the scanner.
+         * @param chunkSeries  the series index for each chunk.
+         * @param chunkStart  the first item for each chunk.
+         * @param chunkEnd  the item after the last item for each chunk.
+         * @param first  the first chunk for this task.
+         * @param last  the chunk after the last chunk for this task.
+         */
+        BoundsTask(BoundsScanner scanner, int[] chunkSeries, int[] chunkStart,
+                int[] chunkEnd, int first, int last) {
+            this.scanner = scanner;
+            this.chunkSeries = chunkSeries;
+            this.chunkStart = chunkStart;
+            this.chunkEnd = chunkEnd;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (this.last - this.first == 1) {
+                double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+                        Double.NEGATIVE_INFINITY};
+                this.scanner.scan(this.chunkSeries[this.first],
+                        this.chunkStart[this.first],
+                        this.chunkEnd[this.first], bounds);
+                return bounds;
+            }
+            int middle = (this.first + this.last) >>> 1;
+            BoundsTask lower = new BoundsTask(this.scanner, this.chunkSeries,
+                    this.chunkStart, this.chunkEnd, this.first, middle);
+            BoundsTask upper = new BoundsTask(this.scanner, this.chunkSeries,
+                    this.chunkStart, this.chunkEnd, middle, this.last);
+            upper.fork();
+            double[] result = lower.compute();
+            double[] other = upper.join();
+            result[0] = Math.min(result[0], other[0]);
+            result[1] = Math.max(result[1], other[1]);
+            return result;
+        }
+
+    }
+
 }
@@ -44,6 +44,8 @@ package org.jfree.data.general;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import org.jfree.chart.renderer.CompiledPaintScale;
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.util.Args;
 import org.jfree.data.xy.XYDataset;
@@ -101,6 +103,9 @@ public abstract class HeatMapUtils {
 
     /**
      * Creates an image that displays the values from the specified dataset.
+     * If the paint scale is a {@link CompiledPaintScale} containing only
+     * {@code Color} instances, the pixels are written directly to the image
+     * one row at a time.
      *
      * @param dataset  the dataset ({@code null} not permitted).
      * @param paintScale  the paint scale for the z-values ({@code null}
@@ -117,6 +122,23 @@ public abstract class HeatMapUtils {
         int yCount = dataset.getYSampleCount();
         BufferedImage image = new BufferedImage(xCount, yCount,
                 BufferedImage.TYPE_INT_ARGB);
+        if (paintScale instanceof CompiledPaintScale
+                && ((CompiledPaintScale) paintScale).isColorOnly()) {
+            CompiledPaintScale scale = (CompiledPaintScale) paintScale;
+            int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                    .getData();
+            double[] z = new double[xCount];
+            int[] argb = new int[xCount];
+            for (int yIndex = 0; yIndex < yCount; yIndex++) {
+                for (int xIndex = 0; xIndex < xCount; xIndex++) {
+                    z[xIndex] = dataset.getZValue(xIndex, yIndex);
+                }
+                scale.getPaints(z, argb);
+                System.arraycopy(argb, 0, pixels,
+                        (yCount - yIndex - 1) * xCount, xCount);
+            }
+            return image;
+        }
         Graphics2D g2 = image.createGraphics();
         for (int xIndex = 0; xIndex < xCount; xIndex++) {
             for (int yIndex = 0; yIndex < yCount; yIndex++) {
@@ -0,0 +1,469 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * MinMaxPyramid.java
+ * ------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A multi-resolution index of the minimum and maximum values in a sequence
+ * of values that is built up by appending values to the end.  The index is a
+ * pyramid of levels: at level {@code k} the sequence is divided into buckets
+ * of {@code 2^(k + 3)} consecutive items, and for each bucket the index
+ * records the positions of the minimum and maximum values.  Each append
+ * updates one bucket per level, so the index costs O(log n) per item to
+ * maintain and uses about 6 bytes per item.
+ * <P>
+ * The {@link #getItems(int, int, int)} method uses the index to select a
+ * small set of items that preserves the visual envelope of a range of the
+ * sequence, at a cost that depends on the number of buckets requested
+ * rather than the number of items in the range.  {@code Double.NaN} values
+ * are ignored, except that a bucket containing only {@code Double.NaN}
+ * values is represented by its first item, so that gaps in a line are
+ * preserved.
+ * <P>
+ * The index only supports appending and clearing; the owner of the data
+ * should discard the index (and build a new one) when any other change is
+ * made to the sequence.
+ *
+ * @since 1.6.0
+ */
+public class MinMaxPyramid implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2617063467217423716L;
+
+    /** The bucket size at the lowest level is {@code 2^BASE_SHIFT}. */
+    private static final int BASE_SHIFT = 3;
+
+    /** The number of values added to the index. */
+    private int itemCount;
+
+    /** The number of levels in use. */
+    private int levelCount;
+
+    /** The index of the minimum item for each bucket (by level). */
+    private int[][] minItems;
+
+    /** The index of the maximum item for each bucket (by level). */
+    private int[][] maxItems;
+
+    /**
+     * The minimum value for each bucket (by level), {@code Double.NaN} if
+     * the bucket contains no values other than {@code Double.NaN}.
+     */
+    private double[][] minValues;
+
+    /** The maximum value for each bucket (by level). */
+    private double[][] maxValues;
+
+    /**
+     * Creates a new empty index.
+     */
+    public MinMaxPyramid() {
+        this.itemCount = 0;
+        this.levelCount = 1;
+        this.minItems = new int[8][];
+        this.maxItems = new int[8][];
+        this.minValues = new double[8][];
+        this.maxValues = new double[8][];
+        createLevel(0, 16);
+    }
+
+    /**
+     * Returns the number of values that have been added to the index.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the number of levels in the index.
+     *
+     * @return The level count.
+     */
+    public int getLevelCount() {
+        return this.levelCount;
+    }
+
+    /**
+     * Returns the number of consecutive items in each bucket at the
+     * specified level.
+     *
+     * @param level  the level (zero-based).
+     *
+     * @return The bucket size.
+     */
+    public static int getBucketSize(int level) {
+        return 1 << (level + BASE_SHIFT);
+    }
+
+    /**
+     * Adds a value to the end of the sequence.
+     *
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void add(double value) {
+        int item = this.itemCount;
+        if (item == Integer.MAX_VALUE) {
+            throw new IllegalStateException("The index is full.");
+        }
+        this.itemCount++;
+        // a new level starts when the level below it reaches three buckets
+        int shift = this.levelCount + BASE_SHIFT;
+        if (this.levelCount < 28 && item == (1 << shift)) {
+            int level = this.levelCount;
+            if (level == this.minItems.length) {
+                int n = level * 2;
+                this.minItems = Arrays.copyOf(this.minItems, n);
+                this.maxItems = Arrays.copyOf(this.maxItems, n);
+                this.minValues = Arrays.copyOf(this.minValues, n);
+                this.maxValues = Arrays.copyOf(this.maxValues, n);
+            }
+            createLevel(level, 4);
+            merge(level - 1, 0, level, 0);
+            mergeInto(level - 1, 1, level, 0);
+            this.levelCount++;
+        }
+        for (int level = 0; level < this.levelCount; level++) {
+            int bucket = item >> (level + BASE_SHIFT);
+            if ((item & (getBucketSize(level) - 1)) == 0) {
+                ensureCapacity(level, bucket + 1);
+                this.minItems[level][bucket] = item;
+                this.maxItems[level][bucket] = item;
+                this.minValues[level][bucket] = value;
+                this.maxValues[level][bucket] = value;
+            }
+            else if (!Double.isNaN(value)) {
+                double min = this.minValues[level][bucket];
+                if (Double.isNaN(min)) {
+                    this.minItems[level][bucket] = item;
+                    this.maxItems[level][bucket] = item;
+                    this.minValues[level][bucket] = value;
+                    this.maxValues[level][bucket] = value;
+                }
+                else if (value < min) {
+                    this.minItems[level][bucket] = item;
+                    this.minValues[level][bucket] = value;
+                }
+                else if (value > this.maxValues[level][bucket]) {
+                    this.maxItems[level][bucket] = item;
+                    this.maxValues[level][bucket] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all values from the index.
+     */
+    public void clear() {
+        this.itemCount = 0;
+        for (int level = 1; level < this.levelCount; level++) {
+            this.minItems[level] = null;
+            this.maxItems[level] = null;
+            this.minValues[level] = null;
+            this.maxValues[level] = null;
+        }
+        this.levelCount = 1;
+    }
+
+    /**
+     * Returns the coarsest level at which the specified range of items spans
+     * at least {@code bucketCount} buckets, or {@code -1} if there is no
+     * such level.
+     *
+     * @param first  the index of the first item in the range.
+     * @param last  the index of the last item in the range.
+     * @param bucketCount  the minimum number of buckets.
+     *
+     * @return The level (or {@code -1}).
+     */
+    public int findLevel(int first, int last, int bucketCount) {
+        long span = (long) last - first + 1;
+        for (int level = this.levelCount - 1; level >= 0; level--) {
+            if ((span >> (level + BASE_SHIFT)) >= bucketCount) {
+                return level;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the indices (in ascending order) of a subset of the items in
+     * the specified range that includes the first and last items, and the
+     * minimum and maximum items of each bucket in the range at the coarsest
+     * level that still spans at least {@code bucketCount} buckets.  Items at
+     * the ends of the range that are not covered by a complete bucket are
+     * covered by buckets from the lower levels, or included directly.
+     * Returns {@code null} if the range is too small to span
+     * {@code bucketCount} buckets at the lowest level, in which case the
+     * caller should use all the items in the range.
+     *
+     * @param first  the index of the first item in the range.
+     * @param last  the index of the last item in the range.
+     * @param bucketCount  the minimum number of buckets (for example, twice
+     *     the number of pixels that the range will be drawn across).
+     *
+     * @return The item indices (possibly {@code null}).
+     */
+    public int[] getItems(int first, int last, int bucketCount) {
+        if (first < 0 || last >= this.itemCount || first > last) {
+            throw new IllegalArgumentException("Invalid item range ["
+                    + first + ", " + last + "].");
+        }
+        int top = findLevel(first, last, bucketCount);
+        if (top < 0) {
+            return null;
+        }
+        int[] result = new int[Math.max(bucketCount, 16) * 3];
+        int count = 0;
+        result[count++] = first;
+        int item = first;
+        while (item <= last) {
+            int level = top;
+            while (level >= 0 && ((item & (getBucketSize(level) - 1)) != 0
+                    || (long) item + getBucketSize(level) - 1 > last)) {
+                level--;
+            }
+            if (result.length < count + 2) {
+                result = Arrays.copyOf(result, result.length * 2);
+            }
+            if (level < 0) {
+                count = append(result, count, item);
+                item++;
+            }
+            else {
+                int bucket = item >> (level + BASE_SHIFT);
+                int min = this.minItems[level][bucket];
+                int max = this.maxItems[level][bucket];
+                count = append(result, count, Math.min(min, max));
+                count = append(result, count, Math.max(min, max));
+                item += getBucketSize(level);
+            }
+        }
+        if (result.length == count) {
+            result = Arrays.copyOf(result, count + 1);
+        }
+        count = append(result, count, last);
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Appends an item index to an array unless it is the same as the last
+     * index in the array.
+     *
+     * @param items  the array.
+     * @param count  the number of indices in the array.
+     * @param item  the item index.
+     *
+     * @return The new number of indices in the array.
+     */
+    private static int append(int[] items, int count, int item) {
+        if (count == 0 || items[count - 1] != item) {
+            items[count++] = item;
+        }
+        return count;
+    }
+
+    /**
+     * Creates the arrays for a level.
+     *
+     * @param level  the level.
+     * @param capacity  the initial number of buckets.
+     */
+    private void createLevel(int level, int capacity) {
+        this.minItems[level] = new int[capacity];
+        this.maxItems[level] = new int[capacity];
+        this.minValues[level] = new double[capacity];
+        this.maxValues[level] = new double[capacity];
+    }
+
+    /**
+     * Ensures that the arrays for a level can hold the specified number of
+     * buckets.
+     *
+     * @param level  the level.
+     * @param capacity  the required number of buckets.
+     */
+    private void ensureCapacity(int level, int capacity) {
+        int length = this.minItems[level].length;
+        if (capacity > length) {
+            int n = Math.max(capacity, length + (length >> 1));
+            this.minItems[level] = Arrays.copyOf(this.minItems[level], n);
+            this.maxItems[level] = Arrays.copyOf(this.maxItems[level], n);
+            this.minValues[level] = Arrays.copyOf(this.minValues[level], n);
+            this.maxValues[level] = Arrays.copyOf(this.maxValues[level], n);
+        }
+    }
+
+    /**
+     * Copies a bucket from one level to another.
+     *
+     * @param fromLevel  the source level.
+     * @param fromBucket  the source bucket.
+     * @param toLevel  the target level.
+     * @param toBucket  the target bucket.
+     */
+    private void merge(int fromLevel, int fromBucket, int toLevel,
+            int toBucket) {
+        this.minItems[toLevel][toBucket] = this.minItems[fromLevel][fromBucket];
+        this.maxItems[toLevel][toBucket] = this.maxItems[fromLevel][fromBucket];
+        this.minValues[toLevel][toBucket]
+                = this.minValues[fromLevel][fromBucket];
+        this.maxValues[toLevel][toBucket]
+                = this.maxValues[fromLevel][fromBucket];
+    }
+
+    /**
+     * Merges a bucket from one level into a bucket on another level.
+     *
+     * @param fromLevel  the source level.
+     * @param fromBucket  the source bucket.
+     * @param toLevel  the target level.
+     * @param toBucket  the target bucket.
+     */
+    private void mergeInto(int fromLevel, int fromBucket, int toLevel,
+            int toBucket) {
+        double min = this.minValues[fromLevel][fromBucket];
+        if (Double.isNaN(min)) {
+            return;
+        }
+        double max = this.maxValues[fromLevel][fromBucket];
+        if (Double.isNaN(this.minValues[toLevel][toBucket])) {
+            merge(fromLevel, fromBucket, toLevel, toBucket);
+            return;
+        }
+        if (min < this.minValues[toLevel][toBucket]) {
+            this.minItems[toLevel][toBucket]
+                    = this.minItems[fromLevel][fromBucket];
+            this.minValues[toLevel][toBucket] = min;
+        }
+        if (max > this.maxValues[toLevel][toBucket]) {
+            this.maxItems[toLevel][toBucket]
+                    = this.maxItems[fromLevel][fromBucket];
+            this.maxValues[toLevel][toBucket] = max;
+        }
+    }
+
+    /**
+     * Tests this index for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MinMaxPyramid)) {
+            return false;
+        }
+        MinMaxPyramid that = (MinMaxPyramid) obj;
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        if (this.levelCount != that.levelCount) {
+            return false;
+        }
+        for (int level = 0; level < this.levelCount; level++) {
+            int buckets = bucketCount(level);
+            for (int b = 0; b < buckets; b++) {
+                if (this.minItems[level][b] != that.minItems[level][b]
+                        || this.maxItems[level][b] != that.maxItems[level][b]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 3;
+        hash = 41 * hash + this.itemCount;
+        hash = 41 * hash + this.levelCount;
+        return hash;
+    }
+
+    /**
+     * Returns the number of buckets in use at the specified level.
+     *
+     * @param level  the level.
+     *
+     * @return The bucket count.
+     */
+    private int bucketCount(int level) {
+        if (this.itemCount == 0) {
+            return 0;
+        }
+        return ((this.itemCount - 1) >> (level + BASE_SHIFT)) + 1;
+    }
+
+    /**
+     * Returns an independent copy of this index.
+     *
+     * @return A copy.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        MinMaxPyramid clone = (MinMaxPyramid) super.clone();
+        clone.minItems = new int[this.minItems.length][];
+        clone.maxItems = new int[this.minItems.length][];
+        clone.minValues = new double[this.minItems.length][];
+        clone.maxValues = new double[this.minItems.length][];
+        for (int level = 0; level < this.levelCount; level++) {
+            clone.minItems[level] = this.minItems[level].clone();
+            clone.maxItems[level] = this.maxItems[level].clone();
+            clone.minValues[level] = this.minValues[level].clone();
+            clone.maxValues[level] = this.maxValues[level].clone();
+        }
+        return clone;
+    }
+
+}
@@ -0,0 +1,319 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * RingBufferList.java
+ * -------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list that stores its elements in a circular array.  Elements can be
+ * added or removed at either end of the list in O(1) time, which makes this
+ * class suitable as the storage for a series that acts as a rolling window
+ * (where the oldest item is dropped each time a new item is appended).
+ * Access by index is O(1), and insertion or removal elsewhere in the list
+ * moves the elements on the shorter side of the index.
+ *
+ * @param <E> the element type.
+ *
+ * @since 1.6.0
+ */
+public class RingBufferList<E> extends AbstractList<E>
+        implements RandomAccess, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5071345285236180234L;
+
+    /** The storage array. */
+    private Object[] elements;
+
+    /** The position of the first element in the storage array. */
+    private int head;
+
+    /** The number of elements in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    public RingBufferList() {
+        this(16);
+    }
+
+    /**
+     * Creates a new empty list with the specified initial capacity.
+     *
+     * @param initialCapacity  the initial capacity (must be positive).
+     */
+    public RingBufferList(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'initialCapacity' > 0.");
+        }
+        this.elements = new Object[initialCapacity];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new list containing the elements of the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.
+     *
+     * @param c  the collection ({@code null} not permitted).
+     */
+    public RingBufferList(Collection<? extends E> c) {
+        this(Math.max(16, c.size()));
+        addAll(c);
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return The number of elements.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The element.
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return (E) this.elements[physicalIndex(index)];
+    }
+
+    /**
+     * Replaces the element at the specified index.
+     *
+     * @param index  the index.
+     * @param element  the new element.
+     *
+     * @return The element previously at the specified index.
+     */
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        int p = physicalIndex(index);
+        E old = (E) this.elements[p];
+        this.elements[p] = element;
+        return old;
+    }
+
+    /**
+     * Inserts an element at the specified index.
+     *
+     * @param index  the index (in the range {@code 0} to {@code size()}).
+     * @param element  the element.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        this.modCount++;
+        if (this.size == this.elements.length) {
+            grow();
+        }
+        int capacity = this.elements.length;
+        if (index < this.size / 2) {
+            // move the elements before the index one step towards the front
+            this.head = (this.head == 0) ? capacity - 1 : this.head - 1;
+            for (int i = 0; i < index; i++) {
+                this.elements[physicalIndex(i)]
+                        = this.elements[physicalIndex(i + 1)];
+            }
+        }
+        else {
+            // move the elements after the index one step towards the back
+            for (int i = this.size; i > index; i--) {
+                this.elements[physicalIndex(i)]
+                        = this.elements[physicalIndex(i - 1)];
+            }
+        }
+        this.elements[physicalIndex(index)] = element;
+        this.size++;
+    }
+
+    /**
+     * Removes the element at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The element that was removed.
+     */
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        this.modCount++;
+        E removed = (E) this.elements[physicalIndex(index)];
+        if (index < this.size / 2) {
+            // move the elements before the index one step towards the back
+            for (int i = index; i > 0; i--) {
+                this.elements[physicalIndex(i)]
+                        = this.elements[physicalIndex(i - 1)];
+            }
+            this.elements[this.head] = null;
+            this.head = physicalIndex(1);
+        }
+        else {
+            // move the elements after the index one step towards the front
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[physicalIndex(i)]
+                        = this.elements[physicalIndex(i + 1)];
+            }
+            this.elements[physicalIndex(this.size - 1)] = null;
+        }
+        this.size--;
+        if (this.size == 0) {
+            this.head = 0;
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements from the list.
+     */
+    @Override
+    public void clear() {
+        this.modCount++;
+        Arrays.fill(this.elements, null);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} (inclusive) to
+     * {@code toIndex} (exclusive).  Removing elements from the front of the
+     * list takes time proportional to the number of elements removed.
+     *
+     * @param fromIndex  the index of the first element to remove.
+     * @param toIndex  the index after the last element to remove.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        this.modCount++;
+        if (fromIndex == 0) {
+            for (int i = 0; i < count; i++) {
+                this.elements[physicalIndex(i)] = null;
+            }
+            this.head = physicalIndex(count);
+        }
+        else {
+            for (int i = fromIndex; i < this.size - count; i++) {
+                this.elements[physicalIndex(i)]
+                        = this.elements[physicalIndex(i + count)];
+            }
+            for (int i = this.size - count; i < this.size; i++) {
+                this.elements[physicalIndex(i)] = null;
+            }
+        }
+        this.size -= count;
+        if (this.size == 0) {
+            this.head = 0;
+        }
+    }
+
+    /**
+     * Converts a list index to an index in the storage array.
+     *
+     * @param index  the list index.
+     *
+     * @return The storage index.
+     */
+    private int physicalIndex(int index) {
+        int p = this.head + index;
+        if (p >= this.elements.length) {
+            p -= this.elements.length;
+        }
+        return p;
+    }
+
+    /**
+     * Checks that the supplied index refers to an element in the list.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Doubles the capacity of the storage array, moving the elements so that
+     * the first element is at position zero.
+     */
+    private void grow() {
+        Object[] grown = new Object[this.elements.length * 2];
+        for (int i = 0; i < this.size; i++) {
+            grown[i] = this.elements[physicalIndex(i)];
+        }
+        this.elements = grown;
+        this.head = 0;
+    }
+
+    /**
+     * Returns a clone of the list.  The elements themselves are not cloned.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        RingBufferList<E> clone = (RingBufferList<E>) super.clone();
+        clone.elements = this.elements.clone();
+        return clone;
+    }
+
+}
@@ -0,0 +1,306 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * RollingMinMax.java
+ * ------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+
+/**
+ * Tracks the minimum and maximum of a sequence of values that is modified
+ * only by appending values at the end and removing values from the front
+ * (a sliding window).  Each operation runs in amortised O(1) time, so a
+ * series can maintain its bounds as old items are evicted without having to
+ * iterate over the remaining items.
+ * <p>
+ * Internally the class keeps two monotonic deques: one holding the
+ * candidates for the minimum (in ascending order of value) and one holding
+ * the candidates for the maximum (in descending order of value).
+ * {@code Double.NaN} values take a position in the sequence but are
+ * otherwise ignored.
+ *
+ * @since 1.6.0
+ */
+public class RollingMinMax implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1453690373914521086L;
+
+    /** The sequence number of the first value in the window. */
+    private long firstSequence;
+
+    /** The sequence number that will be given to the next value added. */
+    private long nextSequence;
+
+    /** The candidates for the minimum value. */
+    private MonotonicDeque minima;
+
+    /** The candidates for the maximum value. */
+    private MonotonicDeque maxima;
+
+    /**
+     * Creates a new instance with an empty window.
+     */
+    public RollingMinMax() {
+        this.firstSequence = 0L;
+        this.nextSequence = 0L;
+        this.minima = new MonotonicDeque(true);
+        this.maxima = new MonotonicDeque(false);
+    }
+
+    /**
+     * Returns the number of values in the window (including any
+     * {@code Double.NaN} values).
+     *
+     * @return The number of values.
+     */
+    public int getValueCount() {
+        return (int) (this.nextSequence - this.firstSequence);
+    }
+
+    /**
+     * Returns the minimum value in the window, or {@code Double.NaN} if the
+     * window contains no values other than {@code Double.NaN}.
+     *
+     * @return The minimum value.
+     */
+    public double getMinimum() {
+        return this.minima.firstValue();
+    }
+
+    /**
+     * Returns the maximum value in the window, or {@code Double.NaN} if the
+     * window contains no values other than {@code Double.NaN}.
+     *
+     * @return The maximum value.
+     */
+    public double getMaximum() {
+        return this.maxima.firstValue();
+    }
+
+    /**
+     * Appends a value to the end of the window.
+     *
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void add(double value) {
+        if (!Double.isNaN(value)) {
+            this.minima.add(this.nextSequence, value);
+            this.maxima.add(this.nextSequence, value);
+        }
+        this.nextSequence++;
+    }
+
+    /**
+     * Removes the value at the front of the window.
+     *
+     * @throws IllegalStateException if the window is empty.
+     */
+    public void removeFirst() {
+        if (this.firstSequence == this.nextSequence) {
+            throw new IllegalStateException("The window is empty.");
+        }
+        this.minima.evict(this.firstSequence);
+        this.maxima.evict(this.firstSequence);
+        this.firstSequence++;
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        this.firstSequence = 0L;
+        this.nextSequence = 0L;
+        this.minima.clear();
+        this.maxima.clear();
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        RollingMinMax clone = (RollingMinMax) super.clone();
+        clone.minima = (MonotonicDeque) this.minima.clone();
+        clone.maxima = (MonotonicDeque) this.maxima.clone();
+        return clone;
+    }
+
+    /**
+     * A deque of (sequence, value) pairs, stored in circular arrays, in
+     * which the values are kept in ascending (or descending) order.
+     */
+    private static class MonotonicDeque implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 7280375021985384816L;
+
+        /**
+         * A flag that indicates the values are held in ascending order
+         * (the deque tracks the minimum) rather than descending order.
+         */
+        private final boolean ascending;
+
+        /** The sequence numbers. */
+        private long[] sequences;
+
+        /** The values. */
+        private double[] values;
+
+        /** The position of the first entry in the arrays. */
+        private int head;
+
+        /** The number of entries. */
+        private int size;
+
+        /**
+         * Creates a new empty deque.
+         *
+         * @param ascending  the ordering of the values.
+         */
+        MonotonicDeque(boolean ascending) {
+            this.ascending = ascending;
+            this.sequences = new long[16];
+            this.values = new double[16];
+        }
+
+        /**
+         * Returns the first value in the deque, or {@code Double.NaN} if
+         * the deque is empty.
+         *
+         * @return The value.
+         */
+        double firstValue() {
+            return this.size == 0 ? Double.NaN : this.values[this.head];
+        }
+
+        /**
+         * Adds a value at the back of the deque, first discarding any
+         * entries that can no longer be the first value.
+         *
+         * @param sequence  the sequence number.
+         * @param value  the value (not {@code Double.NaN}).
+         */
+        void add(long sequence, double value) {
+            while (this.size > 0) {
+                double last = this.values[index(this.size - 1)];
+                if (this.ascending ? last < value : last > value) {
+                    break;
+                }
+                this.size--;
+            }
+            if (this.size == this.values.length) {
+                grow();
+            }
+            int i = index(this.size);
+            this.sequences[i] = sequence;
+            this.values[i] = value;
+            this.size++;
+        }
+
+        /**
+         * Removes the first entry if it has the specified sequence number.
+         *
+         * @param sequence  the sequence number of the value leaving the
+         *     window.
+         */
+        void evict(long sequence) {
+            if (this.size > 0 && this.sequences[this.head] == sequence) {
+                this.head = index(1);
+                this.size--;
+            }
+        }
+
+        /**
+         * Removes all entries.
+         */
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        /**
+         * Converts a position in the deque to an index in the arrays.
+         *
+         * @param position  the position.
+         *
+         * @return The array index.
+         */
+        private int index(int position) {
+            int i = this.head + position;
+            if (i >= this.values.length) {
+                i -= this.values.length;
+            }
+            return i;
+        }
+
+        /**
+         * Doubles the capacity of the arrays.
+         */
+        private void grow() {
+            int capacity = this.values.length * 2;
+            long[] s = new long[capacity];
+            double[] v = new double[capacity];
+            for (int i = 0; i < this.size; i++) {
+                s[i] = this.sequences[index(i)];
+                v[i] = this.values[index(i)];
+            }
+            this.sequences = s;
+            this.values = v;
+            this.head = 0;
+        }
+
+        /**
+         * Returns a clone of the deque.
+         *
+         * @return A clone.
+         *
+         * @throws CloneNotSupportedException if there is a problem cloning.
+         */
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            MonotonicDeque clone = (MonotonicDeque) super.clone();
+            clone.sequences = this.sequences.clone();
+            clone.values = this.values.clone();
+            return clone;
+        }
+
+    }
+
+}
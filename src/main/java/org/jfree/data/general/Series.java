@@ -101,6 +101,16 @@ public abstract class Series implements Cloneable, Serializable {
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
 
+    /**
+     * A flag that indicates that, since the last change event was sent, the
+     * series has only changed by appending items (from the index
+     * {@code appendStart} onwards).
+     */
+    private transient boolean appendOnly;
+
+    /** The number of items in the series when the last event was sent. */
+    private transient int appendStart;
+
     /**
      * Creates a new series with the specified key.
      *
@@ -124,6 +134,7 @@ public abstract class Series implements Cloneable, Serializable {
         this.propertyChangeSupport = new PropertyChangeSupport(this);
         this.vetoableChangeSupport = new VetoableChangeSupport(this);
         this.notify = true;
+        this.appendOnly = true;
     }
 
     /**
@@ -333,6 +344,41 @@ public abstract class Series implements Cloneable, Serializable {
         if (this.notify) {
             notifyListeners(new SeriesChangeEvent(this));
         }
+        else {
+            this.appendOnly = false;
+        }
+    }
+
+    /**
+     * Signals to registered listeners that items have been appended to the
+     * end of the series.  If the series has only changed by appending items
+     * since the last change event, the event identifies the first new item
+     * (see {@link SeriesChangeEvent#getFirstAppendedItem()}), otherwise this
+     * method is the same as {@link #fireSeriesChanged()}.
+     *
+     * @since 1.6.0
+     */
+    protected void fireSeriesAppended() {
+        if (this.notify && this.appendOnly
+                && this.appendStart < getItemCount()) {
+            notifyListeners(new SeriesChangeEvent(this, this.appendStart));
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Records a change to the series, other than appending items, that has
+     * not been signalled to the listeners (for example, an item inserted
+     * with the notify flag set to {@code false}).  Subclasses must call this
+     * method for such changes so that the next event does not describe the
+     * change as an append (see {@link #fireSeriesAppended()}).
+     *
+     * @since 1.6.0
+     */
+    protected void markSeriesChanged() {
+        this.appendOnly = false;
     }
 
     /**
@@ -342,6 +388,9 @@ public abstract class Series implements Cloneable, Serializable {
      *               notification.
      */
     protected void notifyListeners(SeriesChangeEvent event) {
+        // later appends are described relative to the current items
+        this.appendOnly = true;
+        this.appendStart = getItemCount();
 
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
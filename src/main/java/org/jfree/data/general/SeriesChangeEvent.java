@@ -52,13 +52,48 @@ public class SeriesChangeEvent extends EventObject implements Serializable {
     /** For serialization. */
     private static final long serialVersionUID = 1593866085210089052L;
 
+    /**
+     * The index of the first item appended to the series, or -1 if the
+     * change is not (known to be) an append.
+     */
+    private int firstAppendedItem;
+
     /**
      * Constructs a new event.
      *
      * @param source  the source of the change event.
      */
     public SeriesChangeEvent(Object source) {
+        this(source, -1);
+    }
+
+    /**
+     * Constructs a new event for a change that appended items to the end of
+     * a series without changing the other items.
+     *
+     * @param source  the source of the change event.
+     * @param firstAppendedItem  the index of the first item appended (the
+     *     items from this index to the end of the series are new), or -1 if
+     *     the change is not an append.
+     *
+     * @since 1.6.0
+     */
+    public SeriesChangeEvent(Object source, int firstAppendedItem) {
         super(source);
+        this.firstAppendedItem = firstAppendedItem;
+    }
+
+    /**
+     * Returns the index of the first item appended to the series, or -1 if
+     * the change is not (known to be) an append of items.  When this is
+     * {@code 0} or more, the items before this index have not changed.
+     *
+     * @return The item index, or -1.
+     *
+     * @since 1.6.0
+     */
+    public int getFirstAppendedItem() {
+        return this.firstAppendedItem;
     }
 
 }
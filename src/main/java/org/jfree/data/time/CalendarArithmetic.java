@@ -0,0 +1,452 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * CalendarArithmetic.java
+ * -----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Epoch arithmetic used by the {@link RegularTimePeriod} subclasses to
+ * calculate the first and last milliseconds of a period without creating or
+ * updating a {@code Calendar} instance.  The results are identical to those
+ * obtained from a lenient {@link GregorianCalendar}, but the arithmetic is
+ * only applied where that can be guaranteed:  a plain
+ * {@code GregorianCalendar} with the default Gregorian change date, a time
+ * zone provided by the runtime (or a {@link SimpleTimeZone}) and a year no
+ * earlier than {@link #MIN_YEAR}.  In all other cases the caller should fall
+ * back to the {@code Calendar} code.
+ */
+final class CalendarArithmetic {
+
+    /** The earliest year handled by the arithmetic. */
+    static final int MIN_YEAR = 1600;
+
+    /** A value returned when the arithmetic cannot be used. */
+    static final long UNSUPPORTED = Long.MIN_VALUE;
+
+    /** The number of milliseconds in one hour. */
+    static final long MILLIS_PER_HOUR = 60L * 60L * 1000L;
+
+    /** The number of milliseconds in one day. */
+    static final long MILLIS_PER_DAY = 24L * MILLIS_PER_HOUR;
+
+    /** The local time at the start of 1 January {@link #MIN_YEAR}. */
+    private static final long MIN_LOCAL_MILLIS = toEpochDay(MIN_YEAR, 1, 1)
+            * MILLIS_PER_DAY;
+
+    /** The class of the time zones provided by the runtime. */
+    private static final Class<?> RUNTIME_ZONE_CLASS
+            = TimeZone.getTimeZone("GMT").getClass();
+
+    /** The default Gregorian change date. */
+    private static final long DEFAULT_GREGORIAN_CHANGE = new GregorianCalendar(
+            TimeZone.getTimeZone("GMT")).getGregorianChange().getTime();
+
+    /** Calendar details for each locale that has been looked up. */
+    private static final ConcurrentMap<Locale, LocaleInfo> LOCALE_INFO
+            = new ConcurrentHashMap<>();
+
+    private CalendarArithmetic() {
+        // no instances
+    }
+
+    /**
+     * Returns {@code true} if the arithmetic produces the same results as the
+     * supplied calendar for periods in the specified year.
+     *
+     * @param calendar  the calendar ({@code null} not permitted).
+     * @param year  the year.
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(Calendar calendar, int year) {
+        return year >= MIN_YEAR
+                && calendar.getClass() == GregorianCalendar.class
+                && calendar.isLenient()
+                && ((GregorianCalendar) calendar).getGregorianChange().getTime()
+                == DEFAULT_GREGORIAN_CHANGE
+                && isSupported(calendar.getTimeZone());
+    }
+
+    /**
+     * Returns {@code true} if the arithmetic produces the same results as the
+     * calendar returned by {@code Calendar.getInstance(zone, locale)} for
+     * periods in the specified year.
+     *
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     * @param year  the year.
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(TimeZone zone, Locale locale, int year) {
+        return year >= MIN_YEAR && isSupported(zone)
+                && getLocaleInfo(locale).gregorian;
+    }
+
+    /**
+     * Returns {@code true} if wall-clock times in the specified zone can be
+     * converted by {@link #toMillis(long, TimeZone)}.
+     *
+     * @param zone  the time zone.
+     *
+     * @return A boolean.
+     */
+    private static boolean isSupported(TimeZone zone) {
+        Class<?> c = zone.getClass();
+        return c == RUNTIME_ZONE_CLASS || c == SimpleTimeZone.class;
+    }
+
+    /**
+     * Returns the default time zone, as used by {@code Calendar.getInstance()}.
+     *
+     * @return The default time zone.
+     */
+    static TimeZone getDefaultZone() {
+        return TimeZone.getDefault();
+    }
+
+    /**
+     * Returns the default locale, as used by {@code Calendar.getInstance()}.
+     *
+     * @return The default locale.
+     */
+    static Locale getDefaultLocale() {
+        return Locale.getDefault(Locale.Category.FORMAT);
+    }
+
+    /**
+     * Returns the first day of the week for calendars created with the
+     * specified locale.
+     *
+     * @param locale  the locale ({@code null} not permitted).
+     *
+     * @return The first day of the week (for example {@code Calendar.MONDAY}).
+     */
+    static int getFirstDayOfWeek(Locale locale) {
+        return getLocaleInfo(locale).firstDayOfWeek;
+    }
+
+    /**
+     * Returns the minimal number of days in the first week of the year for
+     * calendars created with the specified locale.
+     *
+     * @param locale  the locale ({@code null} not permitted).
+     *
+     * @return The minimal number of days in the first week.
+     */
+    static int getMinimalDaysInFirstWeek(Locale locale) {
+        return getLocaleInfo(locale).minimalDaysInFirstWeek;
+    }
+
+    private static LocaleInfo getLocaleInfo(Locale locale) {
+        LocaleInfo info = LOCALE_INFO.get(locale);
+        if (info == null) {
+            info = new LocaleInfo(Calendar.getInstance(locale));
+            LOCALE_INFO.putIfAbsent(locale, info);
+        }
+        return info;
+    }
+
+    /**
+     * Converts a time (milliseconds since the epoch) to local time in the
+     * specified zone, or returns {@link #UNSUPPORTED} if the arithmetic
+     * cannot be used for the result.
+     *
+     * @param time  the time.
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     *
+     * @return The local time (milliseconds since 1970-01-01T00:00 local time)
+     *     or {@link #UNSUPPORTED}.
+     */
+    static long toLocalMillis(long time, TimeZone zone, Locale locale) {
+        if (!isSupported(zone, locale, MIN_YEAR)) {
+            return UNSUPPORTED;
+        }
+        long local = time + zone.getOffset(time);
+        if (local < MIN_LOCAL_MILLIS) {
+            return UNSUPPORTED;
+        }
+        return local;
+    }
+
+    /**
+     * Converts a wall-clock time in the specified zone to milliseconds since
+     * the epoch.  Local times that are skipped or repeated at a daylight
+     * saving transition are resolved the same way as
+     * {@code GregorianCalendar} resolves them.
+     *
+     * @param local  the local time (milliseconds since 1970-01-01T00:00
+     *     local time).
+     * @param zone  the time zone ({@code null} not permitted).
+     *
+     * @return The time in milliseconds since the epoch.
+     */
+    static long toMillis(long local, TimeZone zone) {
+        if (zone.getClass() != RUNTIME_ZONE_CLASS) {
+            return local - zone.getOffset(local - zone.getRawOffset());
+        }
+        // the zone offset never changes twice within 28 hours, so the offsets
+        // either side of the local time identify the candidate instants
+        int before = zone.getOffset(local - 15 * MILLIS_PER_HOUR);
+        int after = zone.getOffset(local + 13 * MILLIS_PER_HOUR);
+        if (before == after) {
+            return local - before;
+        }
+        boolean validBefore = zone.getOffset(local - before) == before;
+        boolean validAfter = zone.getOffset(local - after) == after;
+        if (validBefore && !validAfter) {
+            return local - before;
+        }
+        if (validAfter && !validBefore) {
+            return local - after;
+        }
+        // a repeated local time maps to the earlier instant, and a skipped
+        // local time is interpreted using the offset in effect before the
+        // transition
+        return local - Math.min(before, after);
+    }
+
+    /**
+     * Converts a local date and time in the specified zone to milliseconds
+     * since the epoch.
+     *
+     * @param year  the year ({@link #MIN_YEAR} or later).
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month (1 to 31).
+     * @param millisOfDay  the milliseconds since the start of the day.
+     * @param zone  the time zone ({@code null} not permitted).
+     *
+     * @return The time in milliseconds since the epoch.
+     */
+    static long toMillis(int year, int month, int day, long millisOfDay,
+            TimeZone zone) {
+        return toMillis(toEpochDay(year, month, day) * MILLIS_PER_DAY
+                + millisOfDay, zone);
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to the specified date in the
+     * proleptic Gregorian calendar.
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month (1 to 31).
+     *
+     * @return The number of days.
+     */
+    static long toEpochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5
+                + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+                + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Returns the number of whole days from 1970-01-01T00:00 to the specified
+     * local time.
+     *
+     * @param local  the local time.
+     *
+     * @return The number of days.
+     */
+    static long toEpochDay(long local) {
+        long day = local / MILLIS_PER_DAY;
+        return local < 0 && day * MILLIS_PER_DAY != local ? day - 1 : day;
+    }
+
+    /**
+     * Returns the number of milliseconds since the start of the day for the
+     * specified local time.
+     *
+     * @param local  the local time.
+     *
+     * @return The millisecond of the day (0 to 86399999).
+     */
+    static int getMillisOfDay(long local) {
+        return (int) (local - toEpochDay(local) * MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the date for the specified number of days since 1970-01-01,
+     * encoded as {@code year * 10000 + month * 100 + day} (a positive year is
+     * assumed).
+     *
+     * @param epochDay  the number of days since 1970-01-01.
+     *
+     * @return The encoded date.
+     */
+    static int toYearMonthDay(long epochDay) {
+        long z = epochDay + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524
+                - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4
+                - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Returns the day of the week for the specified date.
+     *
+     * @param epochDay  the number of days since 1970-01-01.
+     *
+     * @return The day of the week ({@code Calendar.SUNDAY} to
+     *     {@code Calendar.SATURDAY}).
+     */
+    static int getDayOfWeek(long epochDay) {
+        // 1970-01-01 was a Thursday
+        int dow = (int) ((epochDay + 4) % 7);
+        return (dow < 0 ? dow + 7 : dow) + 1;
+    }
+
+    /**
+     * Returns the first day of week 1 of the specified year, following the
+     * week numbering rules of {@code GregorianCalendar}.
+     *
+     * @param year  the year.
+     * @param firstDayOfWeek  the first day of the week.
+     * @param minimalDays  the minimal number of days in the first week.
+     *
+     * @return The number of days since 1970-01-01.
+     */
+    static long getFirstDayOfFirstWeek(int year, int firstDayOfWeek,
+            int minimalDays) {
+        long jan1 = toEpochDay(year, 1, 1);
+        long start = getDayOfWeekOnOrBefore(jan1 + 6, firstDayOfWeek);
+        if (start - jan1 >= minimalDays) {
+            start -= 7;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the week of the year (as {@code Calendar.WEEK_OF_YEAR} would)
+     * for the specified date.
+     *
+     * @param epochDay  the number of days since 1970-01-01.
+     * @param firstDayOfWeek  the first day of the week.
+     * @param minimalDays  the minimal number of days in the first week.
+     *
+     * @return The week of the year (1 to 53).
+     */
+    static int getWeekOfYear(long epochDay, int firstDayOfWeek,
+            int minimalDays) {
+        int year = toYearMonthDay(epochDay) / 10000;
+        long start = getFirstDayOfFirstWeek(year, firstDayOfWeek, minimalDays);
+        if (epochDay < start) {
+            start = getFirstDayOfFirstWeek(year - 1, firstDayOfWeek,
+                    minimalDays);
+        }
+        else if (epochDay >= getFirstDayOfFirstWeek(year + 1, firstDayOfWeek,
+                minimalDays)) {
+            return 1;
+        }
+        return (int) ((epochDay - start) / 7) + 1;
+    }
+
+    /**
+     * Returns the number of weeks in the specified year, matching
+     * {@code Calendar.getActualMaximum(Calendar.WEEK_OF_YEAR)}.
+     *
+     * @param year  the year.
+     * @param firstDayOfWeek  the first day of the week.
+     * @param minimalDays  the minimal number of days in the first week.
+     *
+     * @return The number of weeks (52 or 53).
+     */
+    static int getWeeksInYear(int year, int firstDayOfWeek, int minimalDays) {
+        int dow = getDayOfWeek(toEpochDay(year, 1, 1)) - firstDayOfWeek;
+        if (dow < 0) {
+            dow += 7;
+        }
+        int magic = dow + minimalDays - 1;
+        boolean leap = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+        if (magic == 6 || (leap && (magic == 5 || magic == 12))) {
+            return 53;
+        }
+        return 52;
+    }
+
+    private static long getDayOfWeekOnOrBefore(long epochDay, int dayOfWeek) {
+        int diff = getDayOfWeek(epochDay) - dayOfWeek;
+        return epochDay - (diff < 0 ? diff + 7 : diff);
+    }
+
+    /**
+     * The calendar details for a locale.
+     */
+    private static final class LocaleInfo {
+
+        /**
+         * A flag that indicates whether the locale uses a plain
+         * {@code GregorianCalendar}.
+         */
+        private final boolean gregorian;
+
+        /** The first day of the week. */
+        private final int firstDayOfWeek;
+
+        /** The minimal number of days in the first week of the year. */
+        private final int minimalDaysInFirstWeek;
+
+        LocaleInfo(Calendar calendar) {
+            this.gregorian = calendar.getClass() == GregorianCalendar.class
+                    && ((GregorianCalendar) calendar).getGregorianChange()
+                    .getTime() == DEFAULT_GREGORIAN_CHANGE;
+            this.firstDayOfWeek = calendar.getFirstDayOfWeek();
+            this.minimalDaysInFirstWeek = calendar.getMinimalDaysInFirstWeek();
+        }
+
+    }
+
+}
@@ -102,7 +102,8 @@ public class Day extends RegularTimePeriod implements Serializable {
      */
     public Day(int day, int month, int year) {
         this.serialDate = SerialDate.createInstance(day, month, year);
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -113,7 +114,8 @@ public class Day extends RegularTimePeriod implements Serializable {
     public Day(SerialDate serialDate) {
         Args.nullNotPermitted(serialDate, "serialDate");
         this.serialDate = serialDate;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -140,13 +142,24 @@ public class Day extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(time, "time");
         Args.nullNotPermitted(zone, "zone");
         Args.nullNotPermitted(locale, "locale");
-        Calendar calendar = Calendar.getInstance(zone, locale);
-        calendar.setTime(time);
-        int d = calendar.get(Calendar.DAY_OF_MONTH);
-        int m = calendar.get(Calendar.MONTH) + 1;
-        int y = calendar.get(Calendar.YEAR);
-        this.serialDate = SerialDate.createInstance(d, m, y);
-        peg(calendar);
+        long local = CalendarArithmetic.toLocalMillis(time.getTime(), zone,
+                locale);
+        if (local != CalendarArithmetic.UNSUPPORTED) {
+            int ymd = CalendarArithmetic.toYearMonthDay(
+                    CalendarArithmetic.toEpochDay(local));
+            this.serialDate = SerialDate.createInstance(ymd % 100,
+                    ymd / 100 % 100, ymd / 10000);
+            peg(zone, locale);
+        }
+        else {
+            Calendar calendar = Calendar.getInstance(zone, locale);
+            calendar.setTime(time);
+            int d = calendar.get(Calendar.DAY_OF_MONTH);
+            int m = calendar.get(Calendar.MONTH) + 1;
+            int y = calendar.get(Calendar.YEAR);
+            this.serialDate = SerialDate.createInstance(d, m, y);
+            peg(calendar);
+        }
     }
 
     /**
@@ -233,6 +246,39 @@ public class Day extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the start date/time and end date/time for this time period
+     * relative to the calendar that {@code Calendar.getInstance(zone, locale)}
+     * would return, without creating that calendar where possible.
+     *
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     */
+    private void peg(TimeZone zone, Locale locale) {
+        if (CalendarArithmetic.isSupported(zone, locale,
+                this.serialDate.getYYYY())) {
+            long start = getLocalStart();
+            this.firstMillisecond = CalendarArithmetic.toMillis(start, zone);
+            this.lastMillisecond = CalendarArithmetic.toMillis(
+                    start + CalendarArithmetic.MILLIS_PER_DAY - 1, zone);
+        }
+        else {
+            peg(Calendar.getInstance(zone, locale));
+        }
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the start of the day.
+     *
+     * @return The local time.
+     */
+    private long getLocalStart() {
+        return CalendarArithmetic.toEpochDay(this.serialDate.getYYYY(),
+                this.serialDate.getMonth(), this.serialDate.getDayOfMonth())
+                * CalendarArithmetic.MILLIS_PER_DAY;
+    }
+
     /**
      * Returns the day preceding this one.
      *
@@ -297,6 +343,10 @@ public class Day extends RegularTimePeriod implements Serializable {
     @Override
     public long getFirstMillisecond(Calendar calendar) {
         int year = this.serialDate.getYYYY();
+        if (CalendarArithmetic.isSupported(calendar, year)) {
+            return CalendarArithmetic.toMillis(getLocalStart(),
+                    calendar.getTimeZone());
+        }
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
         calendar.clear();
@@ -319,6 +369,11 @@ public class Day extends RegularTimePeriod implements Serializable {
     @Override
     public long getLastMillisecond(Calendar calendar) {
         int year = this.serialDate.getYYYY();
+        if (CalendarArithmetic.isSupported(calendar, year)) {
+            return CalendarArithmetic.toMillis(getLocalStart()
+                    + CalendarArithmetic.MILLIS_PER_DAY - 1,
+                    calendar.getTimeZone());
+        }
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
         calendar.clear();
@@ -66,6 +66,7 @@ import java.util.Calendar;
 import java.util.TimeZone;
 
 import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
 import org.jfree.data.general.SeriesChangeEvent;
@@ -715,6 +716,17 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
         return this.pointsInTime[this.oldestAt];
     }
 
+    /**
+     * Returns the order of the domain (x-) values in the dataset.  The items
+     * are always in ascending order of time, from the oldest to the newest.
+     *
+     * @return {@link DomainOrder#ASCENDING}.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
     /**
      * Returns the x-value.
      *
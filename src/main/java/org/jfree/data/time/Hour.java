@@ -117,7 +117,8 @@ public class Hour extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(day, "day");
         this.hour = (byte) hour;
         this.day = day;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -159,11 +160,21 @@ public class Hour extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(time, "time");
         Args.nullNotPermitted(zone, "zone");
         Args.nullNotPermitted(locale, "locale");
-        Calendar calendar = Calendar.getInstance(zone, locale);
-        calendar.setTime(time);
-        this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
-        this.day = new Day(time, zone, locale);
-        peg(calendar);
+        long local = CalendarArithmetic.toLocalMillis(time.getTime(), zone,
+                locale);
+        if (local != CalendarArithmetic.UNSUPPORTED) {
+            this.hour = (byte) (CalendarArithmetic.getMillisOfDay(local)
+                    / CalendarArithmetic.MILLIS_PER_HOUR);
+            this.day = new Day(time, zone, locale);
+            peg(zone, locale);
+        }
+        else {
+            Calendar calendar = Calendar.getInstance(zone, locale);
+            calendar.setTime(time);
+            this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
+            this.day = new Day(time, zone, locale);
+            peg(calendar);
+        }
     }
 
     /**
@@ -255,6 +266,39 @@ public class Hour extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the start date/time and end date/time for this time period
+     * relative to the calendar that {@code Calendar.getInstance(zone, locale)}
+     * would return, without creating that calendar where possible.
+     *
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     */
+    private void peg(TimeZone zone, Locale locale) {
+        if (CalendarArithmetic.isSupported(zone, locale, this.day.getYear())) {
+            long start = getLocalStart();
+            this.firstMillisecond = CalendarArithmetic.toMillis(start, zone);
+            this.lastMillisecond = CalendarArithmetic.toMillis(
+                    start + CalendarArithmetic.MILLIS_PER_HOUR - 1, zone);
+        }
+        else {
+            peg(Calendar.getInstance(zone, locale));
+        }
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the start of the hour.
+     *
+     * @return The local time.
+     */
+    private long getLocalStart() {
+        return CalendarArithmetic.toEpochDay(this.day.getYear(),
+                this.day.getMonth(), this.day.getDayOfMonth())
+                * CalendarArithmetic.MILLIS_PER_DAY
+                + this.hour * CalendarArithmetic.MILLIS_PER_HOUR;
+    }
+
     /**
      * Returns the hour preceding this one.
      *
@@ -324,6 +368,10 @@ public class Hour extends RegularTimePeriod implements Serializable {
     @Override
     public long getFirstMillisecond(Calendar calendar) {
         int year = this.day.getYear();
+        if (CalendarArithmetic.isSupported(calendar, year)) {
+            return CalendarArithmetic.toMillis(getLocalStart(),
+                    calendar.getTimeZone());
+        }
         int month = this.day.getMonth() - 1;
         int dom = this.day.getDayOfMonth();
         calendar.set(year, month, dom, this.hour, 0, 0);
@@ -344,6 +392,11 @@ public class Hour extends RegularTimePeriod implements Serializable {
     @Override
     public long getLastMillisecond(Calendar calendar) {
         int year = this.day.getYear();
+        if (CalendarArithmetic.isSupported(calendar, year)) {
+            return CalendarArithmetic.toMillis(getLocalStart()
+                    + CalendarArithmetic.MILLIS_PER_HOUR - 1,
+                    calendar.getTimeZone());
+        }
         int month = this.day.getMonth() - 1;
         int dom = this.day.getDayOfMonth();
         calendar.set(year, month, dom, this.hour, 59, 59);
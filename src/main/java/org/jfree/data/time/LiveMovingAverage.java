@@ -0,0 +1,302 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * LiveMovingAverage.java
+ * ----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+
+import org.jfree.chart.util.Args;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+
+/**
+ * A moving average of a {@link TimeSeries} that is kept up to date as the
+ * source series changes.  The moving average series is calculated once when
+ * this object is created, and after that it is updated incrementally each
+ * time the source series sends a change event:  when items are appended to
+ * the source series (the usual case for live data), only the averages for the
+ * new items are calculated, and when items within the latest averaging
+ * window are updated, added or deleted, only the averages from the first
+ * changed item onwards are recalculated.  Each change to the source series
+ * results in (at most) one change event for the moving average series.
+ * <P>
+ * Changes to items that are older than the latest averaging window (and items
+ * removed from the front of the source series, for example because of its
+ * maximum item count) do not revise averages that have already been
+ * calculated.  The moving average series is created with the same maximum
+ * item count and maximum item age as the source series.
+ *
+ * @see MovingAverage
+ *
+ * @since 1.6.0
+ */
+public class LiveMovingAverage implements SeriesChangeListener, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4907734398206542618L;
+
+    /** The source series. */
+    private TimeSeries source;
+
+    /** The moving average series. */
+    private TimeSeries series;
+
+    /** The number of periods in the average. */
+    private int periodCount;
+
+    /** The number of initial periods to skip. */
+    private int skip;
+
+    /**
+     * The serial index of the first period for which an average is
+     * calculated (only valid once the source series contains data).
+     */
+    private long firstSerial;
+
+    /**
+     * A flag that indicates whether or not {@code firstSerial} has been
+     * set.
+     */
+    private boolean started;
+
+    /**
+     * The time periods of the source items in the latest averaging window,
+     * as seen after the last update.
+     */
+    private RegularTimePeriod[] windowPeriods;
+
+    /** The values of the source items in the latest averaging window. */
+    private Number[] windowValues;
+
+    /** The number of items in the latest averaging window. */
+    private int windowCount;
+
+    /**
+     * The serial index of the last period before the latest averaging
+     * window.
+     */
+    private long windowLimit;
+
+    /**
+     * Creates a new moving average for the specified series, and registers
+     * it as a listener so that it is updated when the source series changes.
+     *
+     * @param source  the source series ({@code null} not permitted).
+     * @param name  the name of the moving average series.
+     * @param periodCount  the number of periods used in the average
+     *                     calculation.
+     * @param skip  the number of initial periods to skip.
+     */
+    public LiveMovingAverage(TimeSeries source, String name, int periodCount,
+            int skip) {
+        Args.nullNotPermitted(source, "source");
+        if (periodCount < 1) {
+            throw new IllegalArgumentException("periodCount must be greater "
+                    + "than or equal to 1.");
+        }
+        this.source = source;
+        this.periodCount = periodCount;
+        this.skip = skip;
+        this.series = new TimeSeries(name);
+        this.series.setMaximumItemCount(source.getMaximumItemCount());
+        this.series.setMaximumItemAge(source.getMaximumItemAge());
+        this.windowPeriods = new RegularTimePeriod[Math.min(periodCount, 16)];
+        this.windowValues = new Number[this.windowPeriods.length];
+        update();
+        this.source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the moving average series.  The series is updated when the
+     * source series changes, so it can be added to a
+     * {@link TimeSeriesCollection} for display in a chart.
+     *
+     * @return The moving average series (never {@code null}).
+     */
+    public TimeSeries getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never {@code null}).
+     */
+    public TimeSeries getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the number of periods used in the average calculation.
+     *
+     * @return The number of periods.
+     */
+    public int getPeriodCount() {
+        return this.periodCount;
+    }
+
+    /**
+     * Returns the number of initial periods to skip.
+     *
+     * @return The number of periods.
+     */
+    public int getSkip() {
+        return this.skip;
+    }
+
+    /**
+     * Deregisters this object from the source series.  After this method is
+     * called, the moving average series is no longer updated.
+     */
+    public void dispose() {
+        this.source.removeChangeListener(this);
+    }
+
+    /**
+     * Receives notification of a change to the source series, and updates
+     * the moving average series.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        update();
+    }
+
+    /**
+     * Updates the moving average series to reflect the current content of
+     * the source series.
+     */
+    private void update() {
+        int count = this.source.getItemCount();
+        if (count == 0) {
+            this.started = false;
+            this.windowCount = 0;
+            if (!this.series.isEmpty()) {
+                this.series.clear();
+            }
+            return;
+        }
+        if (!this.started) {
+            this.firstSerial = this.source.getTimePeriod(0).getSerialIndex()
+                    + this.skip;
+            this.started = true;
+        }
+
+        // skip any items in the window that have been removed from the front
+        // of the source series, then find the first item that differs
+        RegularTimePeriod sourceStart = this.source.getTimePeriod(0);
+        int k = 0;
+        while (k < this.windowCount
+                && this.windowPeriods[k].compareTo(sourceStart) < 0) {
+            k++;
+        }
+        int start = 0;
+        if (k < this.windowCount) {
+            start = this.source.getIndex(this.windowPeriods[k]);
+            if (start < 0) {
+                start = -start - 1;
+            }
+            // items added to the start of the window come before the first
+            // recorded item
+            while (start > 0 && this.source.getTimePeriod(start - 1)
+                    .getSerialIndex() > this.windowLimit) {
+                start--;
+            }
+            while (k < this.windowCount && start < count) {
+                TimeSeriesDataItem item = this.source.getRawDataItem(start);
+                if (!item.getPeriod().equals(this.windowPeriods[k])
+                        || item.getValue() != this.windowValues[k]) {
+                    break;
+                }
+                k++;
+                start++;
+            }
+        }
+        else if (this.windowCount > 0) {
+            // everything in the window was removed, recalculate the remaining
+            // items that are later than the window
+            start = -this.source.getIndex(this.windowPeriods[k - 1]) - 1;
+        }
+        if (start == count && k == this.windowCount) {
+            return;  // nothing has changed
+        }
+
+        boolean notify = this.series.getNotify();
+        this.series.setNotify(false);
+        for (int i = k; i < this.windowCount; i++) {
+            if (this.source.getIndex(this.windowPeriods[i]) < 0) {
+                this.series.delete(this.windowPeriods[i]);
+            }
+        }
+        MovingAverage.calculateMovingAverage(this.source, start,
+                this.firstSerial, this.periodCount, this.series);
+        updateWindow();
+        this.series.setNotify(notify);
+    }
+
+    /**
+     * Records the source items in the latest averaging window, so that the
+     * changes in the next change event can be found.
+     */
+    private void updateWindow() {
+        int count = this.source.getItemCount();
+        this.windowLimit = this.source.getTimePeriod(count - 1)
+                .getSerialIndex() - this.periodCount;
+        int first = count - 1;
+        while (first > 0 && this.source.getTimePeriod(first - 1)
+                .getSerialIndex() > this.windowLimit) {
+            first--;
+        }
+        int n = count - first;
+        if (n > this.windowPeriods.length) {
+            int capacity = Math.max(n, this.windowPeriods.length * 2);
+            this.windowPeriods = new RegularTimePeriod[capacity];
+            this.windowValues = new Number[capacity];
+        }
+        for (int i = 0; i < n; i++) {
+            TimeSeriesDataItem item = this.source.getRawDataItem(first + i);
+            this.windowPeriods[i] = item.getPeriod();
+            this.windowValues[i] = item.getValue();
+        }
+        for (int i = n; i < this.windowCount; i++) {
+            this.windowPeriods[i] = null;
+            this.windowValues[i] = null;
+        }
+        this.windowCount = n;
+    }
+
+}
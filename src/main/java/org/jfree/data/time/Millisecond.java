@@ -120,7 +120,8 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
         this.minute = (byte) second.getMinute().getMinute();
         this.hour = (byte) second.getMinute().getHourValue();
         this.day = second.getMinute().getDay();
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -162,14 +163,27 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
      * @since 1.0.13
      */
     public Millisecond(Date time, TimeZone zone, Locale locale) {
-        Calendar calendar = Calendar.getInstance(zone, locale);
-        calendar.setTime(time);
-        this.millisecond = calendar.get(Calendar.MILLISECOND);
-        this.second = (byte) calendar.get(Calendar.SECOND);
-        this.minute = (byte) calendar.get(Calendar.MINUTE);
-        this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
-        this.day = new Day(time, zone, locale);
-        peg(calendar);
+        long local = CalendarArithmetic.toLocalMillis(time.getTime(), zone,
+                locale);
+        if (local != CalendarArithmetic.UNSUPPORTED) {
+            int millisOfDay = CalendarArithmetic.getMillisOfDay(local);
+            this.millisecond = millisOfDay % 1000;
+            this.second = (byte) (millisOfDay / 1000 % 60);
+            this.minute = (byte) (millisOfDay / 60000 % 60);
+            this.hour = (byte) (millisOfDay / 3600000);
+            this.day = new Day(time, zone, locale);
+            peg(zone, locale);
+        }
+        else {
+            Calendar calendar = Calendar.getInstance(zone, locale);
+            calendar.setTime(time);
+            this.millisecond = calendar.get(Calendar.MILLISECOND);
+            this.second = (byte) calendar.get(Calendar.SECOND);
+            this.minute = (byte) calendar.get(Calendar.MINUTE);
+            this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
+            this.day = new Day(time, zone, locale);
+            peg(calendar);
+        }
     }
 
     /**
@@ -235,6 +249,39 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
         this.firstMillisecond = getFirstMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the start date/time for this time period relative to the
+     * calendar that {@code Calendar.getInstance(zone, locale)} would return,
+     * without creating that calendar where possible.
+     *
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     */
+    private void peg(TimeZone zone, Locale locale) {
+        if (CalendarArithmetic.isSupported(zone, locale, this.day.getYear())) {
+            this.firstMillisecond = CalendarArithmetic.toMillis(
+                    getLocalTime(), zone);
+        }
+        else {
+            peg(Calendar.getInstance(zone, locale));
+        }
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * represented by this millisecond.
+     *
+     * @return The local time.
+     */
+    private long getLocalTime() {
+        return CalendarArithmetic.toEpochDay(this.day.getYear(),
+                this.day.getMonth(), this.day.getDayOfMonth())
+                * CalendarArithmetic.MILLIS_PER_DAY
+                + this.hour * CalendarArithmetic.MILLIS_PER_HOUR
+                + this.minute * 60000L + this.second * 1000L
+                + this.millisecond;
+    }
+
     /**
      * Returns the millisecond preceding this one.
      *
@@ -409,6 +456,10 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
     @Override
     public long getFirstMillisecond(Calendar calendar) {
         int year = this.day.getYear();
+        if (CalendarArithmetic.isSupported(calendar, year)) {
+            return CalendarArithmetic.toMillis(getLocalTime(),
+                    calendar.getTimeZone());
+        }
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
         calendar.clear();
@@ -122,7 +122,8 @@ public class Minute extends RegularTimePeriod implements Serializable {
         this.minute = (byte) minute;
         this.hour = (byte) hour.getHour();
         this.day = hour.getDay();
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -151,13 +152,24 @@ public class Minute extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(time, "time");
         Args.nullNotPermitted(zone, "zone");
         Args.nullNotPermitted(locale, "locale");
-        Calendar calendar = Calendar.getInstance(zone, locale);
-        calendar.setTime(time);
-        int min = calendar.get(Calendar.MINUTE);
-        this.minute = (byte) min;
-        this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
-        this.day = new Day(time, zone, locale);
-        peg(calendar);
+        long local = CalendarArithmetic.toLocalMillis(time.getTime(), zone,
+                locale);
+        if (local != CalendarArithmetic.UNSUPPORTED) {
+            int millisOfDay = CalendarArithmetic.getMillisOfDay(local);
+            this.minute = (byte) (millisOfDay / 60000 % 60);
+            this.hour = (byte) (millisOfDay / 3600000);
+            this.day = new Day(time, zone, locale);
+            peg(zone, locale);
+        }
+        else {
+            Calendar calendar = Calendar.getInstance(zone, locale);
+            calendar.setTime(time);
+            int min = calendar.get(Calendar.MINUTE);
+            this.minute = (byte) min;
+            this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
+            this.day = new Day(time, zone, locale);
+            peg(calendar);
+        }
     }
 
     /**
@@ -257,6 +269,40 @@ public class Minute extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the start date/time and end date/time for this time period
+     * relative to the calendar that {@code Calendar.getInstance(zone, locale)}
+     * would return, without creating that calendar where possible.
+     *
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     */
+    private void peg(TimeZone zone, Locale locale) {
+        if (CalendarArithmetic.isSupported(zone, locale, this.day.getYear())) {
+            long start = getLocalStart();
+            this.firstMillisecond = CalendarArithmetic.toMillis(start, zone);
+            this.lastMillisecond = CalendarArithmetic.toMillis(start + 59999L,
+                    zone);
+        }
+        else {
+            peg(Calendar.getInstance(zone, locale));
+        }
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the start of the minute.
+     *
+     * @return The local time.
+     */
+    private long getLocalStart() {
+        return CalendarArithmetic.toEpochDay(this.day.getYear(),
+                this.day.getMonth(), this.day.getDayOfMonth())
+                * CalendarArithmetic.MILLIS_PER_DAY
+                + this.hour * CalendarArithmetic.MILLIS_PER_HOUR
+                + this.minute * 60000L;
+    }
+
     /**
      * Returns the minute preceding this one.
      *
@@ -328,6 +374,10 @@ public class Minute extends RegularTimePeriod implements Serializable {
     @Override
     public long getFirstMillisecond(Calendar calendar) {
         int year = this.day.getYear();
+        if (CalendarArithmetic.isSupported(calendar, year)) {
+            return CalendarArithmetic.toMillis(getLocalStart(),
+                    calendar.getTimeZone());
+        }
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
 
@@ -352,6 +402,10 @@ public class Minute extends RegularTimePeriod implements Serializable {
     @Override
     public long getLastMillisecond(Calendar calendar) {
         int year = this.day.getYear();
+        if (CalendarArithmetic.isSupported(calendar, year)) {
+            return CalendarArithmetic.toMillis(getLocalStart() + 59999L,
+                    calendar.getTimeZone());
+        }
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
 
@@ -114,7 +114,8 @@ public class Month extends RegularTimePeriod implements Serializable {
         }
         this.month = month;
         this.year = year;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -129,7 +130,8 @@ public class Month extends RegularTimePeriod implements Serializable {
         }
         this.month = month;
         this.year = year.getYear();
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -155,11 +157,22 @@ public class Month extends RegularTimePeriod implements Serializable {
      * @since 1.0.12
      */
     public Month(Date time, TimeZone zone, Locale locale) {
-        Calendar calendar = Calendar.getInstance(zone, locale);
-        calendar.setTime(time);
-        this.month = calendar.get(Calendar.MONTH) + 1;
-        this.year = calendar.get(Calendar.YEAR);
-        peg(calendar);
+        long local = CalendarArithmetic.toLocalMillis(time.getTime(), zone,
+                locale);
+        if (local != CalendarArithmetic.UNSUPPORTED) {
+            int ymd = CalendarArithmetic.toYearMonthDay(
+                    CalendarArithmetic.toEpochDay(local));
+            this.month = ymd / 100 % 100;
+            this.year = ymd / 10000;
+            peg(zone, locale);
+        }
+        else {
+            Calendar calendar = Calendar.getInstance(zone, locale);
+            calendar.setTime(time);
+            this.month = calendar.get(Calendar.MONTH) + 1;
+            this.year = calendar.get(Calendar.YEAR);
+            peg(calendar);
+        }
     }
 
     /**
@@ -233,6 +246,50 @@ public class Month extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the start date/time and end date/time for this time period
+     * relative to the calendar that {@code Calendar.getInstance(zone, locale)}
+     * would return, without creating that calendar where possible.
+     *
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     */
+    private void peg(TimeZone zone, Locale locale) {
+        if (CalendarArithmetic.isSupported(zone, locale, this.year)) {
+            this.firstMillisecond = CalendarArithmetic.toMillis(
+                    getLocalStart(), zone);
+            this.lastMillisecond = CalendarArithmetic.toMillis(
+                    getLocalEnd(), zone);
+        }
+        else {
+            peg(Calendar.getInstance(zone, locale));
+        }
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the start of the month.
+     *
+     * @return The local time.
+     */
+    private long getLocalStart() {
+        return CalendarArithmetic.toEpochDay(this.year, this.month, 1)
+                * CalendarArithmetic.MILLIS_PER_DAY;
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the end of the month.
+     *
+     * @return The local time.
+     */
+    private long getLocalEnd() {
+        int eom = SerialDate.lastDayOfMonth(this.month, this.year);
+        return CalendarArithmetic.toEpochDay(this.year, this.month, eom)
+                * CalendarArithmetic.MILLIS_PER_DAY
+                + CalendarArithmetic.MILLIS_PER_DAY - 1;
+    }
+
     /**
      * Returns the month preceding this one.  Note that the returned
      * {@link Month} is "pegged" using the default time-zone, irrespective of
@@ -405,6 +462,10 @@ public class Month extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        if (CalendarArithmetic.isSupported(calendar, this.year)) {
+            return CalendarArithmetic.toMillis(getLocalStart(),
+                    calendar.getTimeZone());
+        }
         calendar.set(this.year, this.month - 1, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -423,6 +484,10 @@ public class Month extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        if (CalendarArithmetic.isSupported(calendar, this.year)) {
+            return CalendarArithmetic.toMillis(getLocalEnd(),
+                    calendar.getTimeZone());
+        }
         int eom = SerialDate.lastDayOfMonth(this.month, this.year);
         calendar.set(this.year, this.month - 1, eom, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
@@ -124,53 +124,79 @@ public class MovingAverage {
             // calculate the index of the
             // first data item to have an average calculated...
             long firstSerial = source.getTimePeriod(0).getSerialIndex() + skip;
+            calculateMovingAverage(source, 0, firstSerial, periodCount,
+                    result);
+        }
 
-            for (int i = source.getItemCount() - 1; i >= 0; i--) {
-
-                // get the current data item...
-                RegularTimePeriod period = source.getTimePeriod(i);
-                long serial = period.getSerialIndex();
+        return result;
 
-                if (serial >= firstSerial) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    long serialLimit = period.getSerialIndex() - periodCount;
-                    int offset = 0;
-                    boolean finished = false;
+    }
 
-                    while ((offset < periodCount) && (!finished)) {
-                        if ((i - offset) >= 0) {
-                            TimeSeriesDataItem item = source.getRawDataItem(
-                                    i - offset);
-                            RegularTimePeriod p = item.getPeriod();
-                            Number v = item.getValue();
-                            long currentIndex = p.getSerialIndex();
-                            if (currentIndex > serialLimit) {
-                                if (v != null) {
-                                    sum = sum + v.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        offset = offset + 1;
-                    }
-                    if (n > 0) {
-                        result.add(period, sum / n);
-                    }
-                    else {
-                        result.add(period, null);
-                    }
-                }
+    /**
+     * Calculates the moving average for the items in {@code source} from
+     * index {@code start} to the end of the series, and adds the values to
+     * {@code result} (items in {@code result} for the same time periods are
+     * updated).  The averaging window slides forward through the source
+     * series, maintaining a running sum, so the cost is proportional to the
+     * number of items processed rather than to the number of items times the
+     * number of periods in the average.  No change events are sent by this
+     * method for items appended to {@code result}.
+     *
+     * @param source  the source series ({@code null} not permitted).
+     * @param start  the index of the first item to calculate.
+     * @param firstSerial  the serial index of the first time period for
+     *     which an average is calculated (earlier periods are skipped).
+     * @param periodCount  the number of periods in the average.
+     * @param result  the series that receives the averages ({@code null}
+     *     not permitted).
+     */
+    static void calculateMovingAverage(TimeSeries source, int start,
+            long firstSerial, int periodCount, TimeSeries result) {
 
-            }
+        int count = source.getItemCount();
+        if (start >= count) {
+            return;
         }
 
-        return result;
+        // initialise the window with the items before 'start' that fall
+        // within the averaging period of the item at 'start'...
+        long serialLimit = source.getTimePeriod(start).getSerialIndex()
+                - periodCount;
+        int first = start;
+        while (first > 0 && source.getTimePeriod(first - 1).getSerialIndex()
+                > serialLimit) {
+            first--;
+        }
+        RunningSum window = new RunningSum();
+        for (int i = first; i < start; i++) {
+            window.add(source.getRawDataItem(i).getValue());
+        }
 
+        RegularTimePeriod last = null;
+        if (!result.isEmpty()) {
+            last = result.getTimePeriod(result.getItemCount() - 1);
+        }
+        for (int i = start; i < count; i++) {
+            TimeSeriesDataItem item = source.getRawDataItem(i);
+            RegularTimePeriod period = item.getPeriod();
+            long serial = period.getSerialIndex();
+            window.add(item.getValue());
+            serialLimit = serial - periodCount;
+            while (source.getTimePeriod(first).getSerialIndex()
+                    <= serialLimit) {
+                window.remove(source.getRawDataItem(first).getValue());
+                first++;
+            }
+            if (serial >= firstSerial) {
+                Number average = window.getAverage();
+                if (last != null && period.compareTo(last) <= 0) {
+                    result.addOrUpdate(period, average);
+                }
+                else {
+                    result.add(period, average, false);
+                }
+            }
+        }
     }
 
     /**
@@ -298,6 +324,10 @@ public class MovingAverage {
             // calculate the lowest x-value to have an average calculated...
             double first = source.getXValue(series, 0) + skip;
 
+            if (isAscending(source, series)) {
+                calculateMovingAverage(source, series, first, period, result);
+                return result;
+            }
             for (int i = source.getItemCount(series) - 1; i >= 0; i--) {
 
                 // get the current data item...
@@ -345,4 +375,174 @@ public class MovingAverage {
 
     }
 
+    /**
+     * Returns {@code true} if the x-values in a series are in ascending order
+     * (duplicates are permitted).
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     */
+    private static boolean isAscending(XYDataset dataset, int series) {
+        int count = dataset.getItemCount(series);
+        double previous = dataset.getXValue(series, 0);
+        for (int i = 1; i < count; i++) {
+            double x = dataset.getXValue(series, i);
+            if (!(x >= previous)) {
+                return false;
+            }
+            previous = x;
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the moving average for a series with ascending x-values,
+     * using a sliding window with a running sum, and adds the values to
+     * {@code result} (in the same order as the general calculation above).
+     *
+     * @param source  the source dataset.
+     * @param series  the series index.
+     * @param first  the lowest x-value to have an average calculated.
+     * @param period  the averaging period.
+     * @param result  the series that receives the averages.
+     */
+    private static void calculateMovingAverage(XYDataset source, int series,
+            double first, double period, XYSeries result) {
+
+        int count = source.getItemCount(series);
+        Number[] averages = new Number[count];
+        RunningSum window = new RunningSum();
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            double x = source.getXValue(series, i);
+            window.add(source.getY(series, i));
+            double limit = x - period;
+            while (source.getXValue(series, start) <= limit) {
+                window.remove(source.getY(series, start));
+                start++;
+            }
+            averages[i] = window.getAverage();
+        }
+
+        // items with the same x-value are added in reverse order, which
+        // keeps the result identical to the general calculation
+        int i = 0;
+        while (i < count) {
+            double x = source.getXValue(series, i);
+            int j = i;
+            while (j + 1 < count && source.getXValue(series, j + 1) == x) {
+                j++;
+            }
+            if (x >= first) {
+                for (int k = j; k >= i; k--) {
+                    result.add(x, averages[k], false);
+                }
+            }
+            i = j + 1;
+        }
+    }
+
+    /**
+     * A running sum of the (non-{@code null}) values in an averaging window.
+     * Infinite and {@code NaN} values are counted separately, so that the sum
+     * recovers once they leave the window.
+     */
+    private static final class RunningSum {
+
+        /** The sum of the finite values. */
+        private double sum;
+
+        /** The number of values in the window. */
+        private int count;
+
+        /** The number of {@code NaN} values in the window. */
+        private int nanCount;
+
+        /** The number of positive infinite values in the window. */
+        private int positiveInfinityCount;
+
+        /** The number of negative infinite values in the window. */
+        private int negativeInfinityCount;
+
+        /**
+         * Adds a value to the window.
+         *
+         * @param value  the value ({@code null} permitted, and ignored).
+         */
+        void add(Number value) {
+            if (value == null) {
+                return;
+            }
+            double v = value.doubleValue();
+            this.count++;
+            if (Double.isNaN(v)) {
+                this.nanCount++;
+            }
+            else if (v == Double.POSITIVE_INFINITY) {
+                this.positiveInfinityCount++;
+            }
+            else if (v == Double.NEGATIVE_INFINITY) {
+                this.negativeInfinityCount++;
+            }
+            else {
+                this.sum += v;
+            }
+        }
+
+        /**
+         * Removes a value (previously added) from the window.
+         *
+         * @param value  the value ({@code null} permitted, and ignored).
+         */
+        void remove(Number value) {
+            if (value == null) {
+                return;
+            }
+            double v = value.doubleValue();
+            this.count--;
+            if (Double.isNaN(v)) {
+                this.nanCount--;
+            }
+            else if (v == Double.POSITIVE_INFINITY) {
+                this.positiveInfinityCount--;
+            }
+            else if (v == Double.NEGATIVE_INFINITY) {
+                this.negativeInfinityCount--;
+            }
+            else {
+                this.sum -= v;
+            }
+            if (this.count == 0) {
+                // discard any accumulated rounding error
+                this.sum = 0.0;
+            }
+        }
+
+        /**
+         * Returns the average of the values in the window, or {@code null}
+         * if the window contains no values.
+         *
+         * @return The average (possibly {@code null}).
+         */
+        Number getAverage() {
+            if (this.count == 0) {
+                return null;
+            }
+            if (this.nanCount > 0 || (this.positiveInfinityCount > 0
+                    && this.negativeInfinityCount > 0)) {
+                return Double.NaN;
+            }
+            if (this.positiveInfinityCount > 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (this.negativeInfinityCount > 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            return this.sum / this.count;
+        }
+
+    }
+
 }
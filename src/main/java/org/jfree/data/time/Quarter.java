@@ -128,7 +128,8 @@ public class Quarter extends RegularTimePeriod implements Serializable {
         }
         this.year = (short) year;
         this.quarter = (byte) quarter;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -143,7 +144,8 @@ public class Quarter extends RegularTimePeriod implements Serializable {
         }
         this.year = (short) year.getYear();
         this.quarter = (byte) quarter;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -169,12 +171,24 @@ public class Quarter extends RegularTimePeriod implements Serializable {
      * @since 1.0.12
      */
     public Quarter(Date time, TimeZone zone, Locale locale) {
-        Calendar calendar = Calendar.getInstance(zone, locale);
-        calendar.setTime(time);
-        int month = calendar.get(Calendar.MONTH) + 1;
-        this.quarter = (byte) SerialDate.monthCodeToQuarter(month);
-        this.year = (short) calendar.get(Calendar.YEAR);
-        peg(calendar);
+        long local = CalendarArithmetic.toLocalMillis(time.getTime(), zone,
+                locale);
+        if (local != CalendarArithmetic.UNSUPPORTED) {
+            int ymd = CalendarArithmetic.toYearMonthDay(
+                    CalendarArithmetic.toEpochDay(local));
+            this.quarter = (byte) SerialDate.monthCodeToQuarter(
+                    ymd / 100 % 100);
+            this.year = (short) (ymd / 10000);
+            peg(zone, locale);
+        }
+        else {
+            Calendar calendar = Calendar.getInstance(zone, locale);
+            calendar.setTime(time);
+            int month = calendar.get(Calendar.MONTH) + 1;
+            this.quarter = (byte) SerialDate.monthCodeToQuarter(month);
+            this.year = (short) calendar.get(Calendar.YEAR);
+            peg(calendar);
+        }
     }
 
     /**
@@ -250,6 +264,52 @@ public class Quarter extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the start date/time and end date/time for this time period
+     * relative to the calendar that {@code Calendar.getInstance(zone, locale)}
+     * would return, without creating that calendar where possible.
+     *
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     */
+    private void peg(TimeZone zone, Locale locale) {
+        if (CalendarArithmetic.isSupported(zone, locale, this.year)) {
+            this.firstMillisecond = CalendarArithmetic.toMillis(
+                    getLocalStart(), zone);
+            this.lastMillisecond = CalendarArithmetic.toMillis(
+                    getLocalEnd(), zone);
+        }
+        else {
+            peg(Calendar.getInstance(zone, locale));
+        }
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the start of the quarter.
+     *
+     * @return The local time.
+     */
+    private long getLocalStart() {
+        int month = Quarter.FIRST_MONTH_IN_QUARTER[this.quarter];
+        return CalendarArithmetic.toEpochDay(this.year, month, 1)
+                * CalendarArithmetic.MILLIS_PER_DAY;
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the end of the quarter.
+     *
+     * @return The local time.
+     */
+    private long getLocalEnd() {
+        int month = Quarter.LAST_MONTH_IN_QUARTER[this.quarter];
+        int eom = SerialDate.lastDayOfMonth(month, this.year);
+        return CalendarArithmetic.toEpochDay(this.year, month, eom)
+                * CalendarArithmetic.MILLIS_PER_DAY
+                + CalendarArithmetic.MILLIS_PER_DAY - 1;
+    }
+
     /**
      * Returns the quarter preceding this one.
      *
@@ -418,6 +478,10 @@ public class Quarter extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        if (CalendarArithmetic.isSupported(calendar, this.year)) {
+            return CalendarArithmetic.toMillis(getLocalStart(),
+                    calendar.getTimeZone());
+        }
         int month = Quarter.FIRST_MONTH_IN_QUARTER[this.quarter];
         calendar.set(this.year, month - 1, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
@@ -437,6 +501,10 @@ public class Quarter extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        if (CalendarArithmetic.isSupported(calendar, this.year)) {
+            return CalendarArithmetic.toMillis(getLocalEnd(),
+                    calendar.getTimeZone());
+        }
         int month = Quarter.LAST_MONTH_IN_QUARTER[this.quarter];
         int eom = SerialDate.lastDayOfMonth(month, this.year);
         calendar.set(this.year, month - 1, eom, 23, 59, 59);
@@ -123,7 +123,8 @@ public class Second extends RegularTimePeriod implements Serializable {
         this.hour = (byte) minute.getHourValue();
         this.minute = (byte) minute.getMinute();
         this.second = (byte) second;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -163,13 +164,25 @@ public class Second extends RegularTimePeriod implements Serializable {
      * @since 1.0.13
      */
     public Second(Date time, TimeZone zone, Locale locale) {
-        Calendar calendar = Calendar.getInstance(zone, locale);
-        calendar.setTime(time);
-        this.second = (byte) calendar.get(Calendar.SECOND);
-        this.minute = (byte) calendar.get(Calendar.MINUTE);
-        this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
-        this.day = new Day(time, zone, locale);
-        peg(calendar);
+        long local = CalendarArithmetic.toLocalMillis(time.getTime(), zone,
+                locale);
+        if (local != CalendarArithmetic.UNSUPPORTED) {
+            int millisOfDay = CalendarArithmetic.getMillisOfDay(local);
+            this.second = (byte) (millisOfDay / 1000 % 60);
+            this.minute = (byte) (millisOfDay / 60000 % 60);
+            this.hour = (byte) (millisOfDay / 3600000);
+            this.day = new Day(time, zone, locale);
+            peg(zone, locale);
+        }
+        else {
+            Calendar calendar = Calendar.getInstance(zone, locale);
+            calendar.setTime(time);
+            this.second = (byte) calendar.get(Calendar.SECOND);
+            this.minute = (byte) calendar.get(Calendar.MINUTE);
+            this.hour = (byte) calendar.get(Calendar.HOUR_OF_DAY);
+            this.day = new Day(time, zone, locale);
+            peg(calendar);
+        }
     }
 
     /**
@@ -233,6 +246,38 @@ public class Second extends RegularTimePeriod implements Serializable {
         this.firstMillisecond = getFirstMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the start date/time for this time period relative to the
+     * calendar that {@code Calendar.getInstance(zone, locale)} would return,
+     * without creating that calendar where possible.
+     *
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     */
+    private void peg(TimeZone zone, Locale locale) {
+        if (CalendarArithmetic.isSupported(zone, locale, this.day.getYear())) {
+            this.firstMillisecond = CalendarArithmetic.toMillis(
+                    getLocalStart(), zone);
+        }
+        else {
+            peg(Calendar.getInstance(zone, locale));
+        }
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the start of the second.
+     *
+     * @return The local time.
+     */
+    private long getLocalStart() {
+        return CalendarArithmetic.toEpochDay(this.day.getYear(),
+                this.day.getMonth(), this.day.getDayOfMonth())
+                * CalendarArithmetic.MILLIS_PER_DAY
+                + this.hour * CalendarArithmetic.MILLIS_PER_HOUR
+                + this.minute * 60000L + this.second * 1000L;
+    }
+
     /**
      * Returns the second preceding this one.
      *
@@ -297,6 +342,10 @@ public class Second extends RegularTimePeriod implements Serializable {
     @Override
     public long getFirstMillisecond(Calendar calendar) {
         int year = this.day.getYear();
+        if (CalendarArithmetic.isSupported(calendar, year)) {
+            return CalendarArithmetic.toMillis(getLocalStart(),
+                    calendar.getTimeZone());
+        }
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
         calendar.clear();
@@ -106,6 +106,9 @@ import org.jfree.chart.util.ObjectUtils;
 
 import org.jfree.chart.util.Args;
 import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxPyramid;
+import org.jfree.data.general.RingBufferList;
+import org.jfree.data.general.RollingMinMax;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -163,6 +166,25 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     private double maxY;
 
+    /**
+     * Tracks the bounds of the y-values while the series is a rolling window
+     * ({@code null} if the tracker is not in use or is out of date).
+     */
+    private transient RollingMinMax yWindow;
+
+    /**
+     * An index of the y-values, used to find the range of the y-values for
+     * a range of x-values ({@code null} if the index has not been built or
+     * is out of date).
+     */
+    private transient MinMaxPyramid yIndex;
+
+    /**
+     * The number of items removed from the start of the series since the
+     * y-value index was built.
+     */
+    private transient int yIndexOffset;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -289,6 +311,11 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * exceed the maximum item count, then the FIRST element in the series is
      * automatically removed, ensuring that the maximum item count is not
      * exceeded.
+     * <p>
+     * Once a maximum is set, the series stores its items in a ring buffer so
+     * that dropping the first item is an O(1) operation, and (as long as
+     * items are appended in time order) the cached y-bounds are maintained
+     * without iterating over the remaining items.
      *
      * @param maximum  the maximum (requires &gt;= 0).
      *
@@ -299,6 +326,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Negative 'maximum' argument.");
         }
         this.maximumItemCount = maximum;
+        if (maximum < Integer.MAX_VALUE) {
+            useRingBuffer();
+        }
         int count = this.data.size();
         if (count > maximum) {
             delete(0, count - maximum - 1);
@@ -322,7 +352,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * time series. For example, if a series contains daily data, you might set
      * the history count to 30.  Then, when you add a new data item, all data
      * items more than 30 days older than the latest value are automatically
-     * dropped from the series.
+     * dropped from the series.  As for {@link #setMaximumItemCount(int)},
+     * setting a maximum age switches the series to ring buffer storage.
      *
      * @param periods  the number of time periods.
      *
@@ -333,6 +364,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Negative 'periods' argument.");
         }
         this.maximumItemAge = periods;
+        if (periods < Long.MAX_VALUE) {
+            useRingBuffer();
+        }
         removeAgedItems(true);  // remove old items and notify if necessary
     }
 
@@ -395,20 +429,36 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             return null;
         }
         Calendar calendar = Calendar.getInstance(zone);
-        // since the items are ordered, we could be more clever here and avoid
-        // iterating over all the data
+        // the items are ordered, so if the first and last items are in the
+        // x-range then all the items are and the maintained bounds apply
+        TimeSeriesDataItem first = (TimeSeriesDataItem) this.data.get(0);
+        TimeSeriesDataItem last = (TimeSeriesDataItem) this.data.get(
+                this.data.size() - 1);
+        if (xRange.contains(first.getPeriod().getMillisecond(xAnchor, calendar))
+                && xRange.contains(last.getPeriod().getMillisecond(xAnchor,
+                calendar))) {
+            return findValueRange();
+        }
+        // otherwise find the items in the x-range with a binary search and
+        // use the index to avoid examining all of them
+        int firstItem = findFirstItemAtOrAfter(xRange.getLowerBound(),
+                xAnchor, calendar);
+        int lastItem = findFirstItemAfter(xRange.getUpperBound(), xAnchor,
+                calendar) - 1;
         double lowY = Double.POSITIVE_INFINITY;
         double highY = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < this.data.size(); i++) {
-            TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(i);
-            long millis = item.getPeriod().getMillisecond(xAnchor, calendar);
-            if (xRange.contains(millis)) {
-                Number n = item.getValue();
-                if (n != null) {
-                    double v = n.doubleValue();
-                    lowY = minIgnoreNaN(lowY, v);
-                    highY = maxIgnoreNaN(highY, v);
-                }
+        if (firstItem <= lastItem) {
+            MinMaxPyramid index = getYIndex();
+            int[] items = index.getItems(firstItem + this.yIndexOffset,
+                    lastItem + this.yIndexOffset, 1);
+            int count = items == null ? lastItem - firstItem + 1
+                    : items.length;
+            for (int i = 0; i < count; i++) {
+                int item = items == null ? firstItem + i
+                        : items[i] - this.yIndexOffset;
+                double v = valueOf(getRawDataItem(item));
+                lowY = minIgnoreNaN(lowY, v);
+                highY = maxIgnoreNaN(highY, v);
             }
         }
         if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
@@ -421,6 +471,82 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         return new Range(lowY, highY);
     }
 
+    /**
+     * Returns the index of the y-values, building it if necessary.  The
+     * index is maintained as items are appended to the series (or removed
+     * from the start of the series) and is discarded by any other change.
+     *
+     * @return The index (never {@code null}).
+     */
+    private MinMaxPyramid getYIndex() {
+        if (this.yIndex == null) {
+            MinMaxPyramid index = new MinMaxPyramid();
+            int count = this.data.size();
+            for (int i = 0; i < count; i++) {
+                index.add(valueOf(getRawDataItem(i)));
+            }
+            this.yIndex = index;
+            this.yIndexOffset = 0;
+        }
+        return this.yIndex;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value (the anchor point
+     * of the time period, in milliseconds) greater than or equal to
+     * {@code x}.  The time periods are ordered and do not overlap, so the
+     * x-values are ascending.
+     *
+     * @param x  the x-value.
+     * @param xAnchor  the anchor point for the x-values.
+     * @param calendar  the calendar used to evaluate the time periods.
+     *
+     * @return The item index (equal to the item count if there is no such
+     *     item).
+     */
+    private int findFirstItemAtOrAfter(double x, TimePeriodAnchor xAnchor,
+            Calendar calendar) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getTimePeriod(mid).getMillisecond(xAnchor, calendar) < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value (the anchor point
+     * of the time period, in milliseconds) greater than {@code x}.
+     *
+     * @param x  the x-value.
+     * @param xAnchor  the anchor point for the x-values.
+     * @param calendar  the calendar used to evaluate the time periods.
+     *
+     * @return The item index (equal to the item count if there is no such
+     *     item).
+     */
+    private int findFirstItemAfter(double x, TimePeriodAnchor xAnchor,
+            Calendar calendar) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getTimePeriod(mid).getMillisecond(xAnchor, calendar) <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Returns the smallest y-value in the series, ignoring any 
      * {@code null} and {@code Double.NaN} values.  This method 
@@ -673,16 +799,19 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         // make the change (if it's not a duplicate time period)...
         boolean added = false;
+        boolean appended = false;
         int count = getItemCount();
         if (count == 0) {
             this.data.add(item);
             added = true;
+            appended = true;
         }
         else {
             RegularTimePeriod last = getTimePeriod(getItemCount() - 1);
             if (item.getPeriod().compareTo(last) > 0) {
                 this.data.add(item);
                 added = true;
+                appended = true;
             }
             else {
                 int index = Collections.binarySearch(this.data, item);
@@ -704,18 +833,26 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         if (added) {
             updateBoundsForAddedItem(item);
+            updateWindowForAddedItem(item, appended);
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                removeFirstItem();
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
                                      // don't notify anyone, because that
                                      // happens next anyway...
-            if (notify) {
+            if (appended) {
+                if (notify) {
+                    fireSeriesAppended();
+                }
+            }
+            else if (notify) {
                 fireSeriesChanged();
             }
+            else {
+                markSeriesChanged();
+            }
         }
 
     }
@@ -811,6 +948,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     public void update(int index, Number value) {
         TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(index);
+        this.yWindow = null;
+        this.yIndex = null;
         boolean iterate = false;
         Number oldYN = item.getValue();
         if (oldYN != null) {
@@ -916,6 +1055,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             TimeSeriesDataItem existing
                     = (TimeSeriesDataItem) this.data.get(index);
             overwritten = (TimeSeriesDataItem) existing.clone();
+            this.yWindow = null;
+            this.yIndex = null;
             // figure out if we need to iterate through all the y-values
             // to find the revised minY / maxY
             boolean iterate = false;
@@ -936,13 +1077,14 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         else {
             item = (TimeSeriesDataItem) item.clone();
+            boolean appended = (-index - 1 == this.data.size());
             this.data.add(-index - 1, item);
             updateBoundsForAddedItem(item);
+            updateWindowForAddedItem(item, appended);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                removeFirstItem();
             }
         }
         removeAgedItems(false);  // remove old items if necessary, but
@@ -969,11 +1111,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             boolean removed = false;
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
-                this.data.remove(0);
+                removeFirstItem();
                 removed = true;
             }
             if (removed) {
-                updateMinMaxYByIteration();
                 if (notify) {
                     fireSeriesChanged();
                 }
@@ -1021,11 +1162,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         boolean removed = false;
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
+            removeFirstItem();
             removed = true;
         }
         if (removed) {
-            updateMinMaxYByIteration();
             if (notify) {
                 fireSeriesChanged();
             }
@@ -1040,8 +1180,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (this.data.size() > 0) {
             this.data.clear();
             this.timePeriodClass = null;
-            this.minY = Double.NaN;
-            this.maxY = Double.NaN;
+            updateMinMaxYByIteration();  // resets the bounds and tracker
             fireSeriesChanged();
         }
     }
@@ -1057,6 +1196,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void delete(RegularTimePeriod period) {
         int index = getIndex(period);
         if (index >= 0) {
+            this.yWindow = null;
+            this.yIndex = null;
             TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.remove(
                     index);
             updateBoundsForRemovedItem(item);
@@ -1093,6 +1234,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         for (int i = 0; i <= (end - start); i++) {
             this.data.remove(start);
         }
+        markSeriesChanged();
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
@@ -1121,6 +1263,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         TimeSeries clone = (TimeSeries) super.clone();
         clone.data = (List) ObjectUtils.deepClone(this.data);
+        clone.yIndex = null;
+        if (this.yWindow != null) {
+            clone.yWindow = (RollingMinMax) this.yWindow.clone();
+        }
         return clone;
     }
 
@@ -1145,9 +1291,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Requires start <= end.");
         }
         TimeSeries copy = (TimeSeries) super.clone();
-        copy.minY = Double.NaN;
-        copy.maxY = Double.NaN;
-        copy.data = new java.util.ArrayList();
+        copy.data = isRollingWindow() ? new RingBufferList()
+                : new java.util.ArrayList();
+        copy.updateMinMaxYByIteration();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item
@@ -1204,7 +1350,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         if (emptyRange) {
             TimeSeries copy = (TimeSeries) super.clone();
-            copy.data = new java.util.ArrayList();
+            copy.data = isRollingWindow() ? new RingBufferList()
+                    : new java.util.ArrayList();
+            copy.updateMinMaxYByIteration();
             return copy;
         }
         return createCopy(startIndex, endIndex);
@@ -1330,15 +1478,111 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * @since 1.0.14
      */
     private void updateMinMaxYByIteration() {
+        this.yIndex = null;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        boolean rolling = isRollingWindow();
+        this.yWindow = rolling ? new RollingMinMax() : null;
         Iterator iterator = this.data.iterator();
         while (iterator.hasNext()) {
             TimeSeriesDataItem item = (TimeSeriesDataItem) iterator.next();
             updateBoundsForAddedItem(item);
+            if (rolling) {
+                this.yWindow.add(valueOf(item));
+            }
         }
     }
 
+    /**
+     * Returns {@code true} if the items are stored in a ring buffer, which
+     * is the case once a maximum item count or age has been set for the
+     * series.
+     *
+     * @return A boolean.
+     */
+    private boolean isRollingWindow() {
+        return this.data instanceof RingBufferList;
+    }
+
+    /**
+     * Switches the series to ring buffer storage, if it is not already using
+     * it, and initialises the tracker for the y-bounds.
+     */
+    private void useRingBuffer() {
+        if (!isRollingWindow()) {
+            this.data = new RingBufferList(this.data);
+            updateMinMaxYByIteration();
+        }
+    }
+
+    /**
+     * Updates the y-bounds tracker and the y-value index (if they are in
+     * use) for an item that has been added to the series.  These can only
+     * follow items that are appended to the end of the series, so they are
+     * discarded otherwise (the tracker is rebuilt the next time the bounds
+     * are found by iteration, and the index the next time it is needed).
+     *
+     * @param item  the item ({@code null} not permitted).
+     * @param appended  a flag indicating whether the item was added at the
+     *     end of the series.
+     */
+    private void updateWindowForAddedItem(TimeSeriesDataItem item,
+            boolean appended) {
+        if (this.yWindow != null) {
+            if (appended) {
+                this.yWindow.add(valueOf(item));
+            }
+            else {
+                this.yWindow = null;
+            }
+        }
+        if (this.yIndex != null) {
+            if (appended) {
+                this.yIndex.add(valueOf(item));
+            }
+            else {
+                this.yIndex = null;
+            }
+        }
+    }
+
+    /**
+     * Removes the first item in the series and updates the cached y-bounds,
+     * without iterating over the remaining items if the tracker is in use.
+     */
+    private void removeFirstItem() {
+        TimeSeriesDataItem removed = (TimeSeriesDataItem) this.data.remove(0);
+        markSeriesChanged();
+        if (this.yIndex != null) {
+            // rebuild the index once half of the items in it are stale
+            this.yIndexOffset++;
+            if (this.yIndexOffset > this.data.size()) {
+                this.yIndex = null;
+            }
+        }
+        if (this.yWindow != null) {
+            this.yWindow.removeFirst();
+            this.minY = this.yWindow.getMinimum();
+            this.maxY = this.yWindow.getMaximum();
+        }
+        else {
+            updateBoundsForRemovedItem(removed);
+        }
+    }
+
+    /**
+     * Returns the value of an item as a {@code double}, with {@code null}
+     * mapped to {@code Double.NaN}.
+     *
+     * @param item  the item ({@code null} not permitted).
+     *
+     * @return The value.
+     */
+    private static double valueOf(TimeSeriesDataItem item) {
+        Number n = item.getValue();
+        return n == null ? Double.NaN : n.doubleValue();
+    }
+
     /**
      * A function to find the minimum of two values, but ignoring any
      * Double.NaN values.
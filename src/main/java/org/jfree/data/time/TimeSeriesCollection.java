@@ -102,10 +102,12 @@ import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.Args;
 
 import org.jfree.data.DomainInfo;
+import org.jfree.data.RangeInfo;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -120,7 +122,7 @@ import org.jfree.data.xy.XYRangeInfo;
  */
 public class TimeSeriesCollection extends AbstractIntervalXYDataset
         implements XYDataset, IntervalXYDataset, DomainInfo, XYDomainInfo,
-        XYRangeInfo, VetoableChangeListener, Serializable {
+        RangeInfo, XYRangeInfo, VetoableChangeListener, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 834149929022371137L;
@@ -232,6 +234,19 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return Collections.unmodifiableList(this.data);
     }
 
+    /**
+     * Receives notification that one of the series in the collection has
+     * changed, and sends a {@link DatasetChangeEvent} to all registered
+     * listeners (recording the appended items, if the change to the series
+     * only appended items).
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        fireDatasetChanged(event, this.data);
+    }
+
     /**
      * Returns the number of series in the collection.
      *
@@ -657,6 +672,38 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
 
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored for this dataset.
+     *
+     * @return The minimum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored for this dataset.
+     *
+     * @return The maximum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
     /**
      * Returns the bounds for the y-values in the dataset.
      * 
@@ -666,6 +713,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      *
      * @since 1.0.15
      */
+    @Override
     public Range getRangeBounds(boolean includeInterval) {
         Range result = null;
         Iterator iterator = this.data.iterator();
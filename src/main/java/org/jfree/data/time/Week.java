@@ -135,7 +135,8 @@ public class Week extends RegularTimePeriod implements Serializable {
         }
         this.week = (byte) week;
         this.year = (short) year;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -151,7 +152,8 @@ public class Week extends RegularTimePeriod implements Serializable {
         }
         this.week = (byte) week;
         this.year = (short) year.getYear();
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
    }
 
     /**
@@ -183,30 +185,51 @@ public class Week extends RegularTimePeriod implements Serializable {
         Args.nullNotPermitted(time, "time");
         Args.nullNotPermitted(zone, "zone");
         Args.nullNotPermitted(locale, "locale");
-        Calendar calendar = Calendar.getInstance(zone, locale);
-        calendar.setTime(time);
+        Calendar calendar = null;
+        int tempWeek;
+        int month;
+        int yyyy;
+        long local = CalendarArithmetic.toLocalMillis(time.getTime(), zone,
+                locale);
+        if (local != CalendarArithmetic.UNSUPPORTED) {
+            long epochDay = CalendarArithmetic.toEpochDay(local);
+            int ymd = CalendarArithmetic.toYearMonthDay(epochDay);
+            tempWeek = CalendarArithmetic.getWeekOfYear(epochDay,
+                    CalendarArithmetic.getFirstDayOfWeek(locale),
+                    CalendarArithmetic.getMinimalDaysInFirstWeek(locale));
+            month = ymd / 100 % 100 - 1;
+            yyyy = ymd / 10000;
+        }
+        else {
+            calendar = Calendar.getInstance(zone, locale);
+            calendar.setTime(time);
+            tempWeek = calendar.get(Calendar.WEEK_OF_YEAR);
+            month = calendar.get(Calendar.MONTH);
+            yyyy = calendar.get(Calendar.YEAR);
+        }
 
         // sometimes the last few days of the year are considered to fall in
         // the *first* week of the following year.  Refer to the Javadocs for
         // GregorianCalendar.
-        int tempWeek = calendar.get(Calendar.WEEK_OF_YEAR);
-        if (tempWeek == 1
-                && calendar.get(Calendar.MONTH) == Calendar.DECEMBER) {
+        if (tempWeek == 1 && month == Calendar.DECEMBER) {
             this.week = 1;
-            this.year = (short) (calendar.get(Calendar.YEAR) + 1);
+            this.year = (short) (yyyy + 1);
         }
         else {
             this.week = (byte) Math.min(tempWeek, LAST_WEEK_IN_YEAR);
-            int yyyy = calendar.get(Calendar.YEAR);
             // alternatively, sometimes the first few days of the year are
             // considered to fall in the *last* week of the previous year...
-            if (calendar.get(Calendar.MONTH) == Calendar.JANUARY
-                    && this.week >= 52) {
+            if (month == Calendar.JANUARY && this.week >= 52) {
                 yyyy--;
             }
             this.year = (short) yyyy;
         }
-        peg(calendar);
+        if (calendar != null) {
+            peg(calendar);
+        }
+        else {
+            peg(zone, locale);
+        }
     }
 
     /**
@@ -280,6 +303,65 @@ public class Week extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the start date/time and end date/time for this time period
+     * relative to the calendar that {@code Calendar.getInstance(zone, locale)}
+     * would return, without creating that calendar where possible.
+     *
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     */
+    private void peg(TimeZone zone, Locale locale) {
+        if (CalendarArithmetic.isSupported(zone, locale, this.year)) {
+            long start = getLocalStart(
+                    CalendarArithmetic.getFirstDayOfWeek(locale),
+                    CalendarArithmetic.getMinimalDaysInFirstWeek(locale));
+            this.firstMillisecond = CalendarArithmetic.toMillis(start, zone);
+            this.lastMillisecond = CalendarArithmetic.toMillis(
+                    start + 7 * CalendarArithmetic.MILLIS_PER_DAY, zone) - 1;
+        }
+        else {
+            peg(Calendar.getInstance(zone, locale));
+        }
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the start of the week.
+     *
+     * @param firstDayOfWeek  the first day of the week.
+     * @param minimalDays  the minimal number of days in the first week of the
+     *     year.
+     *
+     * @return The local time.
+     */
+    private long getLocalStart(int firstDayOfWeek, int minimalDays) {
+        long day = CalendarArithmetic.getFirstDayOfFirstWeek(this.year,
+                firstDayOfWeek, minimalDays) + 7L * (this.week - 1);
+        return day * CalendarArithmetic.MILLIS_PER_DAY;
+    }
+
+    /**
+     * Returns the number of weeks in the specified year, using the default
+     * time zone and locale.
+     *
+     * @param year  the year.
+     *
+     * @return The number of weeks (52 or 53).
+     */
+    private static int getWeeksInYear(int year) {
+        Locale locale = CalendarArithmetic.getDefaultLocale();
+        if (CalendarArithmetic.isSupported(CalendarArithmetic.getDefaultZone(),
+                locale, year)) {
+            return CalendarArithmetic.getWeeksInYear(year,
+                    CalendarArithmetic.getFirstDayOfWeek(locale),
+                    CalendarArithmetic.getMinimalDaysInFirstWeek(locale));
+        }
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(year, Calendar.DECEMBER, 31);
+        return calendar.getActualMaximum(Calendar.WEEK_OF_YEAR);
+    }
+
     /**
      * Returns the week preceding this one.  This method will return
      * {@code null} for some lower limit on the range of weeks (currently
@@ -299,10 +381,7 @@ public class Week extends RegularTimePeriod implements Serializable {
             // we need to work out if the previous year has 52 or 53 weeks...
             if (this.year > 1900) {
                 int yy = this.year - 1;
-                Calendar prevYearCalendar = Calendar.getInstance();
-                prevYearCalendar.set(yy, Calendar.DECEMBER, 31);
-                result = new Week(prevYearCalendar.getActualMaximum(
-                        Calendar.WEEK_OF_YEAR), yy);
+                result = new Week(getWeeksInYear(yy), yy);
             }
             else {
                 result = null;
@@ -329,10 +408,7 @@ public class Week extends RegularTimePeriod implements Serializable {
             result = new Week(this.week + 1, this.year);
         }
         else {
-            Calendar calendar = Calendar.getInstance();
-            calendar.set(this.year, Calendar.DECEMBER, 31);
-            int actualMaxWeek
-                = calendar.getActualMaximum(Calendar.WEEK_OF_YEAR);
+            int actualMaxWeek = getWeeksInYear(this.year);
             if (this.week < actualMaxWeek) {
                 result = new Week(this.week + 1, this.year);
             }
@@ -372,6 +448,12 @@ public class Week extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        if (CalendarArithmetic.isSupported(calendar, this.year)) {
+            return CalendarArithmetic.toMillis(getLocalStart(
+                    calendar.getFirstDayOfWeek(),
+                    calendar.getMinimalDaysInFirstWeek()),
+                    calendar.getTimeZone());
+        }
         Calendar c = (Calendar) calendar.clone();
         c.clear();
         c.set(Calendar.YEAR, this.year);
@@ -397,6 +479,13 @@ public class Week extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        if (CalendarArithmetic.isSupported(calendar, this.year)) {
+            long end = getLocalStart(calendar.getFirstDayOfWeek(),
+                    calendar.getMinimalDaysInFirstWeek())
+                    + 7 * CalendarArithmetic.MILLIS_PER_DAY;
+            return CalendarArithmetic.toMillis(end, calendar.getTimeZone())
+                    - 1;
+        }
         Calendar c = (Calendar) calendar.clone();
         c.clear();
         c.set(Calendar.YEAR, this.year);
@@ -118,7 +118,8 @@ public class Year extends RegularTimePeriod implements Serializable {
                 "Year constructor: year (" + year + ") outside valid range.");
         }
         this.year = (short) year;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultZone(),
+                CalendarArithmetic.getDefaultLocale());
     }
 
     /**
@@ -144,10 +145,19 @@ public class Year extends RegularTimePeriod implements Serializable {
      * @since 1.0.12
      */
     public Year(Date time, TimeZone zone, Locale locale) {
-        Calendar calendar = Calendar.getInstance(zone, locale);
-        calendar.setTime(time);
-        this.year = (short) calendar.get(Calendar.YEAR);
-        peg(calendar);
+        long local = CalendarArithmetic.toLocalMillis(time.getTime(), zone,
+                locale);
+        if (local != CalendarArithmetic.UNSUPPORTED) {
+            this.year = (short) (CalendarArithmetic.toYearMonthDay(
+                    CalendarArithmetic.toEpochDay(local)) / 10000);
+            peg(zone, locale);
+        }
+        else {
+            Calendar calendar = Calendar.getInstance(zone, locale);
+            calendar.setTime(time);
+            this.year = (short) calendar.get(Calendar.YEAR);
+            peg(calendar);
+        }
     }
 
     /**
@@ -203,6 +213,49 @@ public class Year extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the start date/time and end date/time for this time period
+     * relative to the calendar that {@code Calendar.getInstance(zone, locale)}
+     * would return, without creating that calendar where possible.
+     *
+     * @param zone  the time zone.
+     * @param locale  the locale.
+     */
+    private void peg(TimeZone zone, Locale locale) {
+        if (CalendarArithmetic.isSupported(zone, locale, this.year)) {
+            this.firstMillisecond = CalendarArithmetic.toMillis(
+                    getLocalStart(), zone);
+            this.lastMillisecond = CalendarArithmetic.toMillis(
+                    getLocalEnd(), zone);
+        }
+        else {
+            peg(Calendar.getInstance(zone, locale));
+        }
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the start of the year.
+     *
+     * @return The local time.
+     */
+    private long getLocalStart() {
+        return CalendarArithmetic.toEpochDay(this.year, 1, 1)
+                * CalendarArithmetic.MILLIS_PER_DAY;
+    }
+
+    /**
+     * Returns the local time (milliseconds since 1970-01-01T00:00 local time)
+     * at the end of the year.
+     *
+     * @return The local time.
+     */
+    private long getLocalEnd() {
+        return CalendarArithmetic.toEpochDay(this.year, 12, 31)
+                * CalendarArithmetic.MILLIS_PER_DAY
+                + CalendarArithmetic.MILLIS_PER_DAY - 1;
+    }
+
     /**
      * Returns the year preceding this one.
      *
@@ -260,6 +313,10 @@ public class Year extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        if (CalendarArithmetic.isSupported(calendar, this.year)) {
+            return CalendarArithmetic.toMillis(getLocalStart(),
+                    calendar.getTimeZone());
+        }
         calendar.set(this.year, Calendar.JANUARY, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -278,6 +335,10 @@ public class Year extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        if (CalendarArithmetic.isSupported(calendar, this.year)) {
+            return CalendarArithmetic.toMillis(getLocalEnd(),
+                    calendar.getTimeZone());
+        }
         calendar.set(this.year, Calendar.DECEMBER, 31, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
         return calendar.getTimeInMillis();
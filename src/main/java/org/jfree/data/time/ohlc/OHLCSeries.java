@@ -45,6 +45,7 @@ package org.jfree.data.time.ohlc;
 import org.jfree.chart.util.Args;
 import org.jfree.data.ComparableObjectItem;
 import org.jfree.data.ComparableObjectSeries;
+import org.jfree.data.Range;
 import org.jfree.data.time.RegularTimePeriod;
 
 /**
@@ -56,6 +57,15 @@ import org.jfree.data.time.RegularTimePeriod;
  */
 public class OHLCSeries extends ComparableObjectSeries {
 
+    /** The index of the tracked high values. */
+    private static final int HIGH = 0;
+
+    /** The index of the tracked low values. */
+    private static final int LOW = 1;
+
+    /** The index of the tracked close values. */
+    private static final int CLOSE = 2;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by period, and duplicate periods will
@@ -140,4 +150,58 @@ public class OHLCSeries extends ComparableObjectSeries {
         return super.remove(index);
     }
 
+    /**
+     * Returns the range of the values in the series, ignoring any
+     * {@code Double.NaN} values.  The bounds are maintained as items are
+     * added, so this method does not need to iterate over the items.
+     *
+     * @param includeInterval  if {@code true} the range runs from the
+     *     lowest low value to the highest high value, otherwise it covers
+     *     the close values.
+     *
+     * @return The range (or {@code null} if there are no values).
+     *
+     * @since 1.6.0
+     */
+    public Range findValueRange(boolean includeInterval) {
+        double lower = getMinimumValue(includeInterval ? LOW : CLOSE);
+        double upper = getMaximumValue(includeInterval ? HIGH : CLOSE);
+        if (Double.isNaN(lower) || Double.isNaN(upper)) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the number of values tracked for each item (the high, low
+     * and close values).
+     *
+     * @return The number of tracked values.
+     */
+    @Override
+    protected int getTrackedValueCount() {
+        return 3;
+    }
+
+    /**
+     * Returns one of the tracked values for an item.
+     *
+     * @param item  the item.
+     * @param index  the value index.
+     *
+     * @return The value.
+     */
+    @Override
+    protected double getTrackedValue(ComparableObjectItem item, int index) {
+        OHLCItem ohlcItem = (OHLCItem) item;
+        switch (index) {
+            case HIGH:
+                return ohlcItem.getHighValue();
+            case LOW:
+                return ohlcItem.getLowValue();
+            default:
+                return ohlcItem.getCloseValue();
+        }
+    }
+
 }
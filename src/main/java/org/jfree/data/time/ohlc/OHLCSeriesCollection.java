@@ -45,17 +45,25 @@
 package org.jfree.data.time.ohlc;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.jfree.chart.HashUtils;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.Args;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetUtils;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimePeriodAnchor;
 import org.jfree.data.xy.AbstractXYDataset;
 import org.jfree.data.xy.OHLCDataset;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYDomainInfo;
+import org.jfree.data.xy.XYRangeInfo;
 
 /**
  * A collection of {@link OHLCSeries} objects.
@@ -65,7 +73,8 @@ import org.jfree.data.xy.XYDataset;
  * @see OHLCSeries
  */
 public class OHLCSeriesCollection extends AbstractXYDataset
-                                implements OHLCDataset, Serializable {
+        implements OHLCDataset, DomainInfo, RangeInfo, XYDomainInfo,
+        XYRangeInfo, Serializable {
 
     /** Storage for the data series. */
     private List data;
@@ -445,6 +454,199 @@ public class OHLCSeriesCollection extends AbstractXYDataset
 
     }
 
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.  The items in each
+     * series are ordered by time period, so only the first and last items
+     * are examined.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < this.data.size(); s++) {
+            result = Range.combine(result, findDomainBounds(getSeries(s)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the x-values in the specified series.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     ({@code null} not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            result = Range.combine(result,
+                    findDomainBounds(getSeries(indexOf(seriesKey))));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the x-values in a series.
+     *
+     * @param series  the series.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    private Range findDomainBounds(OHLCSeries series) {
+        int count = series.getItemCount();
+        if (count == 0) {
+            return null;
+        }
+        return new Range(getX(series.getPeriod(0)),
+                getX(series.getPeriod(count - 1)));
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  if {@code true} the low values are used,
+     *     otherwise the close values are used.
+     *
+     * @return The minimum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  if {@code true} the high values are used,
+     *     otherwise the close values are used.
+     *
+     * @return The maximum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.  The bounds are
+     * maintained by each series as items are added, so this method does not
+     * iterate over the items.
+     *
+     * @param includeInterval  if {@code true} the range covers the low and
+     *     high values, otherwise the close values.
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < this.data.size(); s++) {
+            result = Range.combine(result,
+                    getSeries(s).findValueRange(includeInterval));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the y-values in the specified series, for the
+     * items with x-values in the specified range.  When the x-range covers
+     * all the items in a series, the bounds maintained by the series are
+     * used, otherwise the series items are iterated over.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     ({@code null} not permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  if {@code true} the range covers the low and
+     *     high values, otherwise the close values.
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            OHLCSeries series = getSeries(indexOf(seriesKey));
+            Range xBounds = findDomainBounds(series);
+            if (xBounds == null) {
+                continue;
+            }
+            Range r;
+            if (xRange.contains(xBounds.getLowerBound())
+                    && xRange.contains(xBounds.getUpperBound())) {
+                r = series.findValueRange(includeInterval);
+            } else {
+                r = DatasetUtils.iterateToFindRangeBounds(this,
+                        Collections.singletonList(seriesKey), xRange,
+                        includeInterval);
+            }
+            result = Range.combine(result, r);
+        }
+        return result;
+    }
+
     /**
      * Tests this instance for equality with an arbitrary object.
      *
@@ -0,0 +1,699 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * DoubleXYSeries.java
+ * -------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.util.Args;
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxPyramid;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+
+/**
+ * A sequence of zero or more (x, y) data items that are stored in two
+ * growable {@code double[]} columns rather than as a list of
+ * {@link XYDataItem} objects.  Each item costs 16 bytes (against roughly
+ * 80 bytes for an item in an {@link XYSeries}) and the values are read
+ * without unboxing, which makes this class suitable for very large series.
+ * <p>
+ * The items are always kept in ascending order of x-value, and duplicate
+ * x-values are permitted.  Appending an item with an x-value greater than or
+ * equal to the current maximum is an amortised O(1) operation, while an
+ * out-of-order item is inserted at the correct position (which requires
+ * shifting the later items).  A y-value of {@code Double.NaN} represents a
+ * missing value.
+ * <p>
+ * The series can also maintain a {@link MinMaxPyramid} over its y-values
+ * (see {@link #getLevelOfDetailItems(int, int, int)}), which is built on
+ * first use and then kept up to date as items are appended.
+ *
+ * @see DoubleXYSeriesCollection
+ *
+ * @since 1.6.0
+ */
+public class DoubleXYSeries extends Series implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3467219860523498216L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values. */
+    private double[] yValues;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The lowest x-value in the series. */
+    private double minX;
+
+    /** The highest x-value in the series. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * A level-of-detail index over the y-values, built on demand and
+     * discarded by any change other than an append.
+     */
+    private transient MinMaxPyramid pyramid;
+
+    /**
+     * Creates a new empty series.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     */
+    public DoubleXYSeries(Comparable key) {
+        this(key, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty series with storage preallocated for the
+     * specified number of items.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param initialCapacity  the initial capacity (must be zero or
+     *     positive).
+     */
+    public DoubleXYSeries(Comparable key, int initialCapacity) {
+        super(key);
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'initialCapacity' argument.");
+        }
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.itemCount = 0;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the smallest x-value in the series.  This method returns
+     * {@code Double.NaN} if the series is empty.
+     *
+     * @return The smallest x-value.
+     */
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series.  This method returns
+     * {@code Double.NaN} if the series is empty.
+     *
+     * @return The largest x-value.
+     */
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any
+     * {@code Double.NaN} values.  This method returns {@code Double.NaN} if
+     * there is no smallest y-value (for example, when the series is empty).
+     *
+     * @return The smallest y-value.
+     */
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any
+     * {@code Double.NaN} values.  This method returns {@code Double.NaN} if
+     * there is no largest y-value (for example, when the series is empty).
+     *
+     * @return The largest y-value.
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (in the range {@code 0} to
+     *     {@code getItemCount() - 1}).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (in the range {@code 0} to
+     *     {@code getItemCount() - 1}).
+     *
+     * @return The y-value (possibly {@code Double.NaN}).
+     */
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[index];
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x-value (must be finite or infinite, but not
+     *     {@code Double.NaN}).
+     * @param y  the y-value ({@code Double.NaN} permitted).
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (must be finite or infinite, but not
+     *     {@code Double.NaN}).
+     * @param y  the y-value ({@code Double.NaN} permitted).
+     * @param notify  a flag that controls whether or not a
+     *     {@link SeriesChangeEvent} is sent to all registered listeners.
+     */
+    public void add(double x, double y, boolean notify) {
+        if (Double.isNaN(x)) {
+            throw new IllegalArgumentException("The 'x' value is NaN.");
+        }
+        ensureCapacity(this.itemCount + 1);
+        boolean appended = this.itemCount == 0
+                || x >= this.xValues[this.itemCount - 1];
+        if (appended) {
+            this.xValues[this.itemCount] = x;
+            this.yValues[this.itemCount] = y;
+            if (this.pyramid != null) {
+                this.pyramid.add(y);
+            }
+        }
+        else {
+            // insert after any existing items with the same x-value
+            int index = upperBound(x);
+            int moved = this.itemCount - index;
+            System.arraycopy(this.xValues, index, this.xValues, index + 1,
+                    moved);
+            System.arraycopy(this.yValues, index, this.yValues, index + 1,
+                    moved);
+            this.xValues[index] = x;
+            this.yValues[index] = y;
+            this.pyramid = null;
+        }
+        this.itemCount++;
+        this.minX = this.xValues[0];
+        this.maxX = this.xValues[this.itemCount - 1];
+        updateBoundsForY(y);
+        if (appended) {
+            if (notify) {
+                fireSeriesAppended();
+            }
+        }
+        else if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            markSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a block of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  This is the
+     * most efficient way to populate a series.
+     *
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted, must have the same
+     *     length as {@code x}).
+     */
+    public void add(double[] x, double[] y) {
+        if (x == null || y == null) {
+            throw new IllegalArgumentException("Null 'x' or 'y' argument.");
+        }
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays have different lengths.");
+        }
+        if (x.length == 0) {
+            return;
+        }
+        ensureCapacity(this.itemCount + x.length);
+        for (int i = 0; i < x.length; i++) {
+            add(x[i], y[i], false);
+        }
+        fireSeriesAppended();
+    }
+
+    /**
+     * Returns the index of an item with the specified x-value, or a negative
+     * value (equal to {@code -(insertionPoint) - 1}) if there is no such
+     * item.  The search is a binary search, so it runs in O(log n) time.
+     * When the series contains duplicate x-values, the index of the first
+     * item with the x-value is returned.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[mid] < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        if (low < this.itemCount && this.xValues[low] == x) {
+            return low;
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Updates the y-value for the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item index.
+     * @param y  the new y-value ({@code Double.NaN} permitted).
+     */
+    public void updateByIndex(int index, double y) {
+        checkIndex(index);
+        double oldY = this.yValues[index];
+        this.yValues[index] = y;
+        this.pyramid = null;
+        if (!Double.isNaN(oldY) && (oldY <= this.minY || oldY >= this.maxY)) {
+            findYBoundsByIteration();
+        }
+        else {
+            updateBoundsForY(y);
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     */
+    public void remove(int index) {
+        delete(index, index);
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based, inclusive).
+     */
+    public void delete(int start, int end) {
+        checkIndex(start);
+        checkIndex(end);
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        int count = end - start + 1;
+        boolean iterate = false;
+        for (int i = start; i <= end; i++) {
+            double y = this.yValues[i];
+            if (!Double.isNaN(y) && (y <= this.minY || y >= this.maxY)) {
+                iterate = true;
+                break;
+            }
+        }
+        int moved = this.itemCount - end - 1;
+        System.arraycopy(this.xValues, end + 1, this.xValues, start, moved);
+        System.arraycopy(this.yValues, end + 1, this.yValues, start, moved);
+        this.itemCount -= count;
+        this.pyramid = null;
+        if (this.itemCount == 0) {
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+        }
+        else {
+            this.minX = this.xValues[0];
+            this.maxX = this.xValues[this.itemCount - 1];
+        }
+        if (iterate) {
+            findYBoundsByIteration();
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  The storage
+     * capacity is retained.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.itemCount = 0;
+            this.pyramid = null;
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns the indices (in ascending order) of a subset of the items in
+     * the specified range that preserves the envelope of the y-values when
+     * the range is drawn across {@code bucketCount / 2} pixels or so.  The
+     * subset is selected using a {@link MinMaxPyramid} so the cost depends
+     * on {@code bucketCount} rather than the number of items in the range.
+     * The index is built the first time this method is called (an O(n)
+     * operation) and is maintained incrementally while items are appended
+     * to the series.  Any other change discards the index.
+     *
+     * @param first  the index of the first item in the range.
+     * @param last  the index of the last item in the range.
+     * @param bucketCount  the minimum number of buckets.
+     *
+     * @return The item indices, or {@code null} if the range is too small
+     *     to benefit from the index (in which case all the items in the
+     *     range should be used).
+     *
+     * @see MinMaxPyramid#getItems(int, int, int)
+     */
+    public int[] getLevelOfDetailItems(int first, int last, int bucketCount) {
+        checkIndex(first);
+        checkIndex(last);
+        return getPyramid().getItems(first, last, bucketCount);
+    }
+
+    /**
+     * Returns the range of the y-values for the items with x-values in the
+     * specified range, ignoring {@code Double.NaN} y-values.  The items are
+     * found with a binary search and the {@link MinMaxPyramid} (see
+     * {@link #getLevelOfDetailItems(int, int, int)}) limits the number of
+     * items examined to O(log n), so this is cheap enough to call on every
+     * step while the domain axis is panned.
+     *
+     * @param xRange  the x-range ({@code null} not permitted).
+     *
+     * @return The range of y-values (or {@code null} if there are no
+     *     y-values for the x-range).
+     */
+    public Range findValueRange(Range xRange) {
+        Args.nullNotPermitted(xRange, "xRange");
+        int first = indexOf(xRange.getLowerBound());
+        if (first < 0) {
+            first = -first - 1;
+        }
+        int last = upperBound(xRange.getUpperBound()) - 1;
+        if (first > last) {
+            return null;
+        }
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        int[] items = getPyramid().getItems(first, last, 1);
+        int count = items == null ? last - first + 1 : items.length;
+        for (int i = 0; i < count; i++) {
+            double y = this.yValues[items == null ? first + i : items[i]];
+            if (!Double.isNaN(y)) {
+                minimum = Math.min(minimum, y);
+                maximum = Math.max(maximum, y);
+            }
+        }
+        if (minimum > maximum) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Returns the index of the y-values, building it if necessary.
+     *
+     * @return The index (never {@code null}).
+     */
+    private MinMaxPyramid getPyramid() {
+        if (this.pyramid == null) {
+            MinMaxPyramid p = new MinMaxPyramid();
+            for (int i = 0; i < this.itemCount; i++) {
+                p.add(this.yValues[i]);
+            }
+            this.pyramid = p;
+        }
+        return this.pyramid;
+    }
+
+    /**
+     * Trims the storage capacity of the series to the current item count.
+     */
+    public void trimToSize() {
+        if (this.xValues.length > this.itemCount) {
+            this.xValues = Arrays.copyOf(this.xValues, this.itemCount);
+            this.yValues = Arrays.copyOf(this.yValues, this.itemCount);
+        }
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    public double[][] toArray() {
+        double[][] result = new double[2][];
+        result[0] = Arrays.copyOf(this.xValues, this.itemCount);
+        result[1] = Arrays.copyOf(this.yValues, this.itemCount);
+        return result;
+    }
+
+    /**
+     * Checks that the supplied index is in the range {@code 0} to
+     * {@code getItemCount() - 1}.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index " + index
+                    + " is out of bounds (item count = " + this.itemCount
+                    + ").");
+        }
+    }
+
+    /**
+     * Grows the storage arrays, if necessary, so that they can hold at least
+     * the specified number of items.
+     *
+     * @param minCapacity  the required capacity.
+     */
+    private void ensureCapacity(int minCapacity) {
+        int capacity = this.xValues.length;
+        if (minCapacity > capacity) {
+            int newCapacity = Math.max(minCapacity,
+                    capacity + (capacity >> 1) + 1);
+            this.xValues = Arrays.copyOf(this.xValues, newCapacity);
+            this.yValues = Arrays.copyOf(this.yValues, newCapacity);
+        }
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than
+     * {@code x}.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    private int upperBound(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[mid] <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Updates the cached y-bounds for a y-value that has been added.
+     *
+     * @param y  the y-value.
+     */
+    private void updateBoundsForY(double y) {
+        if (Double.isNaN(y)) {
+            return;
+        }
+        if (Double.isNaN(this.minY) || y < this.minY) {
+            this.minY = y;
+        }
+        if (Double.isNaN(this.maxY) || y > this.maxY) {
+            this.maxY = y;
+        }
+    }
+
+    /**
+     * Finds the bounds of the y-values by iterating over all the items.
+     */
+    private void findYBoundsByIteration() {
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        for (int i = 0; i < this.itemCount; i++) {
+            updateBoundsForY(this.yValues[i]);
+        }
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DoubleXYSeries clone = (DoubleXYSeries) super.clone();
+        clone.xValues = this.xValues.clone();
+        clone.yValues = this.yValues.clone();
+        clone.pyramid = null;
+        return clone;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DoubleXYSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        DoubleXYSeries that = (DoubleXYSeries) obj;
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.doubleToLongBits(this.xValues[i])
+                    != Double.doubleToLongBits(that.xValues[i])) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.yValues[i])
+                    != Double.doubleToLongBits(that.yValues[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        // as for XYSeries, just look at the first, middle and last items...
+        int count = this.itemCount;
+        if (count > 0) {
+            result = 29 * result + hashItem(0);
+        }
+        if (count > 1) {
+            result = 29 * result + hashItem(count - 1);
+        }
+        if (count > 2) {
+            result = 29 * result + hashItem(count / 2);
+        }
+        result = 29 * result + count;
+        return result;
+    }
+
+    /**
+     * Returns a hash code for the item at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return A hash code.
+     */
+    private int hashItem(int index) {
+        long x = Double.doubleToLongBits(this.xValues[index]);
+        long y = Double.doubleToLongBits(this.yValues[index]);
+        int result = (int) (x ^ (x >>> 32));
+        return 29 * result + (int) (y ^ (y >>> 32));
+    }
+
+}
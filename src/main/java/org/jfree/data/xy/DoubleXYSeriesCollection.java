@@ -0,0 +1,582 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * DoubleXYSeriesCollection.java
+ * -----------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyVetoException;
+import java.beans.VetoableChangeListener;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.util.Args;
+import org.jfree.chart.util.ObjectUtils;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+
+/**
+ * A collection of {@link DoubleXYSeries} objects that can be used as a
+ * dataset.  This is a memory efficient alternative to
+ * {@link XYSeriesCollection} for large series: the x and y values are
+ * returned directly by {@link #getXValue(int, int)} and
+ * {@link #getYValue(int, int)} without unboxing, the domain order is always
+ * ascending (so renderers can locate the visible items by binary search) and
+ * the domain and range bounds are read from the bounds cached in each series.
+ * The range of the y-values within a zoomed x-range is found with the index
+ * maintained by each series (see {@link DoubleXYSeries#findValueRange(Range)}).
+ * The dataset also implements {@link XYLevelOfDetailInfo}, so that very
+ * large series can be drawn efficiently when decimation is enabled in the
+ * plot.
+ */
+public class DoubleXYSeriesCollection extends AbstractXYDataset
+        implements XYDataset, DomainInfo, RangeInfo, XYRangeInfo,
+        XYLevelOfDetailInfo, VetoableChangeListener, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2307584717418563407L;
+
+    /** The series that are included in the collection. */
+    private List<DoubleXYSeries> data;
+
+    /**
+     * Constructs an empty dataset.
+     */
+    public DoubleXYSeriesCollection() {
+        this(null);
+    }
+
+    /**
+     * Constructs a dataset and populates it with a single series.
+     *
+     * @param series  the series ({@code null} ignored).
+     */
+    public DoubleXYSeriesCollection(DoubleXYSeries series) {
+        this.data = new ArrayList<DoubleXYSeries>();
+        if (series != null) {
+            this.data.add(series);
+            series.addChangeListener(this);
+            series.addVetoableChangeListener(this);
+        }
+    }
+
+    /**
+     * Returns the order of the domain (X) values, which is always
+     * {@link DomainOrder#ASCENDING} for this dataset.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Adds a series to the collection and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @throws IllegalArgumentException if the key for the series is null or
+     *     not unique within the dataset.
+     */
+    public void addSeries(DoubleXYSeries series) {
+        Args.nullNotPermitted(series, "series");
+        if (getSeriesIndex(series.getKey()) >= 0) {
+            throw new IllegalArgumentException(
+                "This dataset already contains a series with the key "
+                + series.getKey());
+        }
+        this.data.add(series);
+        series.addChangeListener(this);
+        series.addVetoableChangeListener(this);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void removeSeries(int series) {
+        removeSeries(getSeries(series));
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series ({@code null} not permitted).
+     */
+    public void removeSeries(DoubleXYSeries series) {
+        Args.nullNotPermitted(series, "series");
+        if (this.data.contains(series)) {
+            series.removeChangeListener(this);
+            series.removeVetoableChangeListener(this);
+            this.data.remove(series);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes all the series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void removeAllSeries() {
+        for (DoubleXYSeries series : this.data) {
+            series.removeChangeListener(this);
+            series.removeVetoableChangeListener(this);
+        }
+        this.data.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Receives notification that one of the series in the collection has
+     * changed, and sends a {@link DatasetChangeEvent} to all registered
+     * listeners (recording the appended items, if the change to the series
+     * only appended items).
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        fireDatasetChanged(event, this.data);
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns a list of all the series in the collection.
+     *
+     * @return The list (which is unmodifiable).
+     */
+    public List<DoubleXYSeries> getSeries() {
+        return Collections.unmodifiableList(this.data);
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series.
+     *
+     * @throws IllegalArgumentException if {@code series} is not in the
+     *     range {@code 0} to {@code getSeriesCount() - 1}.
+     */
+    public DoubleXYSeries getSeries(int series) {
+        if ((series < 0) || (series >= getSeriesCount())) {
+            throw new IllegalArgumentException("Series index out of bounds");
+        }
+        return this.data.get(series);
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The series with the specified key.
+     *
+     * @throws UnknownKeyException if {@code key} is not found in the
+     *         collection.
+     */
+    public DoubleXYSeries getSeries(Comparable key) {
+        int index = getSeriesIndex(key);
+        if (index < 0) {
+            throw new UnknownKeyException("Key not found: " + key);
+        }
+        return this.data.get(index);
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The key for a series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return getSeries(series).getKey();
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or -1 if no
+     * series has that key.
+     *
+     * @param key  the key ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    public int getSeriesIndex(Comparable key) {
+        Args.nullNotPermitted(key, "key");
+        int seriesCount = getSeriesCount();
+        for (int i = 0; i < seriesCount; i++) {
+            if (key.equals(this.data.get(i).getKey())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     *
+     * @param series  the series (zero-based index).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return getSeries(series).getItemCount();
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.  Prefer
+     * {@link #getXValue(int, int)}, which does not allocate.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.data.get(series).getXValue(item);
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.data.get(series).getXValue(item);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.  Prefer
+     * {@link #getYValue(int, int)}, which does not allocate.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value ({@code null} for a missing value).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = this.data.get(series).getYValue(item);
+        if (Double.isNaN(y)) {
+            return null;
+        }
+        return y;
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.data.get(series).getYValue(item);
+    }
+
+    /**
+     * Returns the indices of a subset of the items in the specified range of
+     * a series that preserves the envelope of the y-values.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item in the range.
+     * @param last  the index of the last item in the range.
+     * @param bucketCount  the minimum number of buckets.
+     *
+     * @return The item indices (possibly {@code null}).
+     *
+     * @see DoubleXYSeries#getLevelOfDetailItems(int, int, int)
+     */
+    @Override
+    public int[] getLevelOfDetailItems(int series, int first, int last,
+            int bucketCount) {
+        return this.data.get(series).getLevelOfDetailItems(first, last,
+                bucketCount);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored (this dataset has no x-intervals).
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored (this dataset has no x-intervals).
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain.  This is
+     * computed from the cached bounds of each series, so it does not depend
+     * on the number of items.
+     *
+     * @param includeInterval  ignored (this dataset has no x-intervals).
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (DoubleXYSeries series : this.data) {
+            double minX = series.getMinX();
+            if (!Double.isNaN(minX)) {
+                lower = Math.min(lower, minX);
+            }
+            double maxX = series.getMaxX();
+            if (!Double.isNaN(maxX)) {
+                upper = Math.max(upper, maxX);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored (this dataset has no y-intervals).
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r == null ? Double.NaN : r.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored (this dataset has no y-intervals).
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r == null ? Double.NaN : r.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.  This is
+     * computed from the cached bounds of each series, so it does not depend
+     * on the number of items.
+     *
+     * @param includeInterval  ignored (this dataset has no y-intervals).
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (DoubleXYSeries series : this.data) {
+            double minY = series.getMinY();
+            if (!Double.isNaN(minY)) {
+                lower = Math.min(lower, minY);
+            }
+            double maxY = series.getMaxY();
+            if (!Double.isNaN(maxY)) {
+                upper = Math.max(upper, maxY);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the range of the y-values in the specified series, for the
+     * items with x-values in the specified range.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     ({@code null} not permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  ignored (this dataset has no y-intervals).
+     *
+     * @return The range (or {@code null} if there are no values in the
+     *     x-range).
+     *
+     * @see DoubleXYSeries#findValueRange(Range)
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            DoubleXYSeries series = getSeries((Comparable) iterator.next());
+            result = Range.combine(result, series.findValueRange(xRange));
+        }
+        return result;
+    }
+
+    /**
+     * Receives notification that the key for one of the series in the
+     * collection has changed, and vetos it if the key is already present in
+     * the collection.
+     *
+     * @param e  the event.
+     *
+     * @throws PropertyVetoException if the new key is already in use.
+     */
+    @Override
+    public void vetoableChange(PropertyChangeEvent e)
+            throws PropertyVetoException {
+        // if it is not the series name, then we have no interest
+        if (!"Key".equals(e.getPropertyName())) {
+            return;
+        }
+        Series s = (Series) e.getSource();
+        if (getSeriesIndex(s.getKey()) == -1) {
+            throw new IllegalStateException("Receiving events from a series "
+                    + "that does not belong to this collection.");
+        }
+        Comparable key = (Comparable) e.getNewValue();
+        if (getSeriesIndex(key) >= 0) {
+            throw new PropertyVetoException("Duplicate key2", e);
+        }
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DoubleXYSeriesCollection)) {
+            return false;
+        }
+        DoubleXYSeriesCollection that = (DoubleXYSeriesCollection) obj;
+        return ObjectUtils.equal(this.data, that.data);
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.data.hashCode();
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DoubleXYSeriesCollection clone
+                = (DoubleXYSeriesCollection) super.clone();
+        clone.data = (List<DoubleXYSeries>) ObjectUtils.deepClone(this.data);
+        for (DoubleXYSeries series : clone.data) {
+            series.addChangeListener(clone);
+            series.addVetoableChangeListener(clone);
+        }
+        return clone;
+    }
+
+}
@@ -0,0 +1,73 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * XYLevelOfDetailInfo.java
+ * ------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.general.MinMaxPyramid;
+
+/**
+ * An interface that can (optionally) be implemented by an {@link XYDataset}
+ * (with x-values in ascending order) to provide a level-of-detail index
+ * over the items in each series.  The renderer pipeline uses the index to
+ * select the items to draw when a series has many more items than there
+ * are pixels available, so that the rendering cost depends on the size of
+ * the data area rather than the number of items.
+ *
+ * @see MinMaxPyramid
+ *
+ * @since 1.6.0
+ */
+public interface XYLevelOfDetailInfo {
+
+    /**
+     * Returns the indices (in ascending order) of a subset of the items in
+     * the specified range of a series, including the first and last items
+     * and the items with the minimum and maximum y-values in each of at
+     * least {@code bucketCount} buckets of consecutive items.  Returns
+     * {@code null} if the range is too small for the index to help, in
+     * which case all the items in the range should be used.
+     *
+     * @param series  the series index (zero-based).
+     * @param first  the index of the first item in the range.
+     * @param last  the index of the last item in the range.
+     * @param bucketCount  the minimum number of buckets.
+     *
+     * @return The item indices (possibly {@code null}).
+     */
+    public int[] getLevelOfDetailItems(int series, int first, int last,
+            int bucketCount);
+
+}
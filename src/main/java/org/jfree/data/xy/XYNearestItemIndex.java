@@ -0,0 +1,544 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * XYNearestItemIndex.java
+ * -----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Arrays;
+
+import org.jfree.chart.util.Args;
+
+/**
+ * An index over the items in an {@link XYDataset} that finds the item
+ * nearest to a point.  The distance is measured after the x and y
+ * differences are multiplied by separate scale factors, so that (for
+ * example) the nearest item in Java2D space can be found for linear axes by
+ * passing the number of pixels per data unit along each axis.
+ * <P>
+ * Series with ascending x-values are searched with a binary search on the
+ * x-values followed by a scan outwards that stops as soon as the x-distance
+ * alone exceeds the best distance found.  The items in the other series are
+ * arranged in a k-d tree.  Items with an x- or y-value of {@code NaN} are
+ * ignored.
+ * <P>
+ * The index copies the values when it is created and does not see later
+ * changes to the dataset.
+ *
+ * @since 1.6.0
+ */
+public class XYNearestItemIndex {
+
+    /** The number of series in the dataset. */
+    private final int seriesCount;
+
+    /**
+     * The x-values for each series with ascending x-values ({@code null} for
+     * the series in the k-d tree).
+     */
+    private final double[][] sortedX;
+
+    /** The y-values for each series with ascending x-values. */
+    private final double[][] sortedY;
+
+    /** The item indices for each series with ascending x-values. */
+    private final int[][] sortedItems;
+
+    /** The x-values of the items in the k-d tree. */
+    private final double[] treeX;
+
+    /** The y-values of the items in the k-d tree. */
+    private final double[] treeY;
+
+    /** The series indices of the items in the k-d tree. */
+    private final int[] treeSeries;
+
+    /** The item indices of the items in the k-d tree. */
+    private final int[] treeItems;
+
+    /**
+     * Creates a new index for the current items in a dataset.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     */
+    public XYNearestItemIndex(XYDataset dataset) {
+        Args.nullNotPermitted(dataset, "dataset");
+        this.seriesCount = dataset.getSeriesCount();
+        this.sortedX = new double[this.seriesCount][];
+        this.sortedY = new double[this.seriesCount][];
+        this.sortedItems = new int[this.seriesCount][];
+        double[][] xs = new double[this.seriesCount][];
+        double[][] ys = new double[this.seriesCount][];
+        int[][] items = new int[this.seriesCount][];
+        int treeSize = 0;
+        for (int s = 0; s < this.seriesCount; s++) {
+            int itemCount = dataset.getItemCount(s);
+            double[] x = new double[itemCount];
+            double[] y = new double[itemCount];
+            int[] item = new int[itemCount];
+            int n = 0;
+            boolean ascending = true;
+            for (int i = 0; i < itemCount; i++) {
+                double xx = dataset.getXValue(s, i);
+                double yy = dataset.getYValue(s, i);
+                if (Double.isNaN(xx) || Double.isNaN(yy)) {
+                    continue;
+                }
+                if (n > 0 && xx < x[n - 1]) {
+                    ascending = false;
+                }
+                x[n] = xx;
+                y[n] = yy;
+                item[n] = i;
+                n++;
+            }
+            if (n < itemCount) {
+                x = Arrays.copyOf(x, n);
+                y = Arrays.copyOf(y, n);
+                item = Arrays.copyOf(item, n);
+            }
+            if (ascending) {
+                this.sortedX[s] = x;
+                this.sortedY[s] = y;
+                this.sortedItems[s] = item;
+            } else {
+                xs[s] = x;
+                ys[s] = y;
+                items[s] = item;
+                treeSize += n;
+            }
+        }
+        this.treeX = new double[treeSize];
+        this.treeY = new double[treeSize];
+        this.treeSeries = new int[treeSize];
+        this.treeItems = new int[treeSize];
+        int offset = 0;
+        for (int s = 0; s < this.seriesCount; s++) {
+            if (xs[s] != null) {
+                int n = xs[s].length;
+                System.arraycopy(xs[s], 0, this.treeX, offset, n);
+                System.arraycopy(ys[s], 0, this.treeY, offset, n);
+                System.arraycopy(items[s], 0, this.treeItems, offset, n);
+                Arrays.fill(this.treeSeries, offset, offset + n, s);
+                offset += n;
+            }
+        }
+        buildTree(0, treeSize, 0);
+    }
+
+    /**
+     * Returns the number of series in the dataset when the index was
+     * created.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.seriesCount;
+    }
+
+    /**
+     * Finds the item that is nearest to a point, using the distance
+     * {@code sqrt((xScale * dx)^2 + (yScale * dy)^2)}.  A scale factor of
+     * zero ignores the difference in that dimension, so for example the item
+     * with the nearest x-value is found with a {@code yScale} of zero (but
+     * note that a {@code xScale} of zero requires every item in the sorted
+     * series to be examined).  When several items are at the same distance,
+     * the one with the lowest series index, then the lowest item index, is
+     * returned (this is the item that would be found first by iterating
+     * over the dataset).
+     *
+     * @param x  the x-value of the point.
+     * @param y  the y-value of the point.
+     * @param xScale  the scale factor for x-differences (zero or positive).
+     * @param yScale  the scale factor for y-differences (zero or positive).
+     * @param includedSeries  flags that select the series to search (an item
+     *     with a series index beyond the end of the array is ignored), or
+     *     {@code null} to search all series.
+     *
+     * @return An array containing the series and item indices, or
+     *     {@code null} if there is no item to return.
+     */
+    public int[] findNearestItem(double x, double y, double xScale,
+            double yScale, boolean[] includedSeries) {
+        return findNearestItem(x, y, xScale, yScale, includedSeries, null,
+                null);
+    }
+
+    /**
+     * Finds the item that is nearest to a point, as
+     * {@link #findNearestItem(double, double, double, double, boolean[])}
+     * does, but searching only the items with an index in a given range for
+     * each series (for example, the items that a renderer draws for the
+     * visible part of the domain axis).
+     *
+     * @param x  the x-value of the point.
+     * @param y  the y-value of the point.
+     * @param xScale  the scale factor for x-differences (zero or positive).
+     * @param yScale  the scale factor for y-differences (zero or positive).
+     * @param includedSeries  flags that select the series to search (an item
+     *     with a series index beyond the end of the array is ignored), or
+     *     {@code null} to search all series.
+     * @param firstItems  the index of the first item to search in each
+     *     series ({@code null} to start from the first item).
+     * @param lastItems  the index of the last item to search in each series
+     *     ({@code null} to end at the last item).
+     *
+     * @return An array containing the series and item indices, or
+     *     {@code null} if there is no item to return.
+     */
+    public int[] findNearestItem(double x, double y, double xScale,
+            double yScale, boolean[] includedSeries, int[] firstItems,
+            int[] lastItems) {
+        if (xScale < 0.0 || yScale < 0.0) {
+            throw new IllegalArgumentException(
+                    "Requires 'xScale' and 'yScale' to be zero or positive.");
+        }
+        Search search = new Search(includedSeries, firstItems, lastItems);
+        Candidate best = new Candidate();
+        for (int s = 0; s < this.seriesCount; s++) {
+            if (this.sortedX[s] != null && isIncluded(s, includedSeries)) {
+                searchSorted(s, x, y, xScale, yScale, search, best);
+            }
+        }
+        searchTree(0, this.treeX.length, 0, x, y, xScale, yScale, search,
+                best);
+        if (best.series < 0) {
+            return null;
+        }
+        return new int[] {best.series, best.item};
+    }
+
+    /**
+     * Returns {@code true} if a series is selected for a search.
+     *
+     * @param series  the series index.
+     * @param includedSeries  the flags ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean isIncluded(int series, boolean[] includedSeries) {
+        return includedSeries == null || (series < includedSeries.length
+                && includedSeries[series]);
+    }
+
+    /**
+     * Returns the position of the first element in a sorted array that is
+     * greater than or equal to a value.
+     *
+     * @param a  the array.
+     * @param value  the value.
+     *
+     * @return The position (the array length if there is no such element).
+     */
+    private static int lowerBound(int[] a, int value) {
+        int low = 0;
+        int high = a.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (a[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Searches a series with ascending x-values, starting from the first
+     * item with an x-value at or after {@code x} and scanning in both
+     * directions until the x-distance alone is greater than the best
+     * distance.
+     *
+     * @param s  the series index.
+     * @param x  the x-value of the point.
+     * @param y  the y-value of the point.
+     * @param xScale  the scale factor for x-differences.
+     * @param yScale  the scale factor for y-differences.
+     * @param search  the items to search.
+     * @param best  the best candidate so far (updated by this method).
+     */
+    private void searchSorted(int s, double x, double y, double xScale,
+            double yScale, Search search, Candidate best) {
+        double[] xs = this.sortedX[s];
+        double[] ys = this.sortedY[s];
+        int[] items = this.sortedItems[s];
+        // the item indices ascend too, so the items to search are a run
+        int start = 0;
+        int end = xs.length;
+        if (search.firstItems != null && s < search.firstItems.length) {
+            start = lowerBound(items, search.firstItems[s]);
+        }
+        if (search.lastItems != null && s < search.lastItems.length
+                && search.lastItems[s] < Integer.MAX_VALUE) {
+            end = lowerBound(items, search.lastItems[s] + 1);
+        }
+        int low = start;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xs[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < end; i++) {
+            double dx = (xs[i] - x) * xScale;
+            if (dx * dx > best.distance) {
+                break;
+            }
+            double dy = (ys[i] - y) * yScale;
+            best.update(dx * dx + dy * dy, s, items[i]);
+        }
+        for (int i = low - 1; i >= start; i--) {
+            double dx = (xs[i] - x) * xScale;
+            if (dx * dx > best.distance) {
+                break;
+            }
+            double dy = (ys[i] - y) * yScale;
+            best.update(dx * dx + dy * dy, s, items[i]);
+        }
+    }
+
+    /**
+     * Searches the k-d tree nodes in the range {@code lo} (inclusive) to
+     * {@code hi} (exclusive).  The node for a range is the middle element,
+     * the lower half of the range is the subtree with values less than or
+     * equal to the node's value (x at even depths, y at odd depths) and the
+     * upper half is the subtree with values greater than or equal to it.
+     *
+     * @param lo  the start of the range.
+     * @param hi  the end of the range.
+     * @param depth  the depth in the tree.
+     * @param x  the x-value of the point.
+     * @param y  the y-value of the point.
+     * @param xScale  the scale factor for x-differences.
+     * @param yScale  the scale factor for y-differences.
+     * @param search  the items to search.
+     * @param best  the best candidate so far (updated by this method).
+     */
+    private void searchTree(int lo, int hi, int depth, double x, double y,
+            double xScale, double yScale, Search search, Candidate best) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double dx = (this.treeX[mid] - x) * xScale;
+        double dy = (this.treeY[mid] - y) * yScale;
+        if (search.includes(this.treeSeries[mid], this.treeItems[mid])) {
+            best.update(dx * dx + dy * dy, this.treeSeries[mid],
+                    this.treeItems[mid]);
+        }
+        double diff = (depth % 2 == 0) ? dx : dy;
+        if (diff > 0.0) {
+            searchTree(lo, mid, depth + 1, x, y, xScale, yScale, search,
+                    best);
+            if (diff * diff <= best.distance) {
+                searchTree(mid + 1, hi, depth + 1, x, y, xScale, yScale,
+                        search, best);
+            }
+        } else {
+            searchTree(mid + 1, hi, depth + 1, x, y, xScale, yScale, search,
+                    best);
+            if (diff * diff <= best.distance) {
+                searchTree(lo, mid, depth + 1, x, y, xScale, yScale,
+                        search, best);
+            }
+        }
+    }
+
+    /**
+     * Arranges the items in the range {@code lo} (inclusive) to {@code hi}
+     * (exclusive) as a k-d tree (see
+     * {@link #searchTree(int, int, int, double, double, double, double,
+     * Search, Candidate)}).
+     *
+     * @param lo  the start of the range.
+     * @param hi  the end of the range.
+     * @param depth  the depth in the tree.
+     */
+    private void buildTree(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi, mid, depth % 2 == 0 ? this.treeX : this.treeY);
+        buildTree(lo, mid, depth + 1);
+        buildTree(mid + 1, hi, depth + 1);
+    }
+
+    /**
+     * Reorders the items in the range {@code lo} (inclusive) to {@code hi}
+     * (exclusive) so that the item at index {@code k} has the value it would
+     * have if the range was sorted by {@code values}, with no greater value
+     * before it and no smaller value after it.
+     *
+     * @param lo  the start of the range.
+     * @param hi  the end of the range.
+     * @param k  the index to select.
+     * @param values  the values to order by (either the x- or y-values).
+     */
+    private void select(int lo, int hi, int k, double[] values) {
+        int left = lo;
+        int right = hi - 1;
+        while (right > left) {
+            double pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Swaps two items in the k-d tree arrays.
+     *
+     * @param i  the first index.
+     * @param j  the second index.
+     */
+    private void swap(int i, int j) {
+        double x = this.treeX[i];
+        this.treeX[i] = this.treeX[j];
+        this.treeX[j] = x;
+        double y = this.treeY[i];
+        this.treeY[i] = this.treeY[j];
+        this.treeY[j] = y;
+        int s = this.treeSeries[i];
+        this.treeSeries[i] = this.treeSeries[j];
+        this.treeSeries[j] = s;
+        int item = this.treeItems[i];
+        this.treeItems[i] = this.treeItems[j];
+        this.treeItems[j] = item;
+    }
+
+    /**
+     * The items selected for a search.
+     */
+    private static class Search {
+
+        /** The series flags ({@code null} for all series). */
+        final boolean[] includedSeries;
+
+        /** The first item index for each series ({@code null} permitted). */
+        final int[] firstItems;
+
+        /** The last item index for each series ({@code null} permitted). */
+        final int[] lastItems;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param includedSeries  the series flags ({@code null} permitted).
+         * @param firstItems  the first item indices ({@code null}
+         *     permitted).
+         * @param lastItems  the last item indices ({@code null} permitted).
+         */
+        Search(boolean[] includedSeries, int[] firstItems, int[] lastItems) {
+            this.includedSeries = includedSeries;
+            this.firstItems = firstItems;
+            this.lastItems = lastItems;
+        }
+
+        /**
+         * Returns {@code true} if an item is selected for the search.
+         *
+         * @param s  the series index.
+         * @param i  the item index.
+         *
+         * @return A boolean.
+         */
+        boolean includes(int s, int i) {
+            return isIncluded(s, this.includedSeries)
+                    && (this.firstItems == null || s >= this.firstItems.length
+                    || i >= this.firstItems[s])
+                    && (this.lastItems == null || s >= this.lastItems.length
+                    || i <= this.lastItems[s]);
+        }
+
+    }
+
+    /**
+     * The best item found so far by a search.
+     */
+    private static class Candidate {
+
+        /** The squared (scaled) distance to the item. */
+        double distance = Double.POSITIVE_INFINITY;
+
+        /** The series index ({@code -1} if no item has been found). */
+        int series = -1;
+
+        /** The item index. */
+        int item = -1;
+
+        /**
+         * Replaces the candidate if an item is nearer or, at the same
+         * distance, comes first in the dataset.
+         *
+         * @param d  the squared distance to the item.
+         * @param s  the series index.
+         * @param i  the item index.
+         */
+        void update(double d, int s, int i) {
+            if (d < this.distance || (d == this.distance && this.series >= 0
+                    && (s < this.series || (s == this.series
+                    && i < this.item)))) {
+                this.distance = d;
+                this.series = s;
+                this.item = i;
+            }
+        }
+
+    }
+
+}
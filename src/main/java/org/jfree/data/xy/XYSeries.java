@@ -87,6 +87,10 @@ import java.util.List;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.Args;
 
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxPyramid;
+import org.jfree.data.general.RingBufferList;
+import org.jfree.data.general.RollingMinMax;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -134,6 +138,33 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * Tracks the bounds of the y-values while the series is a rolling window
+     * ({@code null} if the tracker is not in use or is out of date).
+     */
+    private transient RollingMinMax yWindow;
+
+    /**
+     * Tracks the bounds of the x-values while the series is an unsorted
+     * rolling window ({@code null} if the tracker is not in use or is out of
+     * date).
+     */
+    private transient RollingMinMax xWindow;
+
+    /**
+     * An index of the y-values, used to find the range of the y-values for
+     * a range of x-values ({@code null} if the index has not been built or
+     * is out of date).  The index is only built for a sorted series that
+     * contains no {@code Double.NaN} x-values.
+     */
+    private transient MinMaxPyramid yIndex;
+
+    /**
+     * The number of items removed from the start of the series since the
+     * y-value index was built.
+     */
+    private transient int yIndexOffset;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -303,15 +334,260 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @since 1.0.13
      */
     private void findBoundsByIteration() {
+        this.yIndex = null;
         this.minX = Double.NaN;
         this.maxX = Double.NaN;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        boolean rolling = isRollingWindow();
+        this.yWindow = rolling ? new RollingMinMax() : null;
+        this.xWindow = rolling && !this.autoSort ? new RollingMinMax() : null;
         Iterator iterator = this.data.iterator();
         while (iterator.hasNext()) {
             XYDataItem item = (XYDataItem) iterator.next();
             updateBoundsForAddedItem(item);
+            if (rolling) {
+                addToWindows(item);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the items are stored in a ring buffer, which
+     * is the case once a maximum item count has been set for the series.
+     *
+     * @return A boolean.
+     */
+    private boolean isRollingWindow() {
+        return this.data instanceof RingBufferList;
+    }
+
+    /**
+     * Appends the values for an item to the window trackers (which must be
+     * in use).
+     *
+     * @param item  the item ({@code null} not permitted).
+     */
+    private void addToWindows(XYDataItem item) {
+        this.yWindow.add(item.getYValue());
+        if (this.xWindow != null) {
+            this.xWindow.add(item.getXValue());
+        }
+    }
+
+    /**
+     * Discards the window trackers and the y-value index.  This is required
+     * whenever the series is modified other than by appending an item or
+     * removing the first item.  The trackers are rebuilt the next time the
+     * bounds are found by iteration, and the index the next time it is
+     * needed.
+     */
+    private void invalidateWindows() {
+        this.yWindow = null;
+        this.xWindow = null;
+        this.yIndex = null;
+    }
+
+    /**
+     * Updates the window trackers and the y-value index (if they are in use)
+     * for an item that has been added to the series.  These can only follow
+     * items that are appended to the end of the series, so they are
+     * discarded otherwise.
+     *
+     * @param item  the item ({@code null} not permitted).
+     * @param appended  a flag indicating whether the item was added at the
+     *     end of the series.
+     */
+    private void updateWindowsForAddedItem(XYDataItem item,
+            boolean appended) {
+        if (!appended) {
+            invalidateWindows();
+            return;
+        }
+        if (this.yWindow != null) {
+            addToWindows(item);
+        }
+        if (this.yIndex != null) {
+            if (Double.isNaN(item.getXValue())) {
+                this.yIndex = null;
+            }
+            else {
+                this.yIndex.add(item.getYValue());
+            }
+        }
+    }
+
+    /**
+     * Removes the first item in the series and updates the cached bounds,
+     * without iterating over the remaining items if the window trackers are
+     * in use.
+     *
+     * @return The item removed.
+     */
+    private XYDataItem removeFirstItem() {
+        XYDataItem removed = (XYDataItem) this.data.remove(0);
+        if (this.yIndex != null) {
+            // rebuild the index once half of the items in it are stale
+            this.yIndexOffset++;
+            if (this.yIndexOffset > this.data.size()) {
+                this.yIndex = null;
+            }
+        }
+        if (this.yWindow == null) {
+            updateBoundsForRemovedItem(removed);
+            return removed;
+        }
+        this.yWindow.removeFirst();
+        this.minY = this.yWindow.getMinimum();
+        this.maxY = this.yWindow.getMaximum();
+        if (this.xWindow != null) {
+            this.xWindow.removeFirst();
+            this.minX = this.xWindow.getMinimum();
+            this.maxX = this.xWindow.getMaximum();
+        }
+        else if (this.data.isEmpty()) {
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+        }
+        else {
+            this.minX = getX(0).doubleValue();
+            this.maxX = getX(getItemCount() - 1).doubleValue();
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the range of the y-values for the items with x-values in the
+     * specified range, ignoring {@code null} and {@code Double.NaN}
+     * y-values.  This is used to scale the range axis to the items that are
+     * visible on a zoomed domain axis.
+     * <P>
+     * For a sorted series the items in the x-range are found with a binary
+     * search, and an index of the y-values (a {@link MinMaxPyramid}) limits
+     * the number of items examined to O(log n).  The index is built the
+     * first time it is needed, then maintained as items are appended to the
+     * series (or removed from the start of a series with a maximum item
+     * count).  Any other change discards the index.  An unsorted series, or
+     * one containing {@code Double.NaN} x-values, is searched item by item.
+     *
+     * @param xRange  the x-range ({@code null} not permitted).
+     *
+     * @return The range of y-values (or {@code null} if there are no
+     *     y-values for the x-range).
+     *
+     * @since 1.6.0
+     */
+    public Range findValueRange(Range xRange) {
+        Args.nullNotPermitted(xRange, "xRange");
+        MinMaxPyramid index = getYIndex();
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        if (index == null) {
+            int count = this.data.size();
+            for (int i = 0; i < count; i++) {
+                XYDataItem item = getRawDataItem(i);
+                double y = item.getYValue();
+                if (xRange.contains(item.getXValue()) && !Double.isNaN(y)) {
+                    minimum = Math.min(minimum, y);
+                    maximum = Math.max(maximum, y);
+                }
+            }
+        }
+        else {
+            int first = findFirstItemAtOrAfter(xRange.getLowerBound());
+            int last = findFirstItemAfter(xRange.getUpperBound()) - 1;
+            if (first > last) {
+                return null;
+            }
+            int[] items = index.getItems(first + this.yIndexOffset,
+                    last + this.yIndexOffset, 1);
+            int count = items == null ? last - first + 1 : items.length;
+            for (int i = 0; i < count; i++) {
+                int item = items == null ? first + i
+                        : items[i] - this.yIndexOffset;
+                double y = getRawDataItem(item).getYValue();
+                if (!Double.isNaN(y)) {
+                    minimum = Math.min(minimum, y);
+                    maximum = Math.max(maximum, y);
+                }
+            }
+        }
+        if (minimum > maximum) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Returns the index of the y-values, building it if necessary, or
+     * {@code null} if the series is not sorted or contains a
+     * {@code Double.NaN} x-value.
+     *
+     * @return The index (possibly {@code null}).
+     */
+    private MinMaxPyramid getYIndex() {
+        if (this.yIndex == null && this.autoSort) {
+            MinMaxPyramid index = new MinMaxPyramid();
+            int count = this.data.size();
+            for (int i = 0; i < count; i++) {
+                XYDataItem item = getRawDataItem(i);
+                if (Double.isNaN(item.getXValue())) {
+                    return null;
+                }
+                index.add(item.getYValue());
+            }
+            this.yIndex = index;
+            this.yIndexOffset = 0;
+        }
+        return this.yIndex;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than or
+     * equal to {@code x} (the series must be sorted).
+     *
+     * @param x  the x-value.
+     *
+     * @return The item index (equal to the item count if there is no such
+     *     item).
+     */
+    private int findFirstItemAtOrAfter(double x) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getRawDataItem(mid).getXValue() < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
         }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than
+     * {@code x} (the series must be sorted).
+     *
+     * @param x  the x-value.
+     *
+     * @return The item index (equal to the item count if there is no such
+     *     item).
+     */
+    private int findFirstItemAfter(double x) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getRawDataItem(mid).getXValue() <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /**
@@ -380,11 +656,20 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * but if it is applied later, it may cause some items to be removed from
      * the series (in which case a {@link SeriesChangeEvent} will be sent to
      * all registered listeners).
+     * <p>
+     * Once a maximum is set, the series stores its items in a ring buffer so
+     * that dropping the first item is an O(1) operation, and (as long as
+     * items are appended in x-order) the cached bounds are maintained
+     * without iterating over the remaining items.
      *
      * @param maximum  the maximum number of items for the series.
      */
     public void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
+        if (maximum < Integer.MAX_VALUE && !isRollingWindow()) {
+            this.data = new RingBufferList(this.data);
+            findBoundsByIteration();
+        }
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
@@ -506,9 +791,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void add(XYDataItem item, boolean notify) {
         Args.nullNotPermitted(item, "item");
         item = (XYDataItem) item.clone();
+        boolean appended = true;
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
+                appended = (-index - 1 == this.data.size());
                 this.data.add(-index - 1, item);
             }
             else {
@@ -520,6 +807,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                         index++;
                     }
                     if (index < this.data.size()) {
+                        appended = false;
                         this.data.add(index, item);
                     }
                     else {
@@ -543,13 +831,22 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             this.data.add(item);
         }
         updateBoundsForAddedItem(item);
+        updateWindowsForAddedItem(item, appended);
         if (getItemCount() > this.maximumItemCount) {
-            XYDataItem removed = (XYDataItem) this.data.remove(0);
-            updateBoundsForRemovedItem(removed);
+            removeFirstItem();
+            appended = false;
+        }
+        if (appended) {
+            if (notify) {
+                fireSeriesAppended();
+            }
         }
-        if (notify) {
+        else if (notify) {
             fireSeriesChanged();
         }
+        else {
+            markSeriesChanged();
+        }
     }
 
     /**
@@ -574,8 +871,15 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * @return The item removed.
      */
     public XYDataItem remove(int index) {
-        XYDataItem removed = (XYDataItem) this.data.remove(index);
-        updateBoundsForRemovedItem(removed);
+        XYDataItem removed;
+        if (index == 0) {
+            removed = removeFirstItem();
+        }
+        else {
+            invalidateWindows();
+            removed = (XYDataItem) this.data.remove(index);
+            updateBoundsForRemovedItem(removed);
+        }
         fireSeriesChanged();
         return removed;
     }
@@ -601,10 +905,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
-            this.minX = Double.NaN;
-            this.maxX = Double.NaN;
-            this.minY = Double.NaN;
-            this.maxY = Double.NaN;
+            findBoundsByIteration();  // resets the bounds and window trackers
             fireSeriesChanged();
         }
     }
@@ -705,6 +1006,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void updateByIndex(int index, Number y) {
         XYDataItem item = getRawDataItem(index);
+        invalidateWindows();
 
         // figure out if we need to iterate through all the y-values
         boolean iterate = false;
@@ -796,6 +1098,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         if (index >= 0) {
             XYDataItem existing = (XYDataItem) this.data.get(index);
             overwritten = (XYDataItem) existing.clone();
+            invalidateWindows();
             // figure out if we need to iterate through all the y-values
             boolean iterate = false;
             double oldY = existing.getYValue();
@@ -819,18 +1122,20 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             // new item...otherwise it will be just -1 and we should just
             // append the value to the list...
             item = (XYDataItem) item.clone();
+            boolean appended = true;
             if (this.autoSort) {
+                appended = (-index - 1 == this.data.size());
                 this.data.add(-index - 1, item);
             }
             else {
                 this.data.add(item);
             }
             updateBoundsForAddedItem(item);
+            updateWindowsForAddedItem(item, appended);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                XYDataItem removed = (XYDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(removed);
+                removeFirstItem();
             }
         }
         fireSeriesChanged();
@@ -896,6 +1201,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         XYSeries clone = (XYSeries) super.clone();
         clone.data = (List) ObjectUtils.deepClone(this.data);
+        clone.yIndex = null;
+        if (this.yWindow != null) {
+            clone.yWindow = (RollingMinMax) this.yWindow.clone();
+        }
+        if (this.xWindow != null) {
+            clone.xWindow = (RollingMinMax) this.xWindow.clone();
+        }
         return clone;
     }
 
@@ -913,7 +1225,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             throws CloneNotSupportedException {
 
         XYSeries copy = (XYSeries) super.clone();
-        copy.data = new java.util.ArrayList();
+        copy.data = isRollingWindow() ? new RingBufferList()
+                : new java.util.ArrayList();
+        copy.findBoundsByIteration();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = (XYDataItem) this.data.get(index);
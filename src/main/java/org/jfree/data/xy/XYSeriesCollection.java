@@ -84,14 +84,15 @@ import org.jfree.data.RangeInfo;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
 
 /**
  * Represents a collection of {@link XYSeries} objects that can be used as a
  * dataset.
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, DomainInfo, RangeInfo, 
-        VetoableChangeListener, PublicCloneable, Serializable {
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYDomainInfo,
+        XYRangeInfo, VetoableChangeListener, PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -214,6 +215,19 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         fireDatasetChanged();
     }
 
+    /**
+     * Receives notification that one of the series in the collection has
+     * changed, and sends a {@link DatasetChangeEvent} to all registered
+     * listeners (recording the appended items, if the change to the series
+     * only appended items).
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        fireDatasetChanged(event, this.data);
+    }
+
     /**
      * Returns the number of series in the collection.
      *
@@ -726,6 +740,79 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
 
+    /**
+     * Returns the range of the x-values in the specified series.  The
+     * bounds are maintained by each series as items are added, so this
+     * method does not iterate over the items.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     ({@code null} not permitted).
+     * @param includeInterval  include the x-interval?
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            XYSeries series = getSeries((Comparable) iterator.next());
+            double minX = series.getMinX();
+            if (!Double.isNaN(minX)) {
+                lower = Math.min(lower, minX);
+            }
+            double maxX = series.getMaxX();
+            if (!Double.isNaN(maxX)) {
+                upper = Math.max(upper, maxX);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        if (includeInterval) {
+            double lowerAdj = getIntervalWidth() * getIntervalPositionFactor();
+            double upperAdj = getIntervalWidth() - lowerAdj;
+            lower = lower - lowerAdj;
+            upper = upper + upperAdj;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the range of the y-values in the specified series, for the
+     * items with x-values in the specified range.  This is called to scale
+     * the range axis when the domain axis is zoomed, and uses the index
+     * maintained by each series so that it does not iterate over all the
+     * items (see {@link XYSeries#findValueRange(Range)}).
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     ({@code null} not permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            XYSeries series = getSeries((Comparable) iterator.next());
+            result = Range.combine(result, series.findValueRange(xRange));
+        }
+        return result;
+    }
+
     /**
      * Receives notification that the key for one of the series in the 
      * collection has changed, and vetos it if the key is already present in 
@@ -44,6 +44,7 @@ package org.jfree.data.xy;
 
 import org.jfree.data.ComparableObjectItem;
 import org.jfree.data.ComparableObjectSeries;
+import org.jfree.data.Range;
 import org.jfree.data.general.SeriesChangeEvent;
 
 /**
@@ -55,6 +56,18 @@ import org.jfree.data.general.SeriesChangeEvent;
  */
 public class YIntervalSeries extends ComparableObjectSeries {
 
+    /** The index of the tracked x-values. */
+    private static final int X = 0;
+
+    /** The index of the tracked y-values. */
+    private static final int Y = 1;
+
+    /** The index of the tracked y-low values. */
+    private static final int Y_LOW = 2;
+
+    /** The index of the tracked y-high values. */
+    private static final int Y_HIGH = 3;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -173,4 +186,128 @@ public class YIntervalSeries extends ComparableObjectSeries {
         return super.getDataItem(index);
     }
 
+    /**
+     * Returns the smallest x-value in the series, ignoring any
+     * {@code Double.NaN} values.  The bounds are maintained as items are
+     * added, so this method does not need to iterate over the items.
+     *
+     * @return The smallest x-value (or {@code Double.NaN} if the series is
+     *     empty).
+     *
+     * @since 1.6.0
+     */
+    public double getMinX() {
+        return getMinimumValue(X);
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any
+     * {@code Double.NaN} values.
+     *
+     * @return The largest x-value (or {@code Double.NaN} if the series is
+     *     empty).
+     *
+     * @since 1.6.0
+     */
+    public double getMaxX() {
+        return getMaximumValue(X);
+    }
+
+    /**
+     * Returns the range of the y-values (and, optionally, the y-intervals)
+     * in the series, ignoring any {@code Double.NaN} values.
+     *
+     * @param includeInterval  include the y-low and y-high values?
+     *
+     * @return The range (or {@code null} if there are no values).
+     *
+     * @since 1.6.0
+     */
+    public Range findValueRange(boolean includeInterval) {
+        double lower = getMinimumValue(Y);
+        double upper = getMaximumValue(Y);
+        if (includeInterval) {
+            for (int i = Y_LOW; i <= Y_HIGH; i++) {
+                lower = minIgnoreNaN(lower, getMinimumValue(i));
+                upper = maxIgnoreNaN(upper, getMaximumValue(i));
+            }
+        }
+        if (Double.isNaN(lower)) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the number of values tracked for each item (the x-value, the
+     * y-value, the y-low value and the y-high value).
+     *
+     * @return The number of tracked values.
+     */
+    @Override
+    protected int getTrackedValueCount() {
+        return 4;
+    }
+
+    /**
+     * Returns one of the tracked values for an item.
+     *
+     * @param item  the item.
+     * @param index  the value index.
+     *
+     * @return The value.
+     */
+    @Override
+    protected double getTrackedValue(ComparableObjectItem item, int index) {
+        YIntervalDataItem dataItem = (YIntervalDataItem) item;
+        switch (index) {
+            case X:
+                return dataItem.getX().doubleValue();
+            case Y:
+                return dataItem.getYValue();
+            case Y_LOW:
+                return dataItem.getYLowValue();
+            default:
+                return dataItem.getYHighValue();
+        }
+    }
+
+    /**
+     * A function to find the minimum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * A function to find the maximum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
 }
@@ -47,12 +47,19 @@
 package org.jfree.data.xy;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ObjectUtils;
 import org.jfree.chart.util.Args;
 import org.jfree.chart.util.PublicCloneable;
 
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetUtils;
 
 /**
  * A collection of {@link YIntervalSeries} objects.
@@ -62,7 +69,8 @@ import org.jfree.data.general.DatasetChangeEvent;
  * @see YIntervalSeries
  */
 public class YIntervalSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, PublicCloneable, Serializable {
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYDomainInfo,
+        XYRangeInfo, PublicCloneable, Serializable {
 
     /** Storage for the data series. */
     private List data;
@@ -87,6 +95,23 @@ public class YIntervalSeriesCollection extends AbstractIntervalXYDataset
         fireDatasetChanged();
     }
 
+    /**
+     * Returns the order of the domain (X) values.  This is
+     * {@link DomainOrder#ASCENDING} if every series sorts its items,
+     * otherwise {@link DomainOrder#NONE}.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        for (int i = 0; i < getSeriesCount(); i++) {
+            if (!getSeries(i).getAutoSort()) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
     /**
      * Returns the number of series in the collection.
      *
@@ -328,6 +353,201 @@ public class YIntervalSeriesCollection extends AbstractIntervalXYDataset
         fireDatasetChanged();
     }
 
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored (the x-interval for each item has
+     *     zero width).
+     *
+     * @return The minimum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored (the x-interval for each item has
+     *     zero width).
+     *
+     * @return The maximum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.  The bounds are
+     * maintained by each series as items are added, so this method does not
+     * iterate over the items.
+     *
+     * @param includeInterval  ignored (the x-interval for each item has
+     *     zero width).
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < this.data.size(); s++) {
+            result = Range.combine(result, findDomainBounds(getSeries(s)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the x-values in the specified series.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     ({@code null} not permitted).
+     * @param includeInterval  ignored (the x-interval for each item has
+     *     zero width).
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            result = Range.combine(result,
+                    findDomainBounds(getSeries(indexOf(seriesKey))));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the x-values in a series.
+     *
+     * @param series  the series.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    private static Range findDomainBounds(YIntervalSeries series) {
+        double lower = series.getMinX();
+        if (Double.isNaN(lower)) {
+            return null;
+        }
+        return new Range(lower, series.getMaxX());
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  include the y-interval?
+     *
+     * @return The minimum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  include the y-interval?
+     *
+     * @return The maximum value (or {@code Double.NaN} if the dataset has
+     *     no values).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.  The bounds are
+     * maintained by each series as items are added, so this method does not
+     * iterate over the items.
+     *
+     * @param includeInterval  include the y-interval?
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < this.data.size(); s++) {
+            result = Range.combine(result,
+                    getSeries(s).findValueRange(includeInterval));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the y-values in the specified series, for the
+     * items with x-values in the specified range.  When the x-range covers
+     * all the items in a series, the bounds maintained by the series are
+     * used, otherwise the series items are iterated over.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     ({@code null} not permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  include the y-interval?
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @since 1.6.0
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            YIntervalSeries series = getSeries(indexOf(seriesKey));
+            if (series.getItemCount() == 0) {
+                continue;
+            }
+            Range r;
+            // in a sorted series any NaN x-values are last, and items with
+            // a NaN x-value are not in the x-range
+            if (series.getAutoSort() && !Double.isNaN(series.getX(
+                    series.getItemCount() - 1).doubleValue())
+                    && xRange.contains(series.getMinX())
+                    && xRange.contains(series.getMaxX())) {
+                r = series.findValueRange(includeInterval);
+            } else {
+                r = DatasetUtils.iterateToFindRangeBounds(this,
+                        Collections.singletonList(seriesKey), xRange,
+                        includeInterval);
+            }
+            result = Range.combine(result, r);
+        }
+        return result;
+    }
+
     /**
      * Tests this instance for equality with an arbitrary object.
      *
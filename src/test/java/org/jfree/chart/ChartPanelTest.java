@@ -41,21 +41,49 @@
 
 package org.jfree.chart;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import java.awt.BasicStroke;
+import java.awt.Graphics2D;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.event.MouseWheelListener;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EventListener;
 import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
+import javax.swing.SwingUtilities;
 import javax.swing.event.CaretListener;
 
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
+import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
 import org.junit.Test;
 
 /**
@@ -343,4 +371,521 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         panel.setMouseWheelEnabled(false);
         assertFalse(panel.isMouseWheelEnabled());
     }
+
+    /**
+     * In the pan and zoom preview mode, a mouse wheel zoom changes the axis
+     * ranges without requesting a redraw of the chart buffer, and the
+     * redraw is requested when the preview ends.
+     */
+    @Test
+    public void testPanZoomPreview() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 6.0, 5.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart", "X",
+                "Y", dataset, PlotOrientation.VERTICAL, false, false, false);
+        ChartPanel panel = new ChartPanel(chart, true);
+        panel.setMouseWheelEnabled(true);
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paint(g2);
+        assertFalse(panel.getRefreshBuffer());
+
+        XYPlot plot = (XYPlot) chart.getPlot();
+        Rectangle2D area = panel.getScreenDataArea();
+        MouseWheelEvent event = new MouseWheelEvent(panel, 0, 0L, 0,
+                (int) area.getCenterX(), (int) area.getCenterY(), 0, false,
+                MouseWheelEvent.WHEEL_UNIT_SCROLL, 1, -1);
+        panel.setPanZoomPreview(true);
+        assertTrue(panel.isPanZoomPreview());
+        Range range = plot.getDomainAxis().getRange();
+        for (MouseWheelListener listener : panel.getMouseWheelListeners()) {
+            listener.mouseWheelMoved(event);
+        }
+        assertTrue(plot.getDomainAxis().getRange().getLength()
+                < range.getLength());
+        assertFalse(panel.getRefreshBuffer());
+        panel.paint(g2); // draws the preview
+
+        // switching off the preview mode ends the preview
+        panel.setPanZoomPreview(false);
+        assertTrue(panel.getRefreshBuffer());
+        panel.paint(g2);
+        assertFalse(panel.getRefreshBuffer());
+
+        // without the preview mode, the zoom redraws the chart
+        for (MouseWheelListener listener : panel.getMouseWheelListeners()) {
+            listener.mouseWheelMoved(event);
+        }
+        assertTrue(panel.getRefreshBuffer());
+        g2.dispose();
+    }
+
+    /**
+     * Waits (for up to ten seconds) until a list contains a value at least
+     * the specified number of times.
+     *
+     * @param types  the list of event types.
+     * @param type  the event type.
+     * @param count  the count.
+     *
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    private static void waitFor(List<Integer> types, int type, int count)
+            throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000L;
+        while (Collections.frequency(types, type) < count
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10L);
+        }
+    }
+
+    /**
+     * In the background rendering mode, painting the panel starts a render
+     * on another thread, the new buffer is shown when the render finishes
+     * and a chart change cancels the render in progress.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testAsyncRendering() throws Exception {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 6.0, 5.0}});
+        final JFreeChart chart = ChartFactory.createXYLineChart("TestChart",
+                "X", "Y", dataset, PlotOrientation.VERTICAL, false, false,
+                false);
+        final List<Integer> types = Collections.synchronizedList(
+                new ArrayList<Integer>());
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                types.add(event.getType());
+            }
+        });
+        final ChartPanel panel = new ChartPanel(chart, true);
+        panel.setSize(400, 300);
+        panel.setAsyncRendering(true);
+        assertTrue(panel.isAsyncRendering());
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2 = image.createGraphics();
+        panel.paint(g2);
+        assertFalse(panel.getRefreshBuffer());
+        waitFor(types, ChartProgressEvent.DRAWING_FINISHED, 1);
+        assertEquals(Arrays.asList(ChartProgressEvent.DRAWING_STARTED,
+                ChartProgressEvent.DRAWING_FINISHED), types);
+        assertTrue(panel.getScreenDataArea().getWidth() > 0.0);
+
+        // the buffer is the same as the buffer drawn on this thread
+        panel.paint(g2);
+        ChartPanel syncPanel = new ChartPanel(chart, true);
+        syncPanel.setSize(400, 300);
+        BufferedImage syncImage = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D syncG2 = syncImage.createGraphics();
+        syncPanel.paint(syncG2);
+        syncG2.dispose();
+        assertArrayEquals(image.getRGB(0, 0, 400, 300, null, 0, 400),
+                syncImage.getRGB(0, 0, 400, 300, null, 0, 400));
+        chart.removeChangeListener(syncPanel);
+        chart.removeProgressListener(syncPanel);
+
+        // the second render is cancelled by a change before it can finish
+        // (the renders finish on this event dispatch thread)
+        types.clear();
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                chart.setTitle("Changed");
+                panel.paint(g2);
+                chart.setTitle("Changed again");
+                panel.paint(g2);
+            }
+        });
+        waitFor(types, ChartProgressEvent.DRAWING_FINISHED, 1);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                // process any remaining events
+            }
+        });
+        assertEquals(Arrays.asList(ChartProgressEvent.DRAWING_STARTED,
+                ChartProgressEvent.DRAWING_STARTED,
+                ChartProgressEvent.DRAWING_FINISHED), types);
+        g2.dispose();
+    }
+
+    /**
+     * A renderer that records the datasets it draws and can be made to
+     * fail.
+     */
+    static class RecordingRenderer extends XYLineAndShapeRenderer {
+
+        /** The datasets passed to drawItem() (shared with clones). */
+        final List<XYDataset> datasets = Collections.synchronizedList(
+                new ArrayList<XYDataset>());
+
+        /** The number of calls to drawItem() that should fail. */
+        final int[] failures = new int[1];
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state,
+                Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                ValueAxis domainAxis, ValueAxis rangeAxis,
+                XYDataset dataset, int series, int item,
+                CrosshairState crosshairState, int pass) {
+            this.datasets.add(dataset);
+            synchronized (this.failures) {
+                if (this.failures[0] > 0) {
+                    this.failures[0]--;
+                    throw new IllegalStateException("Failed.");
+                }
+            }
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+    }
+
+    /**
+     * In the background rendering mode, the chart copy is drawn from clones
+     * of the datasets.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testAsyncRenderingSnapshot() throws Exception {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 6.0, 5.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart",
+                "X", "Y", dataset, PlotOrientation.VERTICAL, false, false,
+                false);
+        RecordingRenderer renderer = new RecordingRenderer();
+        chart.getXYPlot().setRenderer(renderer);
+        final List<Integer> types = Collections.synchronizedList(
+                new ArrayList<Integer>());
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                types.add(event.getType());
+            }
+        });
+        ChartPanel panel = new ChartPanel(chart, true);
+        panel.setSize(400, 300);
+        panel.setAsyncRendering(true);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paint(g2);
+        waitFor(types, ChartProgressEvent.DRAWING_FINISHED, 1);
+        g2.dispose();
+        assertFalse(renderer.datasets.isEmpty());
+        for (XYDataset d : renderer.datasets) {
+            assertTrue(d != dataset);
+            assertEquals(dataset, d);
+        }
+    }
+
+    /**
+     * If a background render fails, the exception is logged (and not
+     * thrown on the event dispatch thread) and the next paint draws the
+     * chart on the painting thread.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testAsyncRenderingFailure() throws Exception {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 6.0, 5.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart",
+                "X", "Y", dataset, PlotOrientation.VERTICAL, false, false,
+                false);
+        RecordingRenderer renderer = new RecordingRenderer();
+        renderer.failures[0] = 1;
+        chart.getXYPlot().setRenderer(renderer);
+        final List<LogRecord> records = Collections.synchronizedList(
+                new ArrayList<LogRecord>());
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+            @Override
+            public void flush() {
+            }
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(ChartPanel.class.getName());
+        logger.addHandler(handler);
+        logger.setUseParentHandlers(false);
+        try {
+            final ChartPanel panel = new ChartPanel(chart, true);
+            panel.setSize(400, 300);
+            panel.setAsyncRendering(true);
+            BufferedImage image = new BufferedImage(400, 300,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = image.createGraphics();
+            panel.paint(g2);
+            long end = System.currentTimeMillis() + 10000L;
+            while (records.isEmpty() && System.currentTimeMillis() < end) {
+                Thread.sleep(10L);
+            }
+            assertEquals(1, records.size());
+            assertTrue(records.get(0).getThrown()
+                    instanceof IllegalStateException);
+            final boolean[] refresh = new boolean[1];
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    refresh[0] = panel.getRefreshBuffer();
+                }
+            });
+            assertTrue(refresh[0]);
+
+            // the next paint draws the chart straight away
+            panel.paint(g2);
+            g2.dispose();
+            assertFalse(panel.getRefreshBuffer());
+            ChartPanel syncPanel = new ChartPanel(chart, true);
+            syncPanel.setSize(400, 300);
+            BufferedImage syncImage = new BufferedImage(400, 300,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D syncG2 = syncImage.createGraphics();
+            syncPanel.paint(syncG2);
+            syncG2.dispose();
+            assertArrayEquals(syncImage.getRGB(0, 0, 400, 300, null, 0, 400),
+                    image.getRGB(0, 0, 400, 300, null, 0, 400));
+            assertTrue(panel.isAsyncRendering());
+        } finally {
+            logger.removeHandler(handler);
+            logger.setUseParentHandlers(true);
+        }
+    }
+
+    /**
+     * With the partial repaint mode, a change to a title redraws just the
+     * title in the chart buffer, and the result is the same as a full
+     * redraw.
+     */
+    @Test
+    public void testPartialRepaint() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 6.0, 5.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart",
+                "X", "Y", dataset, PlotOrientation.VERTICAL, true, false,
+                false);
+        ChartPanel panel = new ChartPanel(chart, true);
+        panel.setSize(400, 300);
+        panel.setPartialRepaint(true);
+        assertTrue(panel.isPartialRepaint());
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paint(g2);
+
+        chart.getTitle().setText("Changed");
+        assertFalse(panel.getRefreshBuffer());
+        panel.paint(g2);
+        assertFalse(panel.getRefreshBuffer());
+        g2.dispose();
+        ChartPanel fullPanel = new ChartPanel(chart, true);
+        fullPanel.setSize(400, 300);
+        BufferedImage fullImage = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D fullG2 = fullImage.createGraphics();
+        fullPanel.paint(fullG2);
+        fullG2.dispose();
+        assertArrayEquals(fullImage.getRGB(0, 0, 400, 300, null, 0, 400),
+                image.getRGB(0, 0, 400, 300, null, 0, 400));
+
+        // a change to the plot redraws the whole chart
+        chart.getXYPlot().setDomainGridlinesVisible(false);
+        assertTrue(panel.getRefreshBuffer());
+    }
+
+    /**
+     * A click that moves the crosshairs without redrawing the chart still
+     * sends the progress events that a redraw would, after the crosshair
+     * values are updated.
+     */
+    @Test
+    public void testClickCrosshairProgressEvents() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{10.0, 20.0, 30.0},
+                {4.0, 6.0, 5.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart",
+                "X", "Y", dataset, PlotOrientation.VERTICAL, false, false,
+                false);
+        final XYPlot plot = chart.getXYPlot();
+        ChartPanel panel = new ChartPanel(chart, true);
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paint(g2);
+        g2.dispose();
+
+        final List<String> events = new ArrayList<String>();
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_STARTED) {
+                    events.add("started");
+                } else if (event.getType()
+                        == ChartProgressEvent.DRAWING_FINISHED) {
+                    events.add("finished " + plot.getDomainCrosshairValue());
+                }
+            }
+        });
+        Rectangle2D dataArea = panel.getScreenDataArea();
+        int x = (int) plot.getDomainAxis().valueToJava2D(29.0, dataArea,
+                plot.getDomainAxisEdge());
+        panel.mouseClicked(new MouseEvent(panel, MouseEvent.MOUSE_CLICKED,
+                0L, 0, x, (int) dataArea.getCenterY(), 1, false));
+        assertFalse(panel.getRefreshBuffer());
+        assertEquals(Arrays.asList("started", "finished 30.0"), events);
+    }
+
+    /**
+     * Returns the number of item entities recorded by a panel.
+     *
+     * @param panel  the panel.
+     *
+     * @return The number of item entities.
+     */
+    private static int countItemEntities(ChartPanel panel) {
+        EntityCollection entities
+                = panel.getChartRenderingInfo().getEntityCollection();
+        int count = 0;
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            if (entities.getEntity(i) instanceof XYItemEntity) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * With the append rendering mode, an item appended to a time series
+     * scrolls the data area of the buffer and draws the new item, and the
+     * result is the same as a full redraw.
+     */
+    @Test
+    public void testAppendRendering() {
+        TimeSeries series = new TimeSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(new FixedMillisecond(i), Math.sin(i * 0.2));
+        }
+        TimeSeriesCollection dataset = new TimeSeriesCollection(series);
+        JFreeChart chart = ChartFactory.createTimeSeriesChart("TestChart",
+                "Time", "Value", dataset);
+        XYPlot plot = chart.getXYPlot();
+        plot.getRangeAxis().setRange(-2.0, 2.0);
+        ChartPanel panel = new ChartPanel(chart, true);
+        panel.setSize(400, 300);
+        panel.setAppendRendering(true);
+        assertTrue(panel.isAppendRendering());
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paint(g2);
+
+        // scroll by exactly one pixel per millisecond
+        double width = panel.getChartRenderingInfo().getPlotInfo()
+                .getDataArea().getWidth();
+        plot.getDomainAxis().setFixedAutoRange(width);
+        panel.paint(g2);
+        assertTrue(countItemEntities(panel) > 0);
+
+        // the dashed range gridlines would not move with the data
+        series.add(new FixedMillisecond(100), 1.0);
+        assertFalse(panel.getRefreshBuffer());
+        panel.paint(g2);
+        assertTrue(countItemEntities(panel) > 0);
+
+        plot.setRangeGridlineStroke(new BasicStroke(0.5f));
+        panel.paint(g2);
+        series.add(new FixedMillisecond(101), 1.5);
+        assertFalse(panel.getRefreshBuffer());
+        panel.paint(g2);
+        assertFalse(panel.getRefreshBuffer());
+        assertEquals(0, countItemEntities(panel));
+        ChartPanel fullPanel = new ChartPanel(chart, true);
+        fullPanel.setSize(400, 300);
+        BufferedImage fullImage = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D fullG2 = fullImage.createGraphics();
+        fullPanel.paint(fullG2);
+        fullG2.dispose();
+        assertArrayEquals(fullImage.getRGB(0, 0, 400, 300, null, 0, 400),
+                image.getRGB(0, 0, 400, 300, null, 0, 400));
+        chart.removeChangeListener(fullPanel);
+
+        // a new series redraws the whole chart
+        dataset.addSeries(new TimeSeries("S2"));
+        panel.paint(g2);
+        g2.dispose();
+        assertTrue(countItemEntities(panel) > 0);
+    }
+
+    /**
+     * With the append rendering mode, scrolling the data area only renders
+     * the items near the new item, and not the other visible items (the
+     * tick labels of the domain axis are redrawn too, but no items are
+     * rendered for them).
+     */
+    @Test
+    public void testAppendRenderingItemCount() {
+        TimeSeries series = new TimeSeries("S1");
+        for (int i = 0; i < 400; i++) {
+            series.add(new FixedMillisecond(i), Math.sin(i * 0.2));
+        }
+        JFreeChart chart = ChartFactory.createTimeSeriesChart("TestChart",
+                "Time", "Value", new TimeSeriesCollection(series));
+        XYPlot plot = chart.getXYPlot();
+        RecordingRenderer renderer = new RecordingRenderer();
+        renderer.setDefaultShapesVisible(false);
+        plot.setRenderer(renderer);
+        plot.getRangeAxis().setRange(-2.0, 2.0);
+        plot.setRangeGridlineStroke(new BasicStroke(0.5f));
+        ChartPanel panel = new ChartPanel(chart, true);
+        panel.setSize(400, 300);
+        panel.setAppendRendering(true);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paint(g2);
+        double width = panel.getChartRenderingInfo().getPlotInfo()
+                .getDataArea().getWidth();
+        plot.getDomainAxis().setFixedAutoRange(width);
+        panel.paint(g2);
+        renderer.datasets.clear();
+        panel.paint(g2);
+        assertEquals(0, renderer.datasets.size());
+
+        // a full redraw renders every visible item (in two passes)...
+        plot.setDomainGridlinesVisible(false);
+        panel.paint(g2);
+        int fullCount = renderer.datasets.size();
+        assertTrue(fullCount > 2 * width - 10);
+
+        // ...but a scrolling update renders the items within the margin of
+        // the new item only
+        renderer.datasets.clear();
+        series.add(new FixedMillisecond(400), 1.0);
+        assertFalse(panel.getRefreshBuffer());
+        panel.paint(g2);
+        assertFalse(panel.getRefreshBuffer());
+        g2.dispose();
+        assertTrue(renderer.datasets.size() > 0);
+        assertTrue(renderer.datasets.size() < fullCount / 4);
+    }
+
 }
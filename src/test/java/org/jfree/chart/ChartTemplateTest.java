@@ -0,0 +1,256 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * ChartTemplateTest.java
+ * ----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ChartTemplate} class.
+ */
+public class ChartTemplateTest {
+
+    private static final int WIDTH = 400;
+
+    private static final int HEIGHT = 300;
+
+    /**
+     * Creates a time series dataset with values that depend on the seed.
+     *
+     * @param seed  the seed.
+     *
+     * @return The dataset.
+     */
+    private static XYDataset createDataset(int seed) {
+        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        for (int s = 0; s <= seed % 3; s++) {
+            TimeSeries series = new TimeSeries("S" + s);
+            RegularTimePeriod period = new Day(1, 1, 2010);
+            for (int i = 0; i < 50 + seed * 10; i++) {
+                series.add(period, Math.sin((i + s) * 0.1 * (seed + 1))
+                        * (seed + 1) * 100.0);
+                period = period.next();
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    private static int[] pixels(BufferedImage image) {
+        return image.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH);
+    }
+
+    /**
+     * The template should draw the same image as the chart itself.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Test
+    public void testDrawMatchesChart() throws CloneNotSupportedException {
+        XYDataset dataset = createDataset(2);
+        JFreeChart chart = ChartFactory.createTimeSeriesChart("Title", "Date",
+                "Value", dataset);
+        ChartTemplate template = new ChartTemplate(chart);
+        assertArrayEquals(pixels(chart.createBufferedImage(WIDTH, HEIGHT)),
+                pixels(template.createBufferedImage(dataset, WIDTH, HEIGHT,
+                null)));
+
+        // a category chart
+        DefaultCategoryDataset categoryDataset = new DefaultCategoryDataset();
+        categoryDataset.addValue(1.0, "R1", "C1");
+        categoryDataset.addValue(2.0, "R2", "C1");
+        categoryDataset.addValue(-3.0, "R1", "C2");
+        chart = ChartFactory.createBarChart("Title", "Category", "Value",
+                categoryDataset, PlotOrientation.VERTICAL, true, false,
+                false);
+        template = new ChartTemplate(chart);
+        assertArrayEquals(pixels(chart.createBufferedImage(WIDTH, HEIGHT)),
+                pixels(template.createBufferedImage(categoryDataset, WIDTH,
+                HEIGHT, null)));
+
+        // the wrong type of dataset is rejected
+        try {
+            template.draw(chart.createBufferedImage(1, 1).createGraphics(),
+                    new java.awt.Rectangle(0, 0, 1, 1),
+                    new DefaultPieDataset(), null);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The titles that the template reuses for later drawings must not carry
+     * anything over from the earlier drawings.
+     */
+    @Test
+    public void testDrawAfterOtherDataset() throws CloneNotSupportedException {
+        XYDataset dataset0 = createDataset(2);
+        XYDataset dataset1 = createDataset(0);
+        JFreeChart chart = ChartFactory.createTimeSeriesChart("Title", "Date",
+                "Value", dataset0);
+        ChartTemplate template = new ChartTemplate(chart);
+        template.createBufferedImage(dataset0, WIDTH, HEIGHT, null);
+        JFreeChart expected = ChartFactory.createTimeSeriesChart("Title",
+                "Date", "Value", dataset1);
+        assertArrayEquals(pixels(expected.createBufferedImage(WIDTH, HEIGHT)),
+                pixels(template.createBufferedImage(dataset1, WIDTH, HEIGHT,
+                new ChartRenderingInfo())));
+    }
+
+    /**
+     * Draws one template from several threads at once, each thread drawing
+     * several different datasets, and checks that every image is identical
+     * to the image drawn by a single thread.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testConcurrentDraw() throws Exception {
+        final int datasetCount = 4;
+        final XYDataset[] datasets = new XYDataset[datasetCount];
+        for (int i = 0; i < datasetCount; i++) {
+            datasets[i] = createDataset(i);
+        }
+        JFreeChart chart = ChartFactory.createTimeSeriesChart("Title", "Date",
+                "Value", null);
+        final ChartTemplate template = new ChartTemplate(chart);
+        final int[][] expected = new int[datasetCount][];
+        for (int i = 0; i < datasetCount; i++) {
+            expected[i] = pixels(template.createBufferedImage(datasets[i],
+                    WIDTH, HEIGHT, null));
+        }
+        // the datasets give different images
+        for (int i = 1; i < datasetCount; i++) {
+            assertTrue(!java.util.Arrays.equals(expected[0], expected[i]));
+        }
+
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int t = 0; t < threadCount; t++) {
+                final int offset = t;
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        int mismatches = 0;
+                        for (int n = 0; n < 12; n++) {
+                            int d = (offset + n) % datasetCount;
+                            BufferedImage image = template.createBufferedImage(
+                                    datasets[d], WIDTH, HEIGHT,
+                                    new ChartRenderingInfo());
+                            if (!java.util.Arrays.equals(expected[d],
+                                    pixels(image))) {
+                                mismatches++;
+                            }
+                        }
+                        return mismatches;
+                    }
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * The copies drawn by the template must not stay registered as
+     * listeners on the secondary datasets of the chart.
+     */
+    @Test
+    public void testSecondaryDatasetListeners() {
+        final int[] listenerCount = new int[1];
+        DefaultXYDataset secondary = new DefaultXYDataset() {
+            @Override
+            public void addChangeListener(DatasetChangeListener listener) {
+                listenerCount[0]++;
+                super.addChangeListener(listener);
+            }
+            @Override
+            public void removeChangeListener(DatasetChangeListener listener) {
+                if (hasListener(listener)) {
+                    listenerCount[0]--;
+                }
+                super.removeChangeListener(listener);
+            }
+        };
+        secondary.addSeries("S", new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+        JFreeChart chart = ChartFactory.createTimeSeriesChart("Title", "Date",
+                "Value", null);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setDataset(1, secondary);
+        plot.setRenderer(1, new XYLineAndShapeRenderer());
+        assertEquals(1, listenerCount[0]);
+        ChartTemplate template;
+        try {
+            template = new ChartTemplate(chart);
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException(e);
+        }
+        template.createBufferedImage(createDataset(1), WIDTH, HEIGHT, null);
+        template.createBufferedImage(createDataset(2), WIDTH, HEIGHT, null);
+        assertEquals(1, listenerCount[0]);
+    }
+}
@@ -50,25 +50,39 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.List;
 
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
 import org.jfree.chart.plot.PiePlot;
 import org.jfree.chart.plot.RingPlot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
 import org.jfree.chart.ui.Align;
 import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.chart.ui.RectangleInsets;
+import org.jfree.data.Range;
 import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.data.general.DefaultPieDataset;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -470,6 +484,196 @@ public class JFreeChartTest implements ChartChangeListener {
         this.lastChartChangeEvent = null;
     }
 
+    /**
+     * Changes made during an update are sent as a single event when the
+     * update ends, and the axis ranges are updated then.
+     */
+    @Test
+    public void testBeginUpdate() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("title", "x", "y",
+                new XYSeriesCollection(series));
+        XYPlot plot = (XYPlot) chart.getPlot();
+        Range yRange = plot.getRangeAxis().getRange();
+        final int[] count = new int[1];
+        chart.addChangeListener(new ChartChangeListener() {
+            @Override
+            public void chartChanged(ChartChangeEvent event) {
+                count[0]++;
+            }
+        });
+        try (ChartUpdate update = chart.beginUpdate()) {
+            assertTrue(chart.isUpdating());
+            assertTrue(plot.isUpdating());
+            for (int i = 2; i <= 100; i++) {
+                series.add(i, i * 10.0);
+            }
+            chart.setBackgroundPaint(Color.YELLOW);
+            assertEquals(0, count[0]);
+            assertEquals(yRange, plot.getRangeAxis().getRange());
+
+            // nested updates end with the outermost update
+            ChartUpdate nested = chart.beginUpdate();
+            series.add(101, 1010.0);
+            nested.close();
+            assertEquals(0, count[0]);
+        }
+        assertEquals(1, count[0]);
+        assertFalse(chart.isUpdating());
+        assertFalse(plot.isUpdating());
+        assertTrue(plot.getRangeAxis().getRange().contains(1010.0));
+
+        // no change, no event
+        ChartUpdate update = chart.beginUpdate();
+        update.close();
+        update.close();
+        assertEquals(1, count[0]);
+        series.add(102, 1020.0);
+        assertEquals(2, count[0]);
+    }
+
+    /**
+     * Draws a chart into a new image.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info ({@code null} permitted).
+     *
+     * @return The image.
+     */
+    private static BufferedImage drawImage(JFreeChart chart,
+            ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, info);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Returns {@code true} if two images have the same pixels.
+     *
+     * @param image1  the first image.
+     * @param image2  the second image.
+     *
+     * @return A boolean.
+     */
+    private static boolean samePixels(BufferedImage image1,
+            BufferedImage image2) {
+        return Arrays.equals(image1.getRGB(0, 0, 400, 300, null, 0, 400),
+                image2.getRGB(0, 0, 400, 300, null, 0, 400));
+    }
+
+    /**
+     * Checks that two entity collections have entities with the same
+     * description and bounds, in the same order.
+     *
+     * @param expected  the expected entities.
+     * @param actual  the actual entities.
+     */
+    private static void assertSameEntities(EntityCollection expected,
+            EntityCollection actual) {
+        assertEquals(expected.getEntityCount(), actual.getEntityCount());
+        for (int i = 0; i < expected.getEntityCount(); i++) {
+            ChartEntity e1 = expected.getEntity(i);
+            ChartEntity e2 = actual.getEntity(i);
+            assertEquals(e1.toString(), e2.toString());
+            assertEquals(e1.getArea().getBounds2D(),
+                    e2.getArea().getBounds2D());
+        }
+    }
+
+    /**
+     * Redrawing a subplot of a combined plot should give the same image and
+     * entities as a full redraw, unless the layout changes.
+     */
+    @Test
+    public void testRedrawSubplot() {
+        XYSeries series1 = new XYSeries("S1");
+        XYSeries series2 = new XYSeries("S2");
+        for (int i = 0; i < 10; i++) {
+            series1.add(i, i * 2.0);
+            series2.add(i, 10.0 - i);
+        }
+        CombinedDomainXYPlot plot = new CombinedDomainXYPlot(
+                new NumberAxis("X"));
+        XYPlot subplot1 = new XYPlot(new XYSeriesCollection(series1), null,
+                new NumberAxis("Y1"), new XYLineAndShapeRenderer());
+        XYPlot subplot2 = new XYPlot(new XYSeriesCollection(series2), null,
+                new NumberAxis("Y2"), new XYLineAndShapeRenderer());
+        plot.add(subplot1);
+        plot.add(subplot2);
+        JFreeChart chart = new JFreeChart("Title", plot);
+        chart.addChangeListener(this);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        BufferedImage image = drawImage(chart, info);
+
+        // a change within the subplot...
+        series2.updateByIndex(3, 4.0);
+        assertTrue(this.lastChartChangeEvent instanceof PlotChangeEvent);
+        PlotChangeEvent event = (PlotChangeEvent) this.lastChartChangeEvent;
+        assertSame(plot, event.getPlot());
+        assertSame(subplot2, event.getSubplot());
+        Graphics2D g2 = image.createGraphics();
+        assertTrue(chart.redraw(g2, subplot2, info));
+        g2.dispose();
+        ChartRenderingInfo expected = new ChartRenderingInfo();
+        assertTrue(samePixels(drawImage(chart, expected), image));
+        assertSameEntities(expected.getEntityCollection(),
+                info.getEntityCollection());
+
+        // ...but a wider range axis changes the layout
+        series1.updateByIndex(3, 1000000.0);
+        g2 = image.createGraphics();
+        assertFalse(chart.redraw(g2, subplot1, info));
+        g2.dispose();
+
+        // a plot that is not a subplot cannot be redrawn
+        g2 = image.createGraphics();
+        assertFalse(chart.redraw(g2, plot, info));
+        g2.dispose();
+    }
+
+    /**
+     * Redrawing a title should give the same image and entities as a full
+     * redraw, unless the size of the title changes.
+     */
+    @Test
+    public void testRedrawTitle() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        series.add(2.0, 1.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        TextTitle subtitle = new TextTitle("Subtitle");
+        subtitle.setPosition(RectangleEdge.LEFT);
+        chart.addSubtitle(subtitle);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        BufferedImage image = drawImage(chart, info);
+
+        chart.getTitle().setText("Another title");
+        Graphics2D g2 = image.createGraphics();
+        assertTrue(chart.redraw(g2, chart.getTitle(), info));
+        g2.dispose();
+        ChartRenderingInfo expected = new ChartRenderingInfo();
+        assertTrue(samePixels(drawImage(chart, expected), image));
+        assertSameEntities(expected.getEntityCollection(),
+                info.getEntityCollection());
+
+        subtitle.setPaint(Color.RED);
+        g2 = image.createGraphics();
+        assertTrue(chart.redraw(g2, subtitle, info));
+        g2.dispose();
+        assertTrue(samePixels(drawImage(chart, null), image));
+
+        // a larger font changes the layout
+        chart.getTitle().setFont(new Font("Dialog", Font.BOLD, 30));
+        g2 = image.createGraphics();
+        assertFalse(chart.redraw(g2, chart.getTitle(), info));
+        g2.dispose();
+    }
+
     @Test
     public void testBug942() throws Exception {
         final String title = "Pie Chart Demo 1\n\n\ntestnew line";
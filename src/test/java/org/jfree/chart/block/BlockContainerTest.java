@@ -44,7 +44,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.awt.geom.Rectangle2D;
+
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.ui.RectangleEdge;
 import org.junit.Test;
 
 /**
@@ -84,6 +87,20 @@ public class BlockContainerTest {
         assertTrue(c1 != c2);
         assertTrue(c1.getClass() == c2.getClass());
         assertTrue(c1.equals(c2));
+
+        // the blocks are copied, and a border arrangement refers to the
+        // copies
+        c1 = new BlockContainer(new BorderArrangement());
+        EmptyBlock b1 = new EmptyBlock(1.2, 3.4);
+        c1.add(b1, RectangleEdge.LEFT);
+        c1.add(new EmptyBlock(5.6, 7.8));
+        c2 = (BlockContainer) c1.clone();
+        assertTrue(c1.equals(c2));
+        assertTrue(c2.getBlocks().get(0) != b1);
+        assertTrue(c1.getArrangement() != c2.getArrangement());
+        ((EmptyBlock) c2.getBlocks().get(0)).setBounds(
+                new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0));
+        assertFalse(c1.equals(c2));
     }
 
     /**
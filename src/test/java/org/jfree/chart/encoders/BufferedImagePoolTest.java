@@ -0,0 +1,155 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * BufferedImagePoolTest.java
+ * --------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.ChartUtils;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PiePlot;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.PlotState;
+import org.jfree.data.general.DefaultPieDataset;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link BufferedImagePool} class.
+ */
+public class BufferedImagePoolTest {
+
+    /**
+     * Released images are reused and cleared.
+     */
+    @Test
+    public void testAcquireAndRelease() {
+        BufferedImagePool pool = new BufferedImagePool(1);
+        BufferedImage image = pool.acquire(20, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(Color.RED);
+        g2.fillRect(0, 0, 20, 10);
+        g2.dispose();
+        pool.release(image);
+        assertEquals(1, pool.getIdleCount());
+
+        // a different size or type is a different image
+        BufferedImage other = pool.acquire(20, 10,
+                BufferedImage.TYPE_INT_RGB);
+        assertNotSame(image, other);
+        assertEquals(1, pool.getIdleCount());
+
+        BufferedImage reused = pool.acquire(20, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        assertSame(image, reused);
+        assertEquals(0, reused.getRGB(5, 5));
+        assertEquals(0, pool.getIdleCount());
+
+        // only one idle image is kept for each key
+        pool.release(reused);
+        pool.release(new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB));
+        assertEquals(1, pool.getIdleCount());
+        pool.release(other);
+        assertEquals(2, pool.getIdleCount());
+        pool.clear();
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    /**
+     * Writes a chart with {@code ChartUtils} using a pool.
+     */
+    @Test
+    public void testWriteChartAsPNG() throws IOException {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 1.0);
+        dataset.setValue("B", 2.0);
+        JFreeChart chart = new JFreeChart(new PiePlot(dataset));
+        BufferedImagePool pool = new BufferedImagePool();
+        PNGEncoder encoder = new PNGEncoder();
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ChartRenderingInfo info = new ChartRenderingInfo();
+            ChartUtils.writeChartAsPNG(out, chart, 200, 100, info, pool,
+                    encoder);
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                    out.toByteArray()));
+            assertEquals(200, image.getWidth());
+            assertEquals(100, image.getHeight());
+            assertEquals(200.0, info.getChartArea().getWidth(), 0.0);
+            assertEquals(1, pool.getIdleCount());
+        }
+    }
+
+    /**
+     * The image is returned to the pool even if the chart cannot be drawn.
+     */
+    @Test
+    public void testWriteChartAsPNGFailure() throws IOException {
+        PiePlot plot = new PiePlot() {
+            @Override
+            public void draw(Graphics2D g2, Rectangle2D area, Point2D anchor,
+                    PlotState parentState, PlotRenderingInfo info) {
+                throw new IllegalStateException("Drawing failed.");
+            }
+        };
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImagePool pool = new BufferedImagePool();
+        try {
+            ChartUtils.writeChartAsPNG(new ByteArrayOutputStream(), chart,
+                    200, 100, null, pool, new PNGEncoder());
+            fail("Expected an IllegalStateException.");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(1, pool.getIdleCount());
+    }
+
+}
@@ -0,0 +1,188 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * PNGEncoderTest.java
+ * -------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link PNGEncoder} class.
+ */
+public class PNGEncoderTest {
+
+    /**
+     * Creates a test image.
+     *
+     * @param type  the image type.
+     *
+     * @return The image.
+     */
+    private static BufferedImage createImage(int type) {
+        BufferedImage image = new BufferedImage(150, 70, type);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(new GradientPaint(0f, 0f, Color.RED, 150f, 70f,
+                new Color(0, 0, 255, 128)));
+        g2.fillOval(10, 5, 120, 60);
+        g2.setPaint(Color.GREEN);
+        g2.drawLine(0, 0, 149, 69);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Decodes a PNG image.
+     *
+     * @param data  the encoded image.
+     *
+     * @return The image.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static BufferedImage decode(byte[] data) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Checks that two images have the same pixels.
+     *
+     * @param expected  the expected image.
+     * @param actual  the actual image.
+     * @param alpha  compare the alpha values?
+     */
+    private static void assertSamePixels(BufferedImage expected,
+            BufferedImage actual, boolean alpha) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        int mask = alpha ? 0xFFFFFFFF : 0x00FFFFFF;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals(expected.getRGB(x, y) & mask,
+                        actual.getRGB(x, y) & mask);
+            }
+        }
+    }
+
+    /**
+     * Encodes images with each of the filters and checks that they decode
+     * to the original pixels.
+     */
+    @Test
+    public void testEncode() throws IOException {
+        int[] types = {BufferedImage.TYPE_INT_ARGB,
+                BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_3BYTE_BGR};
+        for (int type : types) {
+            BufferedImage image = createImage(type);
+            boolean alpha = image.getColorModel().hasAlpha();
+            for (PNGFilter filter : PNGFilter.values()) {
+                PNGEncoder encoder = new PNGEncoder();
+                encoder.setFilter(filter);
+                BufferedImage decoded = decode(encoder.encode(image));
+                assertEquals(alpha, decoded.getColorModel().hasAlpha());
+                assertSamePixels(image, decoded, true);
+            }
+        }
+    }
+
+    /**
+     * Checks the compression level and alpha settings.
+     */
+    @Test
+    public void testSettings() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB);
+        PNGEncoder encoder = new PNGEncoder();
+        assertEquals(PNGEncoder.DEFAULT_COMPRESSION_LEVEL,
+                encoder.getCompressionLevel());
+        assertTrue(encoder.isEncodingAlpha());
+        assertEquals(PNGFilter.UP, encoder.getFilter());
+
+        encoder.setCompressionLevel(0);
+        byte[] stored = encoder.encode(image);
+        encoder.setQuality(9.0f);
+        assertEquals(9, encoder.getCompressionLevel());
+        byte[] compressed = encoder.encode(image);
+        assertTrue(compressed.length < stored.length);
+        assertSamePixels(image, decode(stored), true);
+        assertSamePixels(image, decode(compressed), true);
+
+        encoder.setEncodingAlpha(false);
+        BufferedImage decoded = decode(encoder.encode(image));
+        assertFalse(decoded.getColorModel().hasAlpha());
+        assertSamePixels(image, decoded, false);
+
+        try {
+            encoder.setCompressionLevel(10);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            encoder.setFilter(null);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Writing to a channel gives the same bytes as writing to an array.
+     */
+    @Test
+    public void testEncodeToChannel() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_RGB);
+        PNGEncoder encoder = new PNGEncoder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encode(image, Channels.newChannel(out));
+        assertEquals(new String(encoder.encode(image), "ISO-8859-1"),
+                new String(out.toByteArray(), "ISO-8859-1"));
+    }
+
+}
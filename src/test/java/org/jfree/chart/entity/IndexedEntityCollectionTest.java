@@ -0,0 +1,183 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * IndexedEntityCollectionTest.java
+ * --------------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link IndexedEntityCollection} class.
+ */
+public class IndexedEntityCollectionTest {
+
+    /**
+     * Adds random entities (mostly small, with a few large ones) to both
+     * collections.
+     *
+     * @param c1  the first collection.
+     * @param c2  the second collection.
+     * @param count  the number of entities.
+     * @param random  the random number generator.
+     */
+    private static void addRandomEntities(EntityCollection c1,
+            EntityCollection c2, int count, Random random) {
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 500.0;
+            double y = random.nextDouble() * 300.0;
+            ChartEntity entity;
+            if (random.nextInt(100) == 0) {
+                entity = new ChartEntity(new Rectangle2D.Double(x / 2, y / 2,
+                        200.0, 100.0));
+            }
+            else {
+                entity = new ChartEntity(new Ellipse2D.Double(x, y, 6.0,
+                        6.0));
+            }
+            c1.add(entity);
+            c2.add(entity);
+        }
+    }
+
+    /**
+     * Point queries should return the same entity as the
+     * {@link StandardEntityCollection}.
+     */
+    @Test
+    public void testGetEntity() {
+        Random random = new Random(123L);
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        IndexedEntityCollection c2 = new IndexedEntityCollection();
+        addRandomEntities(c1, c2, 5000, random);
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 520.0 - 10.0;
+            double y = random.nextDouble() * 320.0 - 10.0;
+            assertSame(c1.getEntity(x, y), c2.getEntity(x, y));
+        }
+
+        // the index is rebuilt after a change
+        ChartEntity top = new ChartEntity(new Rectangle2D.Double(100.0,
+                100.0, 1.0, 1.0));
+        c2.add(top);
+        assertSame(top, c2.getEntity(100.5, 100.5));
+        c2.clear();
+        assertNull(c2.getEntity(100.5, 100.5));
+    }
+
+    /**
+     * Region queries should return the entities that intersect the region,
+     * in order.
+     */
+    @Test
+    public void testGetEntitiesInRegion() {
+        Random random = new Random(321L);
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        IndexedEntityCollection c2 = new IndexedEntityCollection();
+        addRandomEntities(c1, c2, 2000, random);
+        for (int i = 0; i < 100; i++) {
+            Rectangle2D region = new Rectangle2D.Double(
+                    random.nextDouble() * 500.0, random.nextDouble() * 300.0,
+                    random.nextDouble() * 100.0, random.nextDouble() * 100.0);
+            List<ChartEntity> expected = new ArrayList<ChartEntity>();
+            for (int j = 0; j < c1.getEntityCount(); j++) {
+                if (c1.getEntity(j).getArea().intersects(region)) {
+                    expected.add(c1.getEntity(j));
+                }
+            }
+            assertEquals(expected, c2.getEntities(region));
+        }
+    }
+
+    /**
+     * A small collection is not indexed but gives the same results.
+     */
+    @Test
+    public void testSmallCollection() {
+        IndexedEntityCollection c = new IndexedEntityCollection();
+        ChartEntity e1 = new ChartEntity(new Rectangle2D.Double(0, 0, 10, 10));
+        ChartEntity e2 = new ChartEntity(new Rectangle2D.Double(5, 5, 10, 10));
+        c.add(e1);
+        c.add(e2);
+        assertSame(e2, c.getEntity(6, 6));
+        assertSame(e1, c.getEntity(1, 1));
+        assertNull(c.getEntity(20, 20));
+        assertEquals(2, c.getEntities(new Rectangle2D.Double(4, 4, 2,
+                2)).size());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        IndexedEntityCollection c1 = new IndexedEntityCollection();
+        addRandomEntities(c1, new StandardEntityCollection(), 100,
+                new Random(1L));
+        c1.getEntity(1.0, 1.0);
+        IndexedEntityCollection c2 = (IndexedEntityCollection) c1.clone();
+        assertTrue(c1 != c2);
+        assertTrue(c1.getClass() == c2.getClass());
+        assertTrue(c1.equals(c2));
+        c1.clear();
+        assertFalse(c1.equals(c2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        IndexedEntityCollection c1 = new IndexedEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        IndexedEntityCollection c2 = (IndexedEntityCollection)
+                TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals(c1.getEntity(2.0, 3.0), c2.getEntity(2.0, 3.0));
+    }
+
+}
@@ -0,0 +1,102 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------------
+ * NearestItemCrosshairOverlayTest.java
+ * ------------------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.panel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.plot.Crosshair;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link NearestItemCrosshairOverlay} class.
+ */
+public class NearestItemCrosshairOverlayTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        NearestItemCrosshairOverlay o1 = new NearestItemCrosshairOverlay();
+        NearestItemCrosshairOverlay o2 = new NearestItemCrosshairOverlay();
+        assertEquals(o1, o2);
+        o1.setFollowMouse(true);
+        assertFalse(o1.equals(o2));
+        o2.setFollowMouse(true);
+        assertTrue(o1.equals(o2));
+        o1.addDomainCrosshair(new Crosshair(1.0));
+        assertFalse(o1.equals(o2));
+        o2.addDomainCrosshair(new Crosshair(1.0));
+        assertTrue(o1.equals(o2));
+        assertFalse(o1.equals(new CrosshairOverlay()));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        NearestItemCrosshairOverlay o1 = new NearestItemCrosshairOverlay();
+        o1.setFollowMouse(true);
+        o1.addDomainCrosshair(new Crosshair(99.9));
+        o1.addRangeCrosshair(new Crosshair(1.23));
+        NearestItemCrosshairOverlay o2
+                = (NearestItemCrosshairOverlay) TestUtils.serialised(o1);
+        assertEquals(o1, o2);
+    }
+
+    /**
+     * Basic checks for cloning.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        NearestItemCrosshairOverlay o1 = new NearestItemCrosshairOverlay();
+        o1.setFollowMouse(true);
+        o1.addDomainCrosshair(new Crosshair(99.9));
+        NearestItemCrosshairOverlay o2
+                = (NearestItemCrosshairOverlay) o1.clone();
+        assertTrue(o1 != o2);
+        assertTrue(o1.getClass() == o2.getClass());
+        assertTrue(o1.equals(o2));
+    }
+
+}
@@ -42,6 +42,10 @@
 package org.jfree.chart.plot;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.Font;
@@ -50,13 +54,16 @@ import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.List;
 
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
+import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.data.xy.XYDataset;
@@ -164,6 +171,87 @@ public class CombinedDomainXYPlotTest implements ChartChangeListener {
         assertTrue(this.events.isEmpty());
     }
 
+    /**
+     * Dataset changes in the subplots are deferred while an update is in
+     * progress for the parent plot.
+     */
+    @Test
+    public void testBeginUpdate() {
+        CombinedDomainXYPlot plot = createPlot();
+        JFreeChart chart = new JFreeChart(plot);
+        chart.addChangeListener(this);
+        XYPlot subplot2 = (XYPlot) plot.getSubplots().get(1);
+        XYSeries series = ((XYSeriesCollection) subplot2.getDataset())
+                .getSeries(0);
+        plot.beginUpdate();
+        assertTrue(subplot2.isUpdating());
+        series.add(190.0, 50000.0);
+        series.add(200.0, 60000.0);
+        assertTrue(this.events.isEmpty());
+        assertFalse(subplot2.getRangeAxis().getRange().contains(60000.0));
+        assertFalse(plot.getDomainAxis().getRange().contains(200.0));
+        plot.endUpdate();
+        assertFalse(subplot2.isUpdating());
+        assertEquals(1, this.events.size());
+        assertTrue(subplot2.getRangeAxis().getRange().contains(60000.0));
+        assertTrue(plot.getDomainAxis().getRange().contains(200.0));
+    }
+
+    /**
+     * A dataset change within one subplot is reported by the parent plot,
+     * with the subplot as a hint.
+     */
+    @Test
+    public void testDatasetChangedSubplotHint() {
+        CombinedDomainXYPlot plot = createPlot();
+        JFreeChart chart = new JFreeChart(plot);
+        chart.addChangeListener(this);
+        XYPlot subplot2 = (XYPlot) plot.getSubplots().get(1);
+        XYSeries series = ((XYSeriesCollection) subplot2.getDataset())
+                .getSeries(0);
+        series.updateByIndex(3, 5000.0);
+        assertEquals(1, this.events.size());
+        PlotChangeEvent event = (PlotChangeEvent) this.events.get(0);
+        assertSame(plot, event.getPlot());
+        assertSame(subplot2, event.getSubplot());
+
+        // a change to the shared domain axis range affects all subplots
+        this.events.clear();
+        series.add(1000.0, 5000.0);
+        event = (PlotChangeEvent) this.events.get(0);
+        assertSame(plot, event.getPlot());
+        assertNull(event.getSubplot());
+    }
+
+    /**
+     * Calculating the redraw area for a subplot must not change the plot
+     * or the subplots, even if the layout has changed.
+     */
+    @Test
+    public void testCalculateRedrawAreaIsQuery() {
+        CombinedDomainXYPlot plot = createPlot();
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0.0, 0.0, 400.0, 300.0), info);
+        XYPlot subplot1 = (XYPlot) plot.getSubplots().get(0);
+        XYPlot subplot2 = (XYPlot) plot.getSubplots().get(1);
+        AxisSpace space1 = subplot1.getFixedRangeAxisSpace();
+        AxisSpace space2 = subplot2.getFixedRangeAxisSpace();
+        assertNotNull(space1);
+        PlotRenderingInfo plotInfo = info.getPlotInfo();
+        assertNotNull(plot.calculateRedrawArea(g2, subplot1, plotInfo));
+
+        subplot1.getRangeAxis().setLabelFont(new Font("SansSerif",
+                Font.PLAIN, 40));
+        assertNull(plot.calculateRedrawArea(g2, subplot1, plotInfo));
+        g2.dispose();
+        assertEquals(space1, subplot1.getFixedRangeAxisSpace());
+        assertEquals(space2, subplot2.getFixedRangeAxisSpace());
+    }
+
     /**
      * Creates a sample dataset.
      *
@@ -71,6 +71,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.ChartUpdate;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -79,13 +81,18 @@ import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.date.MonthConstants;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.ui.Layer;
 import org.jfree.chart.ui.RectangleInsets;
@@ -426,6 +433,18 @@ public class XYPlotTest {
         plot2.setShadowGenerator(null);
         assertTrue(plot1.equals(plot2));
 
+        // decimationEnabled
+        plot1.setDecimationEnabled(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setDecimationEnabled(true);
+        assertTrue(plot1.equals(plot2));
+
+        // parallelRenderingEnabled
+        plot1.setParallelRenderingEnabled(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setParallelRenderingEnabled(true);
+        assertTrue(plot1.equals(plot2));
+
         LegendItemCollection lic1 = new LegendItemCollection();
         lic1.add(new LegendItem("XYZ", Color.RED));
         plot1.setFixedLegendItems(lic1);
@@ -1058,6 +1077,119 @@ public class XYPlotTest {
         }
     }
 
+    /**
+     * Creates a chart with several datasets (each with its own renderer) for
+     * testing parallel rendering.
+     *
+     * @return The chart.
+     */
+    private static JFreeChart createMultiDatasetChart() {
+        XYPlot plot = new XYPlot();
+        plot.setDomainAxis(new NumberAxis("X"));
+        plot.setRangeAxis(new NumberAxis("Y"));
+        for (int d = 0; d < 4; d++) {
+            XYSeries series = new XYSeries("S" + d);
+            for (int i = 0; i < 50; i++) {
+                series.add(i, Math.sin(i / 5.0 + d) * (d + 1));
+            }
+            plot.setDataset(d, new XYSeriesCollection(series));
+            plot.setRenderer(d, new XYLineAndShapeRenderer());
+        }
+        plot.setDomainCrosshairVisible(true);
+        plot.setRangeCrosshairVisible(true);
+        return new JFreeChart(plot);
+    }
+
+    /**
+     * Rendering the datasets in parallel should give the same image,
+     * entities and crosshair values as sequential rendering.
+     */
+    @Test
+    public void testParallelRendering() {
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 300, 200);
+        Point2D anchor = new Point2D.Double(150, 100);
+        JFreeChart chart1 = createMultiDatasetChart();
+        JFreeChart chart2 = createMultiDatasetChart();
+        ((XYPlot) chart2.getPlot()).setParallelRenderingEnabled(true);
+        BufferedImage image1 = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        BufferedImage image2 = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        Graphics2D g2 = image1.createGraphics();
+        chart1.draw(g2, area, anchor, info1);
+        g2.dispose();
+        g2 = image2.createGraphics();
+        chart2.draw(g2, area, anchor, info2);
+        g2.dispose();
+
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                Color c1 = new Color(image1.getRGB(x, y));
+                Color c2 = new Color(image2.getRGB(x, y));
+                assertTrue(Math.abs(c1.getRed() - c2.getRed()) <= 2);
+                assertTrue(Math.abs(c1.getGreen() - c2.getGreen()) <= 2);
+                assertTrue(Math.abs(c1.getBlue() - c2.getBlue()) <= 2);
+            }
+        }
+        EntityCollection entities1 = info1.getEntityCollection();
+        EntityCollection entities2 = info2.getEntityCollection();
+        assertEquals(entities1.getEntityCount(), entities2.getEntityCount());
+        for (int i = 0; i < entities1.getEntityCount(); i++) {
+            ChartEntity e1 = entities1.getEntity(i);
+            ChartEntity e2 = entities2.getEntity(i);
+            assertEquals(e1.getClass(), e2.getClass());
+            assertEquals(e1.getShapeCoords(), e2.getShapeCoords());
+            if (e1 instanceof XYItemEntity) {
+                XYItemEntity xy1 = (XYItemEntity) e1;
+                XYItemEntity xy2 = (XYItemEntity) e2;
+                assertEquals(xy1.getSeriesIndex(), xy2.getSeriesIndex());
+                assertEquals(xy1.getItem(), xy2.getItem());
+            }
+        }
+        XYPlot plot1 = (XYPlot) chart1.getPlot();
+        XYPlot plot2 = (XYPlot) chart2.getPlot();
+        assertEquals(plot1.getDomainCrosshairValue(),
+                plot2.getDomainCrosshairValue(), 0.0);
+        assertEquals(plot1.getRangeCrosshairValue(),
+                plot2.getRangeCrosshairValue(), 0.0);
+    }
+
+    /**
+     * Parallel rendering must place the layers exactly where sequential
+     * rendering draws, also when the data area has a fractional origin.
+     */
+    @Test
+    public void testParallelRenderingFractionalOrigin() {
+        Rectangle2D area = new Rectangle2D.Double(0.5, 0.3, 298.7, 199.1);
+        JFreeChart chart1 = createMultiDatasetChart();
+        JFreeChart chart2 = createMultiDatasetChart();
+        ((XYPlot) chart2.getPlot()).setParallelRenderingEnabled(true);
+        BufferedImage image1 = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        BufferedImage image2 = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image1.createGraphics();
+        g2.translate(0.25, 0.6);
+        chart1.draw(g2, area);
+        g2.dispose();
+        g2 = image2.createGraphics();
+        g2.translate(0.25, 0.6);
+        chart2.draw(g2, area);
+        g2.dispose();
+
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                Color c1 = new Color(image1.getRGB(x, y));
+                Color c2 = new Color(image2.getRGB(x, y));
+                assertTrue(Math.abs(c1.getRed() - c2.getRed()) <= 2);
+                assertTrue(Math.abs(c1.getGreen() - c2.getGreen()) <= 2);
+                assertTrue(Math.abs(c1.getBlue() - c2.getBlue()) <= 2);
+            }
+        }
+    }
+
     /**
      * Check that removing a marker that isn't assigned to the plot returns
      * false.
@@ -1428,4 +1560,395 @@ public class XYPlotTest {
         assertEquals(new Range(1.0, 6.0), plot.getDataRange(xAxis));
         assertEquals(new Range(2.0, 10.0), plot.getDataRange(yAxis)); // only y-values for items in the x-range        
     }    
+
+    /**
+     * The crosshair point found with the item index should be the same as
+     * the crosshair point found by the renderers when the chart is drawn.
+     */
+    @Test
+    public void testFindCrosshairPoint() {
+        java.util.Random random = new java.util.Random(7L);
+        XYSeriesCollection dataset1 = new XYSeriesCollection();
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 200; i++) {
+            s1.add(i, random.nextDouble() * 100.0);
+        }
+        dataset1.addSeries(s1);
+        XYSeries s2 = new XYSeries("S2", false);
+        for (int i = 0; i < 200; i++) {
+            s2.add(random.nextDouble() * 200.0, random.nextDouble() * 100.0);
+        }
+        dataset1.addSeries(s2);
+        XYSeriesCollection dataset2 = new XYSeriesCollection();
+        XYSeries s3 = new XYSeries("S3");
+        for (int i = 0; i < 50; i++) {
+            s3.add(i * 4.0, random.nextDouble() * 5000.0);
+        }
+        dataset2.addSeries(s3);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset1);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setDataset(1, dataset2);
+        plot.setRangeAxis(1, new NumberAxis("Y2"));
+        plot.mapDatasetToRangeAxis(1, 1);
+        plot.setRenderer(1, new XYLineAndShapeRenderer());
+        plot.getRenderer().setSeriesVisible(1, Boolean.FALSE);
+
+        BufferedImage image = new BufferedImage(500, 400,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 500, 400);
+        chart.draw(g2, area, null, info);
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        for (int n = 0; n < 50; n++) {
+            if (n == 25) {
+                plot.setRangeCrosshairLockedOnData(false);
+            }
+            Point2D anchor = new Point2D.Double(dataArea.getX()
+                    + random.nextDouble() * dataArea.getWidth(),
+                    dataArea.getY() + random.nextDouble()
+                    * dataArea.getHeight());
+            CrosshairState state = plot.findCrosshairPoint(anchor, dataArea);
+            chart.draw(g2, area, anchor, info);
+            assertEquals(plot.getDomainCrosshairValue(),
+                    state.getCrosshairX(), 1.0E-10);
+            assertEquals(plot.getRangeCrosshairValue(),
+                    state.getCrosshairY(), 1.0E-10);
+        }
+        g2.dispose();
+
+        // the index is replaced when the dataset changes
+        plot.setRangeCrosshairLockedOnData(true);
+        s1.add(100.5, -1000.0);
+        Point2D anchor = new Point2D.Double(plot.getDomainAxis().valueToJava2D(
+                100.5, dataArea, plot.getDomainAxisEdge()),
+                dataArea.getMaxY() - 1.0);
+        CrosshairState state = plot.findCrosshairPoint(anchor, dataArea);
+        assertEquals(100.5, state.getCrosshairX(), 1.0E-10);
+        assertEquals(-1000.0, state.getCrosshairY(), 1.0E-10);
+
+        // outside the data area
+        assertEquals(null, plot.findCrosshairPoint(new Point2D.Double(
+                dataArea.getMaxX() + 1.0, dataArea.getY()), dataArea));
+
+        // a renderer that the index does not support
+        plot.setRenderer(1, new XYBarRenderer());
+        assertEquals(null, plot.findCrosshairPoint(new Point2D.Double(
+                dataArea.getCenterX(), dataArea.getCenterY()), dataArea));
+    }
+
+    /**
+     * When the plot is zoomed in, the renderers only see the items within
+     * the domain axis range (plus one item on each side), and so should the
+     * search for the crosshair point.
+     */
+    @Test
+    public void testFindCrosshairPointZoomed() {
+        java.util.Random random = new java.util.Random(11L);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 200; i++) {
+            s1.add(i, random.nextDouble() * 100.0);
+        }
+        dataset.addSeries(s1);
+        XYSeries s2 = new XYSeries("S2", false);
+        for (int i = 0; i < 200; i++) {
+            s2.add(random.nextDouble() * 200.0, random.nextDouble() * 100.0);
+        }
+        dataset.addSeries(s2);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(50.0, 60.0);
+        plot.getRangeAxis().setRange(0.0, 100.0);
+
+        BufferedImage image = new BufferedImage(500, 400,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 500, 400);
+        chart.draw(g2, area, null, info);
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        for (int n = 0; n < 60; n++) {
+            // locked on the range axis only, every item is a candidate
+            // whatever its x-value
+            plot.setDomainCrosshairLockedOnData(n < 20 || n >= 40);
+            plot.setRangeCrosshairLockedOnData(n < 40);
+            Point2D anchor = new Point2D.Double(dataArea.getX()
+                    + random.nextDouble() * dataArea.getWidth(),
+                    dataArea.getY() + random.nextDouble()
+                    * dataArea.getHeight());
+            CrosshairState state = plot.findCrosshairPoint(anchor, dataArea);
+            chart.draw(g2, area, anchor, info);
+            assertEquals(plot.getDomainCrosshairValue(),
+                    state.getCrosshairX(), 1.0E-10);
+            assertEquals(plot.getRangeCrosshairValue(),
+                    state.getCrosshairY(), 1.0E-10);
+        }
+        g2.dispose();
+    }
+
+    /**
+     * Finding the crosshair point uses the renderer state recorded when the
+     * plot was drawn, without initialising the renderer again.
+     */
+    @Test
+    public void testFindCrosshairPointWithoutInitialise() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i % 10);
+        }
+        final int[] count = new int[1];
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer() {
+            @Override
+            public XYItemRendererState initialise(Graphics2D g2,
+                    Rectangle2D dataArea, XYPlot plot, XYDataset data,
+                    PlotRenderingInfo info) {
+                count[0]++;
+                return super.initialise(g2, dataArea, plot, data, info);
+            }
+        };
+        XYPlot plot = new XYPlot(new XYSeriesCollection(series),
+                new NumberAxis("X"), new NumberAxis("Y"), renderer);
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 400, 300);
+        Point2D anchor = new Point2D.Double(200, 150);
+
+        // the plot has not been drawn yet
+        assertEquals(null, plot.findCrosshairPoint(anchor, area));
+
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        PlotRenderingInfo info = new PlotRenderingInfo(null);
+        plot.draw(g2, area, null, null, info);
+        g2.dispose();
+        Rectangle2D dataArea = info.getDataArea();
+        count[0] = 0;
+        for (int i = 0; i < 10; i++) {
+            assertTrue(plot.findCrosshairPoint(new Point2D.Double(
+                    dataArea.getCenterX() + i, dataArea.getCenterY()),
+                    dataArea) != null);
+        }
+        assertEquals(0, count[0]);
+    }
+
+    /**
+     * If the current thread is interrupted, the render method stops before
+     * drawing the next item.
+     */
+    @Test
+    public void testRenderInterrupted() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 6.0, 5.0}});
+        final int[] count = new int[1];
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer() {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                    ValueAxis domainAxis, ValueAxis rangeAxis,
+                    XYDataset dataset, int series, int item,
+                    CrosshairState crosshairState, int pass) {
+                count[0]++;
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                        rangeAxis, dataset, series, item, crosshairState,
+                        pass);
+            }
+        };
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D dataArea = new Rectangle2D.Double(0, 0, 200, 100);
+        assertTrue(plot.render(g2, dataArea, 0, null, new CrosshairState()));
+        assertEquals(3 * renderer.getPassCount(), count[0]);
+
+        count[0] = 0;
+        Thread.currentThread().interrupt();
+        try {
+            assertTrue(plot.render(g2, dataArea, 0, null,
+                    new CrosshairState()));
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(0, count[0]);
+        g2.dispose();
+    }
+
+    /**
+     * Returns a chart with copies of the series in a dataset, so that its
+     * axis ranges are calculated from all the items.
+     *
+     * @param dataset  the dataset.
+     * @param hidden  the index of a series to hide (or -1).
+     *
+     * @return The chart.
+     */
+    private static JFreeChart createCopy(XYSeriesCollection dataset,
+            int hidden) throws CloneNotSupportedException {
+        XYSeriesCollection copy = new XYSeriesCollection();
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            copy.addSeries((XYSeries) dataset.getSeries(s).clone());
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("Test", "X", "Y",
+                copy);
+        if (hidden >= 0) {
+            chart.getXYPlot().getRenderer().setSeriesVisible(hidden, false);
+        }
+        return chart;
+    }
+
+    /**
+     * When items are only appended, the axis ranges are updated from the
+     * new items, and they match the ranges found from all the items.
+     */
+    @Test
+    public void testDataRangeAfterAppend() throws CloneNotSupportedException {
+        final int[] count = new int[1];
+        XYSeriesCollection dataset = new XYSeriesCollection() {
+            @Override
+            public Range getDomainBounds(List visibleSeriesKeys,
+                    boolean includeInterval) {
+                count[0]++;
+                return super.getDomainBounds(visibleSeriesKeys,
+                        includeInterval);
+            }
+            @Override
+            public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+                    boolean includeInterval) {
+                count[0]++;
+                return super.getRangeBounds(visibleSeriesKeys, xRange,
+                        includeInterval);
+            }
+        };
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, Math.sin(i));
+            s2.add(i, Math.cos(i));
+        }
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        JFreeChart chart = ChartFactory.createXYLineChart("Test", "X", "Y",
+                dataset);
+        XYPlot plot = chart.getXYPlot();
+
+        // the renderer has changed since the ranges were found (the chart
+        // theme was applied), so the first change recalculates them
+        count[0] = 0;
+        s1.add(10, 0.0);
+        assertTrue(count[0] > 0);
+
+        // a batch of appends
+        count[0] = 0;
+        try (ChartUpdate update = chart.beginUpdate()) {
+            for (int i = 11; i < 50; i++) {
+                s1.add(i, i * Math.sin(i));
+                s2.add(i, i * Math.cos(i));
+            }
+        }
+        assertEquals(0, count[0]);
+        XYPlot expected = createCopy(dataset, -1).getXYPlot();
+        assertEquals(expected.getDomainAxis().getRange(),
+                plot.getDomainAxis().getRange());
+        assertEquals(expected.getRangeAxis().getRange(),
+                plot.getRangeAxis().getRange());
+
+        // a single append, with a value that is dropped
+        s2.add(50, Double.NaN);
+        s1.add(51, 100.0);
+        assertEquals(0, count[0]);
+        expected = createCopy(dataset, -1).getXYPlot();
+        assertEquals(expected.getDomainAxis().getRange(),
+                plot.getDomainAxis().getRange());
+        assertEquals(expected.getRangeAxis().getRange(),
+                plot.getRangeAxis().getRange());
+
+        // a hidden series is left out
+        plot.getRenderer().setSeriesVisible(1, false);
+        count[0] = 0;
+        s2.add(52, 1000.0);
+        s1.add(52, 10.0);
+        assertEquals(0, count[0]);
+        expected = createCopy(dataset, 1).getXYPlot();
+        assertEquals(expected.getDomainAxis().getRange(),
+                plot.getDomainAxis().getRange());
+        assertEquals(expected.getRangeAxis().getRange(),
+                plot.getRangeAxis().getRange());
+
+        // an insertion needs the ranges to be recalculated
+        s1.add(0.5, -1000.0);
+        assertTrue(count[0] > 0);
+        expected = createCopy(dataset, 1).getXYPlot();
+        assertEquals(expected.getRangeAxis().getRange(),
+                plot.getRangeAxis().getRange());
+
+        // a renderer that finds its bounds in another way
+        plot.setRenderer(new XYLineAndShapeRenderer() {
+            @Override
+            public boolean hasItemValueBounds() {
+                return false;
+            }
+        });
+        s1.add(53, 0.0);
+        count[0] = 0;
+        s1.add(54, 0.0);
+        assertTrue(count[0] > 0);
+    }
+
+    /**
+     * A drawing of the plot that is made while a region of it is being drawn
+     * (as a drawing on another thread could be) renders all the items.
+     */
+    @Test
+    public void testDrawDuringDrawRegion() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i);
+        }
+        final Rectangle2D area = new Rectangle2D.Double(0, 0, 400, 300);
+        final int[] count = new int[1];
+        final int[] nestedCount = new int[] {-1};
+        final boolean[] drawNested = new boolean[1];
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer() {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info,
+                    XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+                    XYDataset dataset, int series, int item,
+                    CrosshairState crosshairState, int pass) {
+                count[0]++;
+                if (drawNested[0]) {
+                    drawNested[0] = false;
+                    int before = count[0];
+                    BufferedImage image = new BufferedImage(400, 300,
+                            BufferedImage.TYPE_INT_ARGB);
+                    Graphics2D g = image.createGraphics();
+                    plot.draw(g, area, null, null, null);
+                    g.dispose();
+                    nestedCount[0] = count[0] - before;
+                }
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                        rangeAxis, dataset, series, item, crosshairState,
+                        pass);
+            }
+        };
+        XYPlot plot = new XYPlot(new XYSeriesCollection(series),
+                new NumberAxis("X"), new NumberAxis("Y"), renderer);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        plot.draw(g2, area, null, null, null);
+        int fullCount = count[0];
+
+        drawNested[0] = true;
+        count[0] = 0;
+        plot.drawRegion(g2, area, new Rectangle2D.Double(200, 0, 10, 300),
+                null);
+        g2.dispose();
+        assertEquals(fullCount, nestedCount[0]);
+        assertTrue(count[0] - nestedCount[0] < fullCount / 4);
+    }
 }
@@ -0,0 +1,237 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * CompiledPaintScaleTest.java
+ * ---------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Paint;
+
+import org.jfree.chart.TestUtils;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link CompiledPaintScale} class.
+ */
+public class CompiledPaintScaleTest {
+
+    /**
+     * Creates a sample scale.
+     *
+     * @return A paint scale.
+     */
+    private static LookupPaintScale createLookupScale() {
+        LookupPaintScale scale = new LookupPaintScale(0.0, 1.0, Color.GRAY);
+        scale.add(0.0, Color.RED);
+        scale.add(0.25, Color.GREEN);
+        scale.add(0.5, Color.BLUE);
+        return scale;
+    }
+
+    /**
+     * Checks the paints against the source scale.
+     */
+    @Test
+    public void testGetPaint() {
+        LookupPaintScale source = createLookupScale();
+        CompiledPaintScale scale = new CompiledPaintScale(source, 64);
+        assertEquals(0.0, scale.getLowerBound(), 0.0);
+        assertEquals(1.0, scale.getUpperBound(), 0.0);
+        assertEquals(64, scale.getSize());
+        assertTrue(scale.isColorOnly());
+        for (int i = 0; i <= 100; i++) {
+            double v = i / 100.0;
+            assertEquals(source.getPaint(v), scale.getPaint(v));
+        }
+        assertEquals(Color.GRAY, scale.getPaint(-0.1));
+        assertEquals(Color.GRAY, scale.getPaint(1.1));
+        assertEquals(source.getPaint(Double.NaN),
+                scale.getPaint(Double.NaN));
+        assertSame(scale.getPaint(0.1), scale.getPaint(0.2));
+
+        GrayPaintScale gray = new GrayPaintScale(-1.0, 1.0);
+        scale = new CompiledPaintScale(gray, 256);
+        assertEquals(Color.BLACK, scale.getPaint(-5.0));
+        assertEquals(Color.WHITE, scale.getPaint(5.0));
+
+        // later changes to the source are not reflected
+        scale = new CompiledPaintScale(source);
+        source.add(0.75, Color.YELLOW);
+        assertEquals(Color.BLUE, scale.getPaint(0.9));
+    }
+
+    /**
+     * Checks the bulk lookup.
+     */
+    @Test
+    public void testGetPaints() {
+        CompiledPaintScale scale = new CompiledPaintScale(
+                createLookupScale());
+        double[] values = {0.0, 0.3, 0.6, 1.0, -1.0, 2.0};
+        int[] argb = new int[values.length];
+        scale.getPaints(values, argb);
+        assertArrayEquals(new int[] {Color.RED.getRGB(),
+                Color.GREEN.getRGB(), Color.BLUE.getRGB(),
+                Color.BLUE.getRGB(), Color.GRAY.getRGB(),
+                Color.GRAY.getRGB()}, argb);
+        try {
+            scale.getPaints(values, new int[2]);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        LookupPaintScale source = createLookupScale();
+        source.add(0.75, new GradientPaint(1.0f, 2.0f, Color.RED, 3.0f, 4.0f,
+                Color.BLUE));
+        scale = new CompiledPaintScale(source);
+        assertFalse(scale.isColorOnly());
+        try {
+            scale.getPaints(values, argb);
+            fail("Expected an IllegalStateException.");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The bulk lookup must pick the same bucket as {@code getPaint()} for
+     * every value, including values on the bucket boundaries.
+     */
+    @Test
+    public void testGetPaintsMatchesGetPaint() {
+        CompiledPaintScale scale = new CompiledPaintScale(
+                new GrayPaintScale(0.1, 0.7), 7);
+        double[] values = new double[1001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 0.1 + i * 0.6 / 1000.0;
+        }
+        int[] argb = new int[values.length];
+        scale.getPaints(values, argb);
+        for (int i = 0; i < values.length; i++) {
+            Color c = (Color) scale.getPaint(values[i]);
+            assertEquals(c.getRGB(), argb[i]);
+        }
+    }
+
+    /**
+     * A source scale that returns {@code null} is rejected with a clear
+     * error.
+     */
+    @Test
+    public void testNullSourcePaint() {
+        PaintScale source = new GrayPaintScale() {
+            @Override
+            public Paint getPaint(double value) {
+                return Double.isNaN(value) ? null : super.getPaint(value);
+            }
+        };
+        try {
+            new CompiledPaintScale(source, 10);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The source scale must have a non-empty range.
+     */
+    @Test
+    public void testConstructor() {
+        try {
+            new CompiledPaintScale(new GrayPaintScale(), 0);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new CompiledPaintScale(new LookupPaintScale(1.0, 1.0,
+                    Color.RED));
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A test for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        CompiledPaintScale s1 = new CompiledPaintScale(createLookupScale());
+        CompiledPaintScale s2 = new CompiledPaintScale(createLookupScale());
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.hashCode(), s2.hashCode());
+        s1 = new CompiledPaintScale(createLookupScale(), 10);
+        assertFalse(s1.equals(s2));
+        s2 = new CompiledPaintScale(createLookupScale(), 10);
+        assertTrue(s1.equals(s2));
+        s1 = new CompiledPaintScale(new GrayPaintScale(), 10);
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        CompiledPaintScale s1 = new CompiledPaintScale(createLookupScale());
+        CompiledPaintScale s2 = (CompiledPaintScale) s1.clone();
+        assertTrue(s1 != s2);
+        assertTrue(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        CompiledPaintScale s1 = new CompiledPaintScale(createLookupScale());
+        CompiledPaintScale s2 = (CompiledPaintScale) TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+        assertTrue(s2.isColorOnly());
+        assertSame(s2.getPaint(0.6), s2.getPaint(0.7));
+    }
+
+}
@@ -86,6 +86,12 @@ public class GrayPaintScaleTest {
         assertTrue(c.equals(Color.BLACK));
         c = (Color) gps.getPaint(1.5);
         assertTrue(c.equals(Color.WHITE));
+
+        // the colors are shared, and the alpha is applied
+        assertTrue(gps.getPaint(0.5) == gps.getPaint(0.5));
+        gps = new GrayPaintScale(0.0, 1.0, 128);
+        c = (Color) gps.getPaint(1.0);
+        assertEquals(new Color(255, 255, 255, 128), c);
     }
 
     /**
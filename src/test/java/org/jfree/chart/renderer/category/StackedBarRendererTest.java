@@ -46,7 +46,17 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.CategoryItemEntity;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.util.PublicCloneable;
 
 import org.jfree.data.Range;
@@ -147,4 +157,68 @@ public class StackedBarRendererTest {
         assertEquals(new Range(-2.0, 3.0), r.findRangeBounds(dataset));
     }
 
+    /**
+     * Draws a chart and returns the areas of the item entities.
+     *
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     *
+     * @return The item entity areas.
+     */
+    private static List<String> drawEntities(DefaultCategoryDataset dataset,
+            StackedBarRenderer renderer) {
+        CategoryPlot plot = new CategoryPlot(dataset, new CategoryAxis("C"),
+                new NumberAxis("V"), renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.createBufferedImage(400, 300, info);
+        List<String> result = new ArrayList<String>();
+        for (Object obj : info.getEntityCollection().getEntities()) {
+            if (obj instanceof CategoryItemEntity) {
+                CategoryItemEntity entity = (CategoryItemEntity) obj;
+                result.add(entity.getRowKey() + "," + entity.getColumnKey()
+                        + "," + entity.getShapeCoords());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The bars drawn using the bases cached in the renderer state should be
+     * the same as those drawn without the cache.
+     */
+    @Test
+    public void testDrawWithStateCache() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        dataset.addValue(1.0, "R1", "C1");
+        dataset.addValue(-2.0, "R1", "C2");
+        dataset.addValue(3.0, "R1", "C3");
+        dataset.addValue(2.0, "R2", "C1");
+        dataset.addValue(null, "R2", "C2");
+        dataset.addValue(-1.0, "R2", "C3");
+        dataset.addValue(4.0, "R3", "C1");
+        dataset.addValue(-3.0, "R3", "C2");
+        dataset.addValue(2.0, "R3", "C3");
+        for (int i = 0; i < 4; i++) {
+            StackedBarRenderer r1 = new StackedBarRenderer();
+            StackedBarRenderer r2 = new StackedBarRenderer() {
+                @Override
+                protected CategoryItemRendererState createState(
+                        PlotRenderingInfo info) {
+                    return new CategoryItemRendererState(info);
+                }
+            };
+            boolean percentages = (i & 1) != 0;
+            r1.setRenderAsPercentages(percentages);
+            r2.setRenderAsPercentages(percentages);
+            if ((i & 2) != 0) {
+                r1.setSeriesVisible(1, false);
+                r2.setSeriesVisible(1, false);
+            }
+            List<String> entities = drawEntities(dataset, r1);
+            assertFalse(entities.isEmpty());
+            assertEquals(drawEntities(dataset, r2), entities);
+        }
+    }
+
 }
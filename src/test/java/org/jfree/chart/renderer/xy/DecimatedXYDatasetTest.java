@@ -0,0 +1,364 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DecimatedXYDatasetTest.java
+ * ---------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetUtils;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.DoubleXYSeries;
+import org.jfree.data.xy.DoubleXYSeriesCollection;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.YIntervalSeries;
+import org.jfree.data.xy.YIntervalSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DecimatedXYDataset} class.
+ */
+public class DecimatedXYDatasetTest {
+
+    private static final Rectangle2D AREA = new Rectangle2D.Double(0, 0, 10,
+            10);
+
+    /**
+     * Creates a dataset with a single series of {@code n} items at x = 0, 1,
+     * 2, ... and the specified y-values.
+     *
+     * @param y  the y-values.
+     *
+     * @return The dataset.
+     */
+    private static DefaultXYDataset createDataset(double[] y) {
+        double[] x = new double[y.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+        }
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {x, y});
+        return dataset;
+    }
+
+    /**
+     * Each pixel column should retain the first, minimum, maximum and last
+     * item in that column, in item order.
+     */
+    @Test
+    public void testDecimate() {
+        // 100 items over 10 pixels, so 10 items per column
+        double[] y = new double[100];
+        for (int i = 0; i < y.length; i++) {
+            y[i] = i % 10;
+        }
+        y[23] = -5.0;
+        y[27] = 50.0;
+        NumberAxis axis = new NumberAxis();
+        axis.setRange(0.0, 100.0);
+        XYDataset result = DecimatedXYDataset.decimate(createDataset(y),
+                new int[] {0}, new int[] {99}, axis, AREA,
+                RectangleEdge.BOTTOM);
+        assertTrue(result instanceof DecimatedXYDataset);
+        DecimatedXYDataset d = (DecimatedXYDataset) result;
+        // the first item in each column is the minimum and the last is the
+        // maximum, except for column 2
+        assertEquals(22, d.getItemCount(0));
+        assertEquals(10, d.getSourceItem(0, 2));
+        assertEquals(19, d.getSourceItem(0, 3));
+        assertEquals(20, d.getSourceItem(0, 4));
+        assertEquals(23, d.getSourceItem(0, 5));
+        assertEquals(27, d.getSourceItem(0, 6));
+        assertEquals(29, d.getSourceItem(0, 7));
+        assertEquals(-5.0, d.getYValue(0, 5), 0.0);
+        assertEquals(50.0, d.getYValue(0, 6), 0.0);
+        assertEquals(99.0, d.getXValue(0, 21), 0.0);
+    }
+
+    /**
+     * A run of null y-values should be reduced to a single item so that the
+     * renderer still breaks the line.
+     */
+    @Test
+    public void testDecimateWithGaps() {
+        double[] y = new double[100];
+        for (int i = 0; i < y.length; i++) {
+            y[i] = (i >= 45 && i < 65) ? Double.NaN : 1.0;
+        }
+        NumberAxis axis = new NumberAxis();
+        axis.setRange(0.0, 100.0);
+        DecimatedXYDataset d = (DecimatedXYDataset) DecimatedXYDataset.decimate(
+                createDataset(y), new int[] {0}, new int[] {99}, axis, AREA,
+                RectangleEdge.BOTTOM);
+        int gaps = 0;
+        for (int i = 0; i < d.getItemCount(0); i++) {
+            if (Double.isNaN(d.getYValue(0, i))) {
+                assertEquals(45, d.getSourceItem(0, i));
+                gaps++;
+            }
+        }
+        assertEquals(1, gaps);
+    }
+
+    /**
+     * Series that are small enough to render directly are not decimated.
+     */
+    @Test
+    public void testPassThrough() {
+        DefaultXYDataset dataset = createDataset(new double[] {1, 2, 3});
+        NumberAxis axis = new NumberAxis();
+        axis.setRange(0.0, 3.0);
+        assertSame(dataset, DecimatedXYDataset.decimate(dataset,
+                new int[] {0}, new int[] {2}, axis, AREA,
+                RectangleEdge.BOTTOM));
+        assertFalse(DecimatedXYDataset.isDecimationSupported(
+                new DefaultXYDataset() {
+                    @Override
+                    public DomainOrder getDomainOrder() {
+                        return DomainOrder.NONE;
+                    }
+                }));
+    }
+
+    /**
+     * An {@link IntervalXYDataset} source gives an interval view.
+     */
+    @Test
+    public void testIntervalView() {
+        XYSeries s = new XYSeries("S1");
+        for (int i = 0; i < 1000; i++) {
+            s.add(i, Math.sin(i / 10.0));
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        assertTrue(DecimatedXYDataset.isDecimationSupported(dataset));
+        NumberAxis axis = new NumberAxis();
+        axis.setRange(0.0, 1000.0);
+        XYDataset result = DecimatedXYDataset.decimate(dataset,
+                new int[] {0}, new int[] {999}, axis, AREA,
+                RectangleEdge.BOTTOM);
+        assertTrue(result instanceof IntervalXYDataset);
+        assertTrue(result.getItemCount(0) <= 40);
+    }
+
+    /**
+     * For an interval dataset, each pixel column should keep the items with
+     * the extreme start and end y-values, so that a band drawn by the
+     * {@link DeviationRenderer} (or error bars) keeps its extent.
+     */
+    @Test
+    public void testDecimateYInterval() {
+        YIntervalSeries s = new YIntervalSeries("S1");
+        Random random = new Random(1L);
+        for (int i = 0; i < 1000; i++) {
+            double y = Math.sin(i / 10.0);
+            s.add(i, y, y - random.nextDouble(), y + random.nextDouble());
+        }
+        YIntervalSeriesCollection dataset = new YIntervalSeriesCollection();
+        dataset.addSeries(s);
+        assertTrue(DecimatedXYDataset.isDecimationSupported(dataset));
+        NumberAxis axis = new NumberAxis();
+        axis.setRange(0.0, 1000.0);
+        IntervalXYDataset result = (IntervalXYDataset)
+                DecimatedXYDataset.decimate(dataset, new int[] {0},
+                new int[] {999}, axis, AREA, RectangleEdge.BOTTOM);
+        assertTrue(result.getItemCount(0) <= 80);
+
+        // 100 items per column
+        for (int c = 0; c < 10; c++) {
+            double low = Double.POSITIVE_INFINITY;
+            double high = Double.NEGATIVE_INFINITY;
+            for (int i = c * 100; i < (c + 1) * 100; i++) {
+                low = Math.min(low, dataset.getStartYValue(0, i));
+                high = Math.max(high, dataset.getEndYValue(0, i));
+            }
+            double viewLow = Double.POSITIVE_INFINITY;
+            double viewHigh = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < result.getItemCount(0); i++) {
+                if ((int) result.getXValue(0, i) / 100 == c) {
+                    viewLow = Math.min(viewLow, result.getStartYValue(0, i));
+                    viewHigh = Math.max(viewHigh, result.getEndYValue(0, i));
+                }
+            }
+            assertEquals(low, viewLow, 0.0);
+            assertEquals(high, viewHigh, 0.0);
+        }
+    }
+
+    /**
+     * A dataset with a level-of-detail index should give the same overall
+     * envelope as a full scan.
+     */
+    @Test
+    public void testLevelOfDetail() {
+        DoubleXYSeries s = new DoubleXYSeries("S1");
+        XYSeries s2 = new XYSeries("S1");
+        Random random = new Random(1L);
+        double y = 0.0;
+        for (int i = 0; i < 100000; i++) {
+            y += random.nextGaussian();
+            s.add(i, y);
+            s2.add(i, y);
+        }
+        DoubleXYSeriesCollection dataset = new DoubleXYSeriesCollection(s);
+        NumberAxis axis = new NumberAxis();
+        axis.setRange(0.0, 100000.0);
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 500, 100);
+        XYDataset d1 = DecimatedXYDataset.decimate(dataset, new int[] {0},
+                new int[] {99999}, axis, area, RectangleEdge.BOTTOM);
+        XYDataset d2 = DecimatedXYDataset.decimate(new XYSeriesCollection(s2),
+                new int[] {0}, new int[] {99999}, axis, area,
+                RectangleEdge.BOTTOM);
+        assertTrue(d1.getItemCount(0) <= 2000);
+        assertEquals(0.0, d1.getXValue(0, 0), 0.0);
+        assertEquals(99999.0, d1.getXValue(0, d1.getItemCount(0) - 1), 0.0);
+        assertEquals(DatasetUtils.findRangeBounds(d2),
+                DatasetUtils.findRangeBounds(d1));
+    }
+
+    /**
+     * Draw a chart with decimation enabled and check that the entities refer
+     * to the items in the original dataset.
+     */
+    @Test
+    public void testDrawWithEntities() {
+        XYSeries s = new XYSeries("S1");
+        for (int i = 0; i < 10000; i++) {
+            s.add(i, i % 7);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, false, false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setDecimationEnabled(true);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), info);
+        g2.dispose();
+        EntityCollection entities = info.getEntityCollection();
+        int count = 0;
+        for (Object obj : entities.getEntities()) {
+            if (obj instanceof XYItemEntity) {
+                XYItemEntity entity = (XYItemEntity) obj;
+                assertSame(dataset, entity.getDataset());
+                assertEquals(entity.getItem() % 7, dataset.getYValue(0,
+                        entity.getItem()), 0.0);
+                count++;
+            }
+        }
+        assertTrue(count > 0);
+        assertTrue(count < 10000);
+    }
+
+    /**
+     * A renderer that draws shapes or item labels is passed every item.
+     */
+    @Test
+    public void testIsDecimationSupportedForRenderer() {
+        XYSeriesCollection dataset = new XYSeriesCollection(
+                new XYSeries("S1"));
+        XYLineAndShapeRenderer r1 = new XYLineAndShapeRenderer(true, false);
+        assertTrue(DecimatedXYDataset.isDecimationSupported(r1, dataset));
+        r1.setSeriesShapesVisible(0, true);
+        assertFalse(DecimatedXYDataset.isDecimationSupported(r1, dataset));
+        r1.setSeriesShapesVisible(0, false);
+        r1.setDefaultItemLabelsVisible(true);
+        assertFalse(DecimatedXYDataset.isDecimationSupported(r1, dataset));
+
+        XYAreaRenderer r2 = new XYAreaRenderer();
+        assertTrue(DecimatedXYDataset.isDecimationSupported(r2, dataset));
+        r2 = new XYAreaRenderer(XYAreaRenderer.SHAPES_AND_LINES);
+        assertFalse(DecimatedXYDataset.isDecimationSupported(r2, dataset));
+
+        assertFalse(DecimatedXYDataset.isDecimationSupported(
+                new XYDotRenderer(), dataset));
+        assertFalse(DecimatedXYDataset.isDecimationSupported(
+                new XYLineAndShapeRenderer(true, false) {}, dataset));
+    }
+
+    /**
+     * Draw a chart with decimation enabled and a renderer that shows the
+     * shapes, and check that there is an entity for every item.
+     */
+    @Test
+    public void testDrawWithShapesVisible() {
+        XYSeries s = new XYSeries("S1");
+        for (int i = 0; i < 10000; i++) {
+            s.add(i, i % 7);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, false, false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setDecimationEnabled(true);
+        plot.setRenderer(new XYLineAndShapeRenderer(true, true));
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), info);
+        g2.dispose();
+        int count = 0;
+        for (Object obj : info.getEntityCollection().getEntities()) {
+            if (obj instanceof XYItemEntity) {
+                count++;
+            }
+        }
+        assertEquals(10000, count);
+    }
+
+}
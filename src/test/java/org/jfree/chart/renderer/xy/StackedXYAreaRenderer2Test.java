@@ -43,6 +43,7 @@
 
 package org.jfree.chart.renderer.xy;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
@@ -62,6 +63,7 @@ import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.Range;
 import org.jfree.data.xy.DefaultTableXYDataset;
 import org.jfree.data.xy.TableXYDataset;
+import org.jfree.data.xy.XYSeries;
 import org.junit.Test;
 
 /**
@@ -181,4 +183,49 @@ public class StackedXYAreaRenderer2Test {
         assertNull(renderer.findRangeBounds(new DefaultTableXYDataset()));
     }
 
+    /**
+     * The stack values cached in the renderer state should match the sums
+     * of the lower series, whatever order the series are requested in.
+     */
+    @Test
+    public void testStateStackValues() {
+        DefaultTableXYDataset dataset = new DefaultTableXYDataset();
+        XYSeries s1 = new XYSeries("S1", true, false);
+        s1.add(1.0, 2.0);
+        s1.add(2.0, -3.0);
+        s1.add(3.0, Double.NaN);
+        XYSeries s2 = new XYSeries("S2", true, false);
+        s2.add(1.0, -1.5);
+        s2.add(2.0, 4.0);
+        s2.add(3.0, 1.0);
+        XYSeries s3 = new XYSeries("S3", true, false);
+        s3.add(1.0, 7.0);
+        s3.add(2.0, 1.0);
+        s3.add(3.0, 1.0);
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        dataset.addSeries(s3);
+
+        StackedXYAreaRenderer2.State state = new StackedXYAreaRenderer2.State(
+                null, dataset);
+        assertArrayEquals(new double[] {-1.5, 2.0},
+                state.getStackValues(2, 0), 0.0);
+        assertArrayEquals(new double[] {-3.0, 4.0},
+                state.getStackValues(2, 1), 0.0);
+        assertArrayEquals(new double[] {0.0, 1.0},
+                state.getStackValues(2, 2), 0.0);
+        assertArrayEquals(new double[] {0.0, 0.0},
+                state.getStackValues(0, 1), 0.0);
+        assertArrayEquals(new double[] {-3.0, 0.0},
+                state.getStackValues(1, 1), 0.0);
+        assertArrayEquals(new double[] {0.0, 0.0},
+                state.getStackValues(1, 2), 0.0);
+
+        StackedXYAreaRenderer2 renderer = new StackedXYAreaRenderer2();
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        assertTrue(renderer.initialise(null, null, plot, dataset, null)
+                instanceof StackedXYAreaRenderer2.State);
+    }
+
 }
@@ -43,22 +43,34 @@
 
 package org.jfree.chart.renderer.xy;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
 
 import org.jfree.chart.renderer.GrayPaintScale;
 import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.chart.renderer.PaintScale;
+import org.jfree.chart.ui.RectangleAnchor;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.Range;
 import org.jfree.data.xy.DefaultXYZDataset;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYZDataset;
 import org.junit.Test;
 
 /**
@@ -98,6 +110,12 @@ public class XYBlockRendererTest {
         r2.setPaintScale(new GrayPaintScale(0.0, 1.0));
         assertTrue(r1.equals(r2));
 
+        // rasterRenderingEnabled
+        r1.setRasterRenderingEnabled(true);
+        assertFalse(r1.equals(r2));
+        r2.setRasterRenderingEnabled(true);
+        assertTrue(r1.equals(r2));
+
     }
 
     /**
@@ -215,5 +233,145 @@ public class XYBlockRendererTest {
         r = renderer.findDomainBounds(dataset);
         assertNull(r);
     }    
+
+    /**
+     * Draws a grid with and without raster mode, and checks that the
+     * images are the same.
+     */
+    @Test
+    public void testRasterRendering() {
+        DefaultXYZDataset dataset = new DefaultXYZDataset();
+        double[][] data = new double[3][200];
+        for (int i = 0; i < 200; i++) {
+            data[0][i] = i % 20;
+            data[1][i] = i / 20;
+            data[2][i] = (i * 37 % 101) / 100.0;
+        }
+        dataset.addSeries("S1", data);
+        LookupPaintScale scale = new LookupPaintScale(0.0, 1.0, Color.BLACK);
+        scale.add(0.0, Color.RED);
+        scale.add(0.25, Color.GREEN);
+        scale.add(0.75, Color.BLUE);
+        for (PlotOrientation orientation : new PlotOrientation[] {
+                PlotOrientation.VERTICAL, PlotOrientation.HORIZONTAL}) {
+            for (boolean inverted : new boolean[] {false, true}) {
+                XYBlockRenderer r1 = new XYBlockRenderer();
+                r1.setBlockAnchor(RectangleAnchor.BOTTOM_LEFT);
+                r1.setPaintScale(scale);
+                r1.setDrawOutlines(false);
+                XYBlockRenderer r2 = new XYBlockRenderer();
+                r2.setBlockAnchor(RectangleAnchor.BOTTOM_LEFT);
+                r2.setPaintScale(scale);
+                r2.setDrawOutlines(false);
+                r2.setRasterRenderingEnabled(true);
+                int[] pixels1 = draw(dataset, r1, orientation, inverted);
+                int[] pixels2 = draw(dataset, r2, orientation, inverted);
+                assertArrayEquals(pixels1, pixels2);
+            }
+        }
+    }
+
+    /**
+     * Raster mode gives the same colors as the paint scale for values close
+     * to the lookup thresholds and for a continuous scale.
+     */
+    @Test
+    public void testRasterRenderingExactColors() {
+        DefaultXYZDataset dataset = new DefaultXYZDataset();
+        double[][] data = new double[3][200];
+        double[] z = new double[] {0.25 - 1e-9, 0.25, 0.75 - 1e-9, 0.75};
+        for (int i = 0; i < 200; i++) {
+            data[0][i] = i % 20;
+            data[1][i] = i / 20;
+            data[2][i] = i < 100 ? z[i % 4] : (i * 37 % 101) / 100.0 + 1e-4;
+        }
+        dataset.addSeries("S1", data);
+        LookupPaintScale lookup = new LookupPaintScale(0.0, 1.0, Color.BLACK);
+        lookup.add(0.0, Color.RED);
+        lookup.add(0.25, Color.GREEN);
+        lookup.add(0.75, Color.BLUE);
+        for (PaintScale scale : new PaintScale[] {lookup,
+                new GrayPaintScale()}) {
+            XYBlockRenderer r1 = new XYBlockRenderer();
+            r1.setBlockAnchor(RectangleAnchor.BOTTOM_LEFT);
+            r1.setPaintScale(scale);
+            r1.setDrawOutlines(false);
+            XYBlockRenderer r2 = new XYBlockRenderer();
+            r2.setBlockAnchor(RectangleAnchor.BOTTOM_LEFT);
+            r2.setPaintScale(scale);
+            r2.setDrawOutlines(false);
+            r2.setRasterRenderingEnabled(true);
+            assertArrayEquals(draw(dataset, r1, PlotOrientation.VERTICAL,
+                    false), draw(dataset, r2, PlotOrientation.VERTICAL,
+                    false));
+        }
+    }
+
+    /**
+     * Drawing in raster mode leaves the interpolation hint of the graphics
+     * device as it was, including when it was not set.
+     */
+    @Test
+    public void testRasterRenderingRestoresHints() {
+        DefaultXYZDataset dataset = new DefaultXYZDataset();
+        dataset.addSeries("S1", new double[][] {{0.0, 1.0, 0.0, 1.0},
+                {0.0, 0.0, 1.0, 1.0}, {0.1, 0.2, 0.3, 0.4}});
+        XYBlockRenderer renderer = new XYBlockRenderer();
+        renderer.setPaintScale(new GrayPaintScale());
+        renderer.setDrawOutlines(false);
+        renderer.setRasterRenderingEnabled(true);
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, renderer);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Object hint = g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        plot.render(g2, new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0), 0,
+                null, new CrosshairState());
+        assertEquals(hint, g2.getRenderingHint(
+                RenderingHints.KEY_INTERPOLATION));
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        plot.render(g2, new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0), 0,
+                null, new CrosshairState());
+        assertEquals(RenderingHints.VALUE_INTERPOLATION_BICUBIC,
+                g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+        g2.dispose();
+    }
+
+    /**
+     * Draws a dataset on a 200 x 100 image (the data area is the entire
+     * image, and each block is 10 x 10 pixels).
+     *
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * @param orientation  the plot orientation.
+     * @param inverted  invert the x-axis?
+     *
+     * @return The pixels.
+     */
+    private static int[] draw(XYZDataset dataset, XYBlockRenderer renderer,
+            PlotOrientation orientation, boolean inverted) {
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, renderer);
+        plot.setOrientation(orientation);
+        if (orientation == PlotOrientation.HORIZONTAL) {
+            xAxis.setRange(0.0, 10.0);
+            yAxis.setRange(0.0, 20.0);
+        } else {
+            xAxis.setRange(0.0, 20.0);
+            yAxis.setRange(0.0, 10.0);
+        }
+        xAxis.setInverted(inverted);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        plot.render(g2, new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0), 0,
+                null, new CrosshairState());
+        g2.dispose();
+        return image.getRGB(0, 0, 200, 100, null, 0, 200);
+    }
            
 }
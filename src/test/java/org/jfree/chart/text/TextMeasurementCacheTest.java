@@ -0,0 +1,172 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * TextMeasurementCacheTest.java
+ * -----------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link TextMeasurementCache} class.
+ */
+public class TextMeasurementCacheTest {
+
+    /**
+     * Checks that cached text bounds match uncached ones, and that the hit
+     * and miss counts are updated.
+     */
+    @Test
+    public void testGetTextBounds() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        Font font = new Font("Dialog", Font.PLAIN, 12);
+        FontMetrics fm = g2.getFontMetrics(font);
+        TextMeasurementCache saved = TextUtils.getTextMeasurementCache();
+        try {
+            TextUtils.setTextMeasurementCache(null);
+            Rectangle2D expected = TextUtils.getTextBounds("ABC", g2, fm);
+
+            TextMeasurementCache cache = new TextMeasurementCache(2);
+            TextUtils.setTextMeasurementCache(cache);
+            Rectangle2D b1 = TextUtils.getTextBounds("ABC", g2, fm);
+            Rectangle2D b2 = TextUtils.getTextBounds("ABC", g2, fm);
+            assertEquals(expected, b1);
+            assertEquals(expected, b2);
+            assertNotSame(b1, b2);
+            assertEquals(1L, cache.getHitCount());
+            assertEquals(1L, cache.getMissCount());
+            assertEquals(0.5, cache.getHitRate(), 0.0);
+
+            // modifying a result doesn't change the cached bounds
+            b2.setRect(0.0, 0.0, 1.0, 1.0);
+            assertEquals(expected, TextUtils.getTextBounds("ABC", g2, fm));
+
+            // a different font is a different entry
+            Font bold = font.deriveFont(Font.BOLD);
+            TextUtils.getTextBounds("ABC", g2, g2.getFontMetrics(bold));
+            assertEquals(2L, cache.getMissCount());
+            assertEquals(2, cache.getSize());
+
+            // the least recently used entry is discarded
+            TextUtils.getTextBounds("XYZ", g2, fm);
+            assertEquals(2, cache.getSize());
+            TextUtils.getTextBounds("ABC", g2, fm);
+            assertEquals(4L, cache.getMissCount());
+
+            cache.resetStatistics();
+            assertEquals(0.0, cache.getHitRate(), 0.0);
+            cache.clear();
+            assertEquals(0, cache.getSize());
+        } finally {
+            TextUtils.setTextMeasurementCache(saved);
+            g2.dispose();
+        }
+    }
+
+    /**
+     * The capacity must be positive.
+     */
+    @Test
+    public void testConstructor() {
+        try {
+            new TextMeasurementCache(0);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(TextMeasurementCache.DEFAULT_CAPACITY,
+                new TextMeasurementCache().getCapacity());
+        assertEquals(TextMeasurementCache.DEFAULT_CONCURRENCY_LEVEL,
+                new TextMeasurementCache().getConcurrencyLevel());
+        assertEquals(1, new TextMeasurementCache(10).getConcurrencyLevel());
+        try {
+            new TextMeasurementCache(2, 3);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Text measurements are not cached unless a cache is installed.
+     */
+    @Test
+    public void testNoCacheByDefault() {
+        assertNull(TextUtils.getTextMeasurementCache());
+    }
+
+    /**
+     * A cache with several segments stays within its capacity, and the
+     * statistics cover all the segments.
+     */
+    @Test
+    public void testSegments() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        FontMetrics fm = g2.getFontMetrics(new Font("Dialog", Font.PLAIN, 12));
+        TextMeasurementCache saved = TextUtils.getTextMeasurementCache();
+        try {
+            TextMeasurementCache cache = new TextMeasurementCache(10, 4);
+            TextUtils.setTextMeasurementCache(cache);
+            for (int i = 0; i < 100; i++) {
+                TextUtils.getTextBounds("Label " + i, g2, fm);
+            }
+            assertTrue(cache.getSize() <= 10);
+            assertEquals(100L, cache.getMissCount());
+            TextUtils.getTextBounds("Label 99", g2, fm);
+            assertEquals(1L, cache.getHitCount());
+            cache.clear();
+            assertEquals(0, cache.getSize());
+        } finally {
+            TextUtils.setTextMeasurementCache(saved);
+            g2.dispose();
+        }
+    }
+
+}
@@ -43,6 +43,8 @@ package org.jfree.chart.title;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.Color;
@@ -51,6 +53,9 @@ import java.awt.GradientPaint;
 import java.awt.geom.Rectangle2D;
 
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.block.BlockContainer;
+import org.jfree.chart.block.BorderArrangement;
+import org.jfree.chart.block.LabelBlock;
 
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.ui.RectangleAnchor;
@@ -143,6 +148,18 @@ public class LegendTitleTest {
         assertFalse(t1.equals(t2));
         t2.setBounds(new Rectangle2D.Double(40.0, 30.0, 20.0, 10.0));
         assertTrue(t1.equals(t2));
+
+        // the wrapper is copied, and the copy contains the item container of
+        // the clone
+        BlockContainer wrapper = new BlockContainer(new BorderArrangement());
+        wrapper.add(new LabelBlock("Label"), RectangleEdge.TOP);
+        wrapper.add(t1.getItemContainer());
+        t1.setWrapper(wrapper);
+        t2 = (LegendTitle) t1.clone();
+        assertNotSame(wrapper, t2.getWrapper());
+        assertNotSame(t1.getItemContainer(), t2.getItemContainer());
+        assertSame(t2.getItemContainer(), t2.getWrapper().getBlocks().get(1));
+        assertEquals(wrapper, t2.getWrapper());
     }
 
     /**
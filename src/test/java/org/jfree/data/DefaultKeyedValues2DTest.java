@@ -332,4 +332,60 @@ public class DefaultKeyedValues2DTest {
         assertTrue(pass);
     }
 
+    /**
+     * Checks that the row and column indices are the positions of the keys.
+     *
+     * @param d  the data.
+     */
+    private static void checkIndices(DefaultKeyedValues2D d) {
+        for (int r = 0; r < d.getRowCount(); r++) {
+            assertEquals(r, d.getRowIndex(d.getRowKey(r)));
+        }
+        for (int c = 0; c < d.getColumnCount(); c++) {
+            assertEquals(c, d.getColumnIndex(d.getColumnKey(c)));
+        }
+    }
+
+    /**
+     * The key indices should stay consistent as rows and columns are added
+     * and removed, and after cloning and serialization.
+     */
+    @Test
+    public void testKeyIndices() throws CloneNotSupportedException {
+        for (int pass = 0; pass < 2; pass++) {
+            DefaultKeyedValues2D d = new DefaultKeyedValues2D(pass == 1);
+            for (int i = 0; i < 10; i++) {
+                d.addValue(new Double(i), "R" + (9 - i), "C" + i);
+            }
+            checkIndices(d);
+            assertEquals(-1, d.getColumnIndex("XXX"));
+            d.removeRow("R4");
+            d.removeColumn("C2");
+            d.removeValue("R0", "C9");
+            d.addValue(new Double(1.0), "R4", "C2");
+            checkIndices(d);
+            assertEquals(9, d.getRowCount());
+            assertEquals(9, d.getColumnCount());
+            assertEquals(1.0, d.getValue("R4", "C2").doubleValue(), EPSILON);
+            if (pass == 1) {
+                assertEquals("R4", d.getRowKey(3));
+                assertEquals(-1, d.getRowIndex("R0"));
+                assertEquals(-10, d.getRowIndex("S"));
+            }
+            else {
+                assertEquals(-1, d.getRowIndex("R0"));
+            }
+
+            DefaultKeyedValues2D d2 = (DefaultKeyedValues2D) d.clone();
+            d2.removeRow(0);
+            d2.removeColumn(0);
+            checkIndices(d);
+            checkIndices(d2);
+            d2 = (DefaultKeyedValues2D) TestUtils.serialised(d);
+            checkIndices(d2);
+            d2.clear();
+            assertEquals(-1, d2.getColumnIndex("C1"));
+        }
+    }
+
 }
@@ -375,6 +375,37 @@ public class KeyedObjects2DTest {
         assertTrue(pass);
     }
 
+    /**
+     * The key indices should stay consistent as rows and columns are added
+     * and removed, and after cloning and serialization.
+     */
+    @Test
+    public void testKeyIndices() throws CloneNotSupportedException {
+        KeyedObjects2D data = new KeyedObjects2D();
+        for (int i = 0; i < 10; i++) {
+            data.setObject("Obj" + i, "R" + i, "C" + i);
+        }
+        data.removeRow(3);
+        data.removeColumn("C5");
+        data.removeObject("R9", "C9");
+        data.setObject("Obj", "R3", "C5");
+        KeyedObjects2D clone = (KeyedObjects2D) data.clone();
+        KeyedObjects2D copy = (KeyedObjects2D) TestUtils.serialised(data);
+        for (KeyedObjects2D d : new KeyedObjects2D[] {data, clone, copy}) {
+            assertEquals(9, d.getRowCount());
+            assertEquals(9, d.getColumnCount());
+            for (int r = 0; r < d.getRowCount(); r++) {
+                assertEquals(r, d.getRowIndex(d.getRowKey(r)));
+            }
+            for (int c = 0; c < d.getColumnCount(); c++) {
+                assertEquals(c, d.getColumnIndex(d.getColumnKey(c)));
+            }
+            assertEquals(-1, d.getRowIndex("R9"));
+            assertEquals(-1, d.getColumnIndex("C9"));
+            assertEquals("Obj", d.getObject("R3", "C5"));
+        }
+    }
+
     /**
      * A simple check for the removeValue() method.
      */
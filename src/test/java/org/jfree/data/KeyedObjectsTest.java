@@ -143,6 +143,32 @@ public class KeyedObjectsTest {
 
     }
 
+    /**
+     * The key indices should stay consistent when values are inserted and
+     * removed.
+     */
+    @Test
+    public void testInsertValueIndices() throws CloneNotSupportedException {
+        KeyedObjects data = new KeyedObjects();
+        data.addObject("A", "1");
+        data.addObject("B", "2");
+        data.addObject("C", "3");
+        data.insertValue(0, "D", "4");
+        data.insertValue(1, "C", "5");
+        data.insertValue(4, "A", "6");
+        data.removeValue("B");
+        assertEquals(3, data.getItemCount());
+        KeyedObjects clone = (KeyedObjects) data.clone();
+        KeyedObjects copy = (KeyedObjects) TestUtils.serialised(data);
+        for (KeyedObjects d : new KeyedObjects[] {data, clone, copy}) {
+            assertEquals(0, d.getIndex("D"));
+            assertEquals(1, d.getIndex("C"));
+            assertEquals(2, d.getIndex("A"));
+            assertEquals(-1, d.getIndex("B"));
+            assertEquals("6", d.getObject("A"));
+        }
+    }
+
     /**
      * Serialize an instance, restore it, and check for equality.
      */
@@ -45,12 +45,19 @@ package org.jfree.data.category;
 
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtils;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 /**
@@ -387,4 +394,81 @@ public class DefaultCategoryDatasetTest {
         assertTrue(pass);
     }
 
+    /**
+     * The cached row bounds should match the bounds found by iterating, as
+     * values are added, changed and removed.
+     */
+    @Test
+    public void testGetRangeBounds() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        List r1 = Arrays.asList("R1");
+        List both = Arrays.asList("R1", "R2");
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(5.0, "R1", "C2");
+        d.addValue(-2.0, "R2", "C1");
+        assertEquals(new Range(1.0, 5.0), d.getRangeBounds(r1, false));
+        assertEquals(new Range(-2.0, 5.0), d.getRangeBounds(both, false));
+
+        // extend, then shrink
+        d.addValue(7.0, "R1", "C3");
+        assertEquals(new Range(1.0, 7.0), d.getRangeBounds(r1, false));
+        d.setValue(3.0, "R1", "C3");
+        assertEquals(new Range(1.0, 5.0), d.getRangeBounds(r1, false));
+        d.setValue(null, "R1", "C1");
+        assertEquals(new Range(3.0, 5.0), d.getRangeBounds(r1, false));
+        d.setValue(Double.NaN, "R1", "C2");
+        assertEquals(new Range(3.0, 3.0), d.getRangeBounds(r1, false));
+        d.incrementValue(-10.0, "R1", "C3");
+        assertEquals(new Range(-7.0, -7.0), d.getRangeBounds(r1, false));
+        assertEquals(DatasetUtils.iterateToFindRangeBounds(d, both, false),
+                d.getRangeBounds(both, false));
+
+        d.removeColumn("C3");
+        assertNull(d.getRangeBounds(r1, false));
+        assertEquals(new Range(-2.0, -2.0), d.getRangeBounds(both, false));
+        d.removeRow("R2");
+        d.addValue(4.0, "R2", "C1");
+        assertEquals(new Range(4.0, 4.0), d.getRangeBounds(both, false));
+        d.clear();
+        assertNull(d.getRangeBounds(new ArrayList(), false));
+    }
+
+    /**
+     * Several threads can find the range bounds of the same dataset at the
+     * same time (as charts drawn on different threads do).
+     */
+    @Test
+    public void testGetRangeBoundsConcurrently() throws InterruptedException {
+        final DefaultCategoryDataset d = new DefaultCategoryDataset();
+        final int rows = 500;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < 10; c++) {
+                d.addValue(r + c, "R" + r, "C" + c);
+            }
+        }
+        final boolean[] failed = new boolean[1];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t * rows / threads.length;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < rows; i++) {
+                        int r = (i + offset) % rows;
+                        Range range = d.getRangeBounds(
+                                Arrays.asList("R" + r), false);
+                        if (!new Range(r, r + 9).equals(range)) {
+                            failed[0] = true;
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(failed[0]);
+    }
+
 }
@@ -70,9 +70,12 @@ import org.jfree.data.statistics.DefaultMultiValueCategoryDataset;
 import org.jfree.data.statistics.DefaultStatisticalCategoryDataset;
 import org.jfree.data.statistics.MultiValueCategoryDataset;
 import org.jfree.data.xy.DefaultIntervalXYDataset;
+import org.jfree.data.xy.DefaultOHLCDataset;
 import org.jfree.data.xy.DefaultTableXYDataset;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.DefaultXYZDataset;
 import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.OHLCDataItem;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYIntervalSeries;
@@ -987,6 +990,133 @@ public class DatasetUtilsTest {
         assertEquals(0.0, max.doubleValue(), EPSILON);
     }
 
+    /**
+     * The parallel calculation of bounds is off by default, since not every
+     * dataset is safe for concurrent reads.
+     */
+    @Test
+    public void testParallelThresholdDefault() {
+        assertEquals(Integer.MAX_VALUE, DatasetUtils.getParallelThreshold());
+    }
+
+    /**
+     * The bounds calculated in parallel should be the same as the bounds
+     * calculated sequentially, including the handling of {@code NaN}.
+     */
+    @Test
+    public void testParallelBounds() {
+        int threshold = DatasetUtils.getParallelThreshold();
+        try {
+            // a series that is split into several chunks, a short series
+            // and an empty series, with some NaN values
+            DefaultIntervalXYDataset d1 = new DefaultIntervalXYDataset();
+            int[] itemCounts = new int[] {150000, 10, 0};
+            double[][] zValues = new double[itemCounts.length][];
+            for (int s = 0; s < itemCounts.length; s++) {
+                int n = itemCounts[s];
+                double[] x = new double[n];
+                double[] y = new double[n];
+                zValues[s] = new double[n];
+                for (int i = 0; i < n; i++) {
+                    x[i] = (i % 1000 == 7) ? Double.NaN : i;
+                    y[i] = (i % 777 == 3) ? Double.NaN
+                            : Math.sin(i * 0.001) * (s + 1) * 100.0;
+                    zValues[s][i] = (i % 555 == 1) ? Double.NaN : -i * 0.5;
+                }
+                double[] startY = new double[n];
+                double[] endY = new double[n];
+                for (int i = 0; i < n; i++) {
+                    startY[i] = (i % 333 == 2) ? Double.NaN : y[i] - 1.0;
+                    endY[i] = y[i] + 1.0 + (i == 120000 ? 500.0 : 0.0);
+                }
+                d1.addSeries("S" + s, new double[][] {x, x, x, y, startY,
+                        endY});
+            }
+            DefaultXYZDataset d2 = new DefaultXYZDataset();
+            for (int s = 0; s < itemCounts.length; s++) {
+                double[] x = new double[itemCounts[s]];
+                d2.addSeries("S" + s, new double[][] {x, x, zValues[s]});
+            }
+            OHLCDataItem[] items = new OHLCDataItem[20];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = new OHLCDataItem(new Date(i * 1000L), 1.0,
+                        i == 5 ? Double.NaN : 2.0 + i,
+                        i == 6 ? Double.NaN : -i, 1.5, 100.0);
+            }
+            DefaultOHLCDataset d3 = new DefaultOHLCDataset("S", items);
+            // a NaN minimum regular value is not skipped
+            DefaultBoxAndWhiskerXYDataset d4
+                    = new DefaultBoxAndWhiskerXYDataset("S");
+            for (int i = 0; i < 70000; i++) {
+                d4.add(new Date(i), new BoxAndWhiskerItem(1.0, 1.0, 1.0, 1.0,
+                        i == 68000 ? Double.NaN : -i, i, 0.0, 0.0, null));
+            }
+            DefaultXYDataset d5 = new DefaultXYDataset();
+
+            List keys = Arrays.asList(new String[] {"S0", "S1", "S2"});
+            Range xRange = new Range(100.0, 130000.0);
+            XYDataset[] datasets = new XYDataset[] {d1, d3, d4, d5};
+            for (int b = 0; b < 2; b++) {
+                boolean includeInterval = (b == 0);
+                for (XYDataset d : datasets) {
+                    List k = d == d1 ? keys : (d == d5 ? new ArrayList()
+                            : Arrays.asList(new String[] {"S"}));
+                    Range[] expected = new Range[3];
+                    DatasetUtils.setParallelThreshold(Integer.MAX_VALUE);
+                    expected[0] = DatasetUtils.iterateDomainBounds(d,
+                            includeInterval);
+                    expected[1] = DatasetUtils.iterateRangeBounds(d,
+                            includeInterval);
+                    expected[2] = DatasetUtils.iterateToFindRangeBounds(d, k,
+                            xRange, includeInterval);
+                    DatasetUtils.setParallelThreshold(1);
+                    assertSameRange(expected[0],
+                            DatasetUtils.iterateDomainBounds(d,
+                            includeInterval));
+                    assertSameRange(expected[1],
+                            DatasetUtils.iterateRangeBounds(d,
+                            includeInterval));
+                    assertSameRange(expected[2],
+                            DatasetUtils.iterateToFindRangeBounds(d, k,
+                            xRange, includeInterval));
+                }
+            }
+            DatasetUtils.setParallelThreshold(Integer.MAX_VALUE);
+            Range expected = DatasetUtils.iterateZBounds(d2);
+            assertEquals(new Range(-74999.5, 0.0), expected);
+            DatasetUtils.setParallelThreshold(1);
+            assertSameRange(expected, DatasetUtils.iterateZBounds(d2));
+
+            // check a couple of results directly
+            assertEquals(new Range(0.0, 149999.0),
+                    DatasetUtils.iterateDomainBounds(d1, false));
+            assertNull(DatasetUtils.iterateRangeBounds(d5, true));
+            Range r = DatasetUtils.iterateToFindRangeBounds(d4,
+                    Arrays.asList(new String[] {"S"}), new Range(0.0, 70000.0),
+                    true);
+            assertTrue(Double.isNaN(r.getLowerBound()));
+            assertEquals(69999.0, r.getUpperBound(), EPSILON);
+        } finally {
+            DatasetUtils.setParallelThreshold(threshold);
+        }
+    }
+
+    /**
+     * Checks that two ranges are the same, treating {@code NaN} bounds as
+     * equal.
+     *
+     * @param expected  the expected range ({@code null} permitted).
+     * @param actual  the actual range ({@code null} permitted).
+     */
+    private static void assertSameRange(Range expected, Range actual) {
+        if (expected == null) {
+            assertNull(actual);
+            return;
+        }
+        assertEquals(expected.getLowerBound(), actual.getLowerBound(), 0.0);
+        assertEquals(expected.getUpperBound(), actual.getUpperBound(), 0.0);
+    }
+
     /**
      * Creates a dataset for testing.
      *
@@ -0,0 +1,205 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * MinMaxPyramidTest.java
+ * ----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link MinMaxPyramid} class.
+ */
+public class MinMaxPyramidTest {
+
+    /**
+     * Creates an index containing the specified values.
+     *
+     * @param values  the values.
+     *
+     * @return The index.
+     */
+    private static MinMaxPyramid createPyramid(double[] values) {
+        MinMaxPyramid p = new MinMaxPyramid();
+        for (double v : values) {
+            p.add(v);
+        }
+        return p;
+    }
+
+    /**
+     * Some checks for the level structure.
+     */
+    @Test
+    public void testLevels() {
+        MinMaxPyramid p = new MinMaxPyramid();
+        assertEquals(0, p.getItemCount());
+        assertEquals(1, p.getLevelCount());
+        assertEquals(8, MinMaxPyramid.getBucketSize(0));
+        for (int i = 0; i < 1000; i++) {
+            p.add(i);
+        }
+        assertEquals(1000, p.getItemCount());
+        // levels with bucket sizes 8, 16, ..., 512 have at least 2 buckets
+        assertEquals(7, p.getLevelCount());
+        assertEquals(5, p.findLevel(0, 999, 3));
+        assertEquals(0, p.findLevel(0, 999, 100));
+        assertEquals(-1, p.findLevel(0, 999, 200));
+        assertNull(p.getItems(0, 999, 200));
+        p.clear();
+        assertEquals(0, p.getItemCount());
+        assertEquals(1, p.getLevelCount());
+    }
+
+    /**
+     * The items selected for random ranges of random data (with some NaN
+     * values) should include the first and last items, and the minimum and
+     * maximum values, and should be much smaller than the range.
+     */
+    @Test
+    public void testGetItems() {
+        Random random = new Random(42L);
+        double[] values = new double[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(20) == 0 ? Double.NaN
+                    : random.nextGaussian();
+        }
+        MinMaxPyramid p = createPyramid(values);
+        for (int trial = 0; trial < 200; trial++) {
+            int first = random.nextInt(values.length);
+            int last = first + random.nextInt(values.length - first);
+            int[] items = p.getItems(first, last, 10);
+            if (last - first + 1 < 80) {
+                assertNull(items);
+                continue;
+            }
+            assertEquals(first, items[0]);
+            assertEquals(last, items[items.length - 1]);
+            assertTrue(items.length < 4 * 10 + 100);
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int i = 0; i < items.length; i++) {
+                if (i > 0) {
+                    assertTrue(items[i] > items[i - 1]);
+                }
+                double v = values[items[i]];
+                if (!Double.isNaN(v)) {
+                    min = Double.isNaN(min) ? v : Math.min(min, v);
+                    max = Double.isNaN(max) ? v : Math.max(max, v);
+                }
+            }
+            double expectedMin = Double.NaN;
+            double expectedMax = Double.NaN;
+            for (int i = first; i <= last; i++) {
+                double v = values[i];
+                if (!Double.isNaN(v)) {
+                    expectedMin = Double.isNaN(expectedMin) ? v
+                            : Math.min(expectedMin, v);
+                    expectedMax = Double.isNaN(expectedMax) ? v
+                            : Math.max(expectedMax, v);
+                }
+            }
+            assertEquals(expectedMin, min, 0.0);
+            assertEquals(expectedMax, max, 0.0);
+        }
+    }
+
+    /**
+     * A bucket that contains only NaN values is represented by its first
+     * item.
+     */
+    @Test
+    public void testGaps() {
+        double[] values = new double[256];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i >= 64 && i < 128) ? Double.NaN : i;
+        }
+        MinMaxPyramid p = createPyramid(values);
+        int[] items = p.getItems(0, 255, 4);
+        int gaps = 0;
+        for (int item : items) {
+            if (Double.isNaN(values[item])) {
+                assertEquals(64, item);
+                gaps++;
+            }
+        }
+        assertEquals(1, gaps);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        MinMaxPyramid p1 = createPyramid(new double[] {1.0, 2.0, 3.0});
+        MinMaxPyramid p2 = createPyramid(new double[] {1.0, 2.0, 3.0});
+        assertTrue(p1.equals(p2));
+        p1.add(4.0);
+        assertFalse(p1.equals(p2));
+        p2.add(4.0);
+        assertTrue(p1.equals(p2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        MinMaxPyramid p1 = createPyramid(new double[100]);
+        MinMaxPyramid p2 = (MinMaxPyramid) p1.clone();
+        assertTrue(p1 != p2);
+        assertTrue(p1.equals(p2));
+        p1.add(1.0);
+        assertFalse(p1.equals(p2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        MinMaxPyramid p1 = createPyramid(new double[100]);
+        MinMaxPyramid p2 = (MinMaxPyramid) TestUtils.serialised(p1);
+        assertEquals(p1, p2);
+    }
+
+}
@@ -0,0 +1,132 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * RingBufferListTest.java
+ * -----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RingBufferList} class.
+ */
+public class RingBufferListTest {
+
+    /**
+     * A rolling window (append at the end, remove from the front) that wraps
+     * around the storage array several times.
+     */
+    @Test
+    public void testRollingWindow() {
+        RingBufferList<Integer> list = new RingBufferList<Integer>(4);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+            if (list.size() > 3) {
+                assertEquals(Integer.valueOf(i - 3), list.remove(0));
+            }
+        }
+        assertEquals(3, list.size());
+        assertEquals(Integer.valueOf(17), list.get(0));
+        assertEquals(Integer.valueOf(19), list.get(2));
+    }
+
+    /**
+     * Random insertions and removals should give the same results as an
+     * {@code ArrayList}.
+     */
+    @Test
+    public void testAgainstArrayList() {
+        Random random = new Random(123L);
+        List<Integer> expected = new ArrayList<Integer>();
+        RingBufferList<Integer> list = new RingBufferList<Integer>(2);
+        for (int i = 0; i < 2000; i++) {
+            int op = random.nextInt(5);
+            if (op < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            }
+            else if (op == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            else {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(expected.size() - from + 1);
+                expected.subList(from, to).clear();
+                list.subList(from, to).clear();
+            }
+            assertEquals(expected, list);
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RingBufferList<String> l1 = new RingBufferList<String>();
+        l1.add("A");
+        l1.add("B");
+        RingBufferList<String> l2 = (RingBufferList<String>) l1.clone();
+        assertNotSame(l1, l2);
+        assertEquals(l1, l2);
+        l1.remove(0);
+        assertEquals(2, l2.size());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RingBufferList<String> l1 = new RingBufferList<String>(2);
+        l1.add("A");
+        l1.add("B");
+        l1.remove(0);
+        l1.add("C");
+        RingBufferList<String> l2
+                = (RingBufferList<String>) TestUtils.serialised(l1);
+        assertEquals(l1, l2);
+    }
+
+}
@@ -0,0 +1,113 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * RollingMinMaxTest.java
+ * ----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RollingMinMax} class.
+ */
+public class RollingMinMaxTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * An empty window has no bounds.
+     */
+    @Test
+    public void testEmpty() {
+        RollingMinMax r = new RollingMinMax();
+        assertEquals(0, r.getValueCount());
+        assertTrue(Double.isNaN(r.getMinimum()));
+        assertTrue(Double.isNaN(r.getMaximum()));
+        r.add(Double.NaN);
+        assertEquals(1, r.getValueCount());
+        assertTrue(Double.isNaN(r.getMinimum()));
+    }
+
+    /**
+     * The bounds of a sliding window over random data (with some NaN
+     * values) should match the bounds found by iteration.
+     */
+    @Test
+    public void testSlidingWindow() {
+        Random random = new Random(42L);
+        int window = 50;
+        double[] values = new double[5000];
+        RollingMinMax r = new RollingMinMax();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(10) == 0 ? Double.NaN
+                    : random.nextInt(100);
+            r.add(values[i]);
+            if (r.getValueCount() > window) {
+                r.removeFirst();
+            }
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int j = Math.max(0, i - window + 1); j <= i; j++) {
+                if (!Double.isNaN(values[j])) {
+                    min = Double.isNaN(min) ? values[j] : Math.min(min,
+                            values[j]);
+                    max = Double.isNaN(max) ? values[j] : Math.max(max,
+                            values[j]);
+                }
+            }
+            assertEquals(min, r.getMinimum(), EPSILON);
+            assertEquals(max, r.getMaximum(), EPSILON);
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RollingMinMax r1 = new RollingMinMax();
+        r1.add(3.0);
+        r1.add(1.0);
+        RollingMinMax r2 = (RollingMinMax) r1.clone();
+        r1.add(0.0);
+        assertEquals(0.0, r1.getMinimum(), EPSILON);
+        assertEquals(1.0, r2.getMinimum(), EPSILON);
+    }
+
+}
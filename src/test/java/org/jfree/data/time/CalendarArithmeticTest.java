@@ -0,0 +1,318 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * CalendarArithmeticTest.java
+ * ---------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link CalendarArithmetic} class, which must give the same
+ * results as {@code GregorianCalendar}.
+ */
+public class CalendarArithmeticTest {
+
+    private static final String[] ZONES = {"UTC", "Europe/London",
+        "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata",
+        "America/Sao_Paulo", "Pacific/Apia", "Europe/Dublin"};
+
+    private static final Locale[] LOCALES = {Locale.US, Locale.UK,
+        Locale.GERMANY, new Locale("ar", "EG"), new Locale("pt", "BR")};
+
+    private static TimeZone[] createZones() {
+        TimeZone[] result = new TimeZone[ZONES.length + 1];
+        for (int i = 0; i < ZONES.length; i++) {
+            result[i] = TimeZone.getTimeZone(ZONES[i]);
+        }
+        result[ZONES.length] = new SimpleTimeZone(3600000, "Custom",
+                Calendar.MARCH, -1, Calendar.SUNDAY, 7200000,
+                Calendar.OCTOBER, -1, Calendar.SUNDAY, 7200000);
+        return result;
+    }
+
+    /**
+     * Returns a calendar that computes results using the {@code Calendar}
+     * code (the arithmetic is only used for {@code GregorianCalendar} itself,
+     * not for subclasses).
+     *
+     * @param zone  the time zone.
+     *
+     * @return A calendar.
+     */
+    private static Calendar createReferenceCalendar(TimeZone zone) {
+        return new GregorianCalendar(zone) {};
+    }
+
+    /**
+     * Every half hour in 2011 and 2012 (including all daylight saving
+     * transitions) should convert to the same instant as the calendar gives.
+     */
+    @Test
+    public void testToMillis() {
+        for (TimeZone zone : createZones()) {
+            Calendar calendar = new GregorianCalendar(zone);
+            long start = CalendarArithmetic.toEpochDay(2011, 1, 1)
+                    * CalendarArithmetic.MILLIS_PER_DAY;
+            long end = CalendarArithmetic.toEpochDay(2013, 1, 1)
+                    * CalendarArithmetic.MILLIS_PER_DAY;
+            for (long local = start; local < end; local += 1800000L) {
+                int ymd = CalendarArithmetic.toYearMonthDay(
+                        CalendarArithmetic.toEpochDay(local));
+                int millisOfDay = CalendarArithmetic.getMillisOfDay(local);
+                calendar.clear();
+                calendar.set(ymd / 10000, ymd / 100 % 100 - 1, ymd % 100,
+                        millisOfDay / 3600000, millisOfDay / 60000 % 60, 0);
+                assertEquals(zone.getID() + " " + ymd + " " + millisOfDay,
+                        calendar.getTimeInMillis(),
+                        CalendarArithmetic.toMillis(local, zone));
+            }
+        }
+    }
+
+    /**
+     * Checks the date conversions against the calendar.
+     */
+    @Test
+    public void testEpochDay() {
+        Calendar calendar = new GregorianCalendar(
+                TimeZone.getTimeZone("UTC"));
+        for (int year = 1600; year <= 2400; year += 7) {
+            for (int month = 1; month <= 12; month++) {
+                calendar.clear();
+                calendar.set(year, month - 1, 28);
+                long epochDay = CalendarArithmetic.toEpochDay(year, month, 28);
+                assertEquals(calendar.getTimeInMillis(),
+                        epochDay * CalendarArithmetic.MILLIS_PER_DAY);
+                assertEquals(year * 10000 + month * 100 + 28,
+                        CalendarArithmetic.toYearMonthDay(epochDay));
+                assertEquals(calendar.get(Calendar.DAY_OF_WEEK),
+                        CalendarArithmetic.getDayOfWeek(epochDay));
+            }
+        }
+        assertEquals(-1L, CalendarArithmetic.toEpochDay(-1L));
+        assertEquals(CalendarArithmetic.MILLIS_PER_DAY - 1,
+                CalendarArithmetic.getMillisOfDay(-1L));
+    }
+
+    /**
+     * Checks the week numbering against the calendar for several locales.
+     */
+    @Test
+    public void testWeeks() {
+        for (Locale locale : LOCALES) {
+            Calendar calendar = Calendar.getInstance(
+                    TimeZone.getTimeZone("UTC"), locale);
+            int fdw = calendar.getFirstDayOfWeek();
+            int minDays = calendar.getMinimalDaysInFirstWeek();
+            for (int year = 1990; year <= 2030; year++) {
+                calendar.clear();
+                calendar.set(year, Calendar.DECEMBER, 31);
+                assertEquals(calendar.getActualMaximum(Calendar.WEEK_OF_YEAR),
+                        CalendarArithmetic.getWeeksInYear(year, fdw, minDays));
+            }
+            long start = CalendarArithmetic.toEpochDay(1999, 12, 1);
+            long end = CalendarArithmetic.toEpochDay(2011, 1, 31);
+            for (long day = start; day < end; day++) {
+                calendar.setTimeInMillis(
+                        day * CalendarArithmetic.MILLIS_PER_DAY);
+                assertEquals(calendar.get(Calendar.WEEK_OF_YEAR),
+                        CalendarArithmetic.getWeekOfYear(day, fdw, minDays));
+            }
+        }
+    }
+
+    /**
+     * The periods should give the same first and last milliseconds with and
+     * without the arithmetic.
+     */
+    @Test
+    public void testPeriods() {
+        for (TimeZone zone : createZones()) {
+            Calendar calendar = new GregorianCalendar(zone);
+            Calendar reference = createReferenceCalendar(zone);
+            Day day = new Day(1, 1, 2012);
+            for (int i = 0; i < 366; i++) {
+                checkPeriod(day, calendar, reference);
+                checkPeriod(new Week(1 + i % 53, 2012), calendar, reference);
+                for (int h = 0; h < 24; h++) {
+                    Hour hour = new Hour(h, day);
+                    checkPeriod(hour, calendar, reference);
+                    Minute minute = new Minute(30, hour);
+                    checkPeriod(minute, calendar, reference);
+                    checkPeriod(new Second(15, minute), calendar, reference);
+                    checkPeriod(new Millisecond(500, new Second(15, minute)),
+                            calendar, reference);
+                }
+                day = (Day) day.next();
+            }
+            for (int m = 1; m <= 12; m++) {
+                checkPeriod(new Month(m, 2012), calendar, reference);
+            }
+            for (int q = 1; q <= 4; q++) {
+                checkPeriod(new Quarter(q, 2012), calendar, reference);
+            }
+            checkPeriod(new Year(2012), calendar, reference);
+        }
+    }
+
+    private void checkPeriod(RegularTimePeriod period, Calendar calendar,
+            Calendar reference) {
+        assertEquals(period.toString(), period.getFirstMillisecond(reference),
+                period.getFirstMillisecond(calendar));
+        assertEquals(period.toString(), period.getLastMillisecond(reference),
+                period.getLastMillisecond(calendar));
+    }
+
+    /**
+     * Periods created from a date should have the same fields as the
+     * calendar.
+     */
+    @Test
+    public void testDateConstructors() {
+        for (TimeZone zone : createZones()) {
+            for (Locale locale : LOCALES) {
+                Calendar calendar = Calendar.getInstance(zone, locale);
+                Calendar reference = createReferenceCalendar(zone);
+                reference.setFirstDayOfWeek(calendar.getFirstDayOfWeek());
+                reference.setMinimalDaysInFirstWeek(
+                        calendar.getMinimalDaysInFirstWeek());
+                long t = CalendarArithmetic.toEpochDay(2011, 12, 24)
+                        * CalendarArithmetic.MILLIS_PER_DAY;
+                for (int i = 0; i < 200; i++) {
+                    t += 3 * CalendarArithmetic.MILLIS_PER_HOUR + 1234567L;
+                    Date date = new Date(t);
+                    calendar.setTime(date);
+                    Millisecond ms = new Millisecond(date, zone, locale);
+                    assertEquals(calendar.get(Calendar.MILLISECOND),
+                            ms.getMillisecond());
+                    assertEquals(calendar.get(Calendar.SECOND),
+                            ms.getSecond().getSecond());
+                    Minute minute = new Minute(date, zone, locale);
+                    assertEquals(calendar.get(Calendar.MINUTE),
+                            minute.getMinute());
+                    Hour hour = new Hour(date, zone, locale);
+                    assertEquals(calendar.get(Calendar.HOUR_OF_DAY),
+                            hour.getHour());
+                    Day day = new Day(date, zone, locale);
+                    assertEquals(calendar.get(Calendar.DAY_OF_MONTH),
+                            day.getDayOfMonth());
+                    assertEquals(calendar.get(Calendar.MONTH) + 1,
+                            day.getMonth());
+                    assertEquals(calendar.get(Calendar.YEAR), day.getYear());
+                    assertEquals(day.getFirstMillisecond(reference),
+                            day.getFirstMillisecond());
+                    assertEquals(day.getLastMillisecond(reference),
+                            day.getLastMillisecond());
+                    Month month = new Month(date, zone, locale);
+                    assertEquals(calendar.get(Calendar.MONTH) + 1,
+                            month.getMonth());
+                    Year year = new Year(date, zone, locale);
+                    assertEquals(calendar.get(Calendar.YEAR), year.getYear());
+                    Week week = new Week(date, zone, locale);
+                    int w = calendar.get(Calendar.WEEK_OF_YEAR);
+                    assertEquals(Math.min(w, Week.LAST_WEEK_IN_YEAR),
+                            week.getWeek());
+                    assertEquals(week.getFirstMillisecond(reference),
+                            week.getFirstMillisecond());
+                    assertEquals(week.getLastMillisecond(reference),
+                            week.getLastMillisecond());
+                    assertTrue(week.getFirstMillisecond() <= t);
+                    assertTrue(week.getLastMillisecond() >= t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calendars that the arithmetic cannot reproduce must be left to the
+     * calendar code.
+     */
+    @Test
+    public void testIsSupported() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        assertTrue(CalendarArithmetic.isSupported(new GregorianCalendar(zone),
+                2012));
+        assertFalse(CalendarArithmetic.isSupported(new GregorianCalendar(zone),
+                1500));
+        assertFalse(CalendarArithmetic.isSupported(
+                createReferenceCalendar(zone), 2012));
+        GregorianCalendar calendar = new GregorianCalendar(zone);
+        calendar.setLenient(false);
+        assertFalse(CalendarArithmetic.isSupported(calendar, 2012));
+        calendar = new GregorianCalendar(zone);
+        calendar.setGregorianChange(new Date(Long.MIN_VALUE));
+        assertFalse(CalendarArithmetic.isSupported(calendar, 2012));
+        assertTrue(CalendarArithmetic.isSupported(zone, Locale.FRANCE, 2012));
+        assertFalse(CalendarArithmetic.isSupported(zone,
+                new Locale("th", "TH"), 2012));
+        assertFalse(CalendarArithmetic.isSupported(zone,
+                new Locale("ja", "JP", "JP"), 2012));
+        assertEquals(CalendarArithmetic.UNSUPPORTED,
+                CalendarArithmetic.toLocalMillis(0L, zone,
+                new Locale("th", "TH")));
+        assertEquals(CalendarArithmetic.UNSUPPORTED,
+                CalendarArithmetic.toLocalMillis(-12000000000000L, zone,
+                Locale.FRANCE));
+    }
+
+    /**
+     * A Thai locale uses the Buddhist calendar, which must still be used to
+     * interpret the date.
+     */
+    @Test
+    public void testBuddhistCalendar() {
+        TimeZone zone = TimeZone.getTimeZone("Asia/Bangkok");
+        Locale locale = new Locale("th", "TH");
+        Calendar calendar = Calendar.getInstance(zone, locale);
+        Date date = new Date(1325376000000L);
+        calendar.setTime(date);
+        Year year = new Year(date, zone, locale);
+        assertEquals(calendar.get(Calendar.YEAR), year.getYear());
+        assertEquals(year.getFirstMillisecond(calendar),
+                year.getFirstMillisecond());
+    }
+
+}
@@ -0,0 +1,235 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * LiveMovingAverageTest.java
+ * --------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link LiveMovingAverage} class.
+ */
+public class LiveMovingAverageTest implements SeriesChangeListener {
+
+    /** The number of change events received. */
+    private int eventCount;
+
+    /**
+     * Records the change event.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Checks that the live moving average matches the moving average
+     * calculated from scratch.
+     *
+     * @param ma  the live moving average.
+     */
+    private static void check(LiveMovingAverage ma) {
+        TimeSeries expected = MovingAverage.createMovingAverage(
+                ma.getSource(), "Expected", ma.getPeriodCount(),
+                ma.getSkip());
+        TimeSeries actual = ma.getSeries();
+        assertEquals(expected.getItemCount(), actual.getItemCount());
+        for (int i = 0; i < expected.getItemCount(); i++) {
+            assertEquals(expected.getTimePeriod(i), actual.getTimePeriod(i));
+            Number e = expected.getValue(i);
+            Number a = actual.getValue(i);
+            if (e == null) {
+                assertNull(a);
+            }
+            else {
+                assertEquals(e.doubleValue(), a.doubleValue(), 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Appending items to the source series.
+     */
+    @Test
+    public void testAppend() {
+        TimeSeries source = new TimeSeries("Source");
+        source.add(new Day(1, 1, 2020), 1.0);
+        source.add(new Day(2, 1, 2020), 2.0);
+        LiveMovingAverage ma = new LiveMovingAverage(source, "MA", 3, 1);
+        check(ma);
+        ma.getSeries().addChangeListener(this);
+        RegularTimePeriod period = new Day(2, 1, 2020);
+        for (int i = 0; i < 50; i++) {
+            period = period.next();
+            if (i % 7 == 0) {
+                period = period.next();
+            }
+            source.add(period, i % 5 == 0 ? null : Double.valueOf(i));
+            check(ma);
+        }
+        assertEquals(50, this.eventCount);
+    }
+
+    /**
+     * Updating, inserting and deleting items in the source series.
+     */
+    @Test
+    public void testChanges() {
+        Random random = new Random(789L);
+        TimeSeries source = new TimeSeries("Source");
+        LiveMovingAverage ma = new LiveMovingAverage(source, "MA", 4, 0);
+        RegularTimePeriod period = new Day(1, 1, 2020);
+        for (int i = 0; i < 20; i++) {
+            source.add(period, random.nextInt(100));
+            period = period.next().next();
+        }
+        check(ma);
+        ma.getSeries().addChangeListener(this);
+        for (int i = 0; i < 200; i++) {
+            // only change items in the latest averaging window
+            int count = source.getItemCount();
+            long limit = source.getTimePeriod(count - 1).getSerialIndex() - 4;
+            int index = count - 1 - random.nextInt(Math.min(count, 3));
+            RegularTimePeriod p = source.getTimePeriod(index);
+            if (p.previous().getSerialIndex() <= limit) {
+                index = count - 1;
+                p = source.getTimePeriod(index);
+            }
+            switch (random.nextInt(5)) {
+                case 0:
+                    source.update(index, random.nextInt(100));
+                    break;
+                case 1:
+                    source.addOrUpdate(p.previous(), random.nextInt(100));
+                    break;
+                case 2:
+                    if (count > 2) {
+                        source.delete(p);
+                    }
+                    break;
+                case 3:
+                    source.addOrUpdate(p, null);
+                    break;
+                default:
+                    source.add(source.getTimePeriod(count - 1).next(),
+                            random.nextInt(100));
+            }
+            check(ma);
+        }
+        assertTrue(this.eventCount <= 200);
+    }
+
+    /**
+     * Clearing the source series clears the moving average, and the skip
+     * period is applied again to new data.
+     */
+    @Test
+    public void testClear() {
+        TimeSeries source = new TimeSeries("Source");
+        LiveMovingAverage ma = new LiveMovingAverage(source, "MA", 2, 1);
+        source.add(new Day(1, 1, 2020), 1.0);
+        source.add(new Day(2, 1, 2020), 2.0);
+        check(ma);
+        source.clear();
+        assertEquals(0, ma.getSeries().getItemCount());
+        source.add(new Day(5, 1, 2020), 5.0);
+        source.add(new Day(6, 1, 2020), 6.0);
+        check(ma);
+        assertEquals(1, ma.getSeries().getItemCount());
+    }
+
+    /**
+     * Items removed from the front of the source series do not revise the
+     * existing averages.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        TimeSeries source = new TimeSeries("Source");
+        source.setMaximumItemCount(5);
+        LiveMovingAverage ma = new LiveMovingAverage(source, "MA", 2, 0);
+        assertEquals(5, ma.getSeries().getMaximumItemCount());
+        RegularTimePeriod period = new Day(1, 1, 2020);
+        for (int i = 0; i < 10; i++) {
+            source.add(period, i);
+            period = period.next();
+        }
+        TimeSeries s = ma.getSeries();
+        assertEquals(5, s.getItemCount());
+        assertEquals(new Day(6, 1, 2020), s.getTimePeriod(0));
+        assertEquals(4.5, s.getValue(0).doubleValue(), 1e-9);
+        assertEquals(8.5, s.getValue(4).doubleValue(), 1e-9);
+    }
+
+    /**
+     * After {@code dispose()} the moving average is not updated.
+     */
+    @Test
+    public void testDispose() {
+        TimeSeries source = new TimeSeries("Source");
+        LiveMovingAverage ma = new LiveMovingAverage(source, "MA", 2, 0);
+        source.add(new Day(1, 1, 2020), 1.0);
+        ma.dispose();
+        source.add(new Day(2, 1, 2020), 2.0);
+        assertEquals(1, ma.getSeries().getItemCount());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that it is still updated
+     * by the (restored) source series.
+     */
+    @Test
+    public void testSerialization() {
+        TimeSeries source = new TimeSeries("Source");
+        source.add(new Day(1, 1, 2020), 1.0);
+        LiveMovingAverage ma1 = new LiveMovingAverage(source, "MA", 2, 0);
+        LiveMovingAverage ma2 = (LiveMovingAverage) TestUtils.serialised(ma1);
+        assertEquals(ma1.getSeries(), ma2.getSeries());
+        ma2.getSource().add(new Day(2, 1, 2020), 2.0);
+        check(ma2);
+        assertEquals(2, ma2.getSeries().getItemCount());
+    }
+
+}
@@ -43,7 +43,13 @@ package org.jfree.data.time;
 
 import org.jfree.chart.date.MonthConstants;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
+import java.util.Random;
+
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
 /**
@@ -81,6 +87,197 @@ public class MovingAverageTest {
         assertEquals(12.5, value, EPSILON);
     }
 
+    /**
+     * Checks the sliding window calculation against a direct calculation for
+     * a series with gaps, {@code null} and {@code NaN} values.
+     */
+    @Test
+    public void testAgainstDirectCalculation() {
+        Random random = new Random(123L);
+        TimeSeries source = new TimeSeries("Source");
+        RegularTimePeriod period = new Day(1, MonthConstants.JANUARY, 2010);
+        for (int i = 0; i < 500; i++) {
+            period = period.next();
+            if (random.nextInt(4) == 0) {
+                period = period.next();
+            }
+            int r = random.nextInt(20);
+            if (r == 0) {
+                source.add(period, null);
+            }
+            else if (r == 1) {
+                source.add(period, Double.NaN);
+            }
+            else {
+                source.add(period, random.nextDouble() * 100.0);
+            }
+        }
+        for (int periodCount = 1; periodCount < 12; periodCount++) {
+            for (int skip = 0; skip < 3; skip++) {
+                TimeSeries ma = MovingAverage.createMovingAverage(source,
+                        "MA", periodCount, skip);
+                TimeSeries expected = directMovingAverage(source,
+                        periodCount, skip);
+                assertEquals(expected.getItemCount(), ma.getItemCount());
+                for (int i = 0; i < expected.getItemCount(); i++) {
+                    assertEquals(expected.getTimePeriod(i),
+                            ma.getTimePeriod(i));
+                    Number e = expected.getValue(i);
+                    Number a = ma.getValue(i);
+                    if (e == null) {
+                        assertNull(a);
+                    }
+                    else {
+                        assertEquals(e.doubleValue(), a.doubleValue(), 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The averages must not be affected by infinite or {@code NaN} values
+     * that have left the averaging window.
+     */
+    @Test
+    public void testNonFiniteValues() {
+        TimeSeries source = new TimeSeries("Source");
+        RegularTimePeriod period = new Day(1, MonthConstants.JANUARY, 2010);
+        double[] values = {1.0, Double.POSITIVE_INFINITY, 2.0, 3.0,
+                Double.NaN, 4.0, 5.0, Double.NEGATIVE_INFINITY, 6.0, 7.0};
+        for (double v : values) {
+            source.add(period, v);
+            period = period.next();
+        }
+        TimeSeries ma = MovingAverage.createMovingAverage(source, "MA", 2, 0);
+        assertEquals(1.0, ma.getValue(0).doubleValue(), EPSILON);
+        assertEquals(Double.POSITIVE_INFINITY, ma.getValue(1).doubleValue(),
+                EPSILON);
+        assertEquals(Double.POSITIVE_INFINITY, ma.getValue(2).doubleValue(),
+                EPSILON);
+        assertEquals(2.5, ma.getValue(3).doubleValue(), EPSILON);
+        assertEquals(Double.NaN, ma.getValue(4).doubleValue(), EPSILON);
+        assertEquals(Double.NaN, ma.getValue(5).doubleValue(), EPSILON);
+        assertEquals(4.5, ma.getValue(6).doubleValue(), EPSILON);
+        assertEquals(Double.NEGATIVE_INFINITY, ma.getValue(7).doubleValue(),
+                EPSILON);
+        assertEquals(Double.NEGATIVE_INFINITY, ma.getValue(8).doubleValue(),
+                EPSILON);
+        assertEquals(6.5, ma.getValue(9).doubleValue(), EPSILON);
+    }
+
+    /**
+     * Checks the moving average for an XY series (including duplicate
+     * x-values) against a direct calculation.
+     */
+    @Test
+    public void testXYAgainstDirectCalculation() {
+        Random random = new Random(456L);
+        XYSeries s = new XYSeries("S", true, true);
+        double x = 0.0;
+        for (int i = 0; i < 300; i++) {
+            x += random.nextInt(3);
+            s.add(x, random.nextInt(10) == 0 ? null
+                    : Double.valueOf(random.nextInt(1000)));
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        for (double period = 0.5; period < 8.0; period += 1.5) {
+            XYDataset ma = MovingAverage.createMovingAverage(dataset, "-MA",
+                    period, 2.0);
+            XYSeries expected = directMovingAverage(dataset, 0, period, 2.0);
+            assertEquals(expected.getItemCount(), ma.getItemCount(0));
+            for (int i = 0; i < expected.getItemCount(); i++) {
+                assertEquals(expected.getX(i).doubleValue(),
+                        ma.getXValue(0, i), EPSILON);
+                Number e = expected.getY(i);
+                Number a = ma.getY(0, i);
+                if (e == null) {
+                    assertNull(a);
+                }
+                else {
+                    assertEquals(e.doubleValue(), a.doubleValue(), 1e-9);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates a moving average by summing the values in the averaging
+     * period for every item.
+     *
+     * @param source  the source series.
+     * @param periodCount  the number of periods in the average.
+     * @param skip  the number of initial periods to skip.
+     *
+     * @return The moving average.
+     */
+    static TimeSeries directMovingAverage(TimeSeries source, int periodCount,
+            int skip) {
+        TimeSeries result = new TimeSeries("Expected");
+        if (source.isEmpty()) {
+            return result;
+        }
+        long firstSerial = source.getTimePeriod(0).getSerialIndex() + skip;
+        for (int i = 0; i < source.getItemCount(); i++) {
+            long serial = source.getTimePeriod(i).getSerialIndex();
+            if (serial < firstSerial) {
+                continue;
+            }
+            double sum = 0.0;
+            int n = 0;
+            for (int j = i; j >= 0; j--) {
+                if (source.getTimePeriod(j).getSerialIndex()
+                        <= serial - periodCount) {
+                    break;
+                }
+                Number v = source.getValue(j);
+                if (v != null) {
+                    sum += v.doubleValue();
+                    n++;
+                }
+            }
+            result.add(source.getTimePeriod(i), n > 0 ? sum / n : null);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates a moving average for an XY series by summing the values in
+     * the averaging period for every item.
+     *
+     * @param source  the source dataset.
+     * @param series  the series index.
+     * @param period  the averaging period.
+     * @param skip  the length of the initial skip period.
+     *
+     * @return The moving average.
+     */
+    private static XYSeries directMovingAverage(XYDataset source, int series,
+            double period, double skip) {
+        XYSeries result = new XYSeries("Expected");
+        double first = source.getXValue(series, 0) + skip;
+        for (int i = source.getItemCount(series) - 1; i >= 0; i--) {
+            double x = source.getXValue(series, i);
+            if (x < first) {
+                continue;
+            }
+            double sum = 0.0;
+            int n = 0;
+            for (int j = i; j >= 0; j--) {
+                if (source.getXValue(series, j) <= x - period) {
+                    break;
+                }
+                Number y = source.getY(series, j);
+                if (y != null) {
+                    sum += y.doubleValue();
+                    n++;
+                }
+            }
+            result.add(x, n > 0 ? sum / n : null);
+        }
+        return result;
+    }
+
     /**
      * Creates a sample series.
      *
@@ -94,6 +94,9 @@ public class TimeSeriesTest implements SeriesChangeListener {
     /** A flag that indicates whether or not a change event was fired. */
     private boolean gotSeriesChangeEvent = false;
 
+    /** The last change event received. */
+    private SeriesChangeEvent lastSeriesChangeEvent;
+
     /**
      * Common test setup.
      */
@@ -127,6 +130,7 @@ public class TimeSeriesTest implements SeriesChangeListener {
     @Override
     public void seriesChanged(SeriesChangeEvent event) {
         this.gotSeriesChangeEvent = true;
+        this.lastSeriesChangeEvent = event;
     }
 
     /**
@@ -1244,4 +1248,140 @@ public class TimeSeriesTest implements SeriesChangeListener {
                 ts.findValueRange(range, TimePeriodAnchor.END, tzone));
 
     }
+
+    /**
+     * When a maximum item count or age is set, the cached y-bounds are
+     * maintained incrementally as items are evicted; check them against the
+     * bounds found by iteration.
+     */
+    @Test
+    public void testRollingWindowBounds() {
+        java.util.Random random = new java.util.Random(7L);
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(30);
+        TimeSeries s2 = new TimeSeries("S2");
+        s2.setMaximumItemAge(20);
+        RegularTimePeriod p = new Day(1, 1, 2020);
+        for (int i = 0; i < 1000; i++) {
+            Double y = random.nextInt(8) == 0 ? null
+                    : new Double(random.nextInt(40));
+            s1.add(p, y);
+            s2.add(p, y);
+            if (i % 100 == 50) {
+                s1.update(s1.getItemCount() - 1, new Double(-1.0));
+                s2.addOrUpdate(p, new Double(100.0));
+            }
+            checkBounds(s1);
+            checkBounds(s2);
+            p = random.nextInt(4) == 0 ? p.next().next() : p.next();
+        }
+        assertEquals(30, s1.getItemCount());
+    }
+
+    /**
+     * Checks the cached y-bounds of a series against the bounds found by
+     * iterating over the items.
+     *
+     * @param s  the series.
+     */
+    private void checkBounds(TimeSeries s) {
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            if (s.getValue(i) != null) {
+                double y = s.getValue(i).doubleValue();
+                minY = Double.isNaN(minY) ? y : Math.min(minY, y);
+                maxY = Double.isNaN(maxY) ? y : Math.max(maxY, y);
+            }
+        }
+        assertEquals(minY, s.getMinY(), EPSILON);
+        assertEquals(maxY, s.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Checks findValueRange(Range, TimePeriodAnchor, TimeZone) against the
+     * range found by iterating, while items are appended to a rolling
+     * window.
+     */
+    @Test
+    public void testFindValueRangeForWindow() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/London");
+        Calendar calendar = Calendar.getInstance(zone);
+        TimeSeries s = new TimeSeries("S");
+        s.setMaximumItemCount(300);
+        java.util.Random random = new java.util.Random(11L);
+        RegularTimePeriod p = new Hour(0, new Day(1, 1, 2015));
+        for (int i = 0; i < 1000; i++) {
+            s.add(p, random.nextInt(10) == 0 ? null
+                    : Double.valueOf(random.nextGaussian()));
+            p = p.next();
+            if (i % 41 != 0) {
+                continue;
+            }
+            if (i == 615) {
+                s.update(7, Double.valueOf(100.0));
+            }
+            long first = s.getTimePeriod(0).getFirstMillisecond(calendar);
+            long last = s.getTimePeriod(s.getItemCount() - 1)
+                    .getLastMillisecond(calendar);
+            for (int r = 0; r < 10; r++) {
+                double x0 = first + random.nextDouble() * (last - first);
+                double x1 = x0 + random.nextDouble() * (last - x0);
+                Range xRange = new Range(x0, x1);
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int item = 0; item < s.getItemCount(); item++) {
+                    long x = s.getTimePeriod(item).getMillisecond(
+                            TimePeriodAnchor.MIDDLE, calendar);
+                    Number y = s.getValue(item);
+                    if (xRange.contains(x) && y != null) {
+                        min = Math.min(min, y.doubleValue());
+                        max = Math.max(max, y.doubleValue());
+                    }
+                }
+                Range range = s.findValueRange(xRange,
+                        TimePeriodAnchor.MIDDLE, zone);
+                if (min <= max) {
+                    assertEquals(new Range(min, max), range);
+                } else {
+                    assertTrue(range.isNaNRange());
+                }
+            }
+        }
+    }
+
+    /**
+     * An item added at the end of the series is reported as an append, but
+     * not if the series has changed in other ways since the last event.
+     */
+    @Test
+    public void testAppendEvent() {
+        TimeSeries s = new TimeSeries("S");
+        s.addChangeListener(this);
+        s.add(new Year(2000), 1.0);
+        assertEquals(0, this.lastSeriesChangeEvent.getFirstAppendedItem());
+        s.add(new Year(2001), 2.0);
+        assertEquals(1, this.lastSeriesChangeEvent.getFirstAppendedItem());
+
+        // an insertion is not an append
+        s.add(new Year(1999), 0.0);
+        assertEquals(-1, this.lastSeriesChangeEvent.getFirstAppendedItem());
+
+        // items appended without notification are part of the next append
+        s.add(new Year(2002), 3.0, false);
+        s.add(new Year(2003), 4.0);
+        assertEquals(3, this.lastSeriesChangeEvent.getFirstAppendedItem());
+
+        // ...unless other changes were made too
+        s.delete(0, 0, false);
+        s.add(new Year(2004), 5.0);
+        assertEquals(-1, this.lastSeriesChangeEvent.getFirstAppendedItem());
+        s.add(new Year(2005), 5.0);
+        assertEquals(5, this.lastSeriesChangeEvent.getFirstAppendedItem());
+
+        // dropping the oldest item is not an append
+        s.setMaximumItemCount(5);
+        s.add(new Year(2006), 6.0);
+        assertEquals(-1, this.lastSeriesChangeEvent.getFirstAppendedItem());
+    }
 }
@@ -50,8 +50,10 @@ import static org.junit.Assert.assertNotNull;
 
 import org.jfree.chart.TestUtils;
 
+import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtils;
 import org.jfree.data.time.TimePeriodAnchor;
 import org.jfree.data.time.Year;
 import org.junit.Test;
@@ -232,6 +234,32 @@ public class OHLCSeriesCollectionTest implements DatasetChangeListener {
         this.lastEvent = null;  // clean up
     }
 
+    /**
+     * The bounds maintained by the series should match the bounds found by
+     * iterating over the data.
+     */
+    @Test
+    public void testBounds() {
+        OHLCSeries s1 = new OHLCSeries("S1");
+        OHLCSeriesCollection c = new OHLCSeriesCollection();
+        c.addSeries(s1);
+        assertNull(c.getRangeBounds(true));
+        s1.add(new Year(2006), 2.0, 4.0, 1.0, 3.0);
+        s1.add(new Year(2007), 3.0, 8.0, 2.0, 5.0);
+        s1.add(new Year(2008), 5.0, 6.0, 0.5, 1.0);
+        assertEquals(DatasetUtils.iterateDomainBounds(c, false),
+                c.getDomainBounds(false));
+        assertEquals(DatasetUtils.iterateRangeBounds(c, true),
+                c.getRangeBounds(true));
+        assertEquals(new Range(0.5, 8.0), c.getRangeBounds(true));
+        assertEquals(new Range(1.0, 5.0), c.getRangeBounds(false));
+
+        s1.remove(1);
+        assertEquals(new Range(0.5, 6.0), c.getRangeBounds(true));
+        assertEquals(DatasetUtils.iterateRangeBounds(c, true),
+                c.getRangeBounds(true));
+    }
+
     /** The last received event. */
     private DatasetChangeEvent lastEvent;
 
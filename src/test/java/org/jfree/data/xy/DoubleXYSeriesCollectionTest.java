@@ -0,0 +1,170 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------------
+ * DoubleXYSeriesCollectionTest.java
+ * ---------------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DoubleXYSeriesCollection} class.
+ */
+public class DoubleXYSeriesCollectionTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        DoubleXYSeriesCollection c1 = new DoubleXYSeriesCollection();
+        DoubleXYSeriesCollection c2 = new DoubleXYSeriesCollection();
+        assertEquals(c1, c2);
+        DoubleXYSeries s1 = new DoubleXYSeries("S");
+        s1.add(1.0, 1.1);
+        c1.addSeries(s1);
+        assertFalse(c1.equals(c2));
+        DoubleXYSeries s2 = new DoubleXYSeries("S");
+        s2.add(1.0, 1.1);
+        c2.addSeries(s2);
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DoubleXYSeries s1 = new DoubleXYSeries("S");
+        s1.add(1.0, 1.1);
+        DoubleXYSeriesCollection c1 = new DoubleXYSeriesCollection(s1);
+        DoubleXYSeriesCollection c2 = (DoubleXYSeriesCollection) c1.clone();
+        assertNotSame(c1, c2);
+        assertEquals(c1, c2);
+
+        // check independence
+        s1.add(2.0, 2.2);
+        assertFalse(c1.equals(c2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DoubleXYSeries s1 = new DoubleXYSeries("S");
+        s1.add(1.0, 1.1);
+        DoubleXYSeriesCollection c1 = new DoubleXYSeriesCollection(s1);
+        DoubleXYSeriesCollection c2
+                = (DoubleXYSeriesCollection) TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * The values returned by the dataset methods come straight from the
+     * series, with a NaN y-value reported as a {@code null} y.
+     */
+    @Test
+    public void testValues() {
+        DoubleXYSeries s1 = new DoubleXYSeries("S");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, Double.NaN);
+        DoubleXYSeriesCollection c = new DoubleXYSeriesCollection(s1);
+        assertEquals(DomainOrder.ASCENDING, c.getDomainOrder());
+        assertEquals(2, c.getItemCount(0));
+        assertEquals(2.0, c.getXValue(0, 1), EPSILON);
+        assertEquals(1.1, c.getYValue(0, 0), EPSILON);
+        assertEquals(1.1, c.getY(0, 0).doubleValue(), EPSILON);
+        assertNull(c.getY(0, 1));
+    }
+
+    /**
+     * The cached bounds should match the bounds found by iteration.
+     */
+    @Test
+    public void testBounds() {
+        DoubleXYSeriesCollection c = new DoubleXYSeriesCollection();
+        assertNull(c.getDomainBounds(false));
+        assertNull(c.getRangeBounds(false));
+        assertTrue(Double.isNaN(c.getDomainLowerBound(false)));
+
+        DoubleXYSeries s1 = new DoubleXYSeries("S1");
+        s1.add(1.0, 5.0);
+        s1.add(3.0, -1.0);
+        DoubleXYSeries s2 = new DoubleXYSeries("S2");
+        s2.add(-2.0, Double.NaN);
+        s2.add(2.0, 7.0);
+        c.addSeries(s1);
+        c.addSeries(s2);
+        assertEquals(new Range(-2.0, 3.0), c.getDomainBounds(false));
+        assertEquals(new Range(-1.0, 7.0), c.getRangeBounds(false));
+        assertEquals(DatasetUtils.iterateDomainBounds(c),
+                c.getDomainBounds(false));
+        assertEquals(DatasetUtils.iterateRangeBounds(c),
+                c.getRangeBounds(false));
+        assertEquals(7.0, c.getRangeUpperBound(false), EPSILON);
+    }
+
+    /**
+     * A series key that duplicates another key in the collection is vetoed.
+     */
+    @Test
+    public void testSetKeyVeto() {
+        DoubleXYSeries s1 = new DoubleXYSeries("S1");
+        DoubleXYSeries s2 = new DoubleXYSeries("S2");
+        DoubleXYSeriesCollection c = new DoubleXYSeriesCollection();
+        c.addSeries(s1);
+        c.addSeries(s2);
+        try {
+            s2.setKey("S1");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals("S2", s2.getKey());
+    }
+
+}
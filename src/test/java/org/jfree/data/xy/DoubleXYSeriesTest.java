@@ -0,0 +1,269 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DoubleXYSeriesTest.java
+ * -----------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.Range;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DoubleXYSeries} class.
+ */
+public class DoubleXYSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        DoubleXYSeries s1 = new DoubleXYSeries("S");
+        DoubleXYSeries s2 = new DoubleXYSeries("S", 100);
+        assertTrue(s1.equals(s2));
+        s1.add(1.0, 1.1);
+        assertFalse(s1.equals(s2));
+        s2.add(1.0, 1.1);
+        assertTrue(s1.equals(s2));
+        s1.add(2.0, Double.NaN);
+        assertFalse(s1.equals(s2));
+        s2.add(2.0, Double.NaN);
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.hashCode(), s2.hashCode());
+        s1.setKey("T");
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DoubleXYSeries s1 = new DoubleXYSeries("S");
+        s1.add(1.0, 1.1);
+        DoubleXYSeries s2 = (DoubleXYSeries) s1.clone();
+        assertNotSame(s1, s2);
+        assertEquals(s1, s2);
+        s1.add(2.0, 2.2);
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DoubleXYSeries s1 = new DoubleXYSeries("S");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, Double.NaN);
+        DoubleXYSeries s2 = (DoubleXYSeries) TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items added out of order are inserted in ascending order of x, after
+     * any existing items with the same x-value.
+     */
+    @Test
+    public void testAddOutOfOrder() {
+        DoubleXYSeries s = new DoubleXYSeries("S", 0);
+        s.add(5.0, 50.0);
+        s.add(1.0, 10.0);
+        s.add(3.0, 30.0);
+        s.add(3.0, 31.0);
+        s.add(9.0, 90.0);
+        assertEquals(5, s.getItemCount());
+        double[][] array = s.toArray();
+        assertEquals(1.0, array[0][0], EPSILON);
+        assertEquals(3.0, array[0][1], EPSILON);
+        assertEquals(30.0, array[1][1], EPSILON);
+        assertEquals(31.0, array[1][2], EPSILON);
+        assertEquals(5.0, array[0][3], EPSILON);
+        assertEquals(9.0, array[0][4], EPSILON);
+    }
+
+    /**
+     * Some checks for the indexOf() method.
+     */
+    @Test
+    public void testIndexOf() {
+        DoubleXYSeries s = new DoubleXYSeries("S");
+        assertEquals(-1, s.indexOf(1.0));
+        s.add(new double[] {1.0, 2.0, 2.0, 4.0},
+                new double[] {1.0, 2.0, 3.0, 4.0});
+        assertEquals(0, s.indexOf(1.0));
+        assertEquals(1, s.indexOf(2.0));
+        assertEquals(3, s.indexOf(4.0));
+        assertEquals(-1, s.indexOf(0.5));
+        assertEquals(-4, s.indexOf(3.0));
+        assertEquals(-5, s.indexOf(5.0));
+    }
+
+    /**
+     * A NaN x-value is rejected.
+     */
+    @Test
+    public void testAddNaNX() {
+        DoubleXYSeries s = new DoubleXYSeries("S");
+        try {
+            s.add(Double.NaN, 1.0);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Check that the cached bounds are maintained.
+     */
+    @Test
+    public void testBounds() {
+        DoubleXYSeries s = new DoubleXYSeries("S");
+        assertTrue(Double.isNaN(s.getMinX()));
+        assertTrue(Double.isNaN(s.getMaxY()));
+        s.add(1.0, 5.0);
+        s.add(2.0, Double.NaN);
+        s.add(3.0, -2.0);
+        s.add(4.0, 8.0);
+        assertEquals(1.0, s.getMinX(), EPSILON);
+        assertEquals(4.0, s.getMaxX(), EPSILON);
+        assertEquals(-2.0, s.getMinY(), EPSILON);
+        assertEquals(8.0, s.getMaxY(), EPSILON);
+
+        s.remove(3);
+        assertEquals(3.0, s.getMaxX(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+
+        s.updateByIndex(2, 1.0);
+        assertEquals(1.0, s.getMinY(), EPSILON);
+
+        s.delete(0, 1);
+        assertEquals(3.0, s.getMinX(), EPSILON);
+        assertEquals(1.0, s.getMinY(), EPSILON);
+        assertEquals(1.0, s.getMaxY(), EPSILON);
+
+        s.clear();
+        assertEquals(0, s.getItemCount());
+        assertTrue(Double.isNaN(s.getMinX()));
+        assertTrue(Double.isNaN(s.getMinY()));
+    }
+
+    /**
+     * The level-of-detail items should track appends, and reflect other
+     * changes to the series.
+     */
+    @Test
+    public void testLevelOfDetailItems() {
+        DoubleXYSeries s = new DoubleXYSeries("S");
+        for (int i = 0; i < 1000; i++) {
+            s.add(i, i % 10);
+        }
+        assertEquals(null, s.getLevelOfDetailItems(0, 999, 1000));
+        int[] items = s.getLevelOfDetailItems(0, 999, 10);
+        assertEquals(0, items[0]);
+        assertEquals(999, items[items.length - 1]);
+
+        // appended items are added to the index
+        s.add(1000.0, 99.0);
+        s.add(1001.0, 0.0);
+        items = s.getLevelOfDetailItems(0, 1001, 10);
+        assertEquals(1001, items[items.length - 1]);
+        assertTrue(contains(items, 1000));
+
+        // an update discards the index
+        s.updateByIndex(500, -99.0);
+        assertTrue(contains(s.getLevelOfDetailItems(0, 1001, 10), 500));
+
+        // so does an out-of-order add
+        s.add(100.5, 500.0);
+        assertTrue(contains(s.getLevelOfDetailItems(0, 1002, 10), 101));
+    }
+
+    /**
+     * Returns {@code true} if the array contains the specified value.
+     *
+     * @param items  the array.
+     * @param item  the value.
+     *
+     * @return A boolean.
+     */
+    private static boolean contains(int[] items, int item) {
+        for (int i : items) {
+            if (i == item) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Some checks for the findValueRange() method.
+     */
+    @Test
+    public void testFindValueRange() {
+        DoubleXYSeries s = new DoubleXYSeries("S");
+        assertEquals(null, s.findValueRange(new Range(0.0, 1.0)));
+        for (int i = 0; i < 1000; i++) {
+            s.add(i, i % 100 == 50 ? Double.NaN : Math.sin(i * 0.05) * i);
+        }
+        for (int a = 0; a < 1000; a += 37) {
+            for (int b = a; b < 1000; b += 53) {
+                Range xRange = new Range(a - 0.5, b + 0.25);
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int i = a; i <= b; i++) {
+                    double y = s.getYValue(i);
+                    if (!Double.isNaN(y)) {
+                        min = Math.min(min, y);
+                        max = Math.max(max, y);
+                    }
+                }
+                assertEquals(new Range(min, max), s.findValueRange(xRange));
+            }
+        }
+        assertEquals(null, s.findValueRange(new Range(2000.0, 3000.0)));
+        assertEquals(null, s.findValueRange(new Range(50.0, 50.0)));
+    }
+}
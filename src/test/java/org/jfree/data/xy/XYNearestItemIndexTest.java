@@ -0,0 +1,201 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * XYNearestItemIndexTest.java
+ * ---------------------------
+ * (C) Copyright 2020, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link XYNearestItemIndex} class.
+ */
+public class XYNearestItemIndexTest {
+
+    /**
+     * Finds the nearest item by iterating over all the items.
+     *
+     * @param dataset  the dataset.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param xScale  the x-scale.
+     * @param yScale  the y-scale.
+     * @param included  the series flags ({@code null} permitted).
+     * @param firstItems  the first items ({@code null} permitted).
+     * @param lastItems  the last items ({@code null} permitted).
+     *
+     * @return The series and item index (possibly {@code null}).
+     */
+    private static int[] findNearestItem(XYDataset dataset, double x,
+            double y, double xScale, double yScale, boolean[] included,
+            int[] firstItems, int[] lastItems) {
+        int[] result = null;
+        double best = Double.POSITIVE_INFINITY;
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            if (included != null && !included[s]) {
+                continue;
+            }
+            int first = firstItems != null ? firstItems[s] : 0;
+            int last = lastItems != null ? lastItems[s]
+                    : dataset.getItemCount(s) - 1;
+            for (int i = first; i <= last; i++) {
+                double xx = dataset.getXValue(s, i);
+                double yy = dataset.getYValue(s, i);
+                if (Double.isNaN(xx) || Double.isNaN(yy)) {
+                    continue;
+                }
+                double dx = (xx - x) * xScale;
+                double dy = (yy - y) * yScale;
+                double d = dx * dx + dy * dy;
+                if (d < best) {
+                    best = d;
+                    result = new int[] {s, i};
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compares the index with a search over all the items, for sorted and
+     * unsorted series, different scales (including zero) and series flags.
+     */
+    @Test
+    public void testFindNearestItem() {
+        Random random = new Random(42L);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 500; i++) {
+            s1.add(i * 0.5, random.nextInt(50));
+        }
+        s1.add(10.0, Double.NaN);
+        dataset.addSeries(s1);
+        XYSeries s2 = new XYSeries("S2", false);
+        for (int i = 0; i < 700; i++) {
+            // rounded values give many ties
+            s2.add(random.nextInt(250), random.nextInt(50));
+        }
+        dataset.addSeries(s2);
+        XYSeries s3 = new XYSeries("S3", false);
+        for (int i = 0; i < 300; i++) {
+            s3.add(random.nextDouble() * 250.0, random.nextDouble() * 50.0);
+        }
+        dataset.addSeries(s3);
+        dataset.addSeries(new XYSeries("S4"));
+
+        XYNearestItemIndex index = new XYNearestItemIndex(dataset);
+        double[][] scales = new double[][] {{1.0, 1.0}, {10.0, 0.1},
+                {1.0, 0.0}, {0.0, 1.0}, {0.0, 0.0}};
+        boolean[][] flags = new boolean[][] {null,
+                {false, true, true, true}, {true, false, false, false},
+                {false, false, false, true}};
+        for (int n = 0; n < 200; n++) {
+            double x = random.nextDouble() * 300.0 - 25.0;
+            double y = random.nextDouble() * 60.0 - 5.0;
+            for (double[] scale : scales) {
+                for (boolean[] included : flags) {
+                    assertArrayEquals(findNearestItem(dataset, x, y,
+                            scale[0], scale[1], included, null, null),
+                            index.findNearestItem(x, y, scale[0], scale[1],
+                            included));
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares the index with a search over a range of items in each
+     * series, for sorted and unsorted series.
+     */
+    @Test
+    public void testFindNearestItemInRange() {
+        Random random = new Random(17L);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 500; i++) {
+            s1.add(i * 0.5, random.nextInt(50));
+        }
+        s1.add(10.0, Double.NaN);
+        dataset.addSeries(s1);
+        XYSeries s2 = new XYSeries("S2", false);
+        for (int i = 0; i < 400; i++) {
+            s2.add(random.nextDouble() * 250.0, random.nextDouble() * 50.0);
+        }
+        dataset.addSeries(s2);
+
+        XYNearestItemIndex index = new XYNearestItemIndex(dataset);
+        for (int n = 0; n < 200; n++) {
+            double x = random.nextDouble() * 300.0 - 25.0;
+            double y = random.nextDouble() * 60.0 - 5.0;
+            int[] firstItems = new int[2];
+            int[] lastItems = new int[2];
+            for (int s = 0; s < 2; s++) {
+                int count = dataset.getItemCount(s);
+                firstItems[s] = random.nextInt(count);
+                lastItems[s] = firstItems[s] + random.nextInt(
+                        count - firstItems[s]);
+            }
+            assertArrayEquals(findNearestItem(dataset, x, y, 1.0, 1.0, null,
+                    firstItems, lastItems), index.findNearestItem(x, y, 1.0,
+                    1.0, null, firstItems, lastItems));
+            assertArrayEquals(findNearestItem(dataset, x, y, 0.0, 1.0, null,
+                    firstItems, lastItems), index.findNearestItem(x, y, 0.0,
+                    1.0, null, firstItems, lastItems));
+        }
+    }
+
+    /**
+     * An empty dataset has no nearest item, and negative scales are
+     * rejected.
+     */
+    @Test
+    public void testEmptyDataset() {
+        XYNearestItemIndex index = new XYNearestItemIndex(
+                new XYSeriesCollection());
+        assertNull(index.findNearestItem(1.0, 2.0, 1.0, 1.0, null));
+        try {
+            index.findNearestItem(1.0, 2.0, -1.0, 1.0, null);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
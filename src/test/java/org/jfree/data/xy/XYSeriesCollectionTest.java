@@ -61,6 +61,9 @@ import org.jfree.chart.TestUtils;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtils;
 
 import org.junit.Test;
 
@@ -534,4 +537,74 @@ public class XYSeriesCollectionTest {
         // change because "C" is already the key for the other series in the
         // collection
     }
+
+    /**
+     * The range bounds for an x-range should match the bounds found by
+     * iterating over the items.
+     */
+    @Test
+    public void testGetRangeBoundsForXRange() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 100; i++) {
+            s1.add(i, Math.sin(i * 0.1));
+            s2.add(i + 0.5, i % 10 == 0 ? null : Double.valueOf(i));
+        }
+        XYSeriesCollection c = new XYSeriesCollection(s1);
+        c.addSeries(s2);
+        java.util.List keys = java.util.Arrays.asList("S1", "S2");
+        Range[] xRanges = {new Range(10.0, 20.0), new Range(-5.0, 200.0),
+                new Range(30.2, 30.4), new Range(1000.0, 2000.0)};
+        for (Range xRange : xRanges) {
+            assertEquals(DatasetUtils.iterateToFindRangeBounds(c, keys,
+                    xRange, true), c.getRangeBounds(keys, xRange, true));
+        }
+        assertNull(c.getRangeBounds(keys, new Range(30.2, 30.4), false));
+    }
+
+    /**
+     * Items appended to a series are reported in the dataset change event,
+     * and the events for several appends merge into one.
+     */
+    @Test
+    public void testAppendEvent() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        s1.add(1.0, 1.0);
+        s2.add(1.0, 1.0);
+        XYSeriesCollection c = new XYSeriesCollection(s1);
+        c.addSeries(s2);
+        final DatasetChangeEvent[] last = new DatasetChangeEvent[1];
+        c.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                last[0] = event;
+            }
+        });
+        s2.add(2.0, 2.0);
+        DatasetChangeEvent e1 = last[0];
+        assertTrue(e1.isAppend());
+        assertEquals(-1, e1.getFirstAppendedItem(0));
+        assertEquals(1, e1.getFirstAppendedItem(1));
+        assertEquals(-1, e1.getFirstAppendedItem(2));
+
+        s1.add(2.0, 2.0);
+        DatasetChangeEvent e2 = last[0];
+        s1.add(3.0, 3.0);
+        DatasetChangeEvent e3 = last[0];
+        assertEquals(2, e3.getFirstAppendedItem(0));
+        DatasetChangeEvent merged = e1.merge(e2).merge(e3);
+        assertTrue(merged.isAppend());
+        assertEquals(1, merged.getFirstAppendedItem(0));
+        assertEquals(1, merged.getFirstAppendedItem(1));
+
+        // other changes are not appends, and neither is anything merged
+        // with them
+        s1.updateByIndex(0, 5.0);
+        assertFalse(last[0].isAppend());
+        assertFalse(merged.merge(last[0]).isAppend());
+        assertFalse(last[0].merge(merged).isAppend());
+        s1.add(0.5, 0.5);
+        assertFalse(last[0].isAppend());
+    }
 }
@@ -50,6 +50,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
 import org.jfree.chart.TestUtils;
+import org.jfree.data.Range;
 
 import org.jfree.data.general.SeriesException;
 import static org.junit.Assert.assertEquals;
@@ -806,4 +807,130 @@ public class XYSeriesTest {
         c.removeSeries(1);
         s1.setKey("S2");
     }
+
+    /**
+     * When a maximum item count is set, the cached bounds are maintained
+     * incrementally as items are evicted; check them against the bounds
+     * found by iteration.
+     */
+    @Test
+    public void testRollingWindowBounds() {
+        java.util.Random random = new java.util.Random(99L);
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2", false);
+        s1.setMaximumItemCount(25);
+        s2.setMaximumItemCount(25);
+        for (int i = 0; i < 1000; i++) {
+            Double y = random.nextInt(8) == 0 ? null
+                    : new Double(random.nextInt(50));
+            s1.add(new Double(i), y);
+            s2.add(new Double(random.nextInt(1000)), y);
+            if (i % 100 == 50) {
+                s1.updateByIndex(s1.getItemCount() - 1, new Double(-1.0));
+            }
+            checkBounds(s1);
+            checkBounds(s2);
+        }
+        assertEquals(25, s1.getItemCount());
+        s1.remove(0);
+        checkBounds(s1);
+        s1.add(0.5, 200.0);  // out of order, so not appended
+        checkBounds(s1);
+        s1.add(2000.0, 300.0);
+        checkBounds(s1);
+    }
+
+    /**
+     * Checks the cached bounds of a series against the bounds found by
+     * iterating over the items.
+     *
+     * @param s  the series.
+     */
+    private void checkBounds(XYSeries s) {
+        double minX = Double.NaN;
+        double maxX = Double.NaN;
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            double x = s.getX(i).doubleValue();
+            minX = Double.isNaN(minX) ? x : Math.min(minX, x);
+            maxX = Double.isNaN(maxX) ? x : Math.max(maxX, x);
+            if (s.getY(i) != null) {
+                double y = s.getY(i).doubleValue();
+                minY = Double.isNaN(minY) ? y : Math.min(minY, y);
+                maxY = Double.isNaN(maxY) ? y : Math.max(maxY, y);
+            }
+        }
+        assertEquals(minX, s.getMinX(), EPSILON);
+        assertEquals(maxX, s.getMaxX(), EPSILON);
+        assertEquals(minY, s.getMinY(), EPSILON);
+        assertEquals(maxY, s.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Checks findValueRange() against the range found by iterating, while
+     * items are appended to a rolling window and after other changes that
+     * discard the index.
+     */
+    @Test
+    public void testFindValueRange() {
+        XYSeries s = new XYSeries("S");
+        assertEquals(null, s.findValueRange(new Range(0.0, 10.0)));
+        java.util.Random random = new java.util.Random(7L);
+        for (int i = 0; i < 500; i++) {
+            s.add(i, random.nextBoolean() ? null : random.nextGaussian());
+            if (i % 37 == 0) {
+                checkValueRange(s, random);
+            }
+        }
+        s.setMaximumItemCount(200);
+        for (int i = 500; i < 1500; i++) {
+            s.add(i, random.nextGaussian() * i);
+            if (i % 37 == 0) {
+                checkValueRange(s, random);
+            }
+        }
+        s.updateByIndex(50, 1.0E6);
+        checkValueRange(s, random);
+        s.remove(20);
+        s.add(1302.5, -1.0E6);
+        checkValueRange(s, random);
+
+        // items with a NaN x-value are never in the x-range
+        s.add(Double.NaN, 2.0E6);
+        checkValueRange(s, random);
+        XYSeries unsorted = new XYSeries("U", false);
+        unsorted.add(3.0, 3.0);
+        unsorted.add(1.0, 1.0);
+        unsorted.add(2.0, 2.0);
+        assertEquals(new Range(1.0, 2.0),
+                unsorted.findValueRange(new Range(0.5, 2.5)));
+    }
+
+    /**
+     * Checks findValueRange() for a series against the range found by
+     * iterating over the items, for some random x-ranges.
+     *
+     * @param s  the series.
+     * @param random  the source of the x-ranges.
+     */
+    private void checkValueRange(XYSeries s, java.util.Random random) {
+        for (int r = 0; r < 20; r++) {
+            double x0 = s.getMinX() + random.nextDouble()
+                    * (s.getMaxX() - s.getMinX());
+            double x1 = x0 + random.nextDouble() * (s.getMaxX() - x0);
+            Range xRange = new Range(x0, x1);
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < s.getItemCount(); i++) {
+                Number y = s.getY(i);
+                if (xRange.contains(s.getX(i).doubleValue()) && y != null) {
+                    min = Math.min(min, y.doubleValue());
+                    max = Math.max(max, y.doubleValue());
+                }
+            }
+            Range expected = min <= max ? new Range(min, max) : null;
+            assertEquals(expected, s.findValueRange(xRange));
+        }
+    }
 }
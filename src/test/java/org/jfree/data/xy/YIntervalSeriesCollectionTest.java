@@ -45,9 +45,15 @@ package org.jfree.data.xy;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
 
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtils;
 
 import org.junit.Test;
 
@@ -174,4 +180,55 @@ public class YIntervalSeriesCollectionTest {
         }
     }
 
+    /**
+     * The bounds maintained by the series should match the bounds found by
+     * iterating over the data, as items are added, updated and removed.
+     */
+    @Test
+    public void testBounds() {
+        YIntervalSeries s1 = new YIntervalSeries("S1");
+        YIntervalSeriesCollection c = new YIntervalSeriesCollection();
+        c.addSeries(s1);
+        assertNull(c.getDomainBounds(true));
+        assertNull(c.getRangeBounds(true));
+
+        s1.add(1.0, 2.0, 1.5, 2.5);
+        s1.add(2.0, 4.0, 3.0, 9.0);
+        s1.add(3.0, 1.0, -2.0, 1.5);
+        checkBounds(c);
+        assertEquals(new Range(1.0, 3.0), c.getDomainBounds(false));
+        assertEquals(new Range(-2.0, 9.0), c.getRangeBounds(true));
+        assertEquals(new Range(1.0, 4.0), c.getRangeBounds(false));
+
+        s1.remove(new Double(2.0));
+        checkBounds(c);
+        assertEquals(new Range(-2.0, 2.5), c.getRangeBounds(true));
+
+        s1.setMaximumItemCount(1);
+        checkBounds(c);
+        assertEquals(new Range(3.0, 3.0), c.getDomainBounds(false));
+        assertEquals(new Range(-2.0, 1.5), c.getRangeBounds(true));
+
+        s1.clear();
+        assertNull(c.getRangeBounds(true));
+    }
+
+    /**
+     * Checks the bounds of a dataset against the bounds found by iterating.
+     *
+     * @param c  the dataset.
+     */
+    private void checkBounds(YIntervalSeriesCollection c) {
+        assertEquals(DatasetUtils.iterateDomainBounds(c, true),
+                c.getDomainBounds(true));
+        assertEquals(DatasetUtils.iterateRangeBounds(c, true),
+                c.getRangeBounds(true));
+        assertEquals(DatasetUtils.iterateRangeBounds(c, false),
+                c.getRangeBounds(false));
+        List keys = Arrays.asList(c.getSeriesKey(0));
+        Range xRange = new Range(0.0, 2.5);
+        assertEquals(DatasetUtils.iterateToFindRangeBounds(c, keys, xRange,
+                true), c.getRangeBounds(keys, xRange, true));
+    }
+
 }